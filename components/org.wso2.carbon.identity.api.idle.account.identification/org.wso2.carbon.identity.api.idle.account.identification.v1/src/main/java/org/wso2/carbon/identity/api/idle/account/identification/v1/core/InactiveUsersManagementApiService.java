@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023-2025, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2023-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -26,17 +26,18 @@ import org.wso2.carbon.identity.api.idle.account.identification.common.util.Idle
 import org.wso2.carbon.identity.api.idle.account.identification.v1.model.InactiveUser;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
-import org.wso2.carbon.identity.base.IdentityException;
-import org.wso2.carbon.identity.core.model.ExpressionNode;
-import org.wso2.carbon.identity.core.model.FilterTreeBuilder;
-import org.wso2.carbon.identity.core.model.Node;
+import org.wso2.carbon.identity.api.server.common.filter.CompiledFilter;
+import org.wso2.carbon.identity.api.server.common.filter.FilterCompilationException;
+import org.wso2.carbon.identity.api.server.common.filter.FilterCompiler;
+import org.wso2.carbon.identity.api.server.common.filter.FilterExpression;
+import org.wso2.carbon.identity.api.server.common.filter.FilterOperator;
+import org.wso2.carbon.identity.api.server.common.filter.FilterSchema;
 import org.wso2.carbon.identity.idle.account.identification.exception.IdleAccountIdentificationClientException;
 import org.wso2.carbon.identity.idle.account.identification.exception.IdleAccountIdentificationException;
 import org.wso2.carbon.identity.idle.account.identification.exception.IdleAccountIdentificationServerException;
 import org.wso2.carbon.identity.idle.account.identification.models.InactiveUserModel;
 import org.wso2.carbon.identity.idle.account.identification.services.IdleAccountIdentificationService;
 
-import java.io.IOException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeParseException;
@@ -61,6 +62,9 @@ public class InactiveUsersManagementApiService {
 
     private final IdleAccountIdentificationService idleAccountIdentificationService;
     private static final Log LOG = LogFactory.getLog(InactiveUsersManagementApiService.class);
+    private static final FilterSchema FILTER_SCHEMA = FilterSchema.builder("idle-account-identification/inactive-users")
+            .booleanAttribute(IS_DISABLED)
+            .build();
 
     public InactiveUsersManagementApiService(IdleAccountIdentificationService idleAccountIdentificationService) {
 
@@ -116,17 +120,10 @@ public class InactiveUsersManagementApiService {
                 return buildResponse(inactiveUsers);
             }
 
-            List<ExpressionNode> expressionNodes = getExpressionNodes(filter);
-            if (validateExpressionNodes(expressionNodes)) {
-                boolean isDisabled = Boolean.parseBoolean(expressionNodes.get(0).getValue());
-
-                inactiveUsers = IdleAccountIdentificationServiceHolder.getIdleAccountIdentificationService()
-                        .filterInactiveUsersIfDisabled(inactiveAfterDate, excludeBeforeDate, tenantDomain,
-                                isDisabled);
-
-                return buildResponse(inactiveUsers);
-            }
-            return getInactiveUsers(inactiveAfter, excludeBefore, tenantDomain);
+            boolean isDisabled = resolveIsDisabledFilter(filter);
+            inactiveUsers = IdleAccountIdentificationServiceHolder.getIdleAccountIdentificationService()
+                    .filterInactiveUsersIfDisabled(inactiveAfterDate, excludeBeforeDate, tenantDomain, isDisabled);
+            return buildResponse(inactiveUsers);
 
         } catch (IdleAccountIdentificationException e) {
             throw handleIdleAccIdentificationException(e, ErrorMessage.ERROR_RETRIEVING_INACTIVE_USERS, tenantDomain);
@@ -309,76 +306,46 @@ public class InactiveUsersManagementApiService {
     }
 
     /**
-     * Get the filter node as a list.
+     * Resolve the 'isDisabled' value requested by the filter.
      *
      * @param filter value of the filter.
-     * @return node tree.
+     * @return Whether the disabled inactive users are requested.
      * @throws IdleAccountIdentificationClientException Error when validate filters.
      */
-    private List<ExpressionNode> getExpressionNodes(String filter) throws IdleAccountIdentificationClientException {
+    private boolean resolveIsDisabledFilter(String filter) throws IdleAccountIdentificationClientException {
 
         // Filter example : isDisabled eq true.
-        List<ExpressionNode> expressionNodes = new ArrayList<>();
-        FilterTreeBuilder filterTreeBuilder;
-        if (StringUtils.isNotBlank(filter)) {
-            try {
-                filterTreeBuilder = new FilterTreeBuilder(filter);
-                Node rootNode = filterTreeBuilder.buildTree();
-                setExpressionNodeList(rootNode, expressionNodes);
-            } catch (IOException | IdentityException e) {
-                ErrorMessage error = ErrorMessage.ERROR_INVALID_FILTER;
-                throw new IdleAccountIdentificationClientException(error.getCode(), error.getMessage(),
-                        String.format(error.getDescription()));
+        CompiledFilter compiledFilter;
+        try {
+            compiledFilter = FilterCompiler.getInstance().compile(FILTER_SCHEMA, filter);
+        } catch (FilterCompilationException e) {
+            if (e.getReason() == FilterCompilationException.Reason.INVALID_FILTER) {
+                throw buildInvalidFilterException(ErrorMessage.ERROR_INVALID_FILTER.getDescription());
             }
+            throw buildInvalidFilterException(e.getMessage());
+        }
+        // Only a single 'isDisabled' comparison is supported.
+        if (compiledFilter == null || compiledFilter.getExpressions().size() != 1) {
+            throw buildInvalidFilterException(ErrorMessage.ERROR_INVALID_FILTER.getDescription());
         }
-        return expressionNodes;
-    }
-
-    /**
-     * Set the node values as list of expression.
-     *
-     * @param node       filter node.
-     * @param expression list of expression.
-     * @throws IdleAccountIdentificationClientException Error when passing invalid filter.
-     */
-    private void setExpressionNodeList(Node node, List<ExpressionNode> expression)
-            throws IdleAccountIdentificationClientException {
 
-        if (node instanceof ExpressionNode && StringUtils.isNotBlank(((ExpressionNode) node).getAttributeValue())) {
-            if (((ExpressionNode) node).getAttributeValue().contains(IS_DISABLED)) {
-                if (TRUE_VALUE.contains(((ExpressionNode) node).getValue())) {
-                    ((ExpressionNode) node).setValue(TRUE_VALUE);
-                } else if (FALSE_VALUE.contains(((ExpressionNode) node).getValue())) {
-                    ((ExpressionNode) node).setValue(FALSE_VALUE);
-                } else {
-                    String message = "Invalid value: " + ((ExpressionNode) node).getValue() + "is passed for '" +
-                            IS_DISABLED + "' attribute in the filter. It should be '" + TRUE_VALUE + "' or '" +
-                            FALSE_VALUE + "'";
-                    ErrorMessage error = ErrorMessage.ERROR_INVALID_FILTER;
-                    throw new IdleAccountIdentificationClientException(error.getCode(), error.getMessage(),
-                            message);
-                }
-            }
-            expression.add((ExpressionNode) node);
+        FilterExpression expression = compiledFilter.getExpressions().get(0);
+        boolean isDisabled;
+        if (StringUtils.contains(TRUE_VALUE, expression.getValue())) {
+            isDisabled = true;
+        } else if (StringUtils.contains(FALSE_VALUE, expression.getValue())) {
+            isDisabled = false;
+        } else {
+            throw buildInvalidFilterException("Invalid value: " + expression.getValue() + " is passed for '" +
+                    IS_DISABLED + "' attribute in the filter. It should be '" + TRUE_VALUE + "' or '" +
+                    FALSE_VALUE + "'");
         }
+        return expression.getOperator() == FilterOperator.NE ? !isDisabled : isDisabled;
     }
 
-    /**
-     * Validate the expression nodes.
-     *
-     * @param expressionNodes List of expression nodes.
-     * @return boolean.
-     * @throws IdleAccountIdentificationClientException Error when validate filters.
-     */
-    private boolean validateExpressionNodes(List<ExpressionNode> expressionNodes)
-            throws IdleAccountIdentificationClientException {
-
-        if (IS_DISABLED.equals(expressionNodes.get(0).getAttributeValue())) {
-            return true;
-        }
+    private IdleAccountIdentificationClientException buildInvalidFilterException(String description) {
 
         ErrorMessage error = ErrorMessage.ERROR_INVALID_FILTER;
-        throw new IdleAccountIdentificationClientException(error.getCode(), error.getMessage(),
-                String.format(error.getDescription()));
+        return new IdleAccountIdentificationClientException(error.getCode(), error.getMessage(), description);
     }
 }
@@ -20,6 +20,7 @@ package org.wso2.carbon.identity.api.server.action.management.v1.util;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import org.wso2.carbon.identity.action.management.api.model.Action;
 import org.wso2.carbon.identity.api.server.action.management.v1.ActionModel;
 import org.wso2.carbon.identity.api.server.action.management.v1.ActionUpdateModel;
@@ -29,61 +30,64 @@ import org.wso2.carbon.identity.api.server.action.management.v1.PreUpdateProfile
 import org.wso2.carbon.identity.api.server.action.management.v1.PreUpdateProfileActionUpdateModel;
 import org.wso2.carbon.identity.api.server.action.management.v1.constants.ActionMgtEndpointConstants;
 
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.Set;
 
 import javax.validation.ConstraintViolation;
 import javax.validation.ConstraintViolationException;
 import javax.validation.Validation;
 import javax.validation.Validator;
-import javax.validation.ValidatorFactory;
 import javax.ws.rs.core.Response;
 
 /**
  * Utility class for action deserialization.
+ * <p>
+ * The object readers and the validator are thread safe, hence they are built once and shared by all the requests.
+ * Building a validator factory bootstraps the validation provider and scans the constraint metadata, which is too
+ * costly to be done per request.
  */
 public class ActionDeserializer {
 
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final Validator VALIDATOR = Validation.buildDefaultValidatorFactory().getValidator();
+
+    private static final Map<Action.ActionTypes, ObjectReader> ACTION_MODEL_READERS;
+    private static final Map<Action.ActionTypes, ObjectReader> ACTION_UPDATE_MODEL_READERS;
+
+    static {
+        Map<Action.ActionTypes, ObjectReader> actionModelReaders = new EnumMap<>(Action.ActionTypes.class);
+        actionModelReaders.put(Action.ActionTypes.PRE_ISSUE_ACCESS_TOKEN, OBJECT_MAPPER.readerFor(ActionModel.class));
+        actionModelReaders.put(Action.ActionTypes.PRE_ISSUE_ID_TOKEN, OBJECT_MAPPER.readerFor(ActionModel.class));
+        actionModelReaders.put(Action.ActionTypes.PRE_UPDATE_PASSWORD,
+                OBJECT_MAPPER.readerFor(PreUpdatePasswordActionModel.class));
+        actionModelReaders.put(Action.ActionTypes.PRE_UPDATE_PROFILE,
+                OBJECT_MAPPER.readerFor(PreUpdateProfileActionModel.class));
+        ACTION_MODEL_READERS = Collections.unmodifiableMap(actionModelReaders);
+
+        Map<Action.ActionTypes, ObjectReader> actionUpdateModelReaders = new EnumMap<>(Action.ActionTypes.class);
+        actionUpdateModelReaders.put(Action.ActionTypes.PRE_ISSUE_ACCESS_TOKEN,
+                OBJECT_MAPPER.readerFor(ActionUpdateModel.class));
+        actionUpdateModelReaders.put(Action.ActionTypes.PRE_ISSUE_ID_TOKEN,
+                OBJECT_MAPPER.readerFor(ActionUpdateModel.class));
+        actionUpdateModelReaders.put(Action.ActionTypes.PRE_UPDATE_PASSWORD,
+                OBJECT_MAPPER.readerFor(PreUpdatePasswordActionUpdateModel.class));
+        actionUpdateModelReaders.put(Action.ActionTypes.PRE_UPDATE_PROFILE,
+                OBJECT_MAPPER.readerFor(PreUpdateProfileActionUpdateModel.class));
+        ACTION_UPDATE_MODEL_READERS = Collections.unmodifiableMap(actionUpdateModelReaders);
+    }
+
     /**
      * Deserialize the action model.
      *
      * @param actionType Action type.
      * @param jsonBody   JSON body.
-     * @return Action model.
+     * @return Action model, or null if the action type is not supported.
      */
     public static ActionModel deserializeActionModel(Action.ActionTypes actionType, String jsonBody) {
 
-        ActionModel actionModel = null;
-        try {
-            ObjectMapper objectMapper = new ObjectMapper();
-            switch (actionType) {
-                case PRE_ISSUE_ACCESS_TOKEN:
-                case PRE_ISSUE_ID_TOKEN:
-                    actionModel = objectMapper.readValue(jsonBody, ActionModel.class);
-                    // Validate the object
-                    validateActionModel(actionModel, ActionModel.class);
-                    break;
-                case PRE_UPDATE_PASSWORD:
-                    PreUpdatePasswordActionModel preUpdatePasswordActionModel = objectMapper.readValue(jsonBody,
-                            PreUpdatePasswordActionModel.class);
-                    // Validate the object
-                    validateActionModel(preUpdatePasswordActionModel, PreUpdatePasswordActionModel.class);
-                    actionModel = preUpdatePasswordActionModel;
-                    break;
-                case PRE_UPDATE_PROFILE:
-                    PreUpdateProfileActionModel preUpdateProfileActionModel = objectMapper.readValue(jsonBody,
-                            PreUpdateProfileActionModel.class);
-                    validateActionModel(preUpdateProfileActionModel, PreUpdateProfileActionModel.class);
-                    actionModel = preUpdateProfileActionModel;
-                    break;
-                default:
-                    break;
-            }
-        } catch (JsonProcessingException e) {
-            throw ActionMgtEndpointUtil.handleException(Response.Status.BAD_REQUEST,
-                    ActionMgtEndpointConstants.ErrorMessage.ERROR_INVALID_PAYLOAD);
-        }
-
-        return actionModel;
+        return readAndValidate(ACTION_MODEL_READERS.get(actionType), jsonBody);
     }
 
     /**
@@ -91,56 +95,38 @@ public class ActionDeserializer {
      *
      * @param actionType Action type.
      * @param jsonBody   JSON body.
-     * @return Action update model.
+     * @return Action update model, or null if the action type is not supported.
      */
     public static ActionUpdateModel deserializeActionUpdateModel(Action.ActionTypes actionType, String jsonBody) {
 
-        ActionUpdateModel actionUpdateModel = null;
+        return readAndValidate(ACTION_UPDATE_MODEL_READERS.get(actionType), jsonBody);
+    }
+
+    private static <T> T readAndValidate(ObjectReader objectReader, String jsonBody) {
+
+        if (objectReader == null) {
+            return null;
+        }
+        T model;
         try {
-            ObjectMapper objectMapper = new ObjectMapper();
-            switch (actionType) {
-                case PRE_ISSUE_ACCESS_TOKEN:
-                case PRE_ISSUE_ID_TOKEN:
-                    actionUpdateModel = objectMapper.readValue(jsonBody, ActionUpdateModel.class);
-                    // Validate the object
-                    validateActionModel(actionUpdateModel, ActionUpdateModel.class);
-                    break;
-                case PRE_UPDATE_PASSWORD:
-                    PreUpdatePasswordActionUpdateModel preUpdatePasswordActionUpdateModel =
-                            objectMapper.readValue(jsonBody, PreUpdatePasswordActionUpdateModel.class);
-                    // Validate the object
-                    validateActionModel(preUpdatePasswordActionUpdateModel, PreUpdatePasswordActionUpdateModel.class);
-                    actionUpdateModel = preUpdatePasswordActionUpdateModel;
-                    break;
-                case PRE_UPDATE_PROFILE:
-                    PreUpdateProfileActionUpdateModel preUpdateProfileActionUpdateModel =
-                            objectMapper.readValue(jsonBody, PreUpdateProfileActionUpdateModel.class);
-                    validateActionModel(preUpdateProfileActionUpdateModel, PreUpdateProfileActionUpdateModel.class);
-                    actionUpdateModel = preUpdateProfileActionUpdateModel;
-                    break;
-                default:
-                    break;
-            }
+            model = objectReader.readValue(jsonBody);
         } catch (JsonProcessingException e) {
             throw ActionMgtEndpointUtil.handleException(Response.Status.BAD_REQUEST,
                     ActionMgtEndpointConstants.ErrorMessage.ERROR_INVALID_PAYLOAD);
         }
-
-        return actionUpdateModel;
+        validateActionModel(model);
+        return model;
     }
 
     /**
      * Validate the action model.
      *
      * @param actionModel Action model to be validated.
-     * @param modelClass  Class of the action model.
      * @param <T>         Type of the action model.
      */
-    private static <T> void validateActionModel(T actionModel, Class<T> modelClass) {
+    private static <T> void validateActionModel(T actionModel) {
 
-        ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
-        Validator validator = factory.getValidator();
-        Set<ConstraintViolation<T>> violations = validator.validate(actionModel);
+        Set<ConstraintViolation<T>> violations = VALIDATOR.validate(actionModel);
 
         if (!violations.isEmpty()) {
             throw new ConstraintViolationException(violations);
@@ -70,8 +70,8 @@ import org.wso2.carbon.identity.api.server.application.management.v1.WSTrustConf
 import org.wso2.carbon.identity.api.server.application.management.v1.core.functions.Utils;
 import org.wso2.carbon.identity.api.server.application.management.v1.core.functions.application.ApiModelToServiceProvider;
 import org.wso2.carbon.identity.api.server.application.management.v1.core.functions.application.ApplicationBasicInfoToApiModel;
-import org.wso2.carbon.identity.api.server.application.management.v1.core.functions.application.ApplicationInfoWithRequiredPropsToApiModel;
 import org.wso2.carbon.identity.api.server.application.management.v1.core.functions.application.ServiceProviderToApiModel;
+import org.wso2.carbon.identity.api.server.application.management.v1.core.functions.application.ServiceProviderToApplicationListItem;
 import org.wso2.carbon.identity.api.server.application.management.v1.core.functions.application.UpdateServiceProvider;
 import org.wso2.carbon.identity.api.server.application.management.v1.core.functions.application.inbound.InboundAuthConfigToApiModel;
 import org.wso2.carbon.identity.api.server.application.management.v1.core.functions.application.inbound.WSTrustInboundFunctions;
@@ -86,6 +86,7 @@ import org.wso2.carbon.identity.api.server.application.management.v1.core.functi
 import org.wso2.carbon.identity.api.server.application.management.v1.core.functions.template.TemplateToApplicationTemplateListItem;
 import org.wso2.carbon.identity.api.server.application.management.v1.factories.ServerApplicationMetadataServiceFactory;
 import org.wso2.carbon.identity.api.server.common.ContextLoader;
+import org.wso2.carbon.identity.api.server.common.ContextPropagatingExecutor;
 import org.wso2.carbon.identity.api.server.common.Util;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.common.file.FileContent;
@@ -95,6 +96,10 @@ import org.wso2.carbon.identity.api.server.common.file.FileSerializationUtil;
 import org.wso2.carbon.identity.api.server.common.file.JsonConfig;
 import org.wso2.carbon.identity.api.server.common.file.XmlConfig;
 import org.wso2.carbon.identity.api.server.common.file.YamlConfig;
+import org.wso2.carbon.identity.api.server.common.filter.CompiledFilter;
+import org.wso2.carbon.identity.api.server.common.filter.FilterCompilationException;
+import org.wso2.carbon.identity.api.server.common.filter.FilterCompiler;
+import org.wso2.carbon.identity.api.server.common.filter.FilterSchema;
 import org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants;
 import org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.StandardInboundProtocols;
 import org.wso2.carbon.identity.application.common.IdentityApplicationManagementClientException;
@@ -114,7 +119,6 @@ import org.wso2.carbon.identity.application.common.model.LocalAndOutboundAuthent
 import org.wso2.carbon.identity.application.common.model.LocalAuthenticatorConfig;
 import org.wso2.carbon.identity.application.common.model.Scope;
 import org.wso2.carbon.identity.application.common.model.ServiceProvider;
-import org.wso2.carbon.identity.application.common.model.SpFileContent;
 import org.wso2.carbon.identity.application.common.model.User;
 import org.wso2.carbon.identity.application.common.model.script.AuthenticationScriptConfig;
 import org.wso2.carbon.identity.application.common.util.IdentityApplicationConstants;
@@ -134,7 +138,6 @@ import org.wso2.carbon.identity.configuration.mgt.core.search.PrimitiveCondition
 import org.wso2.carbon.identity.core.model.ExpressionNode;
 import org.wso2.carbon.identity.core.model.FilterTreeBuilder;
 import org.wso2.carbon.identity.core.model.Node;
-import org.wso2.carbon.identity.core.model.OperationNode;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.identity.cors.mgt.core.CORSManagementService;
 import org.wso2.carbon.identity.cors.mgt.core.constant.ErrorMessages;
@@ -158,19 +161,17 @@ import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.net.URISyntaxException;
 import java.net.URL;
-import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import javax.activation.MimeType;
 import javax.activation.MimeTypeParseException;
@@ -242,8 +243,12 @@ public class ServerApplicationManagementService {
 
     private static final Log log = LogFactory.getLog(ServerApplicationManagementService.class);
 
-    // Allowed filter attributes mapped to real field names.
-    private static final Set<String> SUPPORTED_FILTER_ATTRIBUTES = new HashSet<>();
+    // Allowed filter attributes. Operators are validated by the backend.
+    private static final FilterSchema FILTER_SCHEMA = FilterSchema.builder("applications")
+            .stringAttribute(NAME)
+            .stringAttribute(CLIENT_ID)
+            .stringAttribute(ISSUER)
+            .build();
     private static final List<String> SUPPORTED_REQUIRED_ATTRIBUTES = new ArrayList<>();
     private static final int DEFAULT_OFFSET = 0;
 
@@ -265,10 +270,6 @@ public class ServerApplicationManagementService {
             SAMLSSOServiceProviderDTO.class, OAuthAppDO.class};
 
     static {
-        SUPPORTED_FILTER_ATTRIBUTES.add(NAME);
-        SUPPORTED_FILTER_ATTRIBUTES.add(CLIENT_ID);
-        SUPPORTED_FILTER_ATTRIBUTES.add(ISSUER);
-
         SUPPORTED_REQUIRED_ATTRIBUTES.add(ADVANCED_CONFIGURATIONS);
         SUPPORTED_REQUIRED_ATTRIBUTES.add(CLIENT_ID);
         SUPPORTED_REQUIRED_ATTRIBUTES.add(TEMPLATE_ID);
@@ -295,28 +296,20 @@ public class ServerApplicationManagementService {
         limit = validateAndGetLimit(limit);
         offset = validateAndGetOffset(offset);
 
-        List<String> submittedFilterAttributes = new ArrayList<>();
-
-        // Get the filter tree and validate it before sending the filter to the backend.
-        if (StringUtils.isNotBlank(filter)) {
-            try {
-                FilterTreeBuilder filterTreeBuilder = new FilterTreeBuilder(filter);
-                Node rootNode = filterTreeBuilder.buildTree();
-
-                submittedFilterAttributes = validateFilterTree(rootNode);
-            } catch (IOException | IdentityException e) {
-                throw buildClientError(ErrorMessage.INVALID_FILTER_FORMAT);
-            }
-        }
+        // Compile the filter to validate it before sending the filter to the backend.
+        Set<String> submittedFilterAttributes = getSubmittedFilterAttributes(filter);
 
         String username = ContextLoader.getUsernameFromContext();
         try {
-            int totalResults = applicationManagementService.getCountOfApplications(tenantDomain, username, filter,
-                    excludeSystemPortals);
+            // The count query is independent of the page query, hence both are run concurrently.
+            Future<Integer> totalResultsFuture = ContextPropagatingExecutor.getInstance().submit(() ->
+                    applicationManagementService.getCountOfApplications(tenantDomain, username, filter,
+                            excludeSystemPortals));
 
             ApplicationBasicInfo[] filteredAppList = applicationManagementService.getApplicationBasicInfo(tenantDomain,
             username, filter, offset, limit, excludeSystemPortals);
             int resultsInCurrentPage = filteredAppList.length;
+            int totalResults = getFetchResult(totalResultsFuture);
 
             List<String> requestedAttributeList = new ArrayList<>();
             if (StringUtils.isNotEmpty(requiredAttributes)) {
@@ -367,33 +360,22 @@ public class ServerApplicationManagementService {
         }
     }
 
-    private List<String> validateFilterTree(Node rootNode) {
+    private Set<String> getSubmittedFilterAttributes(String filter) {
 
-        List<String> submittedFilterAttributes = new ArrayList<>();
-
-        if (rootNode instanceof ExpressionNode) {
-            ExpressionNode expressionNode = (ExpressionNode) rootNode;
-            if (!SUPPORTED_FILTER_ATTRIBUTES.contains(expressionNode.getAttributeValue())) {
-                throw buildClientError(ErrorMessage.UNSUPPORTED_FILTER_ATTRIBUTE, expressionNode
-                        .getAttributeValue());
-            }
-
-            submittedFilterAttributes.add(expressionNode.getAttributeValue());
-            return submittedFilterAttributes;
-        } else if (rootNode instanceof OperationNode) {
-            OperationNode operationNode = (OperationNode) rootNode;
-            Node leftNode = rootNode.getLeftNode();
-            Node rightNode = rootNode.getRightNode();
-
-            if (operationNode.getOperation().equals("not")) {
-                throw buildClientError(ErrorMessage.INVALID_FILTER_OPERATION);
+        CompiledFilter compiledFilter;
+        try {
+            compiledFilter = FilterCompiler.getInstance().compile(FILTER_SCHEMA, filter);
+        } catch (FilterCompilationException e) {
+            switch (e.getReason()) {
+                case UNSUPPORTED_ATTRIBUTE:
+                    throw buildClientError(ErrorMessage.UNSUPPORTED_FILTER_ATTRIBUTE, e.getAttribute());
+                case UNSUPPORTED_OPERATOR:
+                    throw buildClientError(ErrorMessage.INVALID_FILTER_OPERATION);
+                default:
+                    throw buildClientError(ErrorMessage.INVALID_FILTER_FORMAT);
             }
-
-            return Stream.of(validateFilterTree(leftNode), validateFilterTree(rightNode))
-                    .flatMap(Collection::stream)
-                    .collect(Collectors.toList());
         }
-        throw buildClientError(ErrorMessage.INVALID_FILTER_FORMAT);
+        return compiledFilter == null ? Collections.emptySet() : compiledFilter.getAttributes();
     }
 
     private void validateRequiredAttributes(List<String> requestedAttributeList) {
@@ -410,16 +392,49 @@ public class ServerApplicationManagementService {
                                                               List<String> requestedAttributeList)
             throws IdentityApplicationManagementException {
 
-        List<ServiceProvider> serviceProviderList = new ArrayList<>();
+        List<ServiceProvider> serviceProviderList = new ArrayList<>(filteredAppList.length);
+        if (filteredAppList.length <= 1) {
+            for (ApplicationBasicInfo applicationBasicInfo : filteredAppList) {
+                serviceProviderList.add(applicationManagementService.getApplicationWithRequiredAttributes(
+                        applicationBasicInfo.getApplicationId(), requestedAttributeList));
+            }
+            return serviceProviderList;
+        }
+
+        // The backend only supports fetching the required attributes of one application at a time, hence the
+        // applications of the page are fetched concurrently while preserving the page order.
+        List<Future<ServiceProvider>> serviceProviderFutures = new ArrayList<>(filteredAppList.length);
         for (ApplicationBasicInfo applicationBasicInfo : filteredAppList) {
-            ServiceProvider serviceProvider = applicationManagementService
-                    .getApplicationWithRequiredAttributes(applicationBasicInfo.getApplicationId(),
-                            requestedAttributeList);
-            serviceProviderList.add(serviceProvider);
+            int applicationId = applicationBasicInfo.getApplicationId();
+            serviceProviderFutures.add(ContextPropagatingExecutor.getInstance().submit(() ->
+                    applicationManagementService.getApplicationWithRequiredAttributes(applicationId,
+                            requestedAttributeList)));
+        }
+        for (Future<ServiceProvider> serviceProviderFuture : serviceProviderFutures) {
+            serviceProviderList.add(getFetchResult(serviceProviderFuture));
         }
         return serviceProviderList;
     }
 
+    private <T> T getFetchResult(Future<T> future) throws IdentityApplicationManagementException {
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdentityApplicationManagementException("Interrupted while listing applications.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IdentityApplicationManagementException) {
+                throw (IdentityApplicationManagementException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IdentityApplicationManagementException("Error while listing applications.", cause);
+        }
+    }
+
     private int validateAndGetOffset(Integer offset) {
 
         if (offset != null && offset >= 0) {
@@ -584,7 +599,7 @@ public class ServerApplicationManagementService {
 
         try {
             FileContent fileContent =
-                    FileSerializationUtil.serialize(
+                    FileSerializationUtil.serializeAsStream(
                             serviceProvider,
                             serviceProvider.getApplicationName(),
                             fileType,
@@ -593,7 +608,7 @@ public class ServerApplicationManagementService {
 
             return new TransferResource(
                     fileContent.getFileName(),
-                    fileContent.getContent().getBytes(StandardCharsets.UTF_8),
+                    fileContent::writeTo,
                     new MimeType("application/octet-stream")
             );
         } catch (FileSerializationException e) {
@@ -672,13 +687,13 @@ public class ServerApplicationManagementService {
     private String doImportApplication(InputStream fileInputStream, Attachment fileDetail, boolean isAppUpdate) {
 
         try {
-            SpFileContent spFileContent = buildSpFileContent(fileInputStream, fileDetail);
-
             String tenantDomain = ContextLoader.getTenantDomainFromContext();
             String username = ContextLoader.getUsernameFromContext();
             String fileType = fileDetail.getDataHandler().getContentType();
+            FileContent spFileContent = new FileContent(fileDetail.getDataHandler().getName(), fileType,
+                    fileInputStream);
 
-            ServiceProvider serviceProvider = parseSP(spFileContent, fileType, tenantDomain);
+            ServiceProvider serviceProvider = parseSP(spFileContent, tenantDomain);
 
             /*
              * internal_application_script_update scope is required when, performing adaptive script related operations.
@@ -718,29 +733,23 @@ public class ServerApplicationManagementService {
         }
     }
 
-    private ServiceProvider parseSP(SpFileContent spFileContent, String fileType, String tenantDomain)
-            throws IdentityApplicationManagementException {
+    private ServiceProvider parseSP(FileContent spFileContent, String tenantDomain)
+            throws IdentityApplicationManagementException, IOException {
 
         if (log.isDebugEnabled()) {
-            log.debug("Parsing service provider from file: " + spFileContent.getFileName() + " of type: " + fileType);
+            log.debug("Parsing service provider from file: " + spFileContent.getFileName() + " of type: " +
+                    spFileContent.getFileType());
         }
 
-        if (StringUtils.isEmpty(spFileContent.getContent())) {
+        if (spFileContent.isEmpty()) {
             throw new IdentityApplicationManagementException(String.format(
                     "Empty Service Provider configuration file " + " %s uploaded by tenant: %s",
                     spFileContent.getFileName(), tenantDomain));
         }
 
         try {
-            FileContent fileContent =
-                    new FileContent(
-                            spFileContent.getFileName(),
-                            fileType,
-                            spFileContent.getContent()
-                    );
-
             return FileSerializationUtil.deserialize(
-                    fileContent,
+                    spFileContent,
                     ServiceProvider.class,
                     buildDeserializationConfig()
             );
@@ -771,14 +780,6 @@ public class ServerApplicationManagementService {
         return config;
     }
 
-    private SpFileContent buildSpFileContent(InputStream fileInputStream, Attachment fileDetail) throws IOException {
-
-        SpFileContent spFileContent = new SpFileContent();
-        spFileContent.setContent(IOUtils.toString(fileInputStream, StandardCharsets.UTF_8.name()));
-        spFileContent.setFileName(fileDetail.getDataHandler().getName());
-        return spFileContent;
-    }
-
     private APIError handleErrorResponse(ImportResponse importResponse) {
 
         String errorCode = importResponse.getErrorCode() != null ?
@@ -1964,36 +1965,11 @@ public class ServerApplicationManagementService {
     private List<ApplicationListItem> getApplicationListItems(List<ServiceProvider> serviceProviderList,
                                                               List<String> requiredAttributes) {
 
-        List<ApplicationListItem> applicationListItems = new ArrayList<>();
-        for (ServiceProvider serviceProvider : serviceProviderList) {
-            ApplicationResponseModel applicationResponseModel =
-                    new ServiceProviderToApiModel().apply(serviceProvider);
-            if (requiredAttributes.stream().noneMatch(attribute -> attribute.equals(TEMPLATE_ID))) {
-                applicationResponseModel.templateId(null);
-            }
-            if (requiredAttributes.stream().noneMatch(attribute -> attribute.equals(TEMPLATE_VERSION))) {
-                applicationResponseModel.templateVersion(null);
-            }
-            if (requiredAttributes.stream().noneMatch(attribute -> attribute.equals(ADVANCED_CONFIGURATIONS))) {
-                applicationResponseModel.advancedConfigurations(null);
-            }
-            if (requiredAttributes.stream().noneMatch(attribute -> attribute.equals(CLIENT_ID))) {
-                applicationResponseModel.clientId(null);
-            }
-            if (requiredAttributes.stream().noneMatch(attribute -> attribute.equals(ISSUER))) {
-                applicationResponseModel.issuer(null);
-            }
-            if (requiredAttributes.stream()
-                    .noneMatch(attribute -> attribute.equals(
-                            IdentityApplicationConstants.ALLOWED_ROLE_AUDIENCE_REQUEST_ATTRIBUTE_NAME))) {
-                applicationResponseModel.associatedRoles(null);
-            }
-            if (requiredAttributes.stream().noneMatch(attribute -> attribute.equals(APPLICATION_ENABLED))) {
-                applicationResponseModel.applicationEnabled(null);
-            }
-            applicationListItems.add(new ApplicationInfoWithRequiredPropsToApiModel().apply(applicationResponseModel));
-        }
-        return applicationListItems;
+        ServiceProviderToApplicationListItem listItemMapper =
+                new ServiceProviderToApplicationListItem(requiredAttributes);
+        return serviceProviderList.stream()
+                .map(listItemMapper)
+                .collect(Collectors.toList());
     }
 
     /**
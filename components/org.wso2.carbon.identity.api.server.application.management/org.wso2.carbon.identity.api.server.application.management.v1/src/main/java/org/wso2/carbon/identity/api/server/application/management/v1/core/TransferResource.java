@@ -18,19 +18,26 @@
 
 package org.wso2.carbon.identity.api.server.application.management.v1.core;
 
+import org.wso2.carbon.identity.api.server.common.file.FileContent;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.Arrays;
 
 import javax.activation.MimeType;
 
 /**
  * The TransferResource class represents a resource to be transferred,
- * including its name, type, and byte array data.
+ * including its name, type, and either byte array data or a writer which streams the data.
  */
 public class TransferResource {
 
     private String resourceName;
     private MimeType resourceType;
     private byte[] resource;
+    private FileContent.ContentWriter resourceWriter;
 
     public TransferResource(String resourceName, byte[] resource, MimeType resourceType) {
 
@@ -39,6 +46,13 @@ public class TransferResource {
         this.resourceType = resourceType;
     }
 
+    public TransferResource(String resourceName, FileContent.ContentWriter resourceWriter, MimeType resourceType) {
+
+        this.resourceName = resourceName;
+        this.resourceWriter = resourceWriter;
+        this.resourceType = resourceType;
+    }
+
     public String getResourceName() {
 
         return resourceName;
@@ -51,12 +65,37 @@ public class TransferResource {
 
     public byte[] getResource() {
 
+        if (resource == null && resourceWriter != null) {
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            try {
+                resourceWriter.write(outputStream);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Error while writing the resource: " + resourceName, e);
+            }
+            return outputStream.toByteArray();
+        }
         return resource != null ? Arrays.copyOf(resource, resource.length) : new byte[0];
     }
 
     public void setResource(byte[] resource) {
 
         this.resource = resource != null ? Arrays.copyOf(resource, resource.length) : new byte[0];
+        this.resourceWriter = null;
+    }
+
+    /**
+     * Write the resource into the given output stream without copying it into an intermediate byte array.
+     *
+     * @param outputStream Output stream to write the resource into.
+     * @throws IOException If the resource could not be written.
+     */
+    public void writeTo(OutputStream outputStream) throws IOException {
+
+        if (resource == null && resourceWriter != null) {
+            resourceWriter.write(outputStream);
+        } else if (resource != null) {
+            outputStream.write(resource);
+        }
     }
 
     public MimeType getResourceType() {
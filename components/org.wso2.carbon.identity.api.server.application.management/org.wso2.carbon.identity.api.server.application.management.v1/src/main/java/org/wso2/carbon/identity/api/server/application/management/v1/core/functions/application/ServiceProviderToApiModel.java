@@ -158,7 +158,7 @@ public class ServiceProviderToApiModel implements Function<ServiceProvider, Appl
         return null; // null value returned to avoid API response returning an empty string.
     }
 
-    private AssociatedRolesConfig buildAssociatedRoles(ServiceProvider application) {
+    AssociatedRolesConfig buildAssociatedRoles(ServiceProvider application) {
 
         AssociatedRolesConfig associatedRolesConfig = new AssociatedRolesConfig();
         org.wso2.carbon.identity.application.common.model.AssociatedRolesConfig associatedRolesConfiguration =
@@ -194,7 +194,7 @@ public class ServiceProviderToApiModel implements Function<ServiceProvider, Appl
         return new InboundAuthConfigToApiModel().apply(application);
     }
 
-    private boolean isResidentSp(ServiceProvider application) {
+    boolean isResidentSp(ServiceProvider application) {
 
         return ApplicationConstants.LOCAL_SP.equalsIgnoreCase(application.getApplicationName());
     }
@@ -448,7 +448,7 @@ public class ServiceProviderToApiModel implements Function<ServiceProvider, Appl
         return new BuildProvisioningConfiguration().apply(application);
     }
 
-    private AdvancedApplicationConfiguration buildAdvancedAppConfiguration(ServiceProvider serviceProvider) {
+    AdvancedApplicationConfiguration buildAdvancedAppConfiguration(ServiceProvider serviceProvider) {
 
         LocalAndOutboundAuthenticationConfig authConfig = serviceProvider.getLocalAndOutBoundAuthenticationConfig();
         if (authConfig == null) {
@@ -646,7 +646,7 @@ public class ServiceProviderToApiModel implements Function<ServiceProvider, Appl
         return ApplicationResponseModel.AccessEnum.WRITE;
     }
 
-    private String getInboundKey(ServiceProvider application, String authType) {
+    String getInboundKey(ServiceProvider application, String authType) {
 
         if (application.getInboundAuthenticationConfig() != null) {
             InboundAuthenticationRequestConfig[] authRequestConfigs = application.getInboundAuthenticationConfig()
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.application.management.v1.core.functions.application;
+
+import org.apache.commons.lang.StringUtils;
+import org.wso2.carbon.identity.api.server.application.management.common.ApplicationManagementConstants;
+import org.wso2.carbon.identity.api.server.application.management.v1.ApplicationListItem;
+import org.wso2.carbon.identity.api.server.application.management.v1.ApplicationResponseModel;
+import org.wso2.carbon.identity.application.common.model.ServiceProvider;
+import org.wso2.carbon.identity.application.common.util.IdentityApplicationConstants;
+
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Converts the backend model ServiceProvider into the corresponding application list item, building only the
+ * optional attributes requested through the 'attributes' query parameter. Unlike a full conversion with
+ * {@link ServiceProviderToApiModel}, the inbound protocols, claim configuration, authentication sequence and
+ * provisioning configuration of the application are never built, as they are not part of the list item.
+ */
+public class ServiceProviderToApplicationListItem implements Function<ServiceProvider, ApplicationListItem> {
+
+    private static final String OAUTH2 = "oauth2";
+    private static final String SAML_SSO = "samlsso";
+    private static final String PASSIVE_STS = "passivests";
+
+    private final ServiceProviderToApiModel serviceProviderToApiModel = new ServiceProviderToApiModel();
+    private final ApplicationInfoWithRequiredPropsToApiModel listItemBuilder =
+            new ApplicationInfoWithRequiredPropsToApiModel();
+    private final Set<RequiredAttribute> requiredAttributes;
+
+    public ServiceProviderToApplicationListItem(List<String> requiredAttributes) {
+
+        this.requiredAttributes = RequiredAttribute.fromNames(requiredAttributes);
+    }
+
+    @Override
+    public ApplicationListItem apply(ServiceProvider application) {
+
+        ApplicationResponseModel applicationResponseModel = new ApplicationResponseModel()
+                .id(application.getApplicationResourceId())
+                .name(application.getApplicationName())
+                .description(application.getDescription())
+                .applicationVersion(application.getApplicationVersion());
+
+        if (!serviceProviderToApiModel.isResidentSp(application)) {
+            applicationResponseModel
+                    .imageUrl(StringUtils.trim(application.getImageUrl()))
+                    .accessUrl(StringUtils.trim(application.getAccessUrl()))
+                    .realm(serviceProviderToApiModel.getInboundKey(application, PASSIVE_STS));
+            if (requiredAttributes.contains(RequiredAttribute.CLIENT_ID)) {
+                applicationResponseModel.clientId(serviceProviderToApiModel.getInboundKey(application, OAUTH2));
+            }
+            if (requiredAttributes.contains(RequiredAttribute.ISSUER)) {
+                applicationResponseModel.issuer(serviceProviderToApiModel.getInboundKey(application, SAML_SSO));
+            }
+            if (requiredAttributes.contains(RequiredAttribute.TEMPLATE_ID)) {
+                applicationResponseModel.templateId(application.getTemplateId());
+            }
+            if (requiredAttributes.contains(RequiredAttribute.TEMPLATE_VERSION)) {
+                applicationResponseModel.templateVersion(application.getTemplateVersion());
+            }
+            if (requiredAttributes.contains(RequiredAttribute.APPLICATION_ENABLED)) {
+                applicationResponseModel.applicationEnabled(application.isApplicationEnabled());
+            }
+            if (requiredAttributes.contains(RequiredAttribute.ADVANCED_CONFIGURATIONS)) {
+                applicationResponseModel.advancedConfigurations(
+                        serviceProviderToApiModel.buildAdvancedAppConfiguration(application));
+            }
+            if (requiredAttributes.contains(RequiredAttribute.ASSOCIATED_ROLES)) {
+                applicationResponseModel.associatedRoles(serviceProviderToApiModel.buildAssociatedRoles(application));
+            }
+        }
+        return listItemBuilder.apply(applicationResponseModel);
+    }
+
+    /**
+     * Optional attributes of the application list item which are only built when requested.
+     */
+    private enum RequiredAttribute {
+
+        ADVANCED_CONFIGURATIONS(ApplicationManagementConstants.ADVANCED_CONFIGURATIONS),
+        APPLICATION_ENABLED(ApplicationManagementConstants.APPLICATION_ENABLED),
+        ASSOCIATED_ROLES(IdentityApplicationConstants.ALLOWED_ROLE_AUDIENCE_REQUEST_ATTRIBUTE_NAME),
+        CLIENT_ID(ApplicationManagementConstants.CLIENT_ID),
+        ISSUER(ApplicationManagementConstants.ISSUER),
+        TEMPLATE_ID(ApplicationManagementConstants.TEMPLATE_ID),
+        TEMPLATE_VERSION(ApplicationManagementConstants.TEMPLATE_VERSION);
+
+        private static final Map<String, RequiredAttribute> ATTRIBUTES_BY_NAME = new HashMap<>();
+
+        static {
+            for (RequiredAttribute requiredAttribute : values()) {
+                ATTRIBUTES_BY_NAME.put(requiredAttribute.attributeName, requiredAttribute);
+            }
+        }
+
+        private final String attributeName;
+
+        RequiredAttribute(String attributeName) {
+
+            this.attributeName = attributeName;
+        }
+
+        static Set<RequiredAttribute> fromNames(List<String> attributeNames) {
+
+            Set<RequiredAttribute> requiredAttributes = EnumSet.noneOf(RequiredAttribute.class);
+            if (attributeNames == null) {
+                return requiredAttributes;
+            }
+            for (String attributeName : attributeNames) {
+                RequiredAttribute requiredAttribute = ATTRIBUTES_BY_NAME.get(attributeName);
+                if (requiredAttribute != null) {
+                    requiredAttributes.add(requiredAttribute);
+                }
+            }
+            return requiredAttributes;
+        }
+    }
+}
@@ -65,6 +65,7 @@ import java.net.URI;
 import java.util.List;
 
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 
 /**
  * Implementation of ApplicationsApiService.
@@ -311,7 +312,7 @@ public class ApplicationsApiServiceImpl implements ApplicationsApiService {
                 .header("Cache-Control", "no-cache, no-store, must-revalidate")
                 .header("Pragma", "no-cache")
                 .header("Expires", "0")
-                .entity(transferResource.getResource())
+                .entity((StreamingOutput) transferResource::writeTo)
                 .build();
     }
 
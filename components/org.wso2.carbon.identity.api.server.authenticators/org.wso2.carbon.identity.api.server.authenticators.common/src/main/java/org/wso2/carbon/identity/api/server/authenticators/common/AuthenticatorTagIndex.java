@@ -0,0 +1,275 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.authenticators.common;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Per tenant index used to answer tag filters of the authenticators API.
+ * <p>
+ * The index only keeps the projection of each authenticator which is needed to build the API response, in the
+ * listing order of the API, along with an inverted index from each tag to the positions of the authenticators having
+ * it. Indexes are shared between requests and are immutable.
+ */
+public final class AuthenticatorTagIndex {
+
+    private final List<IndexedAuthenticator> authenticators;
+    private final List<String> tags;
+    private final Map<String, BitSet> authenticatorsByTag = new HashMap<>();
+
+    /**
+     * Build the index.
+     *
+     * @param authenticators Authenticators in their listing order.
+     * @param tags           Distinct tags defined for the authenticators of the tenant.
+     */
+    public AuthenticatorTagIndex(List<IndexedAuthenticator> authenticators, List<String> tags) {
+
+        this.authenticators = Collections.unmodifiableList(new ArrayList<>(authenticators));
+        this.tags = Collections.unmodifiableList(new ArrayList<>(tags));
+        for (int i = 0; i < this.authenticators.size(); i++) {
+            for (String tag : this.authenticators.get(i).getFilterTags()) {
+                if (tag != null) {
+                    authenticatorsByTag.computeIfAbsent(normalizeTag(tag), key -> new BitSet()).set(i);
+                }
+            }
+        }
+    }
+
+    /**
+     * Get the distinct tags defined for the authenticators of the tenant.
+     *
+     * @return Unmodifiable list of tags.
+     */
+    public List<String> getTags() {
+
+        return tags;
+    }
+
+    /**
+     * Get the authenticators having any of the given tags, in their listing order. Tags are matched ignoring case.
+     *
+     * @param filterTags Tags to match.
+     * @return Matching authenticators.
+     */
+    public List<IndexedAuthenticator> getAuthenticatorsWithAnyTag(List<String> filterTags) {
+
+        BitSet positions = new BitSet();
+        for (String filterTag : filterTags) {
+            BitSet taggedPositions = authenticatorsByTag.get(normalizeTag(filterTag));
+            if (taggedPositions != null) {
+                positions.or(taggedPositions);
+            }
+        }
+        List<IndexedAuthenticator> matchingAuthenticators = new ArrayList<>(positions.cardinality());
+        for (int i = positions.nextSetBit(0); i >= 0; i = positions.nextSetBit(i + 1)) {
+            matchingAuthenticators.add(authenticators.get(i));
+        }
+        return matchingAuthenticators;
+    }
+
+    private static String normalizeTag(String tag) {
+
+        return tag.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Projection of a local, request path or federated authenticator listed through the authenticators API.
+     */
+    public static final class IndexedAuthenticator {
+
+        private final String id;
+        private final String name;
+        private final String displayName;
+        private final boolean enabled;
+        private final boolean federated;
+        private final String definedBy;
+        private final String image;
+        private final String description;
+        private final List<String> tags;
+        private final List<String> filterTags;
+
+        private IndexedAuthenticator(Builder builder) {
+
+            this.id = builder.id;
+            this.name = builder.name;
+            this.displayName = builder.displayName;
+            this.enabled = builder.enabled;
+            this.federated = builder.federated;
+            this.definedBy = builder.definedBy;
+            this.image = builder.image;
+            this.description = builder.description;
+            this.tags = builder.tags != null ? Collections.unmodifiableList(new ArrayList<>(builder.tags)) : null;
+            this.filterTags = Collections.unmodifiableList(new ArrayList<>(builder.filterTags));
+        }
+
+        public String getId() {
+
+            return id;
+        }
+
+        public String getName() {
+
+            return name;
+        }
+
+        public String getDisplayName() {
+
+            return displayName;
+        }
+
+        public boolean isEnabled() {
+
+            return enabled;
+        }
+
+        /**
+         * Whether the authenticator is an identity provider. Otherwise, it is a local or request path authenticator.
+         *
+         * @return True if the authenticator is an identity provider.
+         */
+        public boolean isFederated() {
+
+            return federated;
+        }
+
+        public String getDefinedBy() {
+
+            return definedBy;
+        }
+
+        public String getImage() {
+
+            return image;
+        }
+
+        public String getDescription() {
+
+            return description;
+        }
+
+        /**
+         * Get the tags shown for the authenticator.
+         *
+         * @return Unmodifiable list of tags, or null if no tags are shown.
+         */
+        public List<String> getTags() {
+
+            return tags;
+        }
+
+        /**
+         * Get the tags matched against tag filters.
+         *
+         * @return Unmodifiable list of tags.
+         */
+        public List<String> getFilterTags() {
+
+            return filterTags;
+        }
+
+        /**
+         * Builder of the authenticator projection.
+         */
+        public static class Builder {
+
+            private String id;
+            private String name;
+            private String displayName;
+            private boolean enabled;
+            private boolean federated;
+            private String definedBy;
+            private String image;
+            private String description;
+            private List<String> tags;
+            private List<String> filterTags = Collections.emptyList();
+
+            public Builder withId(String id) {
+
+                this.id = id;
+                return this;
+            }
+
+            public Builder withName(String name) {
+
+                this.name = name;
+                return this;
+            }
+
+            public Builder withDisplayName(String displayName) {
+
+                this.displayName = displayName;
+                return this;
+            }
+
+            public Builder withEnabled(boolean enabled) {
+
+                this.enabled = enabled;
+                return this;
+            }
+
+            public Builder withFederated(boolean federated) {
+
+                this.federated = federated;
+                return this;
+            }
+
+            public Builder withDefinedBy(String definedBy) {
+
+                this.definedBy = definedBy;
+                return this;
+            }
+
+            public Builder withImage(String image) {
+
+                this.image = image;
+                return this;
+            }
+
+            public Builder withDescription(String description) {
+
+                this.description = description;
+                return this;
+            }
+
+            public Builder withTags(List<String> tags) {
+
+                this.tags = tags;
+                return this;
+            }
+
+            public Builder withFilterTags(List<String> filterTags) {
+
+                this.filterTags = filterTags != null ? filterTags : Collections.emptyList();
+                return this;
+            }
+
+            public IndexedAuthenticator build() {
+
+                return new IndexedAuthenticator(this);
+            }
+        }
+    }
+}
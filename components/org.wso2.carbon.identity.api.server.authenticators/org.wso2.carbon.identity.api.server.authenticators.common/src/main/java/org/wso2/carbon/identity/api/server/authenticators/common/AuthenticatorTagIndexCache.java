@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.authenticators.common;
+
+import org.wso2.carbon.identity.api.server.common.cache.LocalCache;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per tenant cache of the authenticator tag index.
+ * <p>
+ * The authenticators API invalidates the index of a tenant when a user defined local authenticator is changed, and
+ * the identity provider API does so when an identity provider is created, updated or deleted. The expiry bounds the
+ * staleness of changes done on other nodes or through other channels.
+ */
+public final class AuthenticatorTagIndexCache {
+
+    private static final int MAX_CACHED_TENANTS = 1000;
+    private static final long CACHE_TTL_MILLIS = TimeUnit.SECONDS.toMillis(30);
+
+    private static final AuthenticatorTagIndexCache INSTANCE = new AuthenticatorTagIndexCache();
+
+    private final LocalCache<String, AuthenticatorTagIndex> tagIndexes =
+            new LocalCache<>(MAX_CACHED_TENANTS, CACHE_TTL_MILLIS);
+    private long generation;
+
+    private AuthenticatorTagIndexCache() {
+
+    }
+
+    public static AuthenticatorTagIndexCache getInstance() {
+
+        return INSTANCE;
+    }
+
+    /**
+     * Get the cached authenticator tag index of a tenant.
+     *
+     * @param tenantDomain Tenant domain.
+     * @return Authenticator tag index, or null if the index is not cached.
+     */
+    public AuthenticatorTagIndex getTagIndex(String tenantDomain) {
+
+        return tagIndexes.get(tenantDomain);
+    }
+
+    /**
+     * Get the current generation of the cache. The generation changes on every invalidation, so an index built from
+     * data read before an invalidation is not cached.
+     *
+     * @return Current generation.
+     */
+    public synchronized long getGeneration() {
+
+        return generation;
+    }
+
+    /**
+     * Cache the authenticator tag index of a tenant, unless an index is already cached or the cache was invalidated
+     * after the given generation.
+     *
+     * @param tenantDomain Tenant domain.
+     * @param tagIndex     Authenticator tag index.
+     * @param generation   Generation of the cache read before building the index.
+     * @return The cached authenticator tag index, or the given index if it was not cached.
+     */
+    public synchronized AuthenticatorTagIndex putTagIndexIfAbsent(String tenantDomain, AuthenticatorTagIndex tagIndex,
+                                                                  long generation) {
+
+        if (generation != this.generation) {
+            return tagIndex;
+        }
+        return tagIndexes.putIfAbsent(tenantDomain, tagIndex);
+    }
+
+    /**
+     * Remove the cached authenticator tag index of a tenant.
+     *
+     * @param tenantDomain Tenant domain.
+     */
+    public synchronized void invalidate(String tenantDomain) {
+
+        generation++;
+        tagIndexes.remove(tenantDomain);
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.authenticators.common;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.api.server.authenticators.common.AuthenticatorTagIndex.IndexedAuthenticator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Unit tests for {@link AuthenticatorTagIndex}.
+ */
+public class AuthenticatorTagIndexTest {
+
+    @Test
+    public void testAuthenticatorsWithAnyTagKeepTheListingOrder() {
+
+        AuthenticatorTagIndex authenticatorTagIndex = new AuthenticatorTagIndex(Arrays.asList(
+                buildAuthenticator("totp", "2FA"),
+                buildAuthenticator("google", "Social-Login"),
+                buildAuthenticator("sms-otp", "2fa", "Social-Login"),
+                buildAuthenticator("basic")), Arrays.asList("2FA", "Social-Login"));
+
+        Assert.assertEquals(getIds(authenticatorTagIndex.getAuthenticatorsWithAnyTag(
+                Arrays.asList("social-login", "2FA"))), Arrays.asList("totp", "google", "sms-otp"));
+        Assert.assertEquals(getIds(authenticatorTagIndex.getAuthenticatorsWithAnyTag(
+                Collections.singletonList("2fa"))), Arrays.asList("totp", "sms-otp"));
+        Assert.assertTrue(authenticatorTagIndex.getAuthenticatorsWithAnyTag(
+                Collections.singletonList("Passwordless")).isEmpty());
+    }
+
+    @Test
+    public void testIndexIsNotChangedThroughTheGivenLists() {
+
+        List<IndexedAuthenticator> authenticators = new ArrayList<>();
+        authenticators.add(buildAuthenticator("totp", "2FA"));
+        List<String> tags = new ArrayList<>(Collections.singletonList("2FA"));
+        AuthenticatorTagIndex authenticatorTagIndex = new AuthenticatorTagIndex(authenticators, tags);
+
+        authenticators.add(buildAuthenticator("sms-otp", "2FA"));
+        tags.add("Social-Login");
+
+        Assert.assertEquals(authenticatorTagIndex.getTags(), Collections.singletonList("2FA"));
+        Assert.assertEquals(getIds(authenticatorTagIndex.getAuthenticatorsWithAnyTag(
+                Collections.singletonList("2FA"))), Collections.singletonList("totp"));
+    }
+
+    @Test(expectedExceptions = UnsupportedOperationException.class)
+    public void testTagsAreUnmodifiable() {
+
+        new AuthenticatorTagIndex(Collections.emptyList(), Collections.singletonList("2FA")).getTags()
+                .add("Social-Login");
+    }
+
+    private static IndexedAuthenticator buildAuthenticator(String id, String... filterTags) {
+
+        return new IndexedAuthenticator.Builder()
+                .withId(id)
+                .withName(id)
+                .withFilterTags(Arrays.asList(filterTags))
+                .build();
+    }
+
+    private static List<String> getIds(List<IndexedAuthenticator> authenticators) {
+
+        List<String> ids = new ArrayList<>();
+        for (IndexedAuthenticator authenticator : authenticators) {
+            ids.add(authenticator.getId());
+        }
+        return ids;
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021-2025, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2021-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -24,6 +24,9 @@ import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.context.CarbonContext;
+import org.wso2.carbon.identity.api.server.authenticators.common.AuthenticatorTagIndex;
+import org.wso2.carbon.identity.api.server.authenticators.common.AuthenticatorTagIndex.IndexedAuthenticator;
+import org.wso2.carbon.identity.api.server.authenticators.common.AuthenticatorTagIndexCache;
 import org.wso2.carbon.identity.api.server.authenticators.common.Constants;
 import org.wso2.carbon.identity.api.server.authenticators.v1.impl.LocalAuthenticatorConfigBuilderFactory;
 import org.wso2.carbon.identity.api.server.authenticators.v1.model.Authenticator;
@@ -70,7 +73,11 @@ import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import javax.ws.rs.core.Response;
@@ -103,71 +110,43 @@ public class ServerAuthenticatorManagementService {
      * Retrieves the list of available authenticators.
      *
      * @param filter The filter string.
-     * @param limit  The items per page. **Not supported at the moment.**
-     * @param offset The offset to be used with the limit parameter. **Not supported at the moment.**
+     * @param limit  The items per page. Capped at the maximum items per page count.
+     * @param offset The offset to be used with the limit parameter.
      * @return The list of authenticators
      */
     public List<Authenticator> getAuthenticators(String filter, Integer limit, Integer offset) {
 
-        handleNotImplementedCapabilities(limit, offset);
+        int maximumItemPerPage = IdentityUtil.getMaximumItemPerPage();
+        int resolvedLimit = validateAndResolveLimit(limit, maximumItemPerPage);
+        int resolvedOffset = validateAndResolveOffset(offset);
 
-        try {
-            String filterAuthenticatorName = null;
-            String filterOperationForName = null;
-            ArrayList<String> filterTagsList = null;
-            int maximumItemPerPage = IdentityUtil.getMaximumItemPerPage();
-            if (StringUtils.isNotBlank(filter)) {
-                List<ExpressionNode> expressionNodes = getExpressionNodesForAuthenticator(filter);
-                if (CollectionUtils.isNotEmpty(expressionNodes)) {
-                    NameFilter nameFilter = getFilterAuthenticatorNameAndOperation(expressionNodes);
-                    if (nameFilter != null) {
-                        filterAuthenticatorName = nameFilter.getName();
-                        filterOperationForName = nameFilter.getOperation();
-                    }
-                    filterTagsList = getFilterTagsList(expressionNodes);
+        String tenantDomain = ContextLoader.getTenantDomainFromContext();
+        String filterAuthenticatorName = null;
+        String filterOperationForName = null;
+        ArrayList<String> filterTagsList = null;
+        List<ExpressionNode> nameExpressionNodes = new ArrayList<>();
+        if (StringUtils.isNotBlank(filter)) {
+            List<ExpressionNode> expressionNodes = getExpressionNodesForAuthenticator(filter);
+            if (CollectionUtils.isNotEmpty(expressionNodes)) {
+                NameFilter nameFilter = getFilterAuthenticatorNameAndOperation(expressionNodes);
+                if (nameFilter != null) {
+                    filterAuthenticatorName = nameFilter.getName();
+                    filterOperationForName = nameFilter.getOperation();
                 }
+                filterTagsList = getFilterTagsList(expressionNodes);
+                nameExpressionNodes = getNameExpressionNodes(expressionNodes);
             }
+        }
 
-            LocalAuthenticatorConfig[] localAuthenticatorConfigs = applicationManagementService
-                    .getAllLocalAuthenticators(ContextLoader.getTenantDomainFromContext());
-            int localAuthenticatorsCount = localAuthenticatorConfigs.length;
-            RequestPathAuthenticatorConfig[] requestPathAuthenticatorConfigs = new RequestPathAuthenticatorConfig[0];
-
-            /* If there is no filter string available in the request, the request path authenticators are required to
-            be fetched only if the  no. of local authenticators retrieved are less than the maximum items per page
-            count as the no. of items returned in the response will be capped at the maximum items per page count. */
-            if (StringUtils.isNotBlank(filter) || (StringUtils.isBlank(filter) && localAuthenticatorsCount <
-                    maximumItemPerPage)) {
-                requestPathAuthenticatorConfigs = applicationManagementService
-                        .getAllRequestPathAuthenticators(ContextLoader.getTenantDomainFromContext());
-            }
-
-            List<String> requestedAttributeList = new ArrayList<>();
-            requestedAttributeList.add(Constants.FEDERATED_AUTHENTICATORS);
-
-            int idPCountToBeRetrieved = maximumItemPerPage - (localAuthenticatorsCount +
-                    requestPathAuthenticatorConfigs.length);
-            List<IdentityProvider> identityProviders = null;
-
-            /* If there is no filter string available in the request, the identity providers are required to
-            be fetched only if the total of local authenticators and request path authenticators retrieved above is
-            less than the maximum items per page count as the no. of items returned in the response will be capped
-            at the maximum items per page count. */
-            if (idPCountToBeRetrieved > 0 && StringUtils.isBlank(filter)) {
-                IdpSearchResult idpSearchResult = idpManager.getIdPs(idPCountToBeRetrieved, null, null,
-                        null, null, ContextLoader.getTenantDomainFromContext(), requestedAttributeList);
-                identityProviders = idpSearchResult.getIdPs();
-            }
-
-            return buildAuthenticatorsListResponse(filter, requestedAttributeList, filterAuthenticatorName,
-                    filterOperationForName, filterTagsList, localAuthenticatorConfigs, requestPathAuthenticatorConfigs,
-                    identityProviders);
-        } catch (IdentityApplicationManagementException e) {
-            throw handleApplicationMgtException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_LISTING_AUTHENTICATORS,
-                    null);
-        } catch (IdentityProviderManagementException e) {
-            throw handleIdPException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_LISTING_IDPS, null);
+        /* Tags of an identity provider are resolved from its federated authenticators, so the identity providers
+         cannot be filtered by tags at the backend. Such filters are answered from the tag index of the tenant, while
+         the rest are paged at the backend. */
+        if (CollectionUtils.isNotEmpty(filterTagsList)) {
+            return buildTagFilteredAuthenticatorsListResponse(getAuthenticatorTagIndex(tenantDomain),
+                    filterAuthenticatorName, filterOperationForName, filterTagsList, resolvedLimit, resolvedOffset);
         }
+        return buildAuthenticatorsListResponse(tenantDomain, filterAuthenticatorName, filterOperationForName,
+                nameExpressionNodes, resolvedLimit, resolvedOffset);
     }
 
     /**
@@ -177,29 +156,7 @@ public class ServerAuthenticatorManagementService {
      */
     public List<String> getTags() {
 
-        try {
-            LocalAuthenticatorConfig[] localAuthenticatorConfigs = applicationManagementService
-                    .getAllLocalAuthenticators(ContextLoader.getTenantDomainFromContext());
-
-            RequestPathAuthenticatorConfig[] requestPathAuthenticatorConfigs = applicationManagementService
-                    .getAllRequestPathAuthenticators(ContextLoader.getTenantDomainFromContext());
-
-            FederatedAuthenticatorConfig[] federatedAuthenticatorConfigs = idpManager
-                    .getAllFederatedAuthenticators(ContextLoader.getTenantDomainFromContext());
-
-            List<UserDefinedLocalAuthenticatorConfig> userDefinedLocalAuthConfigs = applicationAuthenticatorService
-                    .getAllUserDefinedLocalAuthenticators(ContextLoader.getTenantDomainFromContext());
-
-            return buildTagsListResponse(localAuthenticatorConfigs, requestPathAuthenticatorConfigs,
-                    federatedAuthenticatorConfigs, userDefinedLocalAuthConfigs);
-        } catch (IdentityApplicationManagementException e) {
-            throw handleApplicationMgtException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_LISTING_AUTHENTICATORS,
-                    null);
-        } catch (IdentityProviderManagementException e) {
-            throw handleIdPException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_LISTING_IDPS, null);
-        } catch (AuthenticatorMgtException e) {
-            throw handleAuthenticatorException(e);
-        }
+        return getAuthenticatorTagIndex(ContextLoader.getTenantDomainFromContext()).getTags();
     }
 
     public ConnectedApps getConnectedAppsOfLocalAuthenticator(String authenticatorId, Integer limit, Integer offset) {
@@ -224,10 +181,11 @@ public class ServerAuthenticatorManagementService {
     public Authenticator addUserDefinedLocalAuthenticator(UserDefinedLocalAuthenticatorCreation config) {
 
         try {
+            String tenantDomain = CarbonContext.getThreadLocalCarbonContext().getTenantDomain();
             UserDefinedLocalAuthenticatorConfig createdConfig = applicationAuthenticatorService
-                    .addUserDefinedLocalAuthenticator(
-                            LocalAuthenticatorConfigBuilderFactory.build(config),
-                            CarbonContext.getThreadLocalCarbonContext().getTenantDomain());
+                    .addUserDefinedLocalAuthenticator(LocalAuthenticatorConfigBuilderFactory.build(config),
+                            tenantDomain);
+            invalidateAuthenticatorTagIndex(tenantDomain);
             return LocalAuthenticatorConfigBuilderFactory.build(createdConfig);
         } catch (AuthenticatorMgtException e) {
             throw handleAuthenticatorException(e);
@@ -242,8 +200,10 @@ public class ServerAuthenticatorManagementService {
     public void deleteUserDefinedLocalAuthenticator(String authenticatorId) {
 
         try {
+            String tenantDomain = CarbonContext.getThreadLocalCarbonContext().getTenantDomain();
             applicationAuthenticatorService.deleteUserDefinedLocalAuthenticator(base64URLDecode(authenticatorId),
-                            CarbonContext.getThreadLocalCarbonContext().getTenantDomain());
+                            tenantDomain);
+            invalidateAuthenticatorTagIndex(tenantDomain);
         } catch (AuthenticatorMgtException e) {
             throw handleAuthenticatorException(e);
         }
@@ -274,6 +234,7 @@ public class ServerAuthenticatorManagementService {
                     .updateUserDefinedLocalAuthenticator(
                             LocalAuthenticatorConfigBuilderFactory.build(config, existingAuthenticator),
                             tenantDomain);
+            invalidateAuthenticatorTagIndex(tenantDomain);
             return LocalAuthenticatorConfigBuilderFactory.build(updatedConfig);
         } catch (AuthenticatorMgtException e) {
             throw handleAuthenticatorException(e);
@@ -288,10 +249,11 @@ public class ServerAuthenticatorManagementService {
         }
         List<ConnectedApp> connectedAppList = new ArrayList<>();
         if (CollectionUtils.isNotEmpty(connectedAppsResult.getApps())) {
+            ContextLoader.URIResolver uriResolver = ContextLoader.getURIResolver();
             for (String appId : connectedAppsResult.getApps()) {
                 ConnectedApp listItem = new ConnectedApp();
                 listItem.setAppId(appId);
-                listItem.setSelf(ContextLoader.buildURIForBody(String.format(V1_API_PATH_COMPONENT +
+                listItem.setSelf(uriResolver.buildURIForBody(String.format(V1_API_PATH_COMPONENT +
                         "/applications/%s", appId)).toString());
                 connectedAppList.add(listItem);
             }
@@ -359,176 +321,333 @@ public class ServerAuthenticatorManagementService {
         return calculateOffsetForPreviousLink(newOffset, limit, total);
     }
 
-    private List<Authenticator> buildAuthenticatorsListResponse(String filter, List<String> requestedAttributeList,
-                                                                String localAuthNames,
-                                                                String authenticatorNameFilterOperator,
-                                                                ArrayList<String> filterTagsList,
-                                                                LocalAuthenticatorConfig[] localAuthenticatorConfigs,
-                                                                RequestPathAuthenticatorConfig[]
-                                                                        requestPathAuthenticatorConfigs,
-                                                                List<IdentityProvider> identityProviders) {
+    /**
+     * Get the authenticator tag index of a tenant, building it if it is not cached.
+     *
+     * @param tenantDomain Tenant domain.
+     * @return Authenticator tag index of the tenant.
+     */
+    private AuthenticatorTagIndex getAuthenticatorTagIndex(String tenantDomain) {
 
-        int maximumItemsPerPage = IdentityUtil.getMaximumItemPerPage();
+        AuthenticatorTagIndexCache authenticatorTagIndexCache = AuthenticatorTagIndexCache.getInstance();
+        AuthenticatorTagIndex authenticatorTagIndex = authenticatorTagIndexCache.getTagIndex(tenantDomain);
+        if (authenticatorTagIndex != null) {
+            return authenticatorTagIndex;
+        }
 
-        List<Authenticator> authenticators = new ArrayList<>();
-        if (localAuthenticatorConfigs != null) {
-            for (LocalAuthenticatorConfig config : localAuthenticatorConfigs) {
-                addLocalAuthenticator(config, authenticators, localAuthNames, authenticatorNameFilterOperator,
-                        filterTagsList, maximumItemsPerPage);
+        long generation = authenticatorTagIndexCache.getGeneration();
+        try {
+            LocalAuthenticatorConfig[] localAuthenticatorConfigs = applicationManagementService
+                    .getAllLocalAuthenticators(tenantDomain);
+            RequestPathAuthenticatorConfig[] requestPathAuthenticatorConfigs = applicationManagementService
+                    .getAllRequestPathAuthenticators(tenantDomain);
+            FederatedAuthenticatorConfig[] federatedAuthenticatorConfigs = idpManager
+                    .getAllFederatedAuthenticators(tenantDomain);
+            List<UserDefinedLocalAuthenticatorConfig> userDefinedLocalAuthConfigs = applicationAuthenticatorService
+                    .getAllUserDefinedLocalAuthenticators(tenantDomain);
+
+            List<IndexedAuthenticator> authenticators = new ArrayList<>();
+            for (LocalAuthenticatorConfig config : getLocalAuthenticators(localAuthenticatorConfigs,
+                    requestPathAuthenticatorConfigs)) {
+                authenticators.add(projectLocalAuthenticator(config));
             }
+            Map<String, String[]> federatedAuthenticatorTags = new HashMap<>();
+            Map<String, FederatedAuthenticatorConfig> resolvedFederatedAuthConfigs = new HashMap<>();
+            for (IdentityProvider identityProvider : getAllIdentityProviders(tenantDomain)) {
+                authenticators.add(projectIdentityProvider(identityProvider, federatedAuthenticatorTags,
+                        resolvedFederatedAuthConfigs));
+            }
+
+            authenticatorTagIndex = new AuthenticatorTagIndex(authenticators, buildTagsListResponse(
+                    localAuthenticatorConfigs, requestPathAuthenticatorConfigs, federatedAuthenticatorConfigs,
+                    userDefinedLocalAuthConfigs));
+        } catch (IdentityApplicationManagementException e) {
+            throw handleApplicationMgtException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_LISTING_AUTHENTICATORS,
+                    null);
+        } catch (IdentityProviderManagementException e) {
+            throw handleIdPException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_LISTING_IDPS, null);
+        } catch (AuthenticatorMgtException e) {
+            throw handleAuthenticatorException(e);
         }
+        return authenticatorTagIndexCache.putTagIndexIfAbsent(tenantDomain, authenticatorTagIndex, generation);
+    }
 
-        if ((authenticators.size() < maximumItemsPerPage) && requestPathAuthenticatorConfigs != null) {
-            for (RequestPathAuthenticatorConfig config : requestPathAuthenticatorConfigs) {
-                addLocalAuthenticator(config, authenticators, localAuthNames, authenticatorNameFilterOperator,
-                        filterTagsList, maximumItemsPerPage);
+    private void invalidateAuthenticatorTagIndex(String tenantDomain) {
+
+        AuthenticatorTagIndexCache.getInstance().invalidate(tenantDomain);
+    }
+
+    /**
+     * Retrieves all the identity providers of a tenant along with their federated authenticators, page by page.
+     *
+     * @param tenantDomain Tenant domain.
+     * @return The identity providers of the tenant.
+     * @throws IdentityProviderManagementException If an error occurred while retrieving the identity providers.
+     */
+    private List<IdentityProvider> getAllIdentityProviders(String tenantDomain)
+            throws IdentityProviderManagementException {
+
+        List<String> requestedAttributeList = new ArrayList<>();
+        requestedAttributeList.add(Constants.FEDERATED_AUTHENTICATORS);
+        int pageSize = IdentityUtil.getMaximumItemPerPage();
+
+        List<IdentityProvider> identityProviders = new ArrayList<>();
+        int offset = 0;
+        while (true) {
+            IdpSearchResult idpSearchResult = idpManager.getIdPs(pageSize, offset, null, null, null, tenantDomain,
+                    requestedAttributeList);
+            List<IdentityProvider> page = idpSearchResult.getIdPs();
+            if (CollectionUtils.isEmpty(page)) {
+                break;
+            }
+            identityProviders.addAll(page);
+            offset += page.size();
+            if (offset >= idpSearchResult.getTotalIDPCount()) {
+                break;
             }
         }
+        return identityProviders;
+    }
 
-        if (StringUtils.isBlank(filter)) {
-            if ((authenticators.size() < maximumItemsPerPage) && identityProviders != null) {
-                for (IdentityProvider identityProvider : identityProviders) {
-                    if (authenticators.size() < maximumItemsPerPage) {
-                        List<String> configTagsListDistinct = getDistinctTags(identityProvider);
-                        addIdp(identityProvider, authenticators, configTagsListDistinct);
-                    }
+    private List<LocalAuthenticatorConfig> getLocalAuthenticators(
+            LocalAuthenticatorConfig[] localAuthenticatorConfigs,
+            RequestPathAuthenticatorConfig[] requestPathAuthenticatorConfigs) {
+
+        List<LocalAuthenticatorConfig> localAuthenticators = new ArrayList<>();
+        if (localAuthenticatorConfigs != null) {
+            localAuthenticators.addAll(Arrays.asList(localAuthenticatorConfigs));
+        }
+        if (requestPathAuthenticatorConfigs != null) {
+            localAuthenticators.addAll(Arrays.asList(requestPathAuthenticatorConfigs));
+        }
+        return localAuthenticators;
+    }
+
+    /**
+     * Builds the list of authenticators when the filter has no tags, by reading a page of local authenticators and
+     * identity providers from the backend.
+     *
+     * @param tenantDomain                    Tenant domain.
+     * @param filterAuthenticatorName         The authenticator name passed in the filter string.
+     * @param authenticatorNameFilterOperator The filter operator passed for the authenticator name.
+     * @param nameExpressionNodes             The expression nodes of the name filter.
+     * @param limit                           The items per page.
+     * @param offset                          The offset to be used with the limit parameter.
+     * @return The list of authenticators.
+     */
+    private List<Authenticator> buildAuthenticatorsListResponse(String tenantDomain, String filterAuthenticatorName,
+                                                                String authenticatorNameFilterOperator,
+                                                                List<ExpressionNode> nameExpressionNodes,
+                                                                int limit, int offset) {
+
+        List<Authenticator> authenticators = new ArrayList<>();
+        ContextLoader.URIResolver uriResolver = ContextLoader.getURIResolver();
+        try {
+            List<LocalAuthenticatorConfig> localAuthenticators = getLocalAuthenticators(
+                    applicationManagementService.getAllLocalAuthenticators(tenantDomain),
+                    applicationManagementService.getAllRequestPathAuthenticators(tenantDomain));
+
+            // For local authenticators and request path authenticators, the 'displayName' is considered as the
+            // 'name' attribute during filtering.
+            int matchedLocalAuthenticatorCount = 0;
+            for (LocalAuthenticatorConfig config : localAuthenticators) {
+                if (!isNameMatched(config.getDisplayName(), filterAuthenticatorName,
+                        authenticatorNameFilterOperator)) {
+                    continue;
                 }
+                if (matchedLocalAuthenticatorCount >= offset && authenticators.size() < limit) {
+                    authenticators.add(buildAuthenticator(projectLocalAuthenticator(config), uriResolver));
+                }
+                matchedLocalAuthenticatorCount++;
             }
-        } else {
-            List<ExpressionNode> expressionNodesForIdp = getExpressionNodesForIdp(filter);
-            int idPCountToBeRetrieved = maximumItemsPerPage - authenticators.size();
+
+            int idpLimit = limit - authenticators.size();
+            if (idpLimit <= 0) {
+                return authenticators;
+            }
+            int idpOffset = Math.max(0, offset - matchedLocalAuthenticatorCount);
+            List<String> requestedAttributeList = new ArrayList<>();
+            requestedAttributeList.add(Constants.FEDERATED_AUTHENTICATORS);
             IdpSearchResult idpSearchResult;
-            try {
-                idpSearchResult = idpManager.getIdPs(idPCountToBeRetrieved, null, null, null,
-                                ContextLoader.getTenantDomainFromContext(), requestedAttributeList,
-                                expressionNodesForIdp);
-                identityProviders = idpSearchResult.getIdPs();
-                if (identityProviders != null) {
-                    addIdPsToAuthenticatorList(maximumItemsPerPage, identityProviders, authenticators,
-                            filterTagsList);
-                    int limit = idpSearchResult.getLimit();
-                    int offSet = idpSearchResult.getOffSet();
-                    int totalIdpCount = idpSearchResult.getTotalIDPCount();
-                    while (authenticators.size() < maximumItemsPerPage && limit > 0 && offSet >= 0 &&
-                            totalIdpCount > (limit + offSet)) {
-                        identityProviders = new ArrayList<>();
-                        getFilteredIdPs(limit, offSet, requestedAttributeList, identityProviders,
-                                expressionNodesForIdp);
-                        addIdPsToAuthenticatorList(maximumItemsPerPage, identityProviders, authenticators,
-                                filterTagsList);
-                        offSet = offSet + limit;
-                    }
+            if (CollectionUtils.isEmpty(nameExpressionNodes)) {
+                idpSearchResult = idpManager.getIdPs(idpLimit, idpOffset, null, null, null, tenantDomain,
+                        requestedAttributeList);
+            } else {
+                idpSearchResult = idpManager.getIdPs(idpLimit, idpOffset, null, null, tenantDomain,
+                        requestedAttributeList, nameExpressionNodes);
+            }
+            if (CollectionUtils.isNotEmpty(idpSearchResult.getIdPs())) {
+                Map<String, String[]> federatedAuthenticatorTags = new HashMap<>();
+                Map<String, FederatedAuthenticatorConfig> resolvedFederatedAuthConfigs = new HashMap<>();
+                for (IdentityProvider identityProvider : idpSearchResult.getIdPs()) {
+                    authenticators.add(buildAuthenticator(projectIdentityProvider(identityProvider,
+                            federatedAuthenticatorTags, resolvedFederatedAuthConfigs), uriResolver));
                 }
-            } catch (IdentityProviderManagementException e) {
-                throw handleIdPException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_LISTING_IDPS, null);
             }
+        } catch (IdentityApplicationManagementException e) {
+            throw handleApplicationMgtException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_LISTING_AUTHENTICATORS,
+                    null);
+        } catch (IdentityProviderManagementException e) {
+            throw handleIdPException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_LISTING_IDPS, null);
         }
         return authenticators;
     }
 
-    private void addIdPsToAuthenticatorList(int maximumItemsPerPage, List<IdentityProvider> identityProviders,
-                                            List<Authenticator> authenticators, ArrayList<String> filterTagsList) {
-
-        for (IdentityProvider identityProvider : identityProviders) {
-            if (authenticators.size() < maximumItemsPerPage) {
-                List<String> configTagsListDistinct = getDistinctTags(identityProvider);
-                if (CollectionUtils.isNotEmpty(filterTagsList) &&
-                        CollectionUtils.isNotEmpty(configTagsListDistinct)) {
-                    boolean tagFound = false;
-                    for (String filterTag : filterTagsList) {
-                        if (tagFound) {
-                            break;
-                        }
-                        for (String configTag : configTagsListDistinct) {
-                            if (StringUtils.equalsIgnoreCase(configTag, filterTag)) {
-                                addIdp(identityProvider, authenticators, configTagsListDistinct);
-                                tagFound = true;
-                                break;
-                            }
-                        }
-                    }
-                } else if (CollectionUtils.isEmpty(filterTagsList)) {
-                    addIdp(identityProvider, authenticators, configTagsListDistinct);
-                }
+    /**
+     * Builds the list of authenticators matching the tags passed in the filter string from the tag index.
+     *
+     * @param authenticatorTagIndex           Authenticator tag index of the tenant.
+     * @param filterAuthenticatorName         The authenticator name passed in the filter string.
+     * @param authenticatorNameFilterOperator The filter operator passed for the authenticator name.
+     * @param filterTagsList                  The tags passed in the filter string.
+     * @param limit                           The items per page.
+     * @param offset                          The offset to be used with the limit parameter.
+     * @return The list of authenticators.
+     */
+    private List<Authenticator> buildTagFilteredAuthenticatorsListResponse(AuthenticatorTagIndex authenticatorTagIndex,
+                                                                           String filterAuthenticatorName,
+                                                                           String authenticatorNameFilterOperator,
+                                                                           List<String> filterTagsList, int limit,
+                                                                           int offset) {
+
+        List<Authenticator> authenticators = new ArrayList<>();
+        ContextLoader.URIResolver uriResolver = ContextLoader.getURIResolver();
+        int skippedCount = 0;
+        for (IndexedAuthenticator indexedAuthenticator :
+                authenticatorTagIndex.getAuthenticatorsWithAnyTag(filterTagsList)) {
+            if (authenticators.size() >= limit) {
+                break;
+            }
+            // For local authenticators and request path authenticators, the 'displayName' is considered as the
+            // 'name' attribute during filtering.
+            String name = indexedAuthenticator.isFederated() ? indexedAuthenticator.getName() :
+                    indexedAuthenticator.getDisplayName();
+            if (!isNameMatched(name, filterAuthenticatorName, authenticatorNameFilterOperator)) {
+                continue;
+            }
+            if (skippedCount < offset) {
+                skippedCount++;
+                continue;
             }
+            authenticators.add(buildAuthenticator(indexedAuthenticator, uriResolver));
+        }
+        return authenticators;
+    }
+
+    /**
+     * Checks whether a name satisfies the name filter passed in the filter string.
+     *
+     * @param name                            The name to check.
+     * @param filterAuthenticatorName         The authenticator name passed in the filter string.
+     * @param authenticatorNameFilterOperator The filter operator passed for the authenticator name in the filter
+     *                                        string.
+     * @return True if there is no name filter or the name satisfies it.
+     */
+    private boolean isNameMatched(String name, String filterAuthenticatorName,
+                                  String authenticatorNameFilterOperator) {
+
+        if (StringUtils.isBlank(filterAuthenticatorName)) {
+            return true;
+        }
+        if (StringUtils.equalsIgnoreCase(authenticatorNameFilterOperator, Constants.FilterOperations.SW)) {
+            return StringUtils.startsWithIgnoreCase(name, filterAuthenticatorName);
         }
+        if (StringUtils.equalsIgnoreCase(authenticatorNameFilterOperator, Constants.FilterOperations.EQ)) {
+            return StringUtils.equalsIgnoreCase(name, filterAuthenticatorName);
+        }
+        return false;
     }
 
     /**
      * Retrieves a distinct list of tags defined for the federated authenticators of an identity provider.
      *
-     * @param identityProvider The identity provider.
+     * @param identityProvider           The identity provider.
+     * @param federatedAuthenticatorTags Tags of the federated authenticators resolved so far, keyed by the
+     *                                   authenticator name.
      * @return A distinct list of tags defined for the federated authenticators of an identity provider.
      */
-    private List<String> getDistinctTags(IdentityProvider identityProvider) {
-
-        ArrayList<String> tagsList = new ArrayList<>();
+    private List<String> getDistinctTags(IdentityProvider identityProvider,
+                                         Map<String, String[]> federatedAuthenticatorTags) {
 
         FederatedAuthenticatorConfig[] fedAuthConfigs = identityProvider
                 .getFederatedAuthenticatorConfigs();
-        if (fedAuthConfigs != null) {
-            for (FederatedAuthenticatorConfig config : fedAuthConfigs) {
-                if (config.isEnabled()) {
-                    FederatedAuthenticatorConfig federatedAuthenticatorConfig = applicationAuthenticatorService
-                            .getFederatedAuthenticatorByName(config.getName());
-                    if (federatedAuthenticatorConfig != null) {
-                        String[] tags = federatedAuthenticatorConfig.getTags();
-                        if (ArrayUtils.isNotEmpty(tags)) {
-                            tagsList.addAll(Arrays.asList(tags));
-                        }
-                    }
+        if (fedAuthConfigs == null) {
+            return null;
+        }
+        Set<String> tagsSet = new LinkedHashSet<>();
+        for (FederatedAuthenticatorConfig config : fedAuthConfigs) {
+            if (config.isEnabled()) {
+                String[] tags = federatedAuthenticatorTags.computeIfAbsent(config.getName(),
+                        this::getFederatedAuthenticatorTags);
+                if (ArrayUtils.isNotEmpty(tags)) {
+                    tagsSet.addAll(Arrays.asList(tags));
                 }
             }
-            return tagsList.stream().distinct().collect(Collectors.toList());
         }
-        return null;
+        return new ArrayList<>(tagsSet);
+    }
+
+    private String[] getFederatedAuthenticatorTags(String authenticatorName) {
+
+        FederatedAuthenticatorConfig federatedAuthenticatorConfig = applicationAuthenticatorService
+                .getFederatedAuthenticatorByName(authenticatorName);
+        if (federatedAuthenticatorConfig == null || federatedAuthenticatorConfig.getTags() == null) {
+            return new String[0];
+        }
+        return federatedAuthenticatorConfig.getTags();
     }
 
     /**
-     * Adds the identity provider to the list of authenticators.
+     * Projects an identity provider into the fields listed through the authenticators API.
      *
-     * @param identityProvider       The identity provider.
-     * @param authenticators         The list of authenticators.
-     * @param configTagsListDistinct The distinct list of tags available for the identity provider.
+     * @param identityProvider             The identity provider.
+     * @param federatedAuthenticatorTags   Tags of the federated authenticators resolved so far, keyed by the
+     *                                     authenticator name.
+     * @param resolvedFederatedAuthConfigs Federated authenticator configurations resolved so far, keyed by the
+     *                                     authenticator name.
+     * @return Projection of the identity provider.
      */
-    private void addIdp(IdentityProvider identityProvider, List<Authenticator> authenticators,
-                        List<String> configTagsListDistinct) {
+    private IndexedAuthenticator projectIdentityProvider(IdentityProvider identityProvider,
+                                                         Map<String, String[]> federatedAuthenticatorTags,
+                                                         Map<String, FederatedAuthenticatorConfig>
+                                                                 resolvedFederatedAuthConfigs) {
 
-        Authenticator authenticator = new Authenticator();
-        authenticator.setId(identityProvider.getResourceId());
-        authenticator.setName(identityProvider.getIdentityProviderName());
+        List<String> configTagsListDistinct = getDistinctTags(identityProvider, federatedAuthenticatorTags);
         String displayName = identityProvider.getDisplayName();
-        if (StringUtils.isNotBlank(displayName)) {
-            authenticator.setDisplayName(identityProvider.getDisplayName());
-        } else {
-            authenticator.setDisplayName(identityProvider.getIdentityProviderName());
+        if (StringUtils.isBlank(displayName)) {
+            displayName = identityProvider.getIdentityProviderName();
         }
-        authenticator.setIsEnabled(identityProvider.isEnable());
-        authenticator.setType(Authenticator.TypeEnum.FEDERATED);
-        authenticator.setImage(identityProvider.getImageUrl());
-        authenticator.setDescription(identityProvider.getIdentityProviderDescription());
+        IndexedAuthenticator.Builder builder = new IndexedAuthenticator.Builder()
+                .withId(identityProvider.getResourceId())
+                .withName(identityProvider.getIdentityProviderName())
+                .withDisplayName(displayName)
+                .withEnabled(identityProvider.isEnable())
+                .withFederated(true)
+                .withImage(identityProvider.getImageUrl())
+                .withDescription(identityProvider.getIdentityProviderDescription())
+                .withFilterTags(configTagsListDistinct);
 
         /* For the /authenticators APIs, per IDP have an item in the response payload, not per federated authenticator
          within the IDP. If an IDP has more than one federated authenticator, it is considered as an existing older
          authenticator and should always be classified as a SYSTEM type. Otherwise, it can be classified as either
          SYSTEM or USER, depending on the 'definedBy' type of the federated authenticator. */
+        List<String> tags = null;
         if (identityProvider.getFederatedAuthenticatorConfigs().length == 1) {
-            FederatedAuthenticatorConfig federatedAuthConfig = resolveFederatedAuthenticatorConfig(identityProvider);
-            authenticator.definedBy(Authenticator.DefinedByEnum.valueOf(
-                    String.valueOf(federatedAuthConfig.getDefinedByType())));
+            FederatedAuthenticatorConfig federatedAuthConfig = resolvedFederatedAuthConfigs.computeIfAbsent(
+                    identityProvider.getFederatedAuthenticatorConfigs()[0].getName(),
+                    authenticatorName -> resolveFederatedAuthenticatorConfig(identityProvider));
+            builder.withDefinedBy(String.valueOf(federatedAuthConfig.getDefinedByType()));
             if (federatedAuthConfig.getTags() != null) {
-                authenticator.setTags(Arrays.asList(federatedAuthConfig.getTags()));
+                tags = Arrays.asList(federatedAuthConfig.getTags());
             }
         } else {
-            authenticator.definedBy(Authenticator.DefinedByEnum.SYSTEM);
+            builder.withDefinedBy(Authenticator.DefinedByEnum.SYSTEM.name());
         }
 
         if (CollectionUtils.isNotEmpty(configTagsListDistinct)) {
-            authenticator.setTags(configTagsListDistinct);
+            tags = configTagsListDistinct;
         }
-        authenticators.add(authenticator);
-        authenticator.setSelf(ContextLoader.buildURIForBody(
-                String.format("/v1/identity-providers/%s", identityProvider.getResourceId())).toString());
+        return builder.withTags(tags).build();
     }
 
     private FederatedAuthenticatorConfig resolveFederatedAuthenticatorConfig(IdentityProvider identityProvider) {
@@ -546,102 +665,56 @@ public class ServerAuthenticatorManagementService {
     }
 
     /**
-     * Adds the local authenticator to the list of authenticators.
+     * Projects a local or request path authenticator into the fields listed through the authenticators API.
      *
-     * @param config                          The local authenticator configuration.
-     * @param authenticators                  The list of authenticators.
-     * @param filterAuthenticatorName         The authenticator name passed in the filter string.
-     * @param authenticatorNameFilterOperator The filter operator passed for the authenticator name in the filter
-     *                                        string.
-     * @param tagsList                        The list of tags available for the local authenticator.
-     * @param maximumItemsPerPage             The defined maximum items per page limit.
+     * @param config The local or request path authenticator configuration.
+     * @return Projection of the authenticator.
      */
-    private void addLocalAuthenticator(LocalAuthenticatorConfig config, List<Authenticator> authenticators,
-                                       String filterAuthenticatorName, String authenticatorNameFilterOperator,
-                                       ArrayList<String> tagsList, int maximumItemsPerPage) {
-
-        if (authenticators.size() < maximumItemsPerPage) {
-
-            // For local authenticators and request path authenticators, the 'displayName' is considered as the
-            // 'name' attribute during filtering.
-            if (StringUtils.isNotBlank(filterAuthenticatorName) && CollectionUtils.isNotEmpty(tagsList) &&
-                    ((StringUtils.equalsIgnoreCase(authenticatorNameFilterOperator, Constants.FilterOperations.SW) &&
-                            StringUtils.startsWithIgnoreCase(config.getDisplayName(), filterAuthenticatorName)) ||
-                            (StringUtils.equalsIgnoreCase(authenticatorNameFilterOperator,
-                                    Constants.FilterOperations.EQ) &&
-                                    StringUtils.equalsIgnoreCase(config.getDisplayName(), filterAuthenticatorName)))) {
-                filterTags(config, authenticators, tagsList);
-            } else if (StringUtils.isNotBlank(filterAuthenticatorName)) {
-                if (StringUtils.equalsIgnoreCase(authenticatorNameFilterOperator, Constants.FilterOperations.SW) &&
-                        StringUtils.startsWithIgnoreCase(config.getDisplayName(), filterAuthenticatorName)) {
-                    Authenticator authenticator = addLocalAuthenticator(config);
-                    authenticators.add(authenticator);
-                } else if (StringUtils.equalsIgnoreCase(authenticatorNameFilterOperator, Constants.FilterOperations.EQ)
-                        && StringUtils.equalsIgnoreCase(config.getDisplayName(), filterAuthenticatorName)) {
-                    Authenticator authenticator = addLocalAuthenticator(config);
-                    authenticators.add(authenticator);
-                }
-            } else if (CollectionUtils.isNotEmpty(tagsList)) {
-                filterTags(config, authenticators, tagsList);
-            } else {
-                Authenticator authenticator = addLocalAuthenticator(config);
-                authenticators.add(authenticator);
-            }
+    private IndexedAuthenticator projectLocalAuthenticator(LocalAuthenticatorConfig config) {
+
+        IndexedAuthenticator.Builder builder = new IndexedAuthenticator.Builder()
+                .withId(base64URLEncode(config.getName()))
+                .withName(config.getName())
+                .withDisplayName(config.getDisplayName())
+                .withEnabled(config.isEnabled())
+                .withDefinedBy(config.getDefinedByType().toString());
+        if (AuthenticatorPropertyConstants.DefinedByType.USER.equals(config.getDefinedByType()) && config instanceof
+                UserDefinedLocalAuthenticatorConfig) {
+            UserDefinedLocalAuthenticatorConfig userDefinedConfig = (UserDefinedLocalAuthenticatorConfig) config;
+            builder.withImage(userDefinedConfig.getImageUrl())
+                    .withDescription(userDefinedConfig.getDescription());
         }
-    }
-
-    /**
-     * Adds local authenticator to the list of authenticators if it satisfies the given filter.
-     *
-     * @param config         The local authenticator configuration.
-     * @param authenticators The list of authenticators.
-     * @param filterTagsList The list of tags passed in the filter string.
-     */
-    private void filterTags(LocalAuthenticatorConfig config, List<Authenticator> authenticators,
-                            ArrayList<String> filterTagsList) {
-
-        boolean tagFound = false;
-        for (String filterTag : filterTagsList) {
-            if (tagFound) {
-                break;
-            }
-            String[] authenticatorConfigTags = config.getTags();
-            if (ArrayUtils.isNotEmpty(authenticatorConfigTags)) {
-                for (String tag : authenticatorConfigTags) {
-                    if (StringUtils.equalsIgnoreCase(tag, filterTag)) {
-                        Authenticator authenticator = addLocalAuthenticator(config);
-                        authenticators.add(authenticator);
-                        tagFound = true;
-                        break;
-                    }
-                }
-            }
+        String[] tags = config.getTags();
+        if (ArrayUtils.isNotEmpty(tags)) {
+            builder.withTags(Arrays.asList(tags))
+                    .withFilterTags(Arrays.asList(tags));
         }
+        return builder.build();
     }
 
-    private Authenticator addLocalAuthenticator(LocalAuthenticatorConfig config) {
+    private Authenticator buildAuthenticator(IndexedAuthenticator indexedAuthenticator,
+                                             ContextLoader.URIResolver uriResolver) {
 
         Authenticator authenticator = new Authenticator();
-        String authenticatorId = base64URLEncode(config.getName());
-        authenticator.setId(authenticatorId);
-        authenticator.setName(config.getName());
-        authenticator.setDisplayName(config.getDisplayName());
-        authenticator.setIsEnabled(config.isEnabled());
-        authenticator.setType(Authenticator.TypeEnum.LOCAL);
-
-        authenticator.definedBy(Authenticator.DefinedByEnum.valueOf(config.getDefinedByType().toString()));
-        if (AuthenticatorPropertyConstants.DefinedByType.USER.equals(config.getDefinedByType()) && config instanceof
-                UserDefinedLocalAuthenticatorConfig) {
-            UserDefinedLocalAuthenticatorConfig userDefinedConfig = (UserDefinedLocalAuthenticatorConfig) config;
-            authenticator.setImage(userDefinedConfig.getImageUrl());
-            authenticator.setDescription(userDefinedConfig.getDescription());
+        authenticator.setId(indexedAuthenticator.getId());
+        authenticator.setName(indexedAuthenticator.getName());
+        authenticator.setDisplayName(indexedAuthenticator.getDisplayName());
+        authenticator.setIsEnabled(indexedAuthenticator.isEnabled());
+        authenticator.definedBy(Authenticator.DefinedByEnum.valueOf(indexedAuthenticator.getDefinedBy()));
+        authenticator.setImage(indexedAuthenticator.getImage());
+        authenticator.setDescription(indexedAuthenticator.getDescription());
+        if (indexedAuthenticator.getTags() != null) {
+            authenticator.setTags(new ArrayList<>(indexedAuthenticator.getTags()));
         }
-        String[] tags = config.getTags();
-        if (ArrayUtils.isNotEmpty(tags)) {
-            authenticator.setTags(Arrays.asList(tags));
+        if (indexedAuthenticator.isFederated()) {
+            authenticator.setType(Authenticator.TypeEnum.FEDERATED);
+            authenticator.setSelf(uriResolver.buildURIForBody(
+                    String.format("/v1/identity-providers/%s", indexedAuthenticator.getId())).toString());
+        } else {
+            authenticator.setType(Authenticator.TypeEnum.LOCAL);
+            authenticator.setSelf(uriResolver.buildURIForBody(
+                    String.format("/v1/configs/authenticators/%s", indexedAuthenticator.getId())).toString());
         }
-        authenticator.setSelf(ContextLoader.buildURIForBody
-                (String.format("/v1/configs/authenticators/%s", authenticatorId)).toString());
         return authenticator;
     }
 
@@ -689,6 +762,8 @@ public class ServerAuthenticatorManagementService {
     private List<ExpressionNode> getExpressionNodesForAuthenticator(String filter) {
 
         // Filter example : name sw go and (tag eq 2fa or tag eq Social-Login)
+        /* This filter is not compiled with the shared FilterCompiler, since validateFilter also checks how the name
+         and tag comparisons are combined, which needs the tree of the filter rather than its compiled form. */
         List<ExpressionNode> expressionNodes = new ArrayList<>();
         FilterTreeBuilder filterTreeBuilder;
         try {
@@ -848,72 +923,38 @@ public class ServerAuthenticatorManagementService {
         }
     }
 
-    private List<ExpressionNode> getExpressionNodesForIdp(String filter) {
-
-        // Filter example : name sw go and (tag eq 2fa or tag eq Social-Login)
-        List<ExpressionNode> expressionNodes = new ArrayList<>();
-        FilterTreeBuilder filterTreeBuilder;
-        try {
-            if (StringUtils.isNotBlank(filter)) {
-                filterTreeBuilder = new FilterTreeBuilder(filter);
-                Node rootNode = filterTreeBuilder.buildTree();
-                setExpressionNodeListForIdp(rootNode, expressionNodes);
-            }
-        } catch (IOException | IdentityException e) {
-            throw buildClientError(Constants.ErrorMessage.ERROR_CODE_INVALID_FILTER_FORMAT, null);
-
-        }
-        return expressionNodes;
-    }
-
     /**
-     * Sets the expression nodes required for the retrieval of identity providers from the database.
+     * The authenticator name and the filter operation for authenticator name passed in the filter string.
      *
-     * @param node       The node
-     * @param expression The list of expression nodes.
+     * @param expressionNodes The list of expression nodes.
+     * @return NameFilter object containing the authenticator name and the filter operation for authenticator name
+     * passed in the filter string.
      */
-    private void setExpressionNodeListForIdp(Node node, List<ExpressionNode> expression) {
+    private NameFilter getFilterAuthenticatorNameAndOperation(List<ExpressionNode> expressionNodes) {
 
-        if (node instanceof ExpressionNode) {
-            if (StringUtils.isNotBlank(((ExpressionNode) node).getAttributeValue())) {
-                if (StringUtils.equalsIgnoreCase(((ExpressionNode) node).getAttributeValue(),
-                        Constants.FilterAttributes.NAME)) {
-                    expression.add((ExpressionNode) node);
-                }
+        for (ExpressionNode expressionNode : expressionNodes) {
+            if (StringUtils.equalsIgnoreCase(expressionNode.getAttributeValue(), Constants.FilterAttributes.NAME)) {
+                return new NameFilter(expressionNode.getValue(), expressionNode.getOperation());
             }
-        } else if (node instanceof OperationNode) {
-            setExpressionNodeListForIdp(node.getLeftNode(), expression);
-            setExpressionNodeListForIdp(node.getRightNode(), expression);
-        }
-    }
-
-    private void getFilteredIdPs(int limit, int offSet, List<String> requestedAttributeList,
-                                 List<IdentityProvider> identityProviders, List<ExpressionNode> expressionNodes) {
-
-        try {
-            IdpSearchResult idpSearchResult = idpManager.getIdPs(limit, (offSet + limit), null, null,
-                            ContextLoader.getTenantDomainFromContext(), requestedAttributeList, expressionNodes);
-            identityProviders.addAll(idpSearchResult.getIdPs());
-        } catch (IdentityProviderManagementException e) {
-            throw handleIdPException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_LISTING_IDPS, null);
         }
+        return null;
     }
 
     /**
-     * The authenticator name and the filter operation for authenticator name passed in the filter string.
+     * Retrieves the expression nodes of the name filter passed in the filter string.
      *
      * @param expressionNodes The list of expression nodes.
-     * @return NameFilter object containing the authenticator name and the filter operation for authenticator name
-     * passed in the filter string.
+     * @return The expression nodes of the name filter.
      */
-    private NameFilter getFilterAuthenticatorNameAndOperation(List<ExpressionNode> expressionNodes) {
+    private List<ExpressionNode> getNameExpressionNodes(List<ExpressionNode> expressionNodes) {
 
+        List<ExpressionNode> nameExpressionNodes = new ArrayList<>();
         for (ExpressionNode expressionNode : expressionNodes) {
-            if (expressionNode.getAttributeValue().equals(Constants.FilterAttributes.NAME)) {
-                return new NameFilter(expressionNode.getValue(), expressionNode.getOperation());
+            if (StringUtils.equalsIgnoreCase(expressionNode.getAttributeValue(), Constants.FilterAttributes.NAME)) {
+                nameExpressionNodes.add(expressionNode);
             }
         }
-        return null;
+        return nameExpressionNodes;
     }
 
     /**
@@ -1141,16 +1182,25 @@ public class ServerAuthenticatorManagementService {
         return new APIError(status, errorResponse);
     }
 
-    private void handleNotImplementedCapabilities(Integer limit, Integer offset) {
+    private int validateAndResolveLimit(Integer limit, int maximumItemPerPage) {
+
+        if (limit == null) {
+            return maximumItemPerPage;
+        }
+        if (limit < 0) {
+            throw buildClientError(Constants.ErrorMessage.ERROR_CODE_INVALID_PAGINATION_PARAMETER, "limit");
+        }
+        return Math.min(limit, maximumItemPerPage);
+    }
+
+    private int validateAndResolveOffset(Integer offset) {
 
-        Constants.ErrorMessage errorEnum = null;
-        if (limit != null || offset != null) {
-            errorEnum = Constants.ErrorMessage.ERROR_CODE_PAGINATION_NOT_IMPLEMENTED;
+        if (offset == null) {
+            return 0;
         }
-        if (errorEnum != null) {
-            ErrorResponse errorResponse = getErrorBuilder(errorEnum, null).build(log, errorEnum.getDescription());
-            Response.Status status = Response.Status.NOT_IMPLEMENTED;
-            throw new APIError(status, errorResponse);
+        if (offset < 0) {
+            throw buildClientError(Constants.ErrorMessage.ERROR_CODE_INVALID_PAGINATION_PARAMETER, "offset");
         }
+        return offset;
     }
 }
@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.authenticators.v1.core;
+
+import org.mockito.MockedStatic;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.api.server.authenticators.common.AuthenticatorTagIndexCache;
+import org.wso2.carbon.identity.api.server.authenticators.v1.model.Authenticator;
+import org.wso2.carbon.identity.api.server.common.ContextLoader;
+import org.wso2.carbon.identity.application.common.ApplicationAuthenticatorService;
+import org.wso2.carbon.identity.application.common.model.FederatedAuthenticatorConfig;
+import org.wso2.carbon.identity.application.common.model.IdentityProvider;
+import org.wso2.carbon.identity.application.common.model.LocalAuthenticatorConfig;
+import org.wso2.carbon.identity.application.mgt.ApplicationManagementService;
+import org.wso2.carbon.identity.base.AuthenticatorPropertyConstants;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.idp.mgt.IdpManager;
+import org.wso2.carbon.idp.mgt.model.IdpSearchResult;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.RETURNS_DEFAULTS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the listing of {@link ServerAuthenticatorManagementService}.
+ */
+public class ServerAuthenticatorManagementServiceTest {
+
+    private static final String TENANT_DOMAIN = "carbon.super";
+    private static final int MAXIMUM_ITEMS_PER_PAGE = 10;
+
+    private ApplicationManagementService applicationManagementService;
+    private IdpManager idpManager;
+    private ApplicationAuthenticatorService applicationAuthenticatorService;
+    private ServerAuthenticatorManagementService serverAuthenticatorManagementService;
+    private ContextLoader.URIResolver uriResolver;
+    private MockedStatic<ContextLoader> contextLoader;
+    private MockedStatic<IdentityUtil> identityUtil;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+
+        applicationManagementService = mock(ApplicationManagementService.class);
+        idpManager = mock(IdpManager.class);
+        applicationAuthenticatorService = mock(ApplicationAuthenticatorService.class);
+        serverAuthenticatorManagementService = new ServerAuthenticatorManagementService(applicationManagementService,
+                idpManager, applicationAuthenticatorService);
+        AuthenticatorTagIndexCache.getInstance().invalidate(TENANT_DOMAIN);
+
+        uriResolver = mock(ContextLoader.URIResolver.class);
+        when(uriResolver.buildURIForBody(anyString())).thenAnswer(invocation -> URI.create(invocation.getArgument(0)));
+        contextLoader = mockStatic(ContextLoader.class);
+        contextLoader.when(ContextLoader::getTenantDomainFromContext).thenReturn(TENANT_DOMAIN);
+        contextLoader.when(ContextLoader::getURIResolver).thenReturn(uriResolver);
+        identityUtil = mockStatic(IdentityUtil.class);
+        identityUtil.when(IdentityUtil::getMaximumItemPerPage).thenReturn(MAXIMUM_ITEMS_PER_PAGE);
+
+        LocalAuthenticatorConfig[] localAuthenticators = {
+                buildLocalAuthenticator("BasicAuthenticator", "Username & Password"),
+                buildLocalAuthenticator("totp", "TOTP", "2FA"),
+                buildLocalAuthenticator("email-otp-authenticator", "Email OTP", "2FA", "Passwordless")};
+        when(applicationManagementService.getAllLocalAuthenticators(TENANT_DOMAIN)).thenReturn(localAuthenticators);
+        List<IdentityProvider> identityProviders = Arrays.asList(
+                buildIdentityProvider("google-idp", "Google", "Social-Login"),
+                buildIdentityProvider("github-idp", "GitHub", "Social-Login"),
+                buildIdentityProvider("sms-idp", "SMS OTP", "2FA"));
+        when(idpManager.getIdPs(anyInt(), anyInt(), isNull(), isNull(), isNull(), eq(TENANT_DOMAIN), anyList()))
+                .thenAnswer(invocation -> buildIdpSearchResult(identityProviders, invocation.getArgument(0),
+                        invocation.getArgument(1)));
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        identityUtil.close();
+        contextLoader.close();
+        AuthenticatorTagIndexCache.getInstance().invalidate(TENANT_DOMAIN);
+    }
+
+    @Test
+    public void testPageSpanningLocalAuthenticatorsAndIdentityProviders() throws Exception {
+
+        List<Authenticator> authenticators = serverAuthenticatorManagementService.getAuthenticators(null, 2, 2);
+
+        Assert.assertEquals(getNames(authenticators), Arrays.asList("email-otp-authenticator", "Google"));
+        verify(idpManager).getIdPs(eq(1), eq(0), isNull(), isNull(), isNull(), eq(TENANT_DOMAIN), anyList());
+        // The link base is resolved once per response.
+        contextLoader.verify(ContextLoader::getURIResolver, times(1));
+        Assert.assertEquals(authenticators.get(1).getSelf(), "/v1/identity-providers/google-idp");
+    }
+
+    @Test
+    public void testOffsetPastLocalAuthenticatorsIsCarriedToIdentityProviders() throws Exception {
+
+        List<Authenticator> authenticators = serverAuthenticatorManagementService.getAuthenticators(null, 5, 4);
+
+        Assert.assertEquals(getNames(authenticators), Arrays.asList("GitHub", "SMS OTP"));
+        verify(idpManager).getIdPs(eq(5), eq(1), isNull(), isNull(), isNull(), eq(TENANT_DOMAIN), anyList());
+    }
+
+    @Test
+    public void testFullPageOfLocalAuthenticatorsSkipsIdentityProviders() throws Exception {
+
+        List<Authenticator> authenticators = serverAuthenticatorManagementService.getAuthenticators(null, 2, 0);
+
+        Assert.assertEquals(getNames(authenticators), Arrays.asList("BasicAuthenticator", "totp"));
+        verify(idpManager, never()).getIdPs(anyInt(), anyInt(), any(), any(), any(), anyString(), anyList());
+    }
+
+    @Test
+    public void testLimitIsCappedAtMaximumItemsPerPage() throws Exception {
+
+        serverAuthenticatorManagementService.getAuthenticators(null, 50, 0);
+
+        verify(idpManager).getIdPs(eq(MAXIMUM_ITEMS_PER_PAGE - 3), eq(0), isNull(), isNull(), isNull(),
+                eq(TENANT_DOMAIN), anyList());
+    }
+
+    @Test
+    public void testTagFilterIsPagedOverTheTagIndex() throws Exception {
+
+        List<Authenticator> firstPage = serverAuthenticatorManagementService.getAuthenticators("tag eq 2fa", 2, 0);
+        List<Authenticator> secondPage = serverAuthenticatorManagementService.getAuthenticators("tag eq 2fa", 2, 2);
+
+        Assert.assertEquals(getNames(firstPage), Arrays.asList("totp", "email-otp-authenticator"));
+        Assert.assertEquals(getNames(secondPage), Collections.singletonList("SMS OTP"));
+        // The index is built from a single listing of the identity providers and reused by the second page.
+        verify(idpManager, times(1)).getIdPs(anyInt(), anyInt(), isNull(), isNull(), isNull(), eq(TENANT_DOMAIN),
+                anyList());
+    }
+
+    @Test
+    public void testNameFilterAttributeIsMatchedIgnoringCase() throws Exception {
+
+        when(idpManager.getIdPs(anyInt(), anyInt(), isNull(), isNull(), eq(TENANT_DOMAIN), anyList(), anyList()))
+                .thenAnswer(invocation -> buildIdpSearchResult(Collections.emptyList(), invocation.getArgument(0),
+                        invocation.getArgument(1)));
+
+        List<Authenticator> authenticators = serverAuthenticatorManagementService.getAuthenticators(
+                "NAME sw email", null, null);
+
+        Assert.assertEquals(getNames(authenticators), Collections.singletonList("email-otp-authenticator"));
+        verify(idpManager).getIdPs(eq(MAXIMUM_ITEMS_PER_PAGE - 1), eq(0), isNull(), isNull(), eq(TENANT_DOMAIN),
+                anyList(), anyList());
+    }
+
+    private static LocalAuthenticatorConfig buildLocalAuthenticator(String name, String displayName,
+                                                                    String... tags) {
+
+        LocalAuthenticatorConfig config = mock(LocalAuthenticatorConfig.class);
+        when(config.getName()).thenReturn(name);
+        when(config.getDisplayName()).thenReturn(displayName);
+        when(config.isEnabled()).thenReturn(true);
+        when(config.getDefinedByType()).thenReturn(AuthenticatorPropertyConstants.DefinedByType.SYSTEM);
+        when(config.getTags()).thenReturn(tags);
+        return config;
+    }
+
+    private IdentityProvider buildIdentityProvider(String resourceId, String name, String tag) throws Exception {
+
+        String authenticatorName = name + "Authenticator";
+        FederatedAuthenticatorConfig federatedAuthenticatorConfig = mock(FederatedAuthenticatorConfig.class);
+        when(federatedAuthenticatorConfig.getName()).thenReturn(authenticatorName);
+        when(federatedAuthenticatorConfig.isEnabled()).thenReturn(true);
+        when(federatedAuthenticatorConfig.getTags()).thenReturn(new String[]{tag});
+        when(federatedAuthenticatorConfig.getDefinedByType())
+                .thenReturn(AuthenticatorPropertyConstants.DefinedByType.SYSTEM);
+        when(applicationAuthenticatorService.getFederatedAuthenticatorByName(authenticatorName))
+                .thenReturn(federatedAuthenticatorConfig);
+        when(idpManager.getFederatedAuthenticatorByName(authenticatorName, TENANT_DOMAIN))
+                .thenReturn(federatedAuthenticatorConfig);
+
+        IdentityProvider identityProvider = mock(IdentityProvider.class);
+        when(identityProvider.getResourceId()).thenReturn(resourceId);
+        when(identityProvider.getIdentityProviderName()).thenReturn(name);
+        when(identityProvider.isEnable()).thenReturn(true);
+        when(identityProvider.getFederatedAuthenticatorConfigs())
+                .thenReturn(new FederatedAuthenticatorConfig[]{federatedAuthenticatorConfig});
+        return identityProvider;
+    }
+
+    private static IdpSearchResult buildIdpSearchResult(List<IdentityProvider> identityProviders, int limit,
+                                                        int offset) {
+
+        int fromIndex = Math.min(offset, identityProviders.size());
+        List<IdentityProvider> page = new ArrayList<>(identityProviders.subList(fromIndex,
+                Math.min(fromIndex + limit, identityProviders.size())));
+        // Built while answering another mock, hence stubbed through its default answer rather than with when().
+        return mock(IdpSearchResult.class, invocation -> {
+            switch (invocation.getMethod().getName()) {
+                case "getIdPs":
+                    return page;
+                case "getTotalIDPCount":
+                    return identityProviders.size();
+                default:
+                    return RETURNS_DEFAULTS.answer(invocation);
+            }
+        });
+    }
+
+    private static List<String> getNames(List<Authenticator> authenticators) {
+
+        List<String> names = new ArrayList<>();
+        for (Authenticator authenticator : authenticators) {
+            names.add(authenticator.getName());
+        }
+        return names;
+    }
+}
@@ -24,12 +24,14 @@ import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.identity.api.server.branding.preference.management.common.BrandingPreferenceManagementConstants;
+import org.wso2.carbon.identity.api.server.branding.preference.management.v1.core.ResolvedPreferenceCache.ResolvedPreferenceResponse;
 import org.wso2.carbon.identity.api.server.branding.preference.management.v1.core.utils.BrandingPreferenceUtils;
 import org.wso2.carbon.identity.api.server.branding.preference.management.v1.model.BrandingPreferenceModel;
 import org.wso2.carbon.identity.api.server.branding.preference.management.v1.model.CustomTextModel;
 import org.wso2.carbon.identity.api.server.branding.preference.management.v1.model.ResolvedBrandingPreferenceModel;
 import org.wso2.carbon.identity.api.server.branding.preference.management.v1.model.ResolvedBrandingPreferenceModelResolvedFrom;
 import org.wso2.carbon.identity.api.server.branding.preference.management.v1.model.ResolvedCustomTextModal;
+import org.wso2.carbon.identity.api.server.common.Util;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
 import org.wso2.carbon.identity.branding.preference.management.core.BrandingPreferenceManager;
@@ -39,6 +41,8 @@ import org.wso2.carbon.identity.branding.preference.management.core.exception.Br
 import org.wso2.carbon.identity.branding.preference.management.core.model.BrandingPreference;
 import org.wso2.carbon.identity.branding.preference.management.core.model.CustomText;
 
+import java.io.IOException;
+
 import javax.ws.rs.core.Response;
 
 import static org.wso2.carbon.identity.api.server.branding.preference.management.common.BrandingPreferenceManagementConstants.APPLICATION_TYPE;
@@ -74,7 +78,9 @@ import static org.wso2.carbon.identity.api.server.common.ContextLoader.getTenant
 public class BrandingPreferenceManagementService {
 
     private final BrandingPreferenceManager brandingPreferenceManager;
+    private final ResolvedPreferenceCache resolvedPreferenceCache = ResolvedPreferenceCache.getInstance();
     private static final Log log = LogFactory.getLog(BrandingPreferenceManagementService.class);
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 
     public BrandingPreferenceManagementService(BrandingPreferenceManager brandingPreferenceManager) {
 
@@ -116,6 +122,8 @@ public class BrandingPreferenceManagementService {
                         ERROR_CODE_NOT_ALLOWED_BRANDING_PREFERENCE_CONFIGURATIONS, e.getMessage());
             }
             throw handleBrandingPreferenceMgtException(e, ERROR_CODE_ERROR_ADDING_BRANDING_PREFERENCE, tenantDomain);
+        } finally {
+            resolvedPreferenceCache.invalidateAll();
         }
         return buildBrandingResponseFromResponseDTO(responseDTO);
     }
@@ -145,6 +153,8 @@ public class BrandingPreferenceManagementService {
                         tenantDomain);
             }
             throw handleBrandingPreferenceMgtException(e, ERROR_CODE_ERROR_DELETING_BRANDING_PREFERENCE, tenantDomain);
+        } finally {
+            resolvedPreferenceCache.invalidateAll();
         }
     }
 
@@ -189,59 +199,40 @@ public class BrandingPreferenceManagementService {
     }
 
     /**
-     * Retrieve the resolved branding preferences.
-     *
-     * @param type   Resource Type.
-     * @param name   Name.
-     * @param locale Language preference.
-     * @return The resolved branding preference resource. If not exists return the default preferences.
-     */
-    public ResolvedBrandingPreferenceModel resolveBrandingPreference(String type, String name, String locale) {
-
-        return resolveBrandingPreference(type, name, locale, false);
-    }
-
-    /**
-     * Retrieve the resolved branding preferences.
+     * Retrieve the serialized resolved branding preferences. The response is served from the resolved preference
+     * cache when available.
      *
      * @param type                Resource Type.
      * @param name                Name.
      * @param locale              Language preference.
      * @param restrictToPublished Whether to resolve using only published branding preferences.
-     * @return The resolved branding preference resource. If not exists return the default preferences.
+     * @return The serialized resolved branding preference resource along with its entity tag.
      */
-    public ResolvedBrandingPreferenceModel resolveBrandingPreference(String type, String name, String locale,
-                                                             boolean restrictToPublished) {
+    public ResolvedPreferenceResponse resolveBrandingPreferenceResponse(String type, String name, String locale,
+                                                                        boolean restrictToPublished) {
 
-        /*
-         Currently this API provides the support to only configure organization wise & application wise
-         branding preference for 'en-US' locale.
-         So always locale as default locale(en-US).
-        */
         String tenantDomain = getTenantDomainFromContext();
-        try {
-            BrandingPreference responseDTO;
-            if (APPLICATION_TYPE.equals(type)) {
-                // Get application specific branding preference.
-                responseDTO = brandingPreferenceManager.resolveBrandingPreference(APPLICATION_TYPE, name,
-                        DEFAULT_LOCALE, restrictToPublished);
+        String resolvedType = APPLICATION_TYPE.equals(type) ? APPLICATION_TYPE : ORGANIZATION_TYPE;
+        String resolvedName = APPLICATION_TYPE.equals(type) ? name : tenantDomain;
+        ResolvedPreferenceResponse response = resolvedPreferenceCache.getBrandingPreference(tenantDomain,
+                resolvedType, resolvedName, DEFAULT_LOCALE, restrictToPublished);
+        if (response == null) {
+            BrandingPreference responseDTO = fetchResolvedBrandingPreference(type, name, restrictToPublished,
+                    tenantDomain);
+            if (responseDTO == null) {
+                response = ResolvedPreferenceResponse.notFound();
             } else {
-                // Get default branding preference.
-                responseDTO = brandingPreferenceManager.resolveBrandingPreference(ORGANIZATION_TYPE, tenantDomain,
-                        DEFAULT_LOCALE, restrictToPublished);
+                response = ResolvedPreferenceResponse.of(serializeResponse(
+                        buildResolvedBrandingResponseFromResponseDTO(responseDTO),
+                        ERROR_CODE_ERROR_GETTING_BRANDING_PREFERENCE, tenantDomain));
             }
-
-            return buildResolvedBrandingResponseFromResponseDTO(responseDTO);
-        } catch (BrandingPreferenceMgtException e) {
-            if (BRANDING_PREFERENCE_NOT_EXISTS_ERROR_CODE.equals(e.getErrorCode())) {
-                if (log.isDebugEnabled()) {
-                    log.debug("Can not find a branding preference configurations for tenant: " + tenantDomain, e);
-                }
-                throw handleException(Response.Status.NOT_FOUND, ERROR_CODE_BRANDING_PREFERENCE_NOT_EXISTS,
-                        tenantDomain);
-            }
-            throw handleBrandingPreferenceMgtException(e, ERROR_CODE_ERROR_GETTING_BRANDING_PREFERENCE, tenantDomain);
+            resolvedPreferenceCache.putBrandingPreference(tenantDomain, resolvedType, resolvedName, DEFAULT_LOCALE,
+                    restrictToPublished, response);
+        }
+        if (response.isNotFound()) {
+            throw handleException(Response.Status.NOT_FOUND, ERROR_CODE_BRANDING_PREFERENCE_NOT_EXISTS, tenantDomain);
         }
+        return response;
     }
 
     /**
@@ -280,6 +271,8 @@ public class BrandingPreferenceManagementService {
                         ERROR_CODE_NOT_ALLOWED_BRANDING_PREFERENCE_CONFIGURATIONS, e.getMessage());
             }
             throw handleBrandingPreferenceMgtException(e, ERROR_CODE_ERROR_UPDATING_BRANDING_PREFERENCE, tenantDomain);
+        } finally {
+            resolvedPreferenceCache.invalidateAll();
         }
         return buildBrandingResponseFromResponseDTO(responseDTO);
     }
@@ -311,6 +304,8 @@ public class BrandingPreferenceManagementService {
                         tenantDomain);
             }
             throw handleBrandingPreferenceMgtException(e, ERROR_CODE_ERROR_ADDING_CUSTOM_TEXT_PREFERENCE, tenantDomain);
+        } finally {
+            resolvedPreferenceCache.invalidateAll();
         }
         return buildCustomTextResponseFromResponseDTO(responseDTO);
     }
@@ -341,6 +336,8 @@ public class BrandingPreferenceManagementService {
             }
             throw handleBrandingPreferenceMgtException(e, ERROR_CODE_ERROR_DELETING_CUSTOM_TEXT_PREFERENCE,
                     tenantDomain);
+        } finally {
+            resolvedPreferenceCache.invalidateAll();
         }
     }
 
@@ -361,6 +358,8 @@ public class BrandingPreferenceManagementService {
             }
             throw handleBrandingPreferenceMgtException(e, ERROR_CODE_ERROR_DELETING_CUSTOM_TEXT_PREFERENCE,
                     tenantDomain);
+        } finally {
+            resolvedPreferenceCache.invalidateAll();
         }
     }
 
@@ -399,14 +398,17 @@ public class BrandingPreferenceManagementService {
     }
 
     /**
-     * Retrieve the resolved branding preferences.
+     * Retrieve the serialized resolved custom text preferences. The response is served from the resolved preference
+     * cache when available.
      *
      * @param type   Resource Type.
      * @param name   Name.
+     * @param screen Screen Name.
      * @param locale Language preference.
-     * @return The resolved custom text preference resource. If not exists return the default preferences.
+     * @return The serialized resolved custom text preference resource along with its entity tag.
      */
-    public ResolvedCustomTextModal resolveCustomTextPreference(String type, String name, String screen, String locale) {
+    public ResolvedPreferenceResponse resolveCustomTextPreferenceResponse(String type, String name, String screen,
+                                                                          String locale) {
 
         String tenantDomain = getTenantDomainFromContext();
         if (ORGANIZATION_TYPE.equals(type) || StringUtils.isBlank(name)) {
@@ -415,20 +417,24 @@ public class BrandingPreferenceManagementService {
         if (StringUtils.isBlank(locale)) {
             locale = DEFAULT_LOCALE;
         }
-        try {
-            CustomText responseDTO = brandingPreferenceManager.resolveCustomText(type, name, screen, locale);
-            return buildResolvedCustomTextResponseFromResponseDTO(responseDTO);
-        } catch (BrandingPreferenceMgtException e) {
-            if (CUSTOM_TEXT_PREFERENCE_NOT_EXISTS_ERROR_CODE.equals(e.getErrorCode())) {
-                if (log.isDebugEnabled()) {
-                    log.debug("Can not find a custom text preference configurations for tenant: " + tenantDomain, e);
-                }
-                throw handleException(Response.Status.NOT_FOUND, ERROR_CODE_CUSTOM_TEXT_PREFERENCE_NOT_EXISTS,
-                        tenantDomain);
+        ResolvedPreferenceResponse response = resolvedPreferenceCache.getCustomText(tenantDomain, type, name, screen,
+                locale);
+        if (response == null) {
+            CustomText responseDTO = fetchResolvedCustomText(type, name, screen, locale, tenantDomain);
+            if (responseDTO == null) {
+                response = ResolvedPreferenceResponse.notFound();
+            } else {
+                response = ResolvedPreferenceResponse.of(serializeResponse(
+                        buildResolvedCustomTextResponseFromResponseDTO(responseDTO),
+                        ERROR_CODE_ERROR_GETTING_CUSTOM_TEXT_PREFERENCE, tenantDomain));
             }
-            throw handleBrandingPreferenceMgtException(e, ERROR_CODE_ERROR_GETTING_CUSTOM_TEXT_PREFERENCE,
+            resolvedPreferenceCache.putCustomText(tenantDomain, type, name, screen, locale, response);
+        }
+        if (response.isNotFound()) {
+            throw handleException(Response.Status.NOT_FOUND, ERROR_CODE_CUSTOM_TEXT_PREFERENCE_NOT_EXISTS,
                     tenantDomain);
         }
+        return response;
     }
 
     /**
@@ -460,6 +466,8 @@ public class BrandingPreferenceManagementService {
             }
             throw handleBrandingPreferenceMgtException(e, ERROR_CODE_ERROR_UPDATING_CUSTOM_TEXT_PREFERENCE,
                     tenantDomain);
+        } finally {
+            resolvedPreferenceCache.invalidateAll();
         }
         return buildCustomTextResponseFromResponseDTO(responseDTO);
     }
@@ -593,6 +601,87 @@ public class BrandingPreferenceManagementService {
         return customTextModel;
     }
 
+    /**
+     * Resolve the branding preference through the preference hierarchy.
+     * <p>
+     * Currently this API provides the support to only configure organization wise & application wise branding
+     * preference for 'en-US' locale. So always use locale as default locale(en-US).
+     *
+     * @param type                Resource Type.
+     * @param name                Name.
+     * @param restrictToPublished Whether to resolve using only published branding preferences.
+     * @param tenantDomain        Tenant domain.
+     * @return The resolved branding preference, or null if there is no branding preference to resolve.
+     */
+    private BrandingPreference fetchResolvedBrandingPreference(String type, String name, boolean restrictToPublished,
+                                                               String tenantDomain) {
+
+        try {
+            if (APPLICATION_TYPE.equals(type)) {
+                // Get application specific branding preference.
+                return brandingPreferenceManager.resolveBrandingPreference(APPLICATION_TYPE, name, DEFAULT_LOCALE,
+                        restrictToPublished);
+            }
+            // Get default branding preference.
+            return brandingPreferenceManager.resolveBrandingPreference(ORGANIZATION_TYPE, tenantDomain,
+                    DEFAULT_LOCALE, restrictToPublished);
+        } catch (BrandingPreferenceMgtException e) {
+            if (BRANDING_PREFERENCE_NOT_EXISTS_ERROR_CODE.equals(e.getErrorCode())) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Can not find a branding preference configurations for tenant: " + tenantDomain, e);
+                }
+                return null;
+            }
+            throw handleBrandingPreferenceMgtException(e, ERROR_CODE_ERROR_GETTING_BRANDING_PREFERENCE, tenantDomain);
+        }
+    }
+
+    /**
+     * Resolve the custom text preference through the preference hierarchy.
+     *
+     * @param type         Resource Type.
+     * @param name         Name.
+     * @param screen       Screen Name.
+     * @param locale       Language preference.
+     * @param tenantDomain Tenant domain.
+     * @return The resolved custom text preference, or null if there is no custom text preference to resolve.
+     */
+    private CustomText fetchResolvedCustomText(String type, String name, String screen, String locale,
+                                               String tenantDomain) {
+
+        try {
+            return brandingPreferenceManager.resolveCustomText(type, name, screen, locale);
+        } catch (BrandingPreferenceMgtException e) {
+            if (CUSTOM_TEXT_PREFERENCE_NOT_EXISTS_ERROR_CODE.equals(e.getErrorCode())) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Can not find a custom text preference configurations for tenant: " + tenantDomain, e);
+                }
+                return null;
+            }
+            throw handleBrandingPreferenceMgtException(e, ERROR_CODE_ERROR_GETTING_CUSTOM_TEXT_PREFERENCE,
+                    tenantDomain);
+        }
+    }
+
+    /**
+     * Serialize a resolved preference response to JSON with the JSON provider of the API.
+     *
+     * @param response     Resolved preference response.
+     * @param errorEnum    Error to return if the response can not be serialized.
+     * @param tenantDomain Tenant domain.
+     * @return JSON content of the response.
+     */
+    private byte[] serializeResponse(Object response, BrandingPreferenceManagementConstants.ErrorMessage errorEnum,
+                                     String tenantDomain) {
+
+        try {
+            return Util.serializeAsJson(response);
+        } catch (IOException e) {
+            throw new APIError(Response.Status.INTERNAL_SERVER_ERROR,
+                    getErrorBuilder(errorEnum, tenantDomain).build(log, e, errorEnum.getDescription()));
+        }
+    }
+
     /**
      * Build a JSON string which contains preferences from a preference object.
      *
@@ -601,10 +690,9 @@ public class BrandingPreferenceManagementService {
      */
     private String generatePreferencesJSONFromRequest(Object object) {
 
-        ObjectMapper mapper = new ObjectMapper();
         String preferencesJSON = null;
         try {
-            preferencesJSON = mapper.writeValueAsString(object);
+            preferencesJSON = OBJECT_MAPPER.writeValueAsString(object);
         } catch (JsonProcessingException e) {
             if (log.isDebugEnabled()) {
                 log.debug("Error while generating JSON string from the branding preference request.", e);
@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.branding.preference.management.v1.core;
+
+import org.wso2.carbon.identity.api.server.common.Util;
+import org.wso2.carbon.identity.api.server.common.cache.LocalCache;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cache of the serialized resolved branding preference and custom text responses served to the login, recovery and
+ * registration pages.
+ * <p>
+ * A preference is resolved through the application, organization and parent organization hierarchy, hence a change
+ * to any branding preference or custom text can change the resolved responses of other applications and
+ * organizations. Therefore, every change done through this API clears the whole cache, while the expiry bounds the
+ * staleness of changes done on other nodes or through other channels.
+ */
+public final class ResolvedPreferenceCache {
+
+    private static final int MAX_CACHED_RESPONSES = 5000;
+    private static final long CACHE_TTL_MILLIS = TimeUnit.MINUTES.toMillis(1);
+    private static final String BRANDING_PREFERENCE = "BRANDING_PREFERENCE";
+    private static final String CUSTOM_TEXT = "CUSTOM_TEXT";
+
+    private static final ResolvedPreferenceCache INSTANCE = new ResolvedPreferenceCache();
+
+    private final LocalCache<CacheKey, ResolvedPreferenceResponse> responses =
+            new LocalCache<>(MAX_CACHED_RESPONSES, CACHE_TTL_MILLIS);
+
+    private ResolvedPreferenceCache() {
+
+    }
+
+    public static ResolvedPreferenceCache getInstance() {
+
+        return INSTANCE;
+    }
+
+    /**
+     * Get the cached resolved branding preference response.
+     *
+     * @param tenantDomain        Tenant domain.
+     * @param type                Resource type the preference is resolved for.
+     * @param name                Resource name the preference is resolved for.
+     * @param locale              Locale.
+     * @param restrictToPublished Whether only the published branding preferences are used for resolving.
+     * @return Cached response, or null if it is not cached.
+     */
+    ResolvedPreferenceResponse getBrandingPreference(String tenantDomain, String type, String name, String locale,
+                                                     boolean restrictToPublished) {
+
+        return responses.get(new CacheKey(tenantDomain, BRANDING_PREFERENCE, type, name, null, locale,
+                restrictToPublished));
+    }
+
+    /**
+     * Cache the resolved branding preference response.
+     *
+     * @param tenantDomain        Tenant domain.
+     * @param type                Resource type the preference is resolved for.
+     * @param name                Resource name the preference is resolved for.
+     * @param locale              Locale.
+     * @param restrictToPublished Whether only the published branding preferences are used for resolving.
+     * @param response            Resolved response.
+     */
+    void putBrandingPreference(String tenantDomain, String type, String name, String locale,
+                               boolean restrictToPublished, ResolvedPreferenceResponse response) {
+
+        responses.put(new CacheKey(tenantDomain, BRANDING_PREFERENCE, type, name, null, locale,
+                restrictToPublished), response);
+    }
+
+    /**
+     * Get the cached resolved custom text response.
+     *
+     * @param tenantDomain Tenant domain.
+     * @param type         Resource type the custom text is resolved for.
+     * @param name         Resource name the custom text is resolved for.
+     * @param screen       Screen name.
+     * @param locale       Locale.
+     * @return Cached response, or null if it is not cached.
+     */
+    ResolvedPreferenceResponse getCustomText(String tenantDomain, String type, String name, String screen,
+                                             String locale) {
+
+        return responses.get(new CacheKey(tenantDomain, CUSTOM_TEXT, type, name, screen, locale, false));
+    }
+
+    /**
+     * Cache the resolved custom text response.
+     *
+     * @param tenantDomain Tenant domain.
+     * @param type         Resource type the custom text is resolved for.
+     * @param name         Resource name the custom text is resolved for.
+     * @param screen       Screen name.
+     * @param locale       Locale.
+     * @param response     Resolved response.
+     */
+    void putCustomText(String tenantDomain, String type, String name, String screen, String locale,
+                       ResolvedPreferenceResponse response) {
+
+        responses.put(new CacheKey(tenantDomain, CUSTOM_TEXT, type, name, screen, locale, false), response);
+    }
+
+    /**
+     * Remove all the cached responses.
+     */
+    void invalidateAll() {
+
+        responses.clear();
+    }
+
+    /**
+     * Serialized resolved response along with its strong entity tag. A response without content denotes that there
+     * is no preference to resolve. Instances are shared between requests, hence the content must not be modified.
+     */
+    public static final class ResolvedPreferenceResponse {
+
+        private static final ResolvedPreferenceResponse NOT_FOUND = new ResolvedPreferenceResponse(null, null);
+
+        private final byte[] content;
+        private final String eTag;
+
+        private ResolvedPreferenceResponse(byte[] content, String eTag) {
+
+            this.content = content;
+            this.eTag = eTag;
+        }
+
+        static ResolvedPreferenceResponse of(byte[] content) {
+
+            return new ResolvedPreferenceResponse(content, Util.buildStrongETag(content));
+        }
+
+        static ResolvedPreferenceResponse notFound() {
+
+            return NOT_FOUND;
+        }
+
+        boolean isNotFound() {
+
+            return content == null;
+        }
+
+        public byte[] getContent() {
+
+            return content;
+        }
+
+        public String getETag() {
+
+            return eTag;
+        }
+    }
+
+    /**
+     * Cache key of a resolved response.
+     */
+    private static final class CacheKey {
+
+        private final String tenantDomain;
+        private final String preference;
+        private final String type;
+        private final String name;
+        private final String screen;
+        private final String locale;
+        private final boolean restrictToPublished;
+
+        CacheKey(String tenantDomain, String preference, String type, String name, String screen, String locale,
+                 boolean restrictToPublished) {
+
+            this.tenantDomain = tenantDomain;
+            this.preference = preference;
+            this.type = type;
+            this.name = name;
+            this.screen = screen;
+            this.locale = locale;
+            this.restrictToPublished = restrictToPublished;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            CacheKey cacheKey = (CacheKey) o;
+            return restrictToPublished == cacheKey.restrictToPublished &&
+                    Objects.equals(tenantDomain, cacheKey.tenantDomain) &&
+                    Objects.equals(preference, cacheKey.preference) && Objects.equals(type, cacheKey.type) &&
+                    Objects.equals(name, cacheKey.name) && Objects.equals(screen, cacheKey.screen) &&
+                    Objects.equals(locale, cacheKey.locale);
+        }
+
+        @Override
+        public int hashCode() {
+
+            return Objects.hash(tenantDomain, preference, type, name, screen, locale, restrictToPublished);
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021-2024, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2021-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -21,6 +21,7 @@ package org.wso2.carbon.identity.api.server.branding.preference.management.v1.im
 import org.apache.commons.lang3.StringUtils;
 import org.wso2.carbon.identity.api.server.branding.preference.management.v1.BrandingPreferenceApiService;
 import org.wso2.carbon.identity.api.server.branding.preference.management.v1.core.BrandingPreferenceManagementService;
+import org.wso2.carbon.identity.api.server.branding.preference.management.v1.core.ResolvedPreferenceCache.ResolvedPreferenceResponse;
 import org.wso2.carbon.identity.api.server.branding.preference.management.v1.factories.BrandingAIPreferenceManagementServiceFactory;
 import org.wso2.carbon.identity.api.server.branding.preference.management.v1.factories.BrandingPreferenceManagementServiceFactory;
 import org.wso2.carbon.identity.api.server.branding.preference.management.v1.model.BrandingGenerationRequestModel;
@@ -30,6 +31,7 @@ import org.wso2.carbon.identity.api.server.branding.preference.management.v1.mod
 import org.wso2.carbon.identity.api.server.branding.preference.management.v1.model.BrandingPreferenceModel;
 import org.wso2.carbon.identity.api.server.branding.preference.management.v1.model.CustomTextModel;
 import org.wso2.carbon.identity.api.server.common.ContextLoader;
+import org.wso2.carbon.identity.api.server.common.Util;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
 
@@ -37,7 +39,11 @@ import java.io.UnsupportedEncodingException;
 import java.net.URI;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Map;
 
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 
 import static org.wso2.carbon.identity.api.server.branding.preference.management.common.BrandingPreferenceManagementConstants.APPLICATION_TYPE;
@@ -56,6 +62,8 @@ import static org.wso2.carbon.identity.api.server.common.ContextLoader.getTenant
  */
 public class BrandingPreferenceApiServiceImpl implements BrandingPreferenceApiService {
 
+    private static final Map<String, Object> JSON_ENTITY_HEADERS =
+            Collections.singletonMap(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON);
     private final BrandingPreferenceManagementService brandingPreferenceManagementService;
 
     //TODO: Improve API to manage application level & language level theming resources in addition to the tenant level.
@@ -252,8 +260,10 @@ public class BrandingPreferenceApiServiceImpl implements BrandingPreferenceApiSe
                 return Response.status(Response.Status.BAD_REQUEST).build();
             }
         }
-        return Response.ok().entity(brandingPreferenceManagementService
-                .resolveBrandingPreference(type, name, locale, restrictToPublished)).build();
+        ResolvedPreferenceResponse resolvedPreference = brandingPreferenceManagementService
+                .resolveBrandingPreferenceResponse(type, name, locale, Boolean.TRUE.equals(restrictToPublished));
+        return Util.buildConditionalResponse(resolvedPreference.getContent(), resolvedPreference.getETag(),
+                JSON_ENTITY_HEADERS).build();
     }
 
     @Override
@@ -268,8 +278,10 @@ public class BrandingPreferenceApiServiceImpl implements BrandingPreferenceApiSe
         if (StringUtils.isBlank(screen)) {
             return Response.status(Response.Status.BAD_REQUEST).build();
         }
-        return Response.ok().entity(brandingPreferenceManagementService.
-                resolveCustomTextPreference(type, name, screen, locale)).build();
+        ResolvedPreferenceResponse resolvedCustomText = brandingPreferenceManagementService.
+                resolveCustomTextPreferenceResponse(type, name, screen, locale);
+        return Util.buildConditionalResponse(resolvedCustomText.getContent(), resolvedCustomText.getETag(),
+                JSON_ENTITY_HEADERS).build();
     }
 
     @Override
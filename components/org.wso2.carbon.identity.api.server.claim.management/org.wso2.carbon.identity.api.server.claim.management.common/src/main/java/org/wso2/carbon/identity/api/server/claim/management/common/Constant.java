@@ -254,7 +254,29 @@ public class Constant {
                 "The extended-valued property cannot be updated for the attribute: %s."),
         ERROR_CODE_ATTRIBUTE_CANNOT_BE_MULTI_VALUED_AND_EXTENDED_VALUED("CMT-60022",
                 "An attribute cannot be multi-valued and extended-valued at the same time.",
-                "The attribute: %s cannot be multi-valued and extended-valued at the same time.");
+                "The attribute: %s cannot be multi-valued and extended-valued at the same time."),
+        ERROR_CODE_INVALID_FILTER("CMT-60023",
+                "Invalid filter.",
+                "The filter: %s is not in a valid format."),
+        ERROR_CODE_UNSUPPORTED_FILTER_ATTRIBUTE("CMT-60024",
+                "Unsupported filter attribute.",
+                "Filtering local claims by the attribute: %s is not supported."),
+        ERROR_CODE_UNSUPPORTED_FILTER_OPERATION("CMT-60025",
+                "Unsupported filter operation.",
+                "The filter operation: %s is not supported for the attribute: %s."),
+        ERROR_CODE_UNSUPPORTED_SORT("CMT-60026",
+                "Unsupported sort.",
+                "Sorting local claims by: %s is not supported."),
+        ERROR_CODE_UNSUPPORTED_REQUIRED_ATTRIBUTE("CMT-60027",
+                "Unsupported attribute.",
+                "The attribute: %s is not a supported attribute of a local claim."),
+        ERROR_CODE_INVALID_PAGINATION_PARAMETERS("CMT-60028",
+                "Invalid pagination parameters.",
+                "Limit and offset should be non-negative integers."),
+        ERROR_CODE_INVALID_CURSOR("CMT-60029",
+                "Invalid cursor.",
+                "The cursor: %s cannot be combined with an offset or with sorting by an attribute other than " +
+                        "the claim URI.");
 
         private final String code;
         private final String message;
@@ -372,9 +372,10 @@ public class ClaimManagementApi  {
     @ApiParam(value = "Define the order by which the retrieved records should be sorted.") @QueryParam("sort")  String sort,
     @ApiParam(value = "Exclude identity claims when listing local claims.") @QueryParam("exclude-identity-claims")  Boolean excludeIdentityClaims,
     @ApiParam(value = "Exclude hidden claims when listing local claims.") @QueryParam("exclude-hidden-claims") Boolean excludeHiddenClaims,
-    @ApiParam(value = "The claims belongs to given profile") @QueryParam("profile") String profile) {
+    @ApiParam(value = "The claims belongs to given profile") @QueryParam("profile") String profile,
+    @ApiParam(value = "Return the claims after the claim with the given identifier, in claim URI order.") @QueryParam("after") String after) {
 
-        return delegate.getLocalClaims(attributes,limit,offset,filter,sort,excludeIdentityClaims,excludeHiddenClaims,profile);
+        return delegate.getLocalClaims(attributes,limit,offset,filter,sort,excludeIdentityClaims,excludeHiddenClaims,profile,after);
     }
 
     @Valid
@@ -0,0 +1,388 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.rest.api.server.claim.management.v1.core;
+
+import org.apache.commons.lang.StringUtils;
+import org.wso2.carbon.identity.api.server.claim.management.common.Constant;
+import org.wso2.carbon.identity.api.server.common.filter.CompiledFilter;
+import org.wso2.carbon.identity.api.server.common.filter.FilterCompilationException;
+import org.wso2.carbon.identity.api.server.common.filter.FilterCompiler;
+import org.wso2.carbon.identity.api.server.common.filter.FilterOperator;
+import org.wso2.carbon.identity.api.server.common.filter.FilterSchema;
+import org.wso2.carbon.identity.claim.metadata.mgt.exception.ClaimMetadataClientException;
+import org.wso2.carbon.identity.claim.metadata.mgt.model.LocalClaim;
+import org.wso2.carbon.identity.rest.api.server.claim.management.v1.dto.LocalClaimResDTO;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.PROP_DESCRIPTION;
+import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.PROP_DISPLAY_NAME;
+import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.PROP_DISPLAY_ORDER;
+import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.PROP_MULTI_VALUED;
+import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.PROP_READ_ONLY;
+import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.PROP_REQUIRED;
+import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.PROP_SUPPORTED_BY_DEFAULT;
+
+/**
+ * Filtering, sorting, pagination and attribute projection of the local claims listing.
+ * <p>
+ * The filter, sort and pagination are evaluated on the backend {@link LocalClaim} models, so that only the claims of
+ * the requested page have to be converted to response DTOs. Filters follow the SCIM filter syntax, e.g.
+ * {@code displayName co name and required eq true}. Cursor pagination is keyed on the claim URI: the {@code after}
+ * cursor is the identifier of the last claim of the previous page and the next page starts with the first claim whose
+ * URI is greater than the URI of that claim.
+ */
+final class LocalClaimListQuery {
+
+    private static final String ATTR_ID = "id";
+    private static final String ATTR_CLAIM_URI = "claimURI";
+    private static final String ATTR_DIALECT_URI = "dialectURI";
+    private static final String ATTR_DESCRIPTION = "description";
+    private static final String ATTR_DISPLAY_ORDER = "displayOrder";
+    private static final String ATTR_DISPLAY_NAME = "displayName";
+    private static final String ATTR_READ_ONLY = "readOnly";
+    private static final String ATTR_REG_EX = "regEx";
+    private static final String ATTR_REQUIRED = "required";
+    private static final String ATTR_SUPPORTED_BY_DEFAULT = "supportedByDefault";
+    private static final String ATTR_MANAGED_IN_USER_STORE = "managedInUserStore";
+    private static final String ATTR_DATA_TYPE = "dataType";
+    private static final String ATTR_SUB_ATTRIBUTES = "subAttributes";
+    private static final String ATTR_CANONICAL_VALUES = "canonicalValues";
+    private static final String ATTR_MULTI_VALUED = "multiValued";
+    private static final String ATTR_EXTENDED_VALUED = "extendedValued";
+    private static final String ATTR_UNIQUENESS_SCOPE = "uniquenessScope";
+    private static final String ATTR_SHARED_PROFILE_VALUE_RESOLVING_METHOD = "sharedProfileValueResolvingMethod";
+    private static final String ATTR_ATTRIBUTE_MAPPING = "attributeMapping";
+    private static final String ATTR_PROPERTIES = "properties";
+    private static final String ATTR_PROFILES = "profiles";
+    private static final String ATTR_INPUT_FORMAT = "inputFormat";
+
+    private static final Set<String> SUPPORTED_ATTRIBUTES = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+            ATTR_ID, ATTR_CLAIM_URI, ATTR_DIALECT_URI, ATTR_DESCRIPTION, ATTR_DISPLAY_ORDER, ATTR_DISPLAY_NAME,
+            ATTR_READ_ONLY, ATTR_REG_EX, ATTR_REQUIRED, ATTR_SUPPORTED_BY_DEFAULT, ATTR_MANAGED_IN_USER_STORE,
+            ATTR_DATA_TYPE, ATTR_SUB_ATTRIBUTES, ATTR_CANONICAL_VALUES, ATTR_MULTI_VALUED, ATTR_EXTENDED_VALUED,
+            ATTR_UNIQUENESS_SCOPE, ATTR_SHARED_PROFILE_VALUE_RESOLVING_METHOD, ATTR_ATTRIBUTE_MAPPING,
+            ATTR_PROPERTIES, ATTR_PROFILES, ATTR_INPUT_FORMAT)));
+
+    private static final FilterSchema FILTER_SCHEMA = FilterSchema.builder("claim-management/local-claims")
+            .stringAttribute(ATTR_CLAIM_URI, FilterOperator.EQ, FilterOperator.NE, FilterOperator.SW,
+                    FilterOperator.EW, FilterOperator.CO)
+            .stringAttribute(ATTR_DISPLAY_NAME, FilterOperator.EQ, FilterOperator.NE, FilterOperator.SW,
+                    FilterOperator.EW, FilterOperator.CO)
+            .stringAttribute(ATTR_DESCRIPTION, FilterOperator.EQ, FilterOperator.NE, FilterOperator.SW,
+                    FilterOperator.EW, FilterOperator.CO)
+            .booleanAttribute(ATTR_READ_ONLY)
+            .booleanAttribute(ATTR_REQUIRED)
+            .booleanAttribute(ATTR_SUPPORTED_BY_DEFAULT)
+            .booleanAttribute(ATTR_MULTI_VALUED)
+            .build();
+    private static final Map<String, Function<LocalClaim, String>> FILTER_ATTRIBUTE_VALUES = new HashMap<>();
+
+    static {
+        FILTER_ATTRIBUTE_VALUES.put(ATTR_CLAIM_URI, LocalClaim::getClaimURI);
+        FILTER_ATTRIBUTE_VALUES.put(ATTR_DISPLAY_NAME, claim -> claim.getClaimProperty(PROP_DISPLAY_NAME));
+        FILTER_ATTRIBUTE_VALUES.put(ATTR_DESCRIPTION, claim -> claim.getClaimProperty(PROP_DESCRIPTION));
+        FILTER_ATTRIBUTE_VALUES.put(ATTR_READ_ONLY, claim -> claim.getClaimProperty(PROP_READ_ONLY));
+        FILTER_ATTRIBUTE_VALUES.put(ATTR_REQUIRED, claim -> claim.getClaimProperty(PROP_REQUIRED));
+        FILTER_ATTRIBUTE_VALUES.put(ATTR_SUPPORTED_BY_DEFAULT,
+                claim -> claim.getClaimProperty(PROP_SUPPORTED_BY_DEFAULT));
+        FILTER_ATTRIBUTE_VALUES.put(ATTR_MULTI_VALUED, claim -> claim.getClaimProperty(PROP_MULTI_VALUED));
+    }
+
+    private static final String SORT_ORDER_SEPARATOR = ",";
+    private static final String SORT_ORDER_ASC = "asc";
+    private static final String SORT_ORDER_DESC = "desc";
+
+    private static final Comparator<LocalClaim> CLAIM_URI_ORDER = Comparator.comparing(LocalClaim::getClaimURI);
+
+    private final Predicate<LocalClaim> filter;
+    private final Comparator<LocalClaim> comparator;
+    private final String afterClaimURI;
+    private final int offset;
+    private final Integer limit;
+    private final Set<String> requiredAttributes;
+
+    private LocalClaimListQuery(Predicate<LocalClaim> filter, Comparator<LocalClaim> comparator, String afterClaimURI,
+                                int offset, Integer limit, Set<String> requiredAttributes) {
+
+        this.filter = filter;
+        this.comparator = comparator;
+        this.afterClaimURI = afterClaimURI;
+        this.offset = offset;
+        this.limit = limit;
+        this.requiredAttributes = requiredAttributes;
+    }
+
+    /**
+     * Build the query from the parameters of the local claims listing request.
+     *
+     * @param attributes    Comma separated attributes to be included in the response (optional).
+     * @param limit         Maximum number of claims to be returned (optional).
+     * @param offset        Number of claims to be skipped (optional).
+     * @param filter        SCIM style filter (optional).
+     * @param sort          Sort attribute, optionally followed by ',asc' or ',desc' (optional).
+     * @param afterClaimURI Claim URI of the cursor, i.e. the last claim of the previous page (optional).
+     * @return Local claim list query.
+     * @throws ClaimMetadataClientException If any of the parameters is invalid or not supported.
+     */
+    static LocalClaimListQuery build(String attributes, Integer limit, Integer offset, String filter, String sort,
+                                     String afterClaimURI) throws ClaimMetadataClientException {
+
+        if ((limit != null && limit < 0) || (offset != null && offset < 0)) {
+            throw buildClientException(Constant.ErrorMessage.ERROR_CODE_INVALID_PAGINATION_PARAMETERS);
+        }
+        Comparator<LocalClaim> comparator = buildComparator(sort);
+        if (afterClaimURI != null && ((offset != null && offset > 0) ||
+                (comparator != null && comparator != CLAIM_URI_ORDER))) {
+            throw buildClientException(Constant.ErrorMessage.ERROR_CODE_INVALID_CURSOR, afterClaimURI);
+        }
+        if (afterClaimURI != null) {
+            comparator = CLAIM_URI_ORDER;
+        }
+        return new LocalClaimListQuery(buildFilter(filter), comparator, afterClaimURI, offset == null ? 0 : offset,
+                limit, buildRequiredAttributes(attributes));
+    }
+
+    /**
+     * Apply the filter, sort and pagination of the query to the given claims.
+     *
+     * @param localClaims Local claims.
+     * @return Local claims of the requested page.
+     */
+    List<LocalClaim> apply(List<LocalClaim> localClaims) {
+
+        Stream<LocalClaim> claimStream = localClaims.stream();
+        if (filter != null) {
+            claimStream = claimStream.filter(filter);
+        }
+        if (afterClaimURI != null) {
+            claimStream = claimStream.filter(claim -> claim.getClaimURI().compareTo(afterClaimURI) > 0);
+        }
+        if (comparator != null) {
+            claimStream = claimStream.sorted(comparator);
+        }
+        if (offset > 0) {
+            claimStream = claimStream.skip(offset);
+        }
+        if (limit != null) {
+            claimStream = claimStream.limit(limit);
+        }
+        return claimStream.collect(Collectors.toList());
+    }
+
+    /**
+     * Check whether only a subset of the claim attributes is requested.
+     *
+     * @return True if the response should be projected to the requested attributes.
+     */
+    boolean hasProjection() {
+
+        return requiredAttributes != null;
+    }
+
+    /**
+     * Build a copy of the given claim holding only the requested attributes. The identifier and the claim URI are
+     * always included.
+     *
+     * @param localClaimResDTO Local claim response.
+     * @return Projected local claim response.
+     */
+    LocalClaimResDTO project(LocalClaimResDTO localClaimResDTO) {
+
+        if (requiredAttributes == null) {
+            return localClaimResDTO;
+        }
+        LocalClaimResDTO projectedClaim = new LocalClaimResDTO();
+        projectedClaim.setId(localClaimResDTO.getId());
+        projectedClaim.setClaimURI(localClaimResDTO.getClaimURI());
+        projectedClaim.setAttributeMapping(null);
+        projectedClaim.setProperties(null);
+        for (String attribute : requiredAttributes) {
+            switch (attribute) {
+                case ATTR_DIALECT_URI:
+                    projectedClaim.setDialectURI(localClaimResDTO.getDialectURI());
+                    break;
+                case ATTR_DESCRIPTION:
+                    projectedClaim.setDescription(localClaimResDTO.getDescription());
+                    break;
+                case ATTR_DISPLAY_ORDER:
+                    projectedClaim.setDisplayOrder(localClaimResDTO.getDisplayOrder());
+                    break;
+                case ATTR_DISPLAY_NAME:
+                    projectedClaim.setDisplayName(localClaimResDTO.getDisplayName());
+                    break;
+                case ATTR_READ_ONLY:
+                    projectedClaim.setReadOnly(localClaimResDTO.getReadOnly());
+                    break;
+                case ATTR_REG_EX:
+                    projectedClaim.setRegEx(localClaimResDTO.getRegEx());
+                    break;
+                case ATTR_REQUIRED:
+                    projectedClaim.setRequired(localClaimResDTO.getRequired());
+                    break;
+                case ATTR_SUPPORTED_BY_DEFAULT:
+                    projectedClaim.setSupportedByDefault(localClaimResDTO.getSupportedByDefault());
+                    break;
+                case ATTR_MANAGED_IN_USER_STORE:
+                    projectedClaim.setManagedInUserStore(localClaimResDTO.getManagedInUserStoreEnabled());
+                    break;
+                case ATTR_DATA_TYPE:
+                    projectedClaim.setDataType(localClaimResDTO.getDataType());
+                    break;
+                case ATTR_SUB_ATTRIBUTES:
+                    projectedClaim.setSubAttributes(localClaimResDTO.getSubAttributes());
+                    break;
+                case ATTR_CANONICAL_VALUES:
+                    projectedClaim.setCanonicalValues(localClaimResDTO.getCanonicalValues());
+                    break;
+                case ATTR_MULTI_VALUED:
+                    projectedClaim.setMultiValued(localClaimResDTO.getMultiValued());
+                    break;
+                case ATTR_EXTENDED_VALUED:
+                    projectedClaim.setExtendedValued(localClaimResDTO.getExtendedValued());
+                    break;
+                case ATTR_UNIQUENESS_SCOPE:
+                    projectedClaim.setUniquenessScope(localClaimResDTO.getUniquenessScope());
+                    break;
+                case ATTR_SHARED_PROFILE_VALUE_RESOLVING_METHOD:
+                    projectedClaim.setSharedProfileValueResolvingMethod(
+                            localClaimResDTO.getSharedProfileValueResolvingMethod());
+                    break;
+                case ATTR_ATTRIBUTE_MAPPING:
+                    projectedClaim.setAttributeMapping(localClaimResDTO.getAttributeMapping());
+                    break;
+                case ATTR_PROPERTIES:
+                    projectedClaim.setProperties(localClaimResDTO.getProperties());
+                    break;
+                case ATTR_PROFILES:
+                    projectedClaim.setProfiles(localClaimResDTO.getProfiles());
+                    break;
+                case ATTR_INPUT_FORMAT:
+                    projectedClaim.setInputFormat(localClaimResDTO.getInputFormat());
+                    break;
+                default:
+                    break;
+            }
+        }
+        return projectedClaim;
+    }
+
+    private static Set<String> buildRequiredAttributes(String attributes) throws ClaimMetadataClientException {
+
+        if (StringUtils.isBlank(attributes)) {
+            return null;
+        }
+        Set<String> requiredAttributes = new HashSet<>();
+        for (String attribute : attributes.split(",")) {
+            String trimmedAttribute = attribute.trim();
+            if (trimmedAttribute.isEmpty()) {
+                continue;
+            }
+            if (!SUPPORTED_ATTRIBUTES.contains(trimmedAttribute)) {
+                throw buildClientException(Constant.ErrorMessage.ERROR_CODE_UNSUPPORTED_REQUIRED_ATTRIBUTE,
+                        trimmedAttribute);
+            }
+            requiredAttributes.add(trimmedAttribute);
+        }
+        return requiredAttributes;
+    }
+
+    private static Comparator<LocalClaim> buildComparator(String sort) throws ClaimMetadataClientException {
+
+        if (StringUtils.isBlank(sort)) {
+            return null;
+        }
+        String[] sortParts = sort.split(SORT_ORDER_SEPARATOR);
+        String sortAttribute = sortParts[0].trim();
+        boolean descending = false;
+        if (sortParts.length == 2 && SORT_ORDER_DESC.equalsIgnoreCase(sortParts[1].trim())) {
+            descending = true;
+        } else if (sortParts.length > 2 ||
+                (sortParts.length == 2 && !SORT_ORDER_ASC.equalsIgnoreCase(sortParts[1].trim()))) {
+            throw buildClientException(Constant.ErrorMessage.ERROR_CODE_UNSUPPORTED_SORT, sort);
+        }
+
+        Comparator<LocalClaim> comparator;
+        switch (sortAttribute) {
+            case ATTR_CLAIM_URI:
+                comparator = CLAIM_URI_ORDER;
+                break;
+            case ATTR_DISPLAY_NAME:
+                comparator = Comparator.comparing(claim -> claim.getClaimProperty(PROP_DISPLAY_NAME),
+                        Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER));
+                comparator = comparator.thenComparing(CLAIM_URI_ORDER);
+                break;
+            case ATTR_DISPLAY_ORDER:
+                comparator = Comparator.comparingInt(LocalClaimListQuery::getDisplayOrder);
+                comparator = comparator.thenComparing(CLAIM_URI_ORDER);
+                break;
+            default:
+                throw buildClientException(Constant.ErrorMessage.ERROR_CODE_UNSUPPORTED_SORT, sort);
+        }
+        return descending ? comparator.reversed() : comparator;
+    }
+
+    private static int getDisplayOrder(LocalClaim localClaim) {
+
+        String displayOrder = localClaim.getClaimProperty(PROP_DISPLAY_ORDER);
+        return StringUtils.isNumeric(displayOrder) && StringUtils.isNotEmpty(displayOrder) ?
+                Integer.parseInt(displayOrder) : 0;
+    }
+
+    private static Predicate<LocalClaim> buildFilter(String filter) throws ClaimMetadataClientException {
+
+        CompiledFilter compiledFilter;
+        try {
+            compiledFilter = FilterCompiler.getInstance().compile(FILTER_SCHEMA, filter);
+        } catch (FilterCompilationException e) {
+            switch (e.getReason()) {
+                case UNSUPPORTED_ATTRIBUTE:
+                    throw buildClientException(Constant.ErrorMessage.ERROR_CODE_UNSUPPORTED_FILTER_ATTRIBUTE,
+                            e.getAttribute());
+                case UNSUPPORTED_OPERATOR:
+                    if (e.getAttribute() != null) {
+                        throw buildClientException(Constant.ErrorMessage.ERROR_CODE_UNSUPPORTED_FILTER_OPERATION,
+                                e.getOperator(), e.getAttribute());
+                    }
+                    throw buildClientException(Constant.ErrorMessage.ERROR_CODE_INVALID_FILTER, filter);
+                default:
+                    throw buildClientException(Constant.ErrorMessage.ERROR_CODE_INVALID_FILTER, filter);
+            }
+        }
+        return compiledFilter == null ? null : compiledFilter.toPredicate(FILTER_ATTRIBUTE_VALUES);
+    }
+
+    private static ClaimMetadataClientException buildClientException(Constant.ErrorMessage errorMessage,
+                                                                      String... data) {
+
+        return new ClaimMetadataClientException(errorMessage.getCode(),
+                String.format(errorMessage.getDescription(), (Object[]) data));
+    }
+}
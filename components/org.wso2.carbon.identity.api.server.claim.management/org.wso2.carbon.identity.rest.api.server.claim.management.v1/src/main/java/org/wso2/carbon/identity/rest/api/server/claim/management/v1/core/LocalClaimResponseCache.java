@@ -0,0 +1,322 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.rest.api.server.claim.management.v1.core;
+
+import org.wso2.carbon.identity.api.server.common.cache.LocalCache;
+import org.wso2.carbon.identity.claim.metadata.mgt.model.LocalClaim;
+import org.wso2.carbon.identity.rest.api.server.claim.management.v1.dto.AttributeMappingDTO;
+import org.wso2.carbon.identity.rest.api.server.claim.management.v1.dto.AttributeProfileDTO;
+import org.wso2.carbon.identity.rest.api.server.claim.management.v1.dto.InputFormatDTO;
+import org.wso2.carbon.identity.rest.api.server.claim.management.v1.dto.LabelValueDTO;
+import org.wso2.carbon.identity.rest.api.server.claim.management.v1.dto.LocalClaimResDTO;
+import org.wso2.carbon.identity.rest.api.server.claim.management.v1.dto.ProfilesDTO;
+import org.wso2.carbon.identity.rest.api.server.claim.management.v1.dto.PropertyDTO;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Per tenant cache of the converted local claim responses.
+ * <p>
+ * Converting a local claim to a {@link LocalClaimResDTO} parses the JSON valued claim properties, hence the converted
+ * responses are cached and reused until a local claim of the tenant is changed through this API or the entry expires.
+ * The expiry bounds the staleness of changes done through other channels.
+ * <p>
+ * Callers get a copy of the cached response, hence the cached responses are never modified by a request. Every
+ * invalidation starts a new generation, and entries loaded from the backend before an invalidation are not cached,
+ * so that a concurrent read cannot re-populate the cache with a view from before an update.
+ */
+public final class LocalClaimResponseCache {
+
+    private static final int MAX_CACHED_CLAIM_LISTS = 100;
+    private static final int MAX_CACHED_CLAIMS = 5000;
+    private static final long CACHE_TTL_MILLIS = TimeUnit.MINUTES.toMillis(5);
+    private static final String ALL_CLAIMS = "";
+
+    private static final LocalClaimResponseCache INSTANCE = new LocalClaimResponseCache();
+
+    private final LocalCache<CacheKey, LocalClaimList> claimLists =
+            new LocalCache<>(MAX_CACHED_CLAIM_LISTS, CACHE_TTL_MILLIS);
+    private final LocalCache<CacheKey, LocalClaimResDTO> claims = new LocalCache<>(MAX_CACHED_CLAIMS, CACHE_TTL_MILLIS);
+
+    private long generation;
+
+    private LocalClaimResponseCache() {
+
+    }
+
+    public static LocalClaimResponseCache getInstance() {
+
+        return INSTANCE;
+    }
+
+    /**
+     * Get the current generation of the cache. The generation should be read before loading the entries to be
+     * cached from the backend.
+     *
+     * @return Current generation.
+     */
+    synchronized long getGeneration() {
+
+        return generation;
+    }
+
+    /**
+     * Get the cached local claims of a tenant.
+     *
+     * @param tenantDomain Tenant domain.
+     * @param profile      Profile the claims are supported for, or null for all the local claims.
+     * @return Cached local claims, or null if they are not cached.
+     */
+    LocalClaimList getLocalClaims(String tenantDomain, String profile) {
+
+        return claimLists.get(new CacheKey(tenantDomain, profile == null ? ALL_CLAIMS : profile));
+    }
+
+    /**
+     * Cache the local claims of a tenant, unless the cache was invalidated after the claims were loaded.
+     *
+     * @param tenantDomain Tenant domain.
+     * @param profile      Profile the claims are supported for, or null for all the local claims.
+     * @param localClaims  Local claims.
+     * @param converter    Converter of a local claim to the response.
+     * @param generation   Generation of the cache before the claims were loaded.
+     * @return Cached local claims, or the given claims if they were not cached.
+     */
+    synchronized LocalClaimList putLocalClaims(String tenantDomain, String profile, List<LocalClaim> localClaims,
+                                               Function<LocalClaim, LocalClaimResDTO> converter,
+                                               long generation) {
+
+        LocalClaimList localClaimList = new LocalClaimList(localClaims, converter);
+        if (generation != this.generation) {
+            return localClaimList;
+        }
+        return claimLists.putIfAbsent(new CacheKey(tenantDomain, profile == null ? ALL_CLAIMS : profile),
+                localClaimList);
+    }
+
+    /**
+     * Get the cached response of a local claim.
+     *
+     * @param tenantDomain Tenant domain.
+     * @param claimURI     Local claim URI.
+     * @return Copy of the cached local claim response, or null if it is not cached.
+     */
+    LocalClaimResDTO getLocalClaim(String tenantDomain, String claimURI) {
+
+        LocalClaimResDTO localClaimResDTO = claims.get(new CacheKey(tenantDomain, claimURI));
+        return localClaimResDTO != null ? copyOf(localClaimResDTO) : null;
+    }
+
+    /**
+     * Cache a copy of the response of a local claim, unless the cache was invalidated after the claim was loaded.
+     *
+     * @param tenantDomain     Tenant domain.
+     * @param claimURI         Local claim URI.
+     * @param localClaimResDTO Local claim response.
+     * @param generation       Generation of the cache before the claim was loaded.
+     */
+    synchronized void putLocalClaim(String tenantDomain, String claimURI, LocalClaimResDTO localClaimResDTO,
+                                    long generation) {
+
+        if (generation == this.generation) {
+            claims.put(new CacheKey(tenantDomain, claimURI), copyOf(localClaimResDTO));
+        }
+    }
+
+    /**
+     * Remove all the cached local claims of a tenant.
+     *
+     * @param tenantDomain Tenant domain.
+     */
+    synchronized void invalidate(String tenantDomain) {
+
+        generation++;
+        claimLists.removeIf(key -> key.tenantDomain.equals(tenantDomain));
+        claims.removeIf(key -> key.tenantDomain.equals(tenantDomain));
+    }
+
+    /**
+     * Get the number of local claim lookups served from the cache.
+     *
+     * @return Number of cache hits.
+     */
+    public long getHitCount() {
+
+        return claimLists.getHitCount() + claims.getHitCount();
+    }
+
+    /**
+     * Get the number of local claim lookups which were not served from the cache.
+     *
+     * @return Number of cache misses.
+     */
+    public long getMissCount() {
+
+        return claimLists.getMissCount() + claims.getMissCount();
+    }
+
+    /**
+     * Local claims of a tenant along with their responses, which are converted on first access.
+     */
+    static final class LocalClaimList {
+
+        private final List<LocalClaim> localClaims;
+        private final Function<LocalClaim, LocalClaimResDTO> converter;
+        private final Map<String, LocalClaimResDTO> responses = new ConcurrentHashMap<>();
+
+        private LocalClaimList(List<LocalClaim> localClaims, Function<LocalClaim, LocalClaimResDTO> converter) {
+
+            this.localClaims = Collections.unmodifiableList(localClaims);
+            this.converter = converter;
+        }
+
+        List<LocalClaim> getLocalClaims() {
+
+            return localClaims;
+        }
+
+        LocalClaimResDTO getResponse(LocalClaim localClaim) {
+
+            return copyOf(responses.computeIfAbsent(localClaim.getClaimURI(),
+                    claimURI -> converter.apply(localClaim)));
+        }
+    }
+
+    private static LocalClaimResDTO copyOf(LocalClaimResDTO localClaimResDTO) {
+
+        LocalClaimResDTO copy = new LocalClaimResDTO();
+        copy.setId(localClaimResDTO.getId());
+        copy.setClaimURI(localClaimResDTO.getClaimURI());
+        copy.setDialectURI(localClaimResDTO.getDialectURI());
+        copy.setDescription(localClaimResDTO.getDescription());
+        copy.setDisplayOrder(localClaimResDTO.getDisplayOrder());
+        copy.setDisplayName(localClaimResDTO.getDisplayName());
+        copy.setReadOnly(localClaimResDTO.getReadOnly());
+        copy.setRegEx(localClaimResDTO.getRegEx());
+        copy.setRequired(localClaimResDTO.getRequired());
+        copy.setSupportedByDefault(localClaimResDTO.getSupportedByDefault());
+        copy.setManagedInUserStore(localClaimResDTO.getManagedInUserStoreEnabled());
+        copy.setDataType(localClaimResDTO.getDataType());
+        copy.setMultiValued(localClaimResDTO.getMultiValued());
+        copy.setExtendedValued(localClaimResDTO.getExtendedValued());
+        copy.setUniquenessScope(localClaimResDTO.getUniquenessScope());
+        copy.setSharedProfileValueResolvingMethod(localClaimResDTO.getSharedProfileValueResolvingMethod());
+        // The array accessors of the DTO already copy the arrays.
+        copy.setSubAttributes(localClaimResDTO.getSubAttributes());
+        copy.setCanonicalValues(Arrays.stream(localClaimResDTO.getCanonicalValues())
+                .map(LocalClaimResponseCache::copyOf).toArray(LabelValueDTO[]::new));
+        if (localClaimResDTO.getAttributeMapping() != null) {
+            List<AttributeMappingDTO> attributeMappings = new ArrayList<>();
+            for (AttributeMappingDTO attributeMapping : localClaimResDTO.getAttributeMapping()) {
+                AttributeMappingDTO attributeMappingCopy = new AttributeMappingDTO();
+                attributeMappingCopy.setMappedAttribute(attributeMapping.getMappedAttribute());
+                attributeMappingCopy.setUserstore(attributeMapping.getUserstore());
+                attributeMappings.add(attributeMappingCopy);
+            }
+            copy.setAttributeMapping(attributeMappings);
+        } else {
+            copy.setAttributeMapping(null);
+        }
+        if (localClaimResDTO.getProperties() != null) {
+            List<PropertyDTO> properties = new ArrayList<>();
+            for (PropertyDTO property : localClaimResDTO.getProperties()) {
+                PropertyDTO propertyCopy = new PropertyDTO();
+                propertyCopy.setKey(property.getKey());
+                propertyCopy.setValue(property.getValue());
+                properties.add(propertyCopy);
+            }
+            copy.setProperties(properties);
+        } else {
+            copy.setProperties(null);
+        }
+        if (localClaimResDTO.getProfiles() != null) {
+            ProfilesDTO profiles = new ProfilesDTO();
+            localClaimResDTO.getProfiles().forEach((profileName, profile) -> {
+                AttributeProfileDTO profileCopy = null;
+                if (profile != null) {
+                    profileCopy = new AttributeProfileDTO();
+                    profileCopy.setReadOnly(profile.getReadOnly());
+                    profileCopy.setRequired(profile.getRequired());
+                    profileCopy.setSupportedByDefault(profile.getSupportedByDefault());
+                }
+                profiles.put(profileName, profileCopy);
+            });
+            copy.setProfiles(profiles);
+        }
+        if (localClaimResDTO.getInputFormat() != null) {
+            InputFormatDTO inputFormat = new InputFormatDTO();
+            inputFormat.setInputType(localClaimResDTO.getInputFormat().getInputType());
+            copy.setInputFormat(inputFormat);
+        }
+        return copy;
+    }
+
+    private static LabelValueDTO copyOf(LabelValueDTO labelValueDTO) {
+
+        if (labelValueDTO == null) {
+            return null;
+        }
+        LabelValueDTO copy = new LabelValueDTO();
+        copy.setLabel(labelValueDTO.getLabel());
+        copy.setValue(labelValueDTO.getValue());
+        return copy;
+    }
+
+    /**
+     * Cache key made of the tenant domain and the name of the cached entry.
+     */
+    private static final class CacheKey {
+
+        private final String tenantDomain;
+        private final String name;
+
+        CacheKey(String tenantDomain, String name) {
+
+            this.tenantDomain = tenantDomain;
+            this.name = name;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            CacheKey cacheKey = (CacheKey) o;
+            return tenantDomain.equals(cacheKey.tenantDomain) && name.equals(cacheKey.name);
+        }
+
+        @Override
+        public int hashCode() {
+
+            return Objects.hash(tenantDomain, name);
+        }
+    }
+}
@@ -86,12 +86,14 @@ import java.util.Arrays;
 import java.util.Base64;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -99,7 +101,6 @@ import javax.ws.rs.core.Response;
 
 import static org.wso2.carbon.identity.api.server.claim.management.common.ClaimManagementDataHolder.getClaimMetadataManagementService;
 import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.CMT_PATH_COMPONENT;
-import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.ErrorMessage.ERROR_CODE_ATTRIBUTE_FILTERING_NOT_IMPLEMENTED;
 import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.ErrorMessage.ERROR_CODE_CLAIMS_NOT_FOUND_FOR_DIALECT;
 import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.ErrorMessage.ERROR_CODE_DIALECT_NOT_FOUND;
 import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.ErrorMessage.ERROR_CODE_EMPTY_ATTRIBUTE_MAPPINGS;
@@ -195,6 +196,7 @@ public class ServerClaimManagementService {
 
     private final ClaimMetadataManagementService claimMetadataManagementService;
     private final OrganizationManager organizationManager;
+    private final LocalClaimResponseCache localClaimResponseCache = LocalClaimResponseCache.getInstance();
 
     private static final ObjectMapper mapper = new ObjectMapper();
 
@@ -379,6 +381,7 @@ public class ServerClaimManagementService {
             validateAttributeMappings(localClaimReqDTO.getAttributeMapping());
             claimMetadataManagementService.addLocalClaim(createLocalClaim(localClaimReqDTO), ContextLoader
                     .getTenantDomainFromContext());
+            localClaimResponseCache.invalidate(ContextLoader.getTenantDomainFromContext());
         } catch (ClaimMetadataException e) {
             throw handleClaimManagementException(e, ERROR_CODE_ERROR_ADDING_LOCAL_CLAIM,
                     localClaimReqDTO.getClaimURI());
@@ -406,6 +409,7 @@ public class ServerClaimManagementService {
         }
         try {
             claimMetadataManagementService.removeLocalClaim(claimURI, ContextLoader.getTenantDomainFromContext());
+            localClaimResponseCache.invalidate(ContextLoader.getTenantDomainFromContext());
         } catch (ClaimMetadataException e) {
             throw handleClaimManagementException(e, ERROR_CODE_ERROR_DELETING_LOCAL_CLAIM, claimId);
         }
@@ -420,15 +424,54 @@ public class ServerClaimManagementService {
      */
     public LocalClaimResDTO getLocalClaim(String claimId) {
 
+        String claimURI;
         try {
-            String claimURI = base64DecodeId(claimId);
-            Optional<LocalClaim> localClaim = claimMetadataManagementService.getLocalClaim(claimURI, ContextLoader
-                    .getTenantDomainFromContext(), true);
+            claimURI = base64DecodeId(claimId);
+        } catch (ClaimMetadataException e) {
+            throw handleClaimManagementException(e, ERROR_CODE_ERROR_RETRIEVING_LOCAL_CLAIM, claimId);
+        }
+        String tenantDomain = ContextLoader.getTenantDomainFromContext();
+        LocalClaimResDTO cachedClaim = localClaimResponseCache.getLocalClaim(tenantDomain, claimURI);
+        if (cachedClaim != null) {
+            return cachedClaim;
+        }
+        logLocalClaimCacheMiss(tenantDomain);
+        long cacheGeneration = localClaimResponseCache.getGeneration();
+        LocalClaimResDTO localClaimResDTO = retrieveLocalClaim(claimId);
+        localClaimResponseCache.putLocalClaim(tenantDomain, claimURI, localClaimResDTO, cacheGeneration);
+        return localClaimResDTO;
+    }
+
+    /**
+     * Log a miss of the local claim response cache along with the hit and miss counts of the cache, so that the
+     * effectiveness of the cache can be followed in the debug logs.
+     *
+     * @param tenantDomain Tenant domain.
+     */
+    private void logLocalClaimCacheMiss(String tenantDomain) {
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug(String.format("Local claim responses of tenant: %s are loaded from the claim metadata " +
+                    "management service. Cache hits: %d, misses: %d", tenantDomain,
+                    localClaimResponseCache.getHitCount(), localClaimResponseCache.getMissCount()));
+        }
+    }
+
+    /**
+     * Retrieve a local claim from the claim metadata management service, bypassing the response cache.
+     *
+     * @param claimId claimId.
+     * @return Local claim.
+     */
+    private LocalClaimResDTO retrieveLocalClaim(String claimId) {
+
+        try {
+            Optional<LocalClaim> localClaim = claimMetadataManagementService.getLocalClaim(base64DecodeId(claimId),
+                    ContextLoader.getTenantDomainFromContext(), true);
 
             if (!localClaim.isPresent()) {
                 throw handleClaimManagementClientError(ERROR_CODE_LOCAL_CLAIM_NOT_FOUND, NOT_FOUND, claimId);
             }
-
             return getLocalClaimResDTO(localClaim.get());
 
         } catch (ClaimMetadataException e) {
@@ -469,17 +512,52 @@ public class ServerClaimManagementService {
                                                  Integer offset, String filter, String sort,
                                                  Boolean excludeHiddenClaims, String profile) {
 
-        handleNotImplementedCapabilities(attributes, limit, offset, filter, sort);
+        return getLocalClaims(excludeIdentityClaims, attributes, limit, offset, filter, sort, excludeHiddenClaims,
+                profile, null);
+    }
+
+    /**
+     * Retrieve the claims belonging to the local dialect. The filter, sort and pagination are applied before the
+     * claims are converted, hence only the claims of the requested page are converted to response DTOs.
+     *
+     * @param excludeIdentityClaims Exclude identity claims in the local dialect if this is set to true.
+     * @param attributes            Comma separated attributes to be included in the response (optional).
+     * @param limit                 limit (optional).
+     * @param offset                offset (optional).
+     * @param filter                filter over claimURI, displayName, description and the claim flags (optional).
+     * @param sort                  Sort attribute, optionally followed by ',asc' or ',desc' (optional).
+     * @param excludeHiddenClaims   Exclude hidden claims in the local dialect if this is set to true.
+     * @param profile               Profile of the claims (optional).
+     * @param after                 Identifier of the last claim of the previous page (optional).
+     * @return List of local claims.
+     */
+    public List<LocalClaimResDTO> getLocalClaims(Boolean excludeIdentityClaims, String attributes, Integer limit,
+                                                 Integer offset, String filter, String sort,
+                                                 Boolean excludeHiddenClaims, String profile, String after) {
 
         try {
+            String afterClaimURI = after != null ? base64DecodeId(after) : null;
+            LocalClaimListQuery listQuery =
+                    LocalClaimListQuery.build(attributes, limit, offset, filter, sort, afterClaimURI);
+
             String tenantDomain = ContextLoader.getTenantDomainFromContext();
-            List<LocalClaim> localClaimList;
-            if (StringUtils.isEmpty(profile)) {
-                localClaimList = claimMetadataManagementService.getLocalClaims(tenantDomain);
-            } else {
-                localClaimList = claimMetadataManagementService.getSupportedLocalClaimsForProfile(tenantDomain,
-                        profile);
+            String claimProfile = StringUtils.isEmpty(profile) ? null : profile;
+            LocalClaimResponseCache.LocalClaimList cachedClaims =
+                    localClaimResponseCache.getLocalClaims(tenantDomain, claimProfile);
+            if (cachedClaims == null) {
+                logLocalClaimCacheMiss(tenantDomain);
+                long cacheGeneration = localClaimResponseCache.getGeneration();
+                List<LocalClaim> fetchedClaims;
+                if (claimProfile == null) {
+                    fetchedClaims = claimMetadataManagementService.getLocalClaims(tenantDomain);
+                } else {
+                    fetchedClaims = claimMetadataManagementService.getSupportedLocalClaimsForProfile(tenantDomain,
+                            claimProfile);
+                }
+                cachedClaims = localClaimResponseCache.putLocalClaims(tenantDomain, claimProfile, fetchedClaims,
+                        this::getLocalClaimResDTO, cacheGeneration);
             }
+            List<LocalClaim> localClaimList = cachedClaims.getLocalClaims();
 
             if (excludeIdentityClaims != null && excludeIdentityClaims) {
                 localClaimList = localClaimList.stream()
@@ -494,7 +572,13 @@ public class ServerClaimManagementService {
                         .collect(Collectors.toList());
             }
 
-            return getLocalClaimResDTOs(localClaimList);
+            List<LocalClaimResDTO> localClaimResDTOList = listQuery.apply(localClaimList).stream()
+                    .map(cachedClaims::getResponse)
+                    .collect(Collectors.toList());
+            if (listQuery.hasProjection()) {
+                return localClaimResDTOList.stream().map(listQuery::project).collect(Collectors.toList());
+            }
+            return localClaimResDTOList;
 
         } catch (ClaimMetadataException e) {
             throw handleClaimManagementException(e, ERROR_CODE_ERROR_RETRIEVING_LOCAL_CLAIMS);
@@ -536,6 +620,7 @@ public class ServerClaimManagementService {
 
             claimMetadataManagementService.updateLocalClaim(createLocalClaim(localClaimReqDTO),
                     ContextLoader.getTenantDomainFromContext());
+            localClaimResponseCache.invalidate(ContextLoader.getTenantDomainFromContext());
         } catch (ClaimMetadataException e) {
             throw handleClaimManagementException(e, ERROR_CODE_ERROR_UPDATING_LOCAL_CLAIM, claimId);
         } catch (UserStoreException e) {
@@ -574,6 +659,9 @@ public class ServerClaimManagementService {
             return dialectId;
         } catch (ClaimMetadataException e) {
             throw handleClaimManagementException(e, ERROR_CODE_ERROR_UPDATING_DIALECT, dialectId);
+        } finally {
+            // Claims of a bulk update may have been changed even if the update failed partially.
+            localClaimResponseCache.invalidate(ContextLoader.getTenantDomainFromContext());
         }
     }
 
@@ -581,45 +669,67 @@ public class ServerClaimManagementService {
             throws ClaimMetadataException {
 
         List<ClaimErrorDTO> errors = new ArrayList<>();
-        List<LocalClaim> localClaimList = claimMetadataManagementService.getLocalClaims(ContextLoader
-                .getTenantDomainFromContext());
+        Map<String, LocalClaim> existingClaims = indexByClaimURI(claimMetadataManagementService.getLocalClaims(
+                ContextLoader.getTenantDomainFromContext()));
 
+        // Compute the claims to be added, updated and deleted before applying any of the changes.
+        Set<String> incomingClaimURIs = new HashSet<>();
+        List<LocalClaimReqDTO> claimsToAdd = new ArrayList<>();
+        List<LocalClaimReqDTO> claimsToUpdate = new ArrayList<>();
         for (LocalClaimReqDTO localClaimReqDTO : localClaimReqDTOList) {
-            try {
-                if (StringUtils.isBlank(localClaimReqDTO.getClaimURI())) {
-                    throw handleClaimManagementClientError(Constant.ErrorMessage.ERROR_CODE_EMPTY_LOCAL_CLAIM_URI,
-                            BAD_REQUEST);
-                }
-                LocalClaim localClaim = extractLocalClaimFromClaimList(localClaimReqDTO.getClaimURI(), localClaimList);
-                if (localClaim != null) {
-                    // If the existing local claim has not changed, skip update.
-                    if (localClaimChanged(localClaimReqDTO, localClaim)) {
-                        String claimId = getResourceId(localClaimReqDTO.getClaimURI());
-                        if (LOG.isDebugEnabled()) {
-                            LOG.debug("Updating local claim: " + localClaimReqDTO.getClaimURI());
-                        }
-                        updateLocalClaim(claimId, localClaimReqDTO);
-                    } else {
-                        if (LOG.isDebugEnabled()) {
-                            LOG.debug("Skipping db update as the old localClaim and the new localClaim is " +
-                                    "the same. ClaimURI: " + localClaimReqDTO.getClaimURI());
-                        }
-                    }
-                } else {
-                    if (LOG.isDebugEnabled()) {
-                        LOG.debug("Adding local claim: " + localClaimReqDTO.getClaimURI());
-                    }
-                    addLocalClaim(localClaimReqDTO);
+            if (StringUtils.isBlank(localClaimReqDTO.getClaimURI())) {
+                addClaimError(errors, handleClaimManagementClientError(
+                        Constant.ErrorMessage.ERROR_CODE_EMPTY_LOCAL_CLAIM_URI, BAD_REQUEST),
+                        localClaimReqDTO.getClaimURI());
+                continue;
+            }
+            incomingClaimURIs.add(localClaimReqDTO.getClaimURI());
+            LocalClaim localClaim = existingClaims.get(localClaimReqDTO.getClaimURI());
+            if (localClaim == null) {
+                claimsToAdd.add(localClaimReqDTO);
+            } else if (localClaimChanged(localClaimReqDTO, localClaim)) {
+                claimsToUpdate.add(localClaimReqDTO);
+            } else if (LOG.isDebugEnabled()) {
+                // If the existing local claim has not changed, skip update.
+                LOG.debug("Skipping db update as the old localClaim and the new localClaim is " +
+                        "the same. ClaimURI: " + localClaimReqDTO.getClaimURI());
+            }
+        }
+        List<String> claimsToDelete = new ArrayList<>();
+        if (preserveClaims) {
+            for (String claimURI : existingClaims.keySet()) {
+                if (!incomingClaimURIs.contains(claimURI)) {
+                    claimsToDelete.add(claimURI);
                 }
+            }
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug(String.format("Updating local claims from file. Claims to add: %d, update: %d, delete: %d",
+                    claimsToAdd.size(), claimsToUpdate.size(), claimsToDelete.size()));
+        }
+
+        for (LocalClaimReqDTO localClaimReqDTO : claimsToAdd) {
+            try {
+                addLocalClaim(localClaimReqDTO);
             } catch (APIError e) {
-                ClaimErrorDTO claimErrorDTO = new ClaimErrorDTO(e.getResponseEntity());
-                claimErrorDTO.setClaimURI(localClaimReqDTO.getClaimURI());
-                errors.add(claimErrorDTO);
+                addClaimError(errors, e, localClaimReqDTO.getClaimURI());
             }
         }
-        if (preserveClaims) {
-            deleteObsoleteLocalClaims(localClaimReqDTOList, errors);
+        for (LocalClaimReqDTO localClaimReqDTO : claimsToUpdate) {
+            try {
+                updateLocalClaim(getResourceId(localClaimReqDTO.getClaimURI()), localClaimReqDTO);
+            } catch (APIError e) {
+                addClaimError(errors, e, localClaimReqDTO.getClaimURI());
+            }
         }
+        for (String claimURI : claimsToDelete) {
+            try {
+                deleteLocalClaim(getResourceId(claimURI));
+            } catch (APIError e) {
+                addClaimError(errors, e, claimURI);
+            }
+        }
+
         if (!errors.isEmpty()) {
             throw handleClaimManagementBulkClientError(Constant.ErrorMessage.ERROR_CODE_UPDATING_LOCAL_CLAIMS,
                     BAD_REQUEST, errors, String.valueOf(errors.size()), String.valueOf(localClaimReqDTOList.size()));
@@ -634,27 +744,6 @@ public class ServerClaimManagementService {
         }
     }
 
-    private void deleteObsoleteLocalClaims(List<LocalClaimReqDTO> localClaimReqDTOList, List<ClaimErrorDTO> errors)
-            throws ClaimMetadataException {
-
-        List<String> claimsToDelete =  getLocalClaimResDTOs(claimMetadataManagementService
-                    .getLocalClaims(ContextLoader.getTenantDomainFromContext())).stream()
-                    .map(LocalClaimResDTO::getClaimURI)
-                    .filter(claimURI -> localClaimReqDTOList.stream()
-                            .noneMatch(reqDTO -> reqDTO.getClaimURI().equals(claimURI)))
-                    .collect(Collectors.toList());
-
-        for (String claimURI : claimsToDelete) {
-            try {
-                deleteLocalClaim(getResourceId(claimURI));
-            } catch (APIError e) {
-                ClaimErrorDTO claimErrorDTO = new ClaimErrorDTO(e.getResponseEntity());
-                claimErrorDTO.setClaimURI(claimURI);
-                errors.add(claimErrorDTO);
-            }
-        }
-    }
-
     private void updateExternalClaims(String dialectId, List<ExternalClaimReqDTO> externalClaimReqDTOList,
                                       boolean preserveClaims) throws ClaimMetadataException {
 
@@ -666,41 +755,48 @@ public class ServerClaimManagementService {
         }
 
         List<ClaimErrorDTO> errors = new ArrayList<>();
-        List<ExternalClaim> externalClaimList = claimMetadataManagementService.getExternalClaims(
-                base64DecodeId(dialectId), ContextLoader.getTenantDomainFromContext());
+        Map<String, ExternalClaim> existingClaims = indexByClaimURI(claimMetadataManagementService.getExternalClaims(
+                base64DecodeId(dialectId), ContextLoader.getTenantDomainFromContext()));
 
+        // Compute the claims to be added and updated before applying any of the changes.
+        List<ExternalClaimReqDTO> claimsToAdd = new ArrayList<>();
+        List<ExternalClaimReqDTO> claimsToUpdate = new ArrayList<>();
         for (ExternalClaimReqDTO externalClaimReqDTO : externalClaimReqDTOList) {
+            if (StringUtils.isBlank(externalClaimReqDTO.getClaimURI())) {
+                addClaimError(errors, handleClaimManagementClientError(
+                        Constant.ErrorMessage.ERROR_CODE_EMPTY_EXTERNAL_CLAIM_URI, BAD_REQUEST),
+                        externalClaimReqDTO.getClaimURI());
+                continue;
+            }
+            ExternalClaim externalClaim = existingClaims.get(externalClaimReqDTO.getClaimURI());
+            if (externalClaim == null) {
+                claimsToAdd.add(externalClaimReqDTO);
+            } else if (externalClaimChanged(externalClaimReqDTO, externalClaim)) {
+                claimsToUpdate.add(externalClaimReqDTO);
+            } else if (LOG.isDebugEnabled()) {
+                // If the existing external claim has not changed, skip update.
+                LOG.debug("Skipping db update as the old externalClaim and the new externalClaim is " +
+                        "the same. ClaimURI: " + externalClaimReqDTO.getClaimURI());
+            }
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug(String.format("Updating external claims of dialect: %s from file. Claims to add: %d, " +
+                    "update: %d", dialectId, claimsToAdd.size(), claimsToUpdate.size()));
+        }
+
+        for (ExternalClaimReqDTO externalClaimReqDTO : claimsToAdd) {
             try {
-                if (StringUtils.isBlank(externalClaimReqDTO.getClaimURI())) {
-                    throw handleClaimManagementClientError(Constant.ErrorMessage.ERROR_CODE_EMPTY_EXTERNAL_CLAIM_URI,
-                            BAD_REQUEST);
-                }
-                ExternalClaim externalClaim = extractExternalClaimFromClaimList(externalClaimReqDTO.getClaimURI(),
-                        externalClaimList);
-                if (externalClaim != null) {
-                    // If the existing external claim has not changed, skip update.
-                    if (externalClaimChanged(externalClaimReqDTO, externalClaim)) {
-                        String claimId = getResourceId(externalClaimReqDTO.getClaimURI());
-                        if (LOG.isDebugEnabled()) {
-                            LOG.debug("Updating external claim: " + externalClaimReqDTO.getClaimURI());
-                        }
-                        updateExternalClaim(dialectId, claimId, externalClaimReqDTO);
-                    } else {
-                        if (LOG.isDebugEnabled()) {
-                            LOG.debug("Skipping db update as the old externalClaim and the new externalClaim is " +
-                                    "the same. ClaimURI: " + externalClaimReqDTO.getClaimURI());
-                        }
-                    }
-                } else {
-                    if (LOG.isDebugEnabled()) {
-                        LOG.debug("Adding external claim: " + externalClaimReqDTO.getClaimURI());
-                    }
-                    addExternalClaim(dialectId, externalClaimReqDTO);
-                }
+                addExternalClaim(dialectId, externalClaimReqDTO);
             } catch (APIError e) {
-                ClaimErrorDTO claimErrorDTO = new ClaimErrorDTO(e.getResponseEntity());
-                claimErrorDTO.setClaimURI(externalClaimReqDTO.getClaimURI());
-                errors.add(claimErrorDTO);
+                addClaimError(errors, e, externalClaimReqDTO.getClaimURI());
+            }
+        }
+        for (ExternalClaimReqDTO externalClaimReqDTO : claimsToUpdate) {
+            try {
+                updateExternalClaim(dialectId, getResourceId(externalClaimReqDTO.getClaimURI()),
+                        externalClaimReqDTO);
+            } catch (APIError e) {
+                addClaimError(errors, e, externalClaimReqDTO.getClaimURI());
             }
         }
         if (!errors.isEmpty()) {
@@ -766,7 +862,7 @@ public class ServerClaimManagementService {
         config.setYamlConfig(yamlConfig);
 
         try {
-            return FileSerializationUtil.serialize(dialectConfiguration, fileName, fileType, config);
+            return FileSerializationUtil.serializeAsStream(dialectConfiguration, fileName, fileType, config);
         } catch (FileSerializationException e) {
             throw new ClaimMetadataException(String.format(
                     Constant.ErrorMessage.ERROR_CODE_ERROR_PARSING_CLAIM_DIALECT.toString(),
@@ -946,15 +1042,20 @@ public class ServerClaimManagementService {
         return null;
     }
 
-    private LocalClaim extractLocalClaimFromClaimList(String claimURI, List<LocalClaim> claimList) {
+    private <T extends Claim> Map<String, T> indexByClaimURI(List<T> claimList) {
 
-        for (LocalClaim claim : claimList) {
-            if (StringUtils.equals(claim.getClaimURI(), claimURI)) {
-                return claim;
-            }
+        Map<String, T> claimsByURI = new LinkedHashMap<>();
+        for (T claim : claimList) {
+            claimsByURI.putIfAbsent(claim.getClaimURI(), claim);
         }
+        return claimsByURI;
+    }
 
-        return null;
+    private void addClaimError(List<ClaimErrorDTO> errors, APIError error, String claimURI) {
+
+        ClaimErrorDTO claimErrorDTO = new ClaimErrorDTO(error.getResponseEntity());
+        claimErrorDTO.setClaimURI(claimURI);
+        errors.add(claimErrorDTO);
     }
 
     private ClaimDialect createClaimDialect(ClaimDialectReqDTO claimDialectReqDTO) {
@@ -1399,6 +1500,8 @@ public class ServerClaimManagementService {
             return dialectId;
         } catch (ClaimMetadataException e) {
             throw handleClaimManagementException(e, Constant.ErrorMessage.ERROR_CODE_ERROR_IMPORTING_CLAIM_DIALECT);
+        } finally {
+            localClaimResponseCache.invalidate(ContextLoader.getTenantDomainFromContext());
         }
     }
 
@@ -1426,8 +1529,7 @@ public class ServerClaimManagementService {
 
         try {
             FileContent claimDialectFileContent = new FileContent(fileDetail.getDataHandler().getName(),
-                    fileDetail.getDataHandler().getContentType(),
-                    IOUtils.toString(fileInputStream, StandardCharsets.UTF_8.name()));
+                    fileDetail.getDataHandler().getContentType(), fileInputStream);
             return generateModelFromFile(claimDialectFileContent);
         } catch (IOException | ClaimMetadataClientException e) {
             throw new ClaimMetadataException(Constant.ErrorMessage.ERROR_CODE_INVALID_INPUT_FILE.toString(), e);
@@ -1436,13 +1538,14 @@ public class ServerClaimManagementService {
         }
     }
 
-    private ClaimDialectConfiguration generateModelFromFile(FileContent fileContent) throws ClaimMetadataException {
+    private ClaimDialectConfiguration generateModelFromFile(FileContent fileContent)
+            throws ClaimMetadataException, IOException {
 
         if (LOG.isDebugEnabled()) {
             LOG.debug(String.format("Parsing Claim Dialect from file: %s of type: %s.", fileContent.getFileName(),
                     fileContent.getFileType()));
         }
-        if (StringUtils.isEmpty(fileContent.getContent())) {
+        if (fileContent.isEmpty()) {
             throw handleClaimManagementClientError(Constant.ErrorMessage.ERROR_CODE_MISSING_FILE_CONTENT, BAD_REQUEST,
                     fileContent.getFileName());
         }
@@ -1599,11 +1702,6 @@ public class ServerClaimManagementService {
         return new APIError(status, errorResponse);
     }
 
-    private void handleNotImplementedCapabilities(Integer limit, Integer offset, String filter, String sort) {
-
-        handleNotImplementedCapabilities(null, limit, offset, filter, sort);
-    }
-
     private APIError handleException(Exception e, Constant.ErrorMessage errorEnum, String... data) {
 
         ErrorResponse errorResponse = getErrorBuilder(errorEnum, data)
@@ -1614,8 +1712,7 @@ public class ServerClaimManagementService {
         return new APIError(status, errorResponse);
     }
 
-    private void handleNotImplementedCapabilities(String attributes, Integer limit, Integer offset, String filter,
-                                                  String sort) {
+    private void handleNotImplementedCapabilities(Integer limit, Integer offset, String filter, String sort) {
 
         Constant.ErrorMessage errorEnum = null;
 
@@ -1627,8 +1724,6 @@ public class ServerClaimManagementService {
             errorEnum = ERROR_CODE_FILTERING_NOT_IMPLEMENTED;
         } else if (sort != null) {
             errorEnum = ERROR_CODE_SORTING_NOT_IMPLEMENTED;
-        } else if (attributes != null) {
-            errorEnum = ERROR_CODE_ATTRIBUTE_FILTERING_NOT_IMPLEMENTED;
         }
 
         if (errorEnum != null) {
@@ -1775,7 +1870,7 @@ public class ServerClaimManagementService {
             return;
         }
 
-        LocalClaimResDTO existingClaim = getLocalClaim(claimId);
+        LocalClaimResDTO existingClaim = retrieveLocalClaim(claimId);
 
         // Validate the multivalued property is updated.
         if (Boolean.TRUE.equals(existingClaim.getMultiValued()) !=
@@ -2090,7 +2185,7 @@ public class ServerClaimManagementService {
     private void applyExtendedValuedUpdateRules(LocalClaimReqDTO localClaimReqDTO, String claimId)
             throws ClaimMetadataException {
 
-        LocalClaimResDTO existingClaim = getLocalClaim(claimId);
+        LocalClaimResDTO existingClaim = retrieveLocalClaim(claimId);
         Boolean existing = existingClaim.getExtendedValued();
         Boolean requested = localClaimReqDTO.getExtendedValued();
         if (requested == null) {
@@ -31,9 +31,9 @@ import org.wso2.carbon.identity.rest.api.server.claim.management.v1.factories.Se
 
 import java.io.InputStream;
 import java.net.URI;
-import java.nio.charset.StandardCharsets;
 
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 
 import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.CMT_PATH_COMPONENT;
 import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.LOCAL_DIALECT_PATH;
@@ -151,10 +151,10 @@ public class ClaimManagementApiServiceImpl extends ClaimManagementApiService {
     @Override
     public Response getLocalClaims(String attributes, Integer limit, Integer offset, String filter,
                                    String sort, Boolean excludeIdentityClaims, Boolean excludeHiddenClaims,
-                                   String profile) {
+                                   String profile, String after) {
 
-        return Response.ok().entity(claimManagementService.getLocalClaims(
-                excludeIdentityClaims, attributes, limit, offset, filter, sort, excludeHiddenClaims, profile)).build();
+        return Response.ok().entity(claimManagementService.getLocalClaims(excludeIdentityClaims, attributes, limit,
+                offset, filter, sort, excludeHiddenClaims, profile, after)).build();
     }
 
     @Override
@@ -192,7 +192,7 @@ public class ClaimManagementApiServiceImpl extends ClaimManagementApiService {
                 .header(HttpHeaders.CACHE_CONTROL, "no-cache, no-store, must-revalidate")
                 .header(HttpHeaders.PRAGMA, "no-cache")
                 .header(HttpHeaders.EXPIRES, "0")
-                .entity(fileContent.getContent().getBytes(StandardCharsets.UTF_8))
+                .entity((StreamingOutput) fileContent::writeTo)
                 .build();
     }
 
@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.rest.api.server.claim.management.v1.core;
+
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.claim.metadata.mgt.model.LocalClaim;
+import org.wso2.carbon.identity.rest.api.server.claim.management.v1.dto.LabelValueDTO;
+import org.wso2.carbon.identity.rest.api.server.claim.management.v1.dto.LocalClaimResDTO;
+import org.wso2.carbon.identity.rest.api.server.claim.management.v1.dto.PropertyDTO;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+
+/**
+ * Unit tests for {@link LocalClaimResponseCache}.
+ */
+public class LocalClaimResponseCacheTest {
+
+    private static final String CLAIM_URI = "http://wso2.org/claims/country";
+
+    private final LocalClaimResponseCache cache = LocalClaimResponseCache.getInstance();
+
+    @Test
+    public void testCachedClaimIsCopiedOnRead() {
+
+        String tenantDomain = newTenantDomain();
+        cache.putLocalClaim(tenantDomain, CLAIM_URI, buildLocalClaimResDTO("Country"), cache.getGeneration());
+
+        LocalClaimResDTO firstRead = cache.getLocalClaim(tenantDomain, CLAIM_URI);
+        firstRead.setDisplayName("Modified");
+        firstRead.getProperties().get(0).setValue("modified");
+        firstRead.getCanonicalValues()[0].setLabel("modified");
+
+        LocalClaimResDTO secondRead = cache.getLocalClaim(tenantDomain, CLAIM_URI);
+        assertNotSame(secondRead, firstRead);
+        assertEquals(secondRead.getDisplayName(), "Country");
+        assertEquals(secondRead.getProperties().get(0).getValue(), "value");
+        assertEquals(secondRead.getCanonicalValues()[0].getLabel(), "Sri Lanka");
+    }
+
+    @Test
+    public void testCachedClaimIsNotAffectedByCallerUpdates() {
+
+        String tenantDomain = newTenantDomain();
+        LocalClaimResDTO localClaimResDTO = buildLocalClaimResDTO("Country");
+        cache.putLocalClaim(tenantDomain, CLAIM_URI, localClaimResDTO, cache.getGeneration());
+
+        localClaimResDTO.setDisplayName("Modified");
+
+        assertEquals(cache.getLocalClaim(tenantDomain, CLAIM_URI).getDisplayName(), "Country");
+    }
+
+    @Test
+    public void testLookupsAreCountedAsHitsAndMisses() {
+
+        String tenantDomain = newTenantDomain();
+        long hitCount = cache.getHitCount();
+        long missCount = cache.getMissCount();
+
+        cache.getLocalClaim(tenantDomain, CLAIM_URI);
+        cache.getLocalClaims(tenantDomain, null);
+        cache.putLocalClaim(tenantDomain, CLAIM_URI, buildLocalClaimResDTO("Country"), cache.getGeneration());
+        cache.getLocalClaim(tenantDomain, CLAIM_URI);
+
+        assertEquals(cache.getHitCount() - hitCount, 1);
+        assertEquals(cache.getMissCount() - missCount, 2);
+    }
+
+    @Test
+    public void testClaimLoadedBeforeInvalidationIsNotCached() {
+
+        String tenantDomain = newTenantDomain();
+        long generation = cache.getGeneration();
+        cache.invalidate(tenantDomain);
+
+        cache.putLocalClaim(tenantDomain, CLAIM_URI, buildLocalClaimResDTO("Stale"), generation);
+
+        assertNull(cache.getLocalClaim(tenantDomain, CLAIM_URI));
+    }
+
+    @Test
+    public void testInvalidateRemovesTenantEntriesOnly() {
+
+        String tenantDomain = newTenantDomain();
+        String otherTenantDomain = newTenantDomain();
+        cache.putLocalClaim(tenantDomain, CLAIM_URI, buildLocalClaimResDTO("Country"), cache.getGeneration());
+        cache.putLocalClaim(otherTenantDomain, CLAIM_URI, buildLocalClaimResDTO("Country"), cache.getGeneration());
+
+        cache.invalidate(tenantDomain);
+
+        assertNull(cache.getLocalClaim(tenantDomain, CLAIM_URI));
+        assertNotNull(cache.getLocalClaim(otherTenantDomain, CLAIM_URI));
+    }
+
+    @Test
+    public void testClaimListLoadedBeforeInvalidationIsNotCached() {
+
+        String tenantDomain = newTenantDomain();
+        long generation = cache.getGeneration();
+        cache.invalidate(tenantDomain);
+
+        LocalClaimResponseCache.LocalClaimList localClaimList = cache.putLocalClaims(tenantDomain, null,
+                Collections.singletonList(new LocalClaim(CLAIM_URI)), claim -> buildLocalClaimResDTO("Stale"),
+                generation);
+
+        assertEquals(localClaimList.getLocalClaims().size(), 1);
+        assertNull(cache.getLocalClaims(tenantDomain, null));
+    }
+
+    @Test
+    public void testClaimListResponsesAreConvertedOnceAndCopied() {
+
+        String tenantDomain = newTenantDomain();
+        LocalClaim localClaim = new LocalClaim(CLAIM_URI);
+        List<LocalClaimResDTO> convertedClaims = new ArrayList<>();
+        cache.putLocalClaims(tenantDomain, null, Collections.singletonList(localClaim), claim -> {
+            LocalClaimResDTO localClaimResDTO = buildLocalClaimResDTO("Country");
+            convertedClaims.add(localClaimResDTO);
+            return localClaimResDTO;
+        }, cache.getGeneration());
+
+        LocalClaimResponseCache.LocalClaimList cachedClaims = cache.getLocalClaims(tenantDomain, null);
+        LocalClaimResDTO firstResponse = cachedClaims.getResponse(localClaim);
+        firstResponse.setDisplayName("Modified");
+        LocalClaimResDTO secondResponse = cachedClaims.getResponse(localClaim);
+
+        assertEquals(convertedClaims.size(), 1);
+        assertEquals(secondResponse.getDisplayName(), "Country");
+        assertSame(cache.getLocalClaims(tenantDomain, null), cachedClaims);
+    }
+
+    private static String newTenantDomain() {
+
+        return UUID.randomUUID() + ".com";
+    }
+
+    private static LocalClaimResDTO buildLocalClaimResDTO(String displayName) {
+
+        LocalClaimResDTO localClaimResDTO = new LocalClaimResDTO();
+        localClaimResDTO.setClaimURI(CLAIM_URI);
+        localClaimResDTO.setDisplayName(displayName);
+        PropertyDTO property = new PropertyDTO();
+        property.setKey("key");
+        property.setValue("value");
+        List<PropertyDTO> properties = new ArrayList<>();
+        properties.add(property);
+        localClaimResDTO.setProperties(properties);
+        LabelValueDTO canonicalValue = new LabelValueDTO();
+        canonicalValue.setLabel("Sri Lanka");
+        canonicalValue.setValue("LK");
+        localClaimResDTO.setCanonicalValues(new LabelValueDTO[]{canonicalValue});
+        return localClaimResDTO;
+    }
+}
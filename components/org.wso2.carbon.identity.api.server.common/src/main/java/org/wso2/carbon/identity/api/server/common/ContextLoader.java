@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019-2023, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2019-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -18,6 +18,7 @@
 
 package org.wso2.carbon.identity.api.server.common;
 
+import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.base.MultitenantConstants;
@@ -111,6 +112,19 @@ public class ContextLoader {
         return loc;
     }
 
+    /**
+     * Get a resolver which builds the URIs of many endpoints of the same request, resolving the public URL of the
+     * server API context only once. Use this when building a URI per item of a list response.
+     * Resolvers depend on the tenant and the host of the request they are created in, hence must not be shared
+     * between requests.
+     *
+     * @return URI resolver for the current request.
+     */
+    public static URIResolver getURIResolver() {
+
+        return new URIResolver();
+    }
+
     /**
      * Builds the API context based on whether it is an organization specific or tenant specific path.
      *
@@ -143,4 +157,72 @@ public class ContextLoader {
         Response.Status status = Response.Status.INTERNAL_SERVER_ERROR;
         return new APIError(status, errorResponse);
     }
+
+    /**
+     * Builds the URIs of endpoints by appending them to the lazily resolved public URL of the server API context.
+     * The built URIs are the same as the ones built through {@link ContextLoader#buildURIForBody(String)} and
+     * {@link ContextLoader#buildURIForHeader(String)}.
+     */
+    public static final class URIResolver {
+
+        private String relativeBaseURL;
+        private String absoluteBaseURL;
+
+        private URIResolver() {
+
+        }
+
+        /**
+         * Build URI prepending the server API context with the proxy context path to the endpoint.
+         *
+         * @param endpoint relative endpoint path.
+         * @return Relative URI.
+         */
+        public URI buildURIForBody(String endpoint) {
+
+            if (relativeBaseURL == null) {
+                try {
+                    relativeBaseURL = ServiceURLBuilder.create().addPath(SERVER_API_PATH_COMPONENT).build()
+                            .getRelativePublicURL();
+                } catch (URLBuilderException e) {
+                    String errorDescription = "Server encountered an error while building URL for response body.";
+                    throw buildInternalServerError(e, errorDescription);
+                }
+            }
+            return URI.create(relativeBaseURL + normalizeEndpoint(endpoint));
+        }
+
+        /**
+         * Build the complete URI prepending the server API context without the proxy context path, to the endpoint.
+         *
+         * @param endpoint relative endpoint path.
+         * @return Fully qualified and complete URI.
+         */
+        public URI buildURIForHeader(String endpoint) {
+
+            if (absoluteBaseURL == null) {
+                try {
+                    absoluteBaseURL = ServiceURLBuilder.create().addPath(SERVER_API_PATH_COMPONENT).build()
+                            .getAbsolutePublicURL();
+                } catch (URLBuilderException e) {
+                    String errorDescription = "Server encountered an error while building URL for response header.";
+                    throw buildInternalServerError(e, errorDescription);
+                }
+            }
+            return URI.create(absoluteBaseURL + normalizeEndpoint(endpoint));
+        }
+
+        /**
+         * Adds the leading slash and removes the trailing slashes of the endpoint, the same way the service URL
+         * builder joins path components.
+         */
+        private static String normalizeEndpoint(String endpoint) {
+
+            String path = StringUtils.stripEnd(endpoint, "/");
+            if (StringUtils.isEmpty(path)) {
+                return StringUtils.EMPTY;
+            }
+            return path.startsWith("/") ? path : "/" + path;
+        }
+    }
 }
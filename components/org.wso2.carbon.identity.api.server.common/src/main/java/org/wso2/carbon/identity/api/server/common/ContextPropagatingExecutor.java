@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.common;
+
+import org.slf4j.MDC;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.user.core.UserRealm;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounded executor to fan out backend calls of a single API request.
+ * <p>
+ * The carbon context (tenant, user, organization and user realm), the identity thread local properties and the
+ * logging MDC of the submitting thread are carried over to the worker thread, so that the backend services observe
+ * the same request context as the API thread. When the executor is saturated the task runs on the submitting thread,
+ * which bounds the number of worker threads while never rejecting a request.
+ * <p>
+ * The worker pool is created on the first submitted task. There is no lifecycle hook to shut it down when the API
+ * webapp is undeployed, hence idle worker threads are released after the keep alive time, which bounds how long the
+ * pool outlives its last task. The worker threads are daemon threads, so they never block a server shutdown.
+ */
+public final class ContextPropagatingExecutor {
+
+    private static final int POOL_SIZE = 8;
+    private static final int QUEUE_CAPACITY = 256;
+    private static final long KEEP_ALIVE_SECONDS = 60L;
+    private static final String THREAD_NAME_PREFIX = "api-server-fetch-";
+
+    private static final ContextPropagatingExecutor INSTANCE = new ContextPropagatingExecutor();
+
+    private ThreadPoolExecutor executor;
+
+    private ContextPropagatingExecutor() {
+
+    }
+
+    public static ContextPropagatingExecutor getInstance() {
+
+        return INSTANCE;
+    }
+
+    /**
+     * Submit a task to be executed with the request context of the calling thread.
+     *
+     * @param task Task to be executed.
+     * @param <T>  Type of the task result.
+     * @return Future of the task result.
+     */
+    public <T> Future<T> submit(Callable<T> task) {
+
+        ThreadPoolExecutor currentExecutor = getExecutor();
+        Thread submittingThread = Thread.currentThread();
+        CarbonContextSnapshot carbonContext = CarbonContextSnapshot.capture();
+        Map<String, Object> threadLocalProperties = new HashMap<>(IdentityUtil.threadLocalProperties.get());
+        Map<String, String> mdcContext = MDC.getCopyOfContextMap();
+
+        return currentExecutor.submit(() -> {
+            // Tasks run by the submitting thread when the executor is saturated already have the request context.
+            if (Thread.currentThread() == submittingThread) {
+                return task.call();
+            }
+            PrivilegedCarbonContext.startTenantFlow();
+            try {
+                carbonContext.restore();
+                IdentityUtil.threadLocalProperties.get().putAll(threadLocalProperties);
+                if (mdcContext != null) {
+                    MDC.setContextMap(mdcContext);
+                }
+                return task.call();
+            } finally {
+                MDC.clear();
+                IdentityUtil.threadLocalProperties.remove();
+                PrivilegedCarbonContext.endTenantFlow();
+            }
+        });
+    }
+
+    private synchronized ThreadPoolExecutor getExecutor() {
+
+        if (executor == null) {
+            executor = createExecutor();
+        }
+        return executor;
+    }
+
+    private static ThreadPoolExecutor createExecutor() {
+
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, THREAD_NAME_PREFIX + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(POOL_SIZE, POOL_SIZE, KEEP_ALIVE_SECONDS,
+                TimeUnit.SECONDS, new ArrayBlockingQueue<>(QUEUE_CAPACITY), threadFactory,
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        // Idle workers are released so that the pool does not hold threads when there is no load.
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Request scoped values of the carbon context which are restored on the worker thread.
+     */
+    private static final class CarbonContextSnapshot {
+
+        private final String tenantDomain;
+        private final int tenantId;
+        private final String username;
+        private final String userId;
+        private final String organizationId;
+        private final String applicationResidentOrganizationId;
+        private final UserRealm userRealm;
+
+        private CarbonContextSnapshot(PrivilegedCarbonContext carbonContext) {
+
+            this.tenantDomain = carbonContext.getTenantDomain();
+            this.tenantId = carbonContext.getTenantId();
+            this.username = carbonContext.getUsername();
+            this.userId = carbonContext.getUserId();
+            this.organizationId = carbonContext.getOrganizationId();
+            this.applicationResidentOrganizationId = carbonContext.getApplicationResidentOrganizationId();
+            this.userRealm = carbonContext.getUserRealm();
+        }
+
+        static CarbonContextSnapshot capture() {
+
+            return new CarbonContextSnapshot(PrivilegedCarbonContext.getThreadLocalCarbonContext());
+        }
+
+        void restore() {
+
+            PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+            carbonContext.setTenantDomain(tenantDomain);
+            carbonContext.setTenantId(tenantId);
+            carbonContext.setUsername(username);
+            carbonContext.setUserId(userId);
+            carbonContext.setOrganizationId(organizationId);
+            carbonContext.setApplicationResidentOrganizationId(applicationResidentOrganizationId);
+            carbonContext.setUserRealm(userRealm);
+        }
+    }
+}
@@ -17,14 +17,30 @@
 package org.wso2.carbon.identity.api.server.common;
 
 import org.apache.commons.lang.StringUtils;
+import org.apache.cxf.jaxrs.provider.ProviderFactory;
+import org.apache.cxf.message.Message;
+import org.apache.cxf.phase.PhaseInterceptorChain;
 import org.slf4j.MDC;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.ext.MessageBodyWriter;
+
 /**
  * Common util class.
  */
@@ -34,6 +50,12 @@ public class Util {
     private static final String PAGE_LINK_REL_PREVIOUS = "previous";
     private static final String PAGINATION_LINK_FORMAT = Constants.V1_API_PATH_COMPONENT
             + "%s?offset=%d&limit=%d";
+    private static final String SHA_256 = "SHA-256";
+    private static final String WEAK_ETAG_PREFIX = "W/";
+    private static final String ANY_ETAG = "*";
+    private static final char[] HEX_CHARACTERS = "0123456789abcdef".toCharArray();
+    private static final String CACHE_CONTROL_NO_CACHE = "no-cache";
+    private static final Annotation[] NO_ANNOTATIONS = new Annotation[0];
 
     /**
      * Get correlation id of current thread.
@@ -222,4 +244,152 @@ public class Util {
         }
         return false;
     }
+
+    /**
+     * Calculate the SHA-256 digest of the given content as a lower case hex string.
+     *
+     * @param content Content to be digested.
+     * @return Hex encoded SHA-256 digest.
+     */
+    public static String sha256Hex(byte[] content) {
+
+        MessageDigest messageDigest;
+        try {
+            messageDigest = MessageDigest.getInstance(SHA_256);
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256.
+            throw new IllegalStateException("SHA-256 algorithm is not available.", e);
+        }
+        byte[] digest = messageDigest.digest(content);
+        char[] hex = new char[digest.length * 2];
+        for (int i = 0; i < digest.length; i++) {
+            hex[i * 2] = HEX_CHARACTERS[(digest[i] >> 4) & 0xF];
+            hex[i * 2 + 1] = HEX_CHARACTERS[digest[i] & 0xF];
+        }
+        return new String(hex);
+    }
+
+    /**
+     * Build a strong entity tag for the given representation of a resource.
+     *
+     * @param content Representation of the resource as sent in the response body.
+     * @return Quoted entity tag which changes whenever the representation changes.
+     */
+    public static String buildStrongETag(byte[] content) {
+
+        return "\"" + sha256Hex(content) + "\"";
+    }
+
+    /**
+     * Check whether the value of an 'If-None-Match' request header matches the current entity tag of a resource.
+     * As defined for 'If-None-Match', weak comparison is used, hence weak tags sent by the client also match.
+     *
+     * @param ifNoneMatch Value of the 'If-None-Match' header. Can be null.
+     * @param eTag        Current entity tag of the resource.
+     * @return Whether the client already has the current representation of the resource.
+     */
+    public static boolean isETagMatched(String ifNoneMatch, String eTag) {
+
+        if (StringUtils.isBlank(ifNoneMatch) || StringUtils.isBlank(eTag)) {
+            return false;
+        }
+        String opaqueTag = StringUtils.removeStart(eTag, WEAK_ETAG_PREFIX);
+        for (String requestedTag : ifNoneMatch.split(",")) {
+            requestedTag = requestedTag.trim();
+            if (ANY_ETAG.equals(requestedTag) ||
+                    opaqueTag.equals(StringUtils.removeStart(requestedTag, WEAK_ETAG_PREFIX))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Get the value of a header of the request being served by the current thread.
+     *
+     * @param headerName Name of the header.
+     * @return Comma separated header values, or null if the header is not present.
+     */
+    public static String getRequestHeader(String headerName) {
+
+        Message message = PhaseInterceptorChain.getCurrentMessage();
+        if (message == null) {
+            return null;
+        }
+        @SuppressWarnings("unchecked")
+        Map<String, List<String>> headers = (Map<String, List<String>>) message.get(Message.PROTOCOL_HEADERS);
+        if (headers == null) {
+            return null;
+        }
+        for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+            if (headerName.equalsIgnoreCase(header.getKey()) && header.getValue() != null) {
+                return StringUtils.join(header.getValue(), ",");
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Build a response for a resource which clients are expected to revalidate with its entity tag. If the
+     * 'If-None-Match' header of the current request matches the entity tag, a '304 Not Modified' response is built
+     * without the entity, otherwise a '200 OK' response with the entity.
+     *
+     * @param entity Response entity.
+     * @param eTag   Quoted strong entity tag of the entity.
+     * @return Response builder with the entity tag and cache control headers set.
+     */
+    public static Response.ResponseBuilder buildConditionalResponse(Object entity, String eTag) {
+
+        return buildConditionalResponse(entity, eTag, Collections.emptyMap());
+    }
+
+    /**
+     * Build a response for a resource which clients are expected to revalidate with its entity tag. The entity
+     * headers, such as 'Content-Type' and 'Content-Disposition', describe the entity and are only set on the
+     * '200 OK' response, since a '304 Not Modified' response has no entity.
+     *
+     * @param entity        Response entity.
+     * @param eTag          Quoted strong entity tag of the entity.
+     * @param entityHeaders Headers describing the entity.
+     * @return Response builder with the entity tag and cache control headers set.
+     */
+    public static Response.ResponseBuilder buildConditionalResponse(Object entity, String eTag,
+                                                                    Map<String, Object> entityHeaders) {
+
+        Response.ResponseBuilder responseBuilder;
+        if (isETagMatched(getRequestHeader(HttpHeaders.IF_NONE_MATCH), eTag)) {
+            responseBuilder = Response.notModified();
+        } else {
+            responseBuilder = Response.ok().entity(entity);
+            entityHeaders.forEach(responseBuilder::header);
+        }
+        // The entity tag is already quoted, hence it is set as a header instead of through ResponseBuilder#tag.
+        return responseBuilder.header(HttpHeaders.ETAG, eTag).header(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL_NO_CACHE);
+    }
+
+    /**
+     * Serialize an entity to JSON with the message body writer which the JAX-RS runtime uses for the JSON responses
+     * of the current request, so that the serialized content is identical to the response the runtime would write.
+     *
+     * @param entity Entity to be serialized.
+     * @return JSON content of the entity.
+     * @throws IOException If there is no JSON message body writer or the entity could not be serialized.
+     */
+    public static byte[] serializeAsJson(Object entity) throws IOException {
+
+        @SuppressWarnings("unchecked")
+        Class<Object> entityClass = (Class<Object>) entity.getClass();
+        Message message = PhaseInterceptorChain.getCurrentMessage();
+        ProviderFactory providerFactory = message != null ? ProviderFactory.getInstance(message) : null;
+        MessageBodyWriter<Object> writer = providerFactory != null ?
+                providerFactory.createMessageBodyWriter(entityClass, entityClass, NO_ANNOTATIONS,
+                        MediaType.APPLICATION_JSON_TYPE, message) : null;
+        if (writer == null) {
+            throw new IOException("No JSON message body writer is available for " + entityClass.getName());
+        }
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        writer.writeTo(entity, entityClass, entityClass, NO_ANNOTATIONS, MediaType.APPLICATION_JSON_TYPE,
+                new MultivaluedHashMap<>(), outputStream);
+        return outputStream.toByteArray();
+    }
 }
@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.common.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Node local, size bounded cache with least recently used eviction and optional time based expiry.
+ * All operations are thread safe.
+ *
+ * @param <K> Type of the cache key.
+ * @param <V> Type of the cached value.
+ */
+public class LocalCache<K, V> {
+
+    private final long ttlMillis;
+    private final Map<K, CacheEntry<V>> entries;
+    private long hitCount;
+    private long missCount;
+
+    /**
+     * Create a cache which only evicts entries when the size limit is reached.
+     *
+     * @param maxEntries Maximum number of entries held by the cache.
+     */
+    public LocalCache(int maxEntries) {
+
+        this(maxEntries, 0);
+    }
+
+    /**
+     * Create a cache which evicts entries when the size limit is reached or when an entry is older than the
+     * given time to live.
+     *
+     * @param maxEntries Maximum number of entries held by the cache.
+     * @param ttlMillis  Time to live of an entry in milliseconds. Entries never expire if this is not positive.
+     */
+    public LocalCache(int maxEntries, long ttlMillis) {
+
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries should be a positive value");
+        }
+        this.ttlMillis = ttlMillis;
+        this.entries = new LinkedHashMap<K, CacheEntry<V>>(16, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, CacheEntry<V>> eldest) {
+
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Get the value mapped to the given key.
+     *
+     * @param key Cache key.
+     * @return Cached value or null if there is no live entry for the key.
+     */
+    public synchronized V get(K key) {
+
+        V value = getLiveValue(key);
+        if (value == null) {
+            missCount++;
+        } else {
+            hitCount++;
+        }
+        return value;
+    }
+
+    /**
+     * Map the given value to the given key, replacing any existing mapping.
+     *
+     * @param key   Cache key.
+     * @param value Value to be cached. Null values are not cached.
+     */
+    public synchronized void put(K key, V value) {
+
+        if (value == null) {
+            entries.remove(key);
+            return;
+        }
+        entries.put(key, new CacheEntry<>(value, System.currentTimeMillis()));
+    }
+
+    /**
+     * Map the given value to the given key only if there is no live entry for the key.
+     *
+     * @param key   Cache key.
+     * @param value Value to be cached.
+     * @return The value already held by the cache, or the given value if it was added.
+     */
+    public synchronized V putIfAbsent(K key, V value) {
+
+        V existing = getLiveValue(key);
+        if (existing != null) {
+            return existing;
+        }
+        put(key, value);
+        return value;
+    }
+
+    /**
+     * Remove the entry mapped to the given key.
+     *
+     * @param key Cache key.
+     */
+    public synchronized void remove(K key) {
+
+        entries.remove(key);
+    }
+
+    /**
+     * Remove all entries whose keys match the given predicate.
+     *
+     * @param keyPredicate Predicate to select the keys to be removed.
+     */
+    public synchronized void removeIf(Predicate<K> keyPredicate) {
+
+        Iterator<K> iterator = entries.keySet().iterator();
+        while (iterator.hasNext()) {
+            if (keyPredicate.test(iterator.next())) {
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Remove all entries of the cache.
+     */
+    public synchronized void clear() {
+
+        entries.clear();
+    }
+
+    /**
+     * Get the number of entries currently held by the cache, including entries which have expired but are not
+     * yet removed.
+     *
+     * @return Number of entries.
+     */
+    public synchronized int size() {
+
+        return entries.size();
+    }
+
+    /**
+     * Get the number of lookups through {@link #get(Object)} which found a live entry.
+     *
+     * @return Number of cache hits.
+     */
+    public synchronized long getHitCount() {
+
+        return hitCount;
+    }
+
+    /**
+     * Get the number of lookups through {@link #get(Object)} which did not find a live entry.
+     *
+     * @return Number of cache misses.
+     */
+    public synchronized long getMissCount() {
+
+        return missCount;
+    }
+
+    private V getLiveValue(K key) {
+
+        CacheEntry<V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (isExpired(entry)) {
+            entries.remove(key);
+            return null;
+        }
+        return entry.value;
+    }
+
+    private boolean isExpired(CacheEntry<V> entry) {
+
+        return ttlMillis > 0 && System.currentTimeMillis() - entry.createdTime > ttlMillis;
+    }
+
+    /**
+     * Value holder with the time it was added to the cache.
+     */
+    private static class CacheEntry<V> {
+
+        private final V value;
+        private final long createdTime;
+
+        CacheEntry(V value, long createdTime) {
+
+            this.value = value;
+            this.createdTime = createdTime;
+        }
+    }
+}
@@ -18,14 +18,46 @@
 
 package org.wso2.carbon.identity.api.server.common.file;
 
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
 /**
  * Holds file name, type and content of the uploaded or exported resource file configuration.
+ * <p>
+ * The content can be backed by a string, by the input stream of an uploaded file or by a {@link ContentWriter} which
+ * writes an exported file directly into the output stream of the response. Stream backed content is only read or
+ * written once, hence {@link #getContent()} should be avoided for such content as it buffers the whole file.
  */
 public class FileContent {
 
+    private static final int BUFFER_SIZE = 8192;
+
     private String fileName;
     private String fileType;
     private String content;
+    private InputStream contentStream;
+    private ContentWriter contentWriter;
+
+    /**
+     * Writes the content of a file into an output stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+
+        /**
+         * Write the content into the given output stream. The output stream is not closed by the writer.
+         *
+         * @param outputStream Output stream to write the content into.
+         * @throws IOException If the content could not be written.
+         */
+        void write(OutputStream outputStream) throws IOException;
+    }
 
     public FileContent(String fileName, String fileType, String content) {
 
@@ -34,6 +66,20 @@ public class FileContent {
         this.content = content;
     }
 
+    public FileContent(String fileName, String fileType, InputStream contentStream) {
+
+        this.fileName = fileName;
+        this.fileType = fileType;
+        this.contentStream = contentStream;
+    }
+
+    public FileContent(String fileName, String fileType, ContentWriter contentWriter) {
+
+        this.fileName = fileName;
+        this.fileType = fileType;
+        this.contentWriter = contentWriter;
+    }
+
     public String getFileName() {
 
         return fileName;
@@ -54,13 +100,100 @@ public class FileContent {
         this.fileType = fileType;
     }
 
+    /**
+     * Get the content as a string. Stream backed content is buffered into memory on the first invocation.
+     *
+     * @return File content.
+     */
     public String getContent() {
 
+        if (content == null && (contentStream != null || contentWriter != null)) {
+            try {
+                ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+                writeTo(outputStream);
+                content = new String(outputStream.toByteArray(), StandardCharsets.UTF_8);
+                contentStream = null;
+                contentWriter = null;
+            } catch (IOException e) {
+                throw new UncheckedIOException("Error while reading the content of the file: " + fileName, e);
+            }
+        }
         return content;
     }
 
     public void setContent(String content) {
 
         this.content = content;
+        this.contentStream = null;
+        this.contentWriter = null;
+    }
+
+    /**
+     * Get the content as an input stream. Content backed by a {@link ContentWriter} is buffered into memory.
+     *
+     * @return Input stream of the file content, or null if there is no content.
+     */
+    public InputStream getContentStream() {
+
+        if (contentStream != null) {
+            return contentStream;
+        }
+        String stringContent = getContent();
+        return stringContent != null ?
+                new ByteArrayInputStream(stringContent.getBytes(StandardCharsets.UTF_8)) : null;
+    }
+
+    /**
+     * Check whether the content is backed by a stream or a writer instead of an in memory string.
+     *
+     * @return True if the content is streamed.
+     */
+    public boolean isStreamed() {
+
+        return content == null && (contentStream != null || contentWriter != null);
+    }
+
+    /**
+     * Check whether the file has no content. For stream backed content only the first byte is peeked.
+     *
+     * @return True if there is no content.
+     * @throws IOException If the content stream could not be read.
+     */
+    public boolean isEmpty() throws IOException {
+
+        if (content != null) {
+            return content.isEmpty();
+        }
+        if (contentStream != null) {
+            if (!contentStream.markSupported()) {
+                contentStream = new BufferedInputStream(contentStream);
+            }
+            contentStream.mark(1);
+            int firstByte = contentStream.read();
+            contentStream.reset();
+            return firstByte == -1;
+        }
+        return contentWriter == null;
+    }
+
+    /**
+     * Write the content into the given output stream without closing it.
+     *
+     * @param outputStream Output stream to write the content into.
+     * @throws IOException If the content could not be written.
+     */
+    public void writeTo(OutputStream outputStream) throws IOException {
+
+        if (content != null) {
+            outputStream.write(content.getBytes(StandardCharsets.UTF_8));
+        } else if (contentWriter != null) {
+            contentWriter.write(outputStream);
+        } else if (contentStream != null) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = contentStream.read(buffer)) != -1) {
+                outputStream.write(buffer, 0, read);
+            }
+        }
     }
 }
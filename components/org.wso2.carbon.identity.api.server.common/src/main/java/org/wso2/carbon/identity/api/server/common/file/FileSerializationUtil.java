@@ -18,37 +18,46 @@
 
 package org.wso2.carbon.identity.api.server.common.file;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.identity.api.server.common.Constants;
 import org.wso2.carbon.identity.api.server.common.Util;
-import org.yaml.snakeyaml.DumperOptions;
-import org.yaml.snakeyaml.LoaderOptions;
 import org.yaml.snakeyaml.Yaml;
-import org.yaml.snakeyaml.constructor.Constructor;
-import org.yaml.snakeyaml.inspector.TagInspector;
-import org.yaml.snakeyaml.inspector.TrustedPrefixesTagInspector;
-import org.yaml.snakeyaml.representer.Representer;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
 import java.io.StringReader;
 import java.io.StringWriter;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Marshaller;
 import javax.xml.bind.Unmarshaller;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 
 /**
  * Utility for serializing and deserializing objects to/from XML, JSON, and YAML formats.
+ * <p>
+ * Besides the string based methods, the utility can marshal an entity straight into an {@link OutputStream} and
+ * unmarshal an entity straight from an {@link InputStream}, so that exported and imported files are not held in
+ * memory as intermediate strings or byte arrays.
  */
 public class FileSerializationUtil {
 
     private static final Log LOG = LogFactory.getLog(FileSerializationUtil.class);
+    private static final XMLInputFactory XML_INPUT_FACTORY = createXmlInputFactory();
 
     /**
      * Serialize an object to file content in the specified format.
@@ -65,24 +74,17 @@ public class FileSerializationUtil {
                                             FileSerializationConfig config) throws FileSerializationException {
 
         if (LOG.isDebugEnabled()) {
-            LOG.debug(String.format("Serializing entity of type %s to file %s with type %s", 
+            LOG.debug(String.format("Serializing entity of type %s to file %s with type %s",
                     entity.getClass().getSimpleName(), fileName, fileType));
         }
         if (config == null) {
             config = new FileSerializationConfig();
         }
 
-        String mediaType = Util.getMediaType(fileType);
-        switch (mediaType) {
-            case Constants.MEDIA_TYPE_XML:
-                return serializeToXml(entity, fileName, config.getXmlConfig());
-            case Constants.MEDIA_TYPE_JSON:
-                return serializeToJson(entity, fileName, config.getJsonConfig());
-            case Constants.MEDIA_TYPE_YAML:
-                return serializeToYaml(entity, fileName, config.getYamlConfig());
-            default:
-                return handleUnsupportedSerialize(entity, fileName, fileType, config);
-        }
+        FileSerializationConfig.DefaultFormat format = resolveSerializeFormat(fileName, fileType, config);
+        StringWriter stringWriter = new StringWriter();
+        write(entity, fileName, format, config, stringWriter);
+        return new FileContent(fileName + getFileExtension(format), getMediaType(format), stringWriter.toString());
     }
 
     /**
@@ -102,7 +104,66 @@ public class FileSerializationUtil {
     }
 
     /**
-     * Deserialize file content to an object of the specified type.
+     * Serialize an object directly into the given output stream in the specified format. The stream is flushed but
+     * not closed.
+     *
+     * @param entity       The object to serialize
+     * @param fileName     Base file name (without extension)
+     * @param fileType     Media type
+     * @param config       Serialization configuration (optional)
+     * @param outputStream Output stream to write the serialized data into
+     * @param <T>          Type of the entity
+     * @throws FileSerializationException if serialization fails
+     */
+    public static <T> void serialize(T entity, String fileName, String fileType, FileSerializationConfig config,
+                                     OutputStream outputStream) throws FileSerializationException {
+
+        if (config == null) {
+            config = new FileSerializationConfig();
+        }
+        writeToStream(entity, fileName, resolveSerializeFormat(fileName, fileType, config), config, outputStream);
+    }
+
+    /**
+     * Create stream backed file content for an object. The media type is resolved and the serializer of the object
+     * type is prepared immediately, hence unsupported media types and unserializable types fail here, before an
+     * export response is committed. The object is only marshalled when the content is written with
+     * {@link FileContent#writeTo(OutputStream)}, straight into the output stream of the response, without buffering
+     * the serialized file.
+     *
+     * @param entity   The object to serialize
+     * @param fileName Base file name (without extension)
+     * @param fileType Media type
+     * @param config   Serialization configuration (optional)
+     * @param <T>      Type of the entity
+     * @return FileContent which serializes the entity when it is written
+     * @throws FileSerializationException if the media type is not supported or the serializer cannot be prepared
+     */
+    public static <T> FileContent serializeAsStream(T entity, String fileName, String fileType,
+                                                    FileSerializationConfig config)
+            throws FileSerializationException {
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug(String.format("Creating streamed file %s with type %s for entity of type %s",
+                    fileName, fileType, entity.getClass().getSimpleName()));
+        }
+        FileSerializationConfig serializationConfig = config != null ? config : new FileSerializationConfig();
+        FileSerializationConfig.DefaultFormat format = resolveSerializeFormat(fileName, fileType,
+                serializationConfig);
+        prepareSerializer(entity.getClass(), fileName, format, serializationConfig);
+
+        return new FileContent(fileName + getFileExtension(format), getMediaType(format), outputStream -> {
+            try {
+                writeToStream(entity, fileName, format, serializationConfig, outputStream);
+            } catch (FileSerializationException e) {
+                throw new IOException(e.getMessage(), e);
+            }
+        });
+    }
+
+    /**
+     * Deserialize file content to an object of the specified type. Stream backed content is read directly from
+     * its stream.
      *
      * @param fileContent The file content to deserialize
      * @param targetClass The target class type
@@ -122,17 +183,14 @@ public class FileSerializationUtil {
             config = new FileSerializationConfig();
         }
 
-        String mediaType = Util.getMediaType(fileContent.getFileType());
-        switch (mediaType) {
-            case Constants.MEDIA_TYPE_XML:
-                return deserializeFromXml(fileContent, targetClass, config);
-            case Constants.MEDIA_TYPE_JSON:
-                return deserializeFromJson(fileContent, targetClass, config);
-            case Constants.MEDIA_TYPE_YAML:
-                return deserializeFromYaml(fileContent, targetClass, config);
-            default:
-                return handleUnsupportedDeserialize(fileContent, targetClass, config);
+        FileSerializationConfig.DefaultFormat format = resolveDeserializeFormat(fileContent.getFileName(),
+                fileContent.getFileType(), config);
+        if (fileContent.isStreamed()) {
+            return readFromStream(fileContent.getContentStream(), fileContent.getFileName(), format, targetClass,
+                    config);
         }
+        return read(new StringReader(fileContent.getContent()), fileContent.getFileName(), format, targetClass,
+                config);
     }
 
     /**
@@ -151,97 +209,209 @@ public class FileSerializationUtil {
     }
 
     /**
-     * Handle unsupported media type during serialization based on config.
+     * Deserialize an object of the specified type directly from the given input stream. The stream is not closed.
+     *
+     * @param inputStream Input stream of the file
+     * @param fileName    Name of the file
+     * @param fileType    Media type
+     * @param targetClass The target class type
+     * @param config      Deserialization configuration (optional)
+     * @param <T>         Type of the target class
+     * @return Deserialized object
+     * @throws FileSerializationException if deserialization fails
      */
-    private static <T> FileContent handleUnsupportedSerialize(T entity, String fileName, String fileType,
-                                                              FileSerializationConfig config)
+    public static <T> T deserialize(InputStream inputStream, String fileName, String fileType, Class<T> targetClass,
+                                    FileSerializationConfig config) throws FileSerializationException {
+
+        return deserialize(new FileContent(fileName, fileType, inputStream), targetClass, config);
+    }
+
+    /**
+     * Resolve the format to serialize to, falling back to the configured default for unsupported media types.
+     */
+    private static FileSerializationConfig.DefaultFormat resolveSerializeFormat(String fileName, String fileType,
+                                                                               FileSerializationConfig config)
             throws FileSerializationException {
 
+        FileSerializationConfig.DefaultFormat format = getFormat(fileType);
+        if (format != null) {
+            return format;
+        }
+
         FileSerializationConfig.DefaultFormat defaultFormat = config.getSerializeDefault();
+        if (defaultFormat == FileSerializationConfig.DefaultFormat.ERROR) {
+            throw new FileSerializationException(
+                    String.format("Unsupported media type: %s. Supported media types are %s, %s, %s",
+                            fileType, Constants.MEDIA_TYPE_XML, Constants.MEDIA_TYPE_YAML,
+                            Constants.MEDIA_TYPE_JSON),
+                    null, fileName, fileType, FileSerializationException.Operation.SERIALIZE);
+        }
+        LOG.warn(String.format("Unsupported file type %s requested for export. Defaulting to %s.",
+                fileType, defaultFormat.name()));
+        return defaultFormat;
+    }
 
-        switch (defaultFormat) {
+    /**
+     * Resolve the format to deserialize from, falling back to the configured default for unsupported media types.
+     */
+    private static FileSerializationConfig.DefaultFormat resolveDeserializeFormat(String fileName, String fileType,
+                                                                                 FileSerializationConfig config)
+            throws FileSerializationException {
+
+        FileSerializationConfig.DefaultFormat format = getFormat(fileType);
+        if (format != null) {
+            return format;
+        }
+
+        FileSerializationConfig.DefaultFormat defaultFormat = config.getDeserializeDefault();
+        if (defaultFormat == FileSerializationConfig.DefaultFormat.ERROR) {
+            throw new FileSerializationException(
+                    String.format("Unsupported media type: %s. Supported media types are %s, %s, %s",
+                            fileType, Constants.MEDIA_TYPE_XML, Constants.MEDIA_TYPE_YAML,
+                            Constants.MEDIA_TYPE_JSON),
+                    null, fileName, fileType, FileSerializationException.Operation.DESERIALIZE);
+        }
+        LOG.warn(String.format("Unsupported media type %s for file %s. Defaulting to %s parsing.",
+                fileType, fileName, defaultFormat.name()));
+        return defaultFormat;
+    }
+
+    private static FileSerializationConfig.DefaultFormat getFormat(String fileType) {
+
+        switch (Util.getMediaType(fileType)) {
+            case Constants.MEDIA_TYPE_XML:
+                return FileSerializationConfig.DefaultFormat.XML;
+            case Constants.MEDIA_TYPE_JSON:
+                return FileSerializationConfig.DefaultFormat.JSON;
+            case Constants.MEDIA_TYPE_YAML:
+                return FileSerializationConfig.DefaultFormat.YAML;
+            default:
+                return null;
+        }
+    }
+
+    private static String getMediaType(FileSerializationConfig.DefaultFormat format) {
+
+        switch (format) {
+            case XML:
+                return Constants.MEDIA_TYPE_XML;
+            case JSON:
+                return Constants.MEDIA_TYPE_JSON;
+            default:
+                return Constants.MEDIA_TYPE_YAML;
+        }
+    }
+
+    private static String getFileExtension(FileSerializationConfig.DefaultFormat format) {
+
+        switch (format) {
             case XML:
-                LOG.warn(String.format("Unsupported file type %s requested for export. Defaulting to XML.",
-                        fileType));
-                return serializeToXml(entity, fileName, config.getXmlConfig());
+                return Constants.XML_FILE_EXTENSION;
             case JSON:
-                LOG.warn(String.format("Unsupported file type %s requested for export. Defaulting to JSON.",
-                        fileType));
-                return serializeToJson(entity, fileName, config.getJsonConfig());
-            case YAML:
-                LOG.warn(String.format("Unsupported file type %s requested for export. Defaulting to YAML.",
-                        fileType));
-                return serializeToYaml(entity, fileName, config.getYamlConfig());
-            case ERROR:
+                return Constants.JSON_FILE_EXTENSION;
             default:
-                throw new FileSerializationException(
-                        String.format("Unsupported media type: %s. Supported media types are %s, %s, %s",
-                                fileType, Constants.MEDIA_TYPE_XML, Constants.MEDIA_TYPE_YAML,
-                                Constants.MEDIA_TYPE_JSON),
-                        null, fileName, fileType, FileSerializationException.Operation.SERIALIZE);
+                return Constants.YAML_FILE_EXTENSION;
         }
     }
 
     /**
-     * Handle unsupported media type during deserialization based on config.
+     * Build the cached serializer of the given type, so that a type which cannot be serialized fails before any
+     * content is written.
      */
-    private static <T> T handleUnsupportedDeserialize(FileContent fileContent, Class<T> targetClass,
-                                                      FileSerializationConfig config)
+    private static void prepareSerializer(Class<?> entityClass, String fileName,
+                                          FileSerializationConfig.DefaultFormat format,
+                                          FileSerializationConfig config) throws FileSerializationException {
+
+        switch (format) {
+            case XML:
+                try {
+                    FileSerializerRegistry.getJaxbContext(entityClass, config.getXmlConfig()).createMarshaller();
+                } catch (JAXBException e) {
+                    throw new FileSerializationException("Failed to serialize to XML", e, fileName,
+                            Constants.MEDIA_TYPE_XML, FileSerializationException.Operation.SERIALIZE);
+                }
+                break;
+            case JSON:
+                FileSerializerRegistry.getObjectWriter(entityClass, config.getJsonConfig());
+                break;
+            default:
+                try {
+                    Yaml yaml = FileSerializerRegistry.borrowYamlDumper(entityClass, config.getYamlConfig());
+                    FileSerializerRegistry.releaseYamlDumper(entityClass, config.getYamlConfig(), yaml);
+                } catch (Exception e) {
+                    throw new FileSerializationException("Failed to serialize to YAML", e, fileName,
+                            Constants.MEDIA_TYPE_YAML, FileSerializationException.Operation.SERIALIZE);
+                }
+        }
+    }
+
+    private static <T> void writeToStream(T entity, String fileName, FileSerializationConfig.DefaultFormat format,
+                                          FileSerializationConfig config, OutputStream outputStream)
             throws FileSerializationException {
 
-        FileSerializationConfig.DefaultFormat defaultFormat = config.getDeserializeDefault();
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        write(entity, fileName, format, config, writer);
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            throw new FileSerializationException("Failed to write the serialized content", e, fileName,
+                    getMediaType(format), FileSerializationException.Operation.SERIALIZE);
+        }
+    }
+
+    private static <T> void write(T entity, String fileName, FileSerializationConfig.DefaultFormat format,
+                                  FileSerializationConfig config, Writer writer)
+            throws FileSerializationException {
+
+        switch (format) {
+            case XML:
+                serializeToXml(entity, fileName, config.getXmlConfig(), writer);
+                break;
+            case JSON:
+                serializeToJson(entity, fileName, config.getJsonConfig(), writer);
+                break;
+            default:
+                serializeToYaml(entity, fileName, config.getYamlConfig(), writer);
+        }
+    }
+
+    private static <T> T readFromStream(InputStream inputStream, String fileName,
+                                        FileSerializationConfig.DefaultFormat format, Class<T> targetClass,
+                                        FileSerializationConfig config) throws FileSerializationException {
+
+        return read(new InputStreamReader(inputStream, StandardCharsets.UTF_8), fileName, format, targetClass,
+                config);
+    }
+
+    private static <T> T read(Reader reader, String fileName, FileSerializationConfig.DefaultFormat format,
+                              Class<T> targetClass, FileSerializationConfig config)
+            throws FileSerializationException {
 
-        switch (defaultFormat) {
+        switch (format) {
             case XML:
-                LOG.warn(String.format("Unsupported media type %s for file %s. Defaulting to XML parsing.",
-                        fileContent.getFileType(), fileContent.getFileName()));
-                return deserializeFromXml(fileContent, targetClass, config);
+                return deserializeFromXml(reader, fileName, targetClass, config);
             case JSON:
-                LOG.warn(String.format("Unsupported media type %s for file %s. Defaulting to JSON parsing.",
-                        fileContent.getFileType(), fileContent.getFileName()));
-                return deserializeFromJson(fileContent, targetClass, config);
-            case YAML:
-                LOG.warn(String.format("Unsupported media type %s for file %s. Defaulting to YAML parsing.",
-                        fileContent.getFileType(), fileContent.getFileName()));
-                return deserializeFromYaml(fileContent, targetClass, config);
-            case ERROR:
+                return deserializeFromJson(reader, fileName, targetClass, config);
             default:
-                throw new FileSerializationException(
-                        String.format("Unsupported media type: %s. Supported media types are %s, %s, %s",
-                                fileContent.getFileType(), Constants.MEDIA_TYPE_XML, Constants.MEDIA_TYPE_YAML,
-                                Constants.MEDIA_TYPE_JSON),
-                        null, fileContent.getFileName(), fileContent.getFileType(),
-                        FileSerializationException.Operation.DESERIALIZE);
+                return deserializeFromYaml(reader, fileName, targetClass, config);
         }
     }
 
     /**
      * Serialize object to XML format.
      */
-    private static <T> FileContent serializeToXml(T entity, String fileName, XmlConfig config)
+    private static <T> void serializeToXml(T entity, String fileName, XmlConfig config, Writer writer)
             throws FileSerializationException {
 
-        StringBuilder fileNameBuilder = new StringBuilder(fileName);
-        fileNameBuilder.append(Constants.XML_FILE_EXTENSION);
-
         try {
-            List<Class<?>> classList = new ArrayList<>();
-            classList.add(entity.getClass());
-            classList.addAll(Arrays.asList(config.getAdditionalJaxbClasses()));
-            Class<?>[] classes = classList.toArray(new Class<?>[0]);
-
-            JAXBContext jaxbContext = JAXBContext.newInstance(classes);
+            JAXBContext jaxbContext = FileSerializerRegistry.getJaxbContext(entity.getClass(), config);
             Marshaller marshaller = jaxbContext.createMarshaller();
             marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
             if (config.getMarshallerCustomizer() != null) {
                 config.getMarshallerCustomizer().accept(marshaller);
             }
 
-            StringWriter stringWriter = new StringWriter();
-            marshaller.marshal(entity, stringWriter);
-
-            return new FileContent(fileNameBuilder.toString(), Constants.MEDIA_TYPE_XML,
-                    stringWriter.toString());
+            marshaller.marshal(entity, writer);
         } catch (JAXBException e) {
             throw new FileSerializationException("Failed to serialize to XML", e, fileName,
                     Constants.MEDIA_TYPE_XML, FileSerializationException.Operation.SERIALIZE);
@@ -251,21 +421,13 @@ public class FileSerializationUtil {
     /**
      * Serialize object to JSON format.
      */
-    private static <T> FileContent serializeToJson(T entity, String fileName, JsonConfig config)
+    private static <T> void serializeToJson(T entity, String fileName, JsonConfig config, Writer writer)
             throws FileSerializationException {
 
-        StringBuilder fileNameBuilder = new StringBuilder(fileName);
-        fileNameBuilder.append(Constants.JSON_FILE_EXTENSION);
-
         try {
-            ObjectMapper objectMapper = new ObjectMapper();
-            if (config.getSubtypes().length > 0) {
-                objectMapper.registerSubtypes(config.getSubtypes());
-            }
-
-            return new FileContent(fileNameBuilder.toString(), Constants.MEDIA_TYPE_JSON,
-                    objectMapper.writeValueAsString(entity));
-        } catch (JsonProcessingException e) {
+            ObjectWriter objectWriter = FileSerializerRegistry.getObjectWriter(entity.getClass(), config);
+            objectWriter.without(JsonGenerator.Feature.AUTO_CLOSE_TARGET).writeValue(writer, entity);
+        } catch (IOException e) {
             throw new FileSerializationException("Failed to serialize to JSON", e, fileName,
                     Constants.MEDIA_TYPE_JSON, FileSerializationException.Operation.SERIALIZE);
         }
@@ -274,37 +436,13 @@ public class FileSerializationUtil {
     /**
      * Serialize object to YAML format.
      */
-    private static <T> FileContent serializeToYaml(T entity, String fileName, YamlConfig config)
+    private static <T> void serializeToYaml(T entity, String fileName, YamlConfig config, Writer writer)
             throws FileSerializationException {
 
-        StringBuilder fileNameBuilder = new StringBuilder(fileName);
-        fileNameBuilder.append(Constants.YAML_FILE_EXTENSION);
-
         try {
-            LoaderOptions loaderOptions = new LoaderOptions();
-            Constructor constructor = new Constructor(loaderOptions);
-            if (config.getConstructorCustomizer() != null) {
-                config.getConstructorCustomizer().accept(constructor);
-            }
-
-            DumperOptions dumperOptions = new DumperOptions();
-            if (config.getDumperOptionsCustomizer() != null) {
-                config.getDumperOptionsCustomizer().accept(dumperOptions);
-            }
-
-            Representer representer;
-            if (config.getRepresenterFactory() != null) {
-                representer = config.getRepresenterFactory().apply(dumperOptions);
-            } else {
-                representer = new Representer(dumperOptions);
-            }
-            if (config.getRepresenterCustomizer() != null) {
-                config.getRepresenterCustomizer().accept(representer);
-            }
-
-            Yaml yaml = new Yaml(constructor, representer, dumperOptions);
-
-            return new FileContent(fileNameBuilder.toString(), Constants.MEDIA_TYPE_YAML, yaml.dump(entity));
+            Yaml yaml = FileSerializerRegistry.borrowYamlDumper(entity.getClass(), config);
+            yaml.dump(entity, writer);
+            FileSerializerRegistry.releaseYamlDumper(entity.getClass(), config, yaml);
         } catch (Exception e) {
             throw new FileSerializationException("Failed to serialize to YAML", e, fileName,
                     Constants.MEDIA_TYPE_YAML, FileSerializationException.Operation.SERIALIZE);
@@ -312,48 +450,41 @@ public class FileSerializationUtil {
     }
 
     /**
-     * Deserialize object from XML format.
+     * Deserialize object from XML format using a StAX reader.
      */
-    private static <T> T deserializeFromXml(FileContent fileContent, Class<T> targetClass,
+    private static <T> T deserializeFromXml(Reader reader, String fileName, Class<T> targetClass,
                                             FileSerializationConfig config) throws FileSerializationException {
 
+        XMLStreamReader xmlStreamReader = null;
         try {
-            List<Class<?>> classList = new ArrayList<>();
-            classList.add(targetClass);
-            classList.addAll(Arrays.asList(config.getXmlConfig().getAdditionalJaxbClasses()));
-            Class<?>[] classes = classList.toArray(new Class<?>[0]);
-
-            JAXBContext jaxbContext = JAXBContext.newInstance(classes);
+            JAXBContext jaxbContext = FileSerializerRegistry.getJaxbContext(targetClass, config.getXmlConfig());
             Unmarshaller unmarshaller = jaxbContext.createUnmarshaller();
+            xmlStreamReader = XML_INPUT_FACTORY.createXMLStreamReader(reader);
 
             @SuppressWarnings("unchecked")
-            T result = (T) unmarshaller.unmarshal(new StringReader(fileContent.getContent()));
+            T result = (T) unmarshaller.unmarshal(xmlStreamReader);
             return result;
-        } catch (JAXBException e) {
+        } catch (JAXBException | XMLStreamException e) {
             throw new FileSerializationException("Failed to deserialize from XML", e,
-                    fileContent.getFileName(), Constants.MEDIA_TYPE_XML,
+                    fileName, Constants.MEDIA_TYPE_XML,
                     FileSerializationException.Operation.DESERIALIZE);
+        } finally {
+            closeQuietly(xmlStreamReader);
         }
     }
 
     /**
      * Deserialize object from JSON format.
      */
-    private static <T> T deserializeFromJson(FileContent fileContent, Class<T> targetClass,
+    private static <T> T deserializeFromJson(Reader reader, String fileName, Class<T> targetClass,
                                              FileSerializationConfig config) throws FileSerializationException {
 
         try {
-            ObjectMapper objectMapper = new ObjectMapper();
-
-            Class<?>[] subtypes = config.getJsonConfig().getSubtypes();
-            if (subtypes.length > 0) {
-                objectMapper.registerSubtypes(subtypes);
-            }
-
-            return objectMapper.readValue(fileContent.getContent(), targetClass);
-        } catch (JsonProcessingException e) {
+            ObjectReader objectReader = FileSerializerRegistry.getObjectReader(targetClass, config.getJsonConfig());
+            return objectReader.readValue(reader);
+        } catch (IOException e) {
             throw new FileSerializationException("Failed to deserialize from JSON", e,
-                    fileContent.getFileName(), Constants.MEDIA_TYPE_JSON,
+                    fileName, Constants.MEDIA_TYPE_JSON,
                     FileSerializationException.Operation.DESERIALIZE);
         }
     }
@@ -361,30 +492,38 @@ public class FileSerializationUtil {
     /**
      * Deserialize object from YAML format.
      */
-    private static <T> T deserializeFromYaml(FileContent fileContent, Class<T> targetClass,
+    private static <T> T deserializeFromYaml(Reader reader, String fileName, Class<T> targetClass,
                                              FileSerializationConfig config) throws FileSerializationException {
 
         try {
-            LoaderOptions loaderOptions = new LoaderOptions();
+            Yaml yaml = FileSerializerRegistry.borrowYamlLoader(targetClass, config.getYamlConfig());
+            T result = yaml.loadAs(reader, targetClass);
+            FileSerializerRegistry.releaseYamlLoader(targetClass, config.getYamlConfig(), yaml);
+            return result;
+        } catch (Exception e) {
+            throw new FileSerializationException("Failed to deserialize from YAML", e,
+                    fileName, Constants.MEDIA_TYPE_YAML,
+                    FileSerializationException.Operation.DESERIALIZE);
+        }
+    }
 
-            List<String> trustedTags = new ArrayList<>();
-            trustedTags.add(targetClass.getName());
-            trustedTags.addAll(config.getYamlConfig().getAdditionalTrustedClassNames());
+    private static XMLInputFactory createXmlInputFactory() {
 
-            TagInspector tagInspector = new TrustedPrefixesTagInspector(trustedTags);
-            loaderOptions.setTagInspector(tagInspector);
+        XMLInputFactory xmlInputFactory = XMLInputFactory.newInstance();
+        xmlInputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        xmlInputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return xmlInputFactory;
+    }
 
-            Constructor constructor = new Constructor(targetClass, loaderOptions);
-            if (config.getYamlConfig().getConstructorCustomizer() != null) {
-                config.getYamlConfig().getConstructorCustomizer().accept(constructor);
-            }
-            Yaml yaml = new Yaml(constructor);
+    private static void closeQuietly(XMLStreamReader xmlStreamReader) {
 
-            return yaml.loadAs(fileContent.getContent(), targetClass);
-        } catch (Exception e) {
-            throw new FileSerializationException("Failed to deserialize from YAML", e,
-                    fileContent.getFileName(), Constants.MEDIA_TYPE_YAML,
-                    FileSerializationException.Operation.DESERIALIZE);
+        if (xmlStreamReader == null) {
+            return;
+        }
+        try {
+            xmlStreamReader.close();
+        } catch (XMLStreamException e) {
+            LOG.debug("Error while closing the XML stream reader.", e);
         }
     }
 }
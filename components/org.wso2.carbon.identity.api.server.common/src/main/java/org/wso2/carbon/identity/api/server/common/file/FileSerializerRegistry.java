@@ -0,0 +1,293 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.common.file;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.wso2.carbon.identity.api.server.common.cache.LocalCache;
+import org.yaml.snakeyaml.DumperOptions;
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.constructor.Constructor;
+import org.yaml.snakeyaml.inspector.TrustedPrefixesTagInspector;
+import org.yaml.snakeyaml.representer.Representer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+
+/**
+ * Registry of reusable serializer engines used by {@link FileSerializationUtil}.
+ * <p>
+ * Building a {@link JAXBContext}, an {@link ObjectMapper} or a {@link Yaml} pipeline introspects the whole class
+ * model of the serialized type, so the engines are cached against the target class and the shape of the
+ * {@link FileSerializationConfig} used to build them. The config shape consists of the configured classes and the
+ * identities of the configured customizers, hence callers should reuse customizer instances (non capturing lambdas,
+ * method references or constants) to benefit from the cache.
+ * <p>
+ * {@link JAXBContext}, {@link ObjectReader} and {@link ObjectWriter} instances are thread safe and shared. {@link Yaml}
+ * instances are not thread safe, hence they are pooled and handed to one caller at a time.
+ */
+final class FileSerializerRegistry {
+
+    private static final int MAX_CACHED_ENGINES = 64;
+    private static final int YAML_POOL_SIZE = 8;
+
+    private static final LocalCache<EngineKey, JAXBContext> JAXB_CONTEXTS = new LocalCache<>(MAX_CACHED_ENGINES);
+    private static final LocalCache<EngineKey, ObjectMapper> OBJECT_MAPPERS = new LocalCache<>(MAX_CACHED_ENGINES);
+    private static final LocalCache<EngineKey, ObjectReader> OBJECT_READERS = new LocalCache<>(MAX_CACHED_ENGINES);
+    private static final LocalCache<EngineKey, ObjectWriter> OBJECT_WRITERS = new LocalCache<>(MAX_CACHED_ENGINES);
+    private static final LocalCache<EngineKey, BlockingQueue<Yaml>> YAML_POOLS = new LocalCache<>(MAX_CACHED_ENGINES);
+
+    private FileSerializerRegistry() {
+
+    }
+
+    /**
+     * Get the JAXB context bound to the given class and the additional classes of the XML config.
+     *
+     * @param targetClass Class to be marshalled or unmarshalled.
+     * @param config      XML configuration.
+     * @return Shared JAXB context.
+     * @throws JAXBException If the context could not be created.
+     */
+    static JAXBContext getJaxbContext(Class<?> targetClass, XmlConfig config) throws JAXBException {
+
+        List<Class<?>> classList = new ArrayList<>();
+        classList.add(targetClass);
+        classList.addAll(Arrays.asList(config.getAdditionalJaxbClasses()));
+        EngineKey key = new EngineKey(targetClass, Collections.unmodifiableList(classList));
+
+        JAXBContext jaxbContext = JAXB_CONTEXTS.get(key);
+        if (jaxbContext == null) {
+            jaxbContext = JAXB_CONTEXTS.putIfAbsent(key, JAXBContext.newInstance(classList.toArray(new Class<?>[0])));
+        }
+        return jaxbContext;
+    }
+
+    /**
+     * Get a JSON writer for the given class built with the subtypes of the JSON config.
+     *
+     * @param targetClass Class to be serialized.
+     * @param config      JSON configuration.
+     * @return Shared object writer.
+     */
+    static ObjectWriter getObjectWriter(Class<?> targetClass, JsonConfig config) {
+
+        EngineKey key = new EngineKey(targetClass, Arrays.asList((Object[]) config.getSubtypes()));
+        ObjectWriter objectWriter = OBJECT_WRITERS.get(key);
+        if (objectWriter == null) {
+            objectWriter = OBJECT_WRITERS.putIfAbsent(key, getObjectMapper(config).writerFor(targetClass));
+        }
+        return objectWriter;
+    }
+
+    /**
+     * Get a JSON reader for the given class built with the subtypes of the JSON config.
+     *
+     * @param targetClass Class to be deserialized.
+     * @param config      JSON configuration.
+     * @return Shared object reader.
+     */
+    static ObjectReader getObjectReader(Class<?> targetClass, JsonConfig config) {
+
+        EngineKey key = new EngineKey(targetClass, Arrays.asList((Object[]) config.getSubtypes()));
+        ObjectReader objectReader = OBJECT_READERS.get(key);
+        if (objectReader == null) {
+            objectReader = OBJECT_READERS.putIfAbsent(key, getObjectMapper(config).readerFor(targetClass));
+        }
+        return objectReader;
+    }
+
+    /**
+     * Borrow a YAML instance which dumps objects of the given class as per the YAML config. The instance should be
+     * handed back with {@link #releaseYamlDumper(Class, YamlConfig, Yaml)} once the caller is done with it.
+     *
+     * @param targetClass Class to be serialized.
+     * @param config      YAML configuration.
+     * @return YAML instance owned by the caller until released.
+     */
+    static Yaml borrowYamlDumper(Class<?> targetClass, YamlConfig config) {
+
+        Yaml yaml = getYamlPool(getYamlDumperKey(targetClass, config)).poll();
+        return yaml != null ? yaml : buildYamlDumper(config);
+    }
+
+    /**
+     * Hand back a YAML instance obtained from {@link #borrowYamlDumper(Class, YamlConfig)}. Instances used in a
+     * failed operation should not be released as their internal state is undefined.
+     *
+     * @param targetClass Class which was serialized.
+     * @param config      YAML configuration.
+     * @param yaml        YAML instance to be released.
+     */
+    static void releaseYamlDumper(Class<?> targetClass, YamlConfig config, Yaml yaml) {
+
+        getYamlPool(getYamlDumperKey(targetClass, config)).offer(yaml);
+    }
+
+    /**
+     * Borrow a YAML instance which loads objects of the given class as per the YAML config. The instance should be
+     * handed back with {@link #releaseYamlLoader(Class, YamlConfig, Yaml)} once the caller is done with it.
+     *
+     * @param targetClass Class to be deserialized.
+     * @param config      YAML configuration.
+     * @return YAML instance owned by the caller until released.
+     */
+    static Yaml borrowYamlLoader(Class<?> targetClass, YamlConfig config) {
+
+        Yaml yaml = getYamlPool(getYamlLoaderKey(targetClass, config)).poll();
+        return yaml != null ? yaml : buildYamlLoader(targetClass, config);
+    }
+
+    /**
+     * Hand back a YAML instance obtained from {@link #borrowYamlLoader(Class, YamlConfig)}. Instances used in a
+     * failed operation should not be released as their internal state is undefined.
+     *
+     * @param targetClass Class which was deserialized.
+     * @param config      YAML configuration.
+     * @param yaml        YAML instance to be released.
+     */
+    static void releaseYamlLoader(Class<?> targetClass, YamlConfig config, Yaml yaml) {
+
+        getYamlPool(getYamlLoaderKey(targetClass, config)).offer(yaml);
+    }
+
+    private static ObjectMapper getObjectMapper(JsonConfig config) {
+
+        Class<?>[] subtypes = config.getSubtypes();
+        EngineKey key = new EngineKey(ObjectMapper.class, Arrays.asList((Object[]) subtypes));
+        ObjectMapper objectMapper = OBJECT_MAPPERS.get(key);
+        if (objectMapper == null) {
+            // The mapper is fully configured before it is published, as mutating a shared mapper is not thread safe.
+            objectMapper = new ObjectMapper();
+            if (subtypes.length > 0) {
+                objectMapper.registerSubtypes(subtypes);
+            }
+            objectMapper = OBJECT_MAPPERS.putIfAbsent(key, objectMapper);
+        }
+        return objectMapper;
+    }
+
+    private static BlockingQueue<Yaml> getYamlPool(EngineKey key) {
+
+        BlockingQueue<Yaml> pool = YAML_POOLS.get(key);
+        if (pool == null) {
+            pool = YAML_POOLS.putIfAbsent(key, new ArrayBlockingQueue<>(YAML_POOL_SIZE));
+        }
+        return pool;
+    }
+
+    private static EngineKey getYamlDumperKey(Class<?> targetClass, YamlConfig config) {
+
+        return new EngineKey(targetClass, Arrays.asList(Yaml.class, DumperOptions.class,
+                config.getDumperOptionsCustomizer(), config.getConstructorCustomizer(),
+                config.getRepresenterFactory(), config.getRepresenterCustomizer()));
+    }
+
+    private static EngineKey getYamlLoaderKey(Class<?> targetClass, YamlConfig config) {
+
+        return new EngineKey(targetClass, Arrays.asList(Yaml.class, LoaderOptions.class,
+                config.getAdditionalTrustedClassNames(), config.getConstructorCustomizer()));
+    }
+
+    private static Yaml buildYamlDumper(YamlConfig config) {
+
+        LoaderOptions loaderOptions = new LoaderOptions();
+        Constructor constructor = new Constructor(loaderOptions);
+        if (config.getConstructorCustomizer() != null) {
+            config.getConstructorCustomizer().accept(constructor);
+        }
+
+        DumperOptions dumperOptions = new DumperOptions();
+        if (config.getDumperOptionsCustomizer() != null) {
+            config.getDumperOptionsCustomizer().accept(dumperOptions);
+        }
+
+        Representer representer;
+        if (config.getRepresenterFactory() != null) {
+            representer = config.getRepresenterFactory().apply(dumperOptions);
+        } else {
+            representer = new Representer(dumperOptions);
+        }
+        if (config.getRepresenterCustomizer() != null) {
+            config.getRepresenterCustomizer().accept(representer);
+        }
+
+        return new Yaml(constructor, representer, dumperOptions);
+    }
+
+    private static Yaml buildYamlLoader(Class<?> targetClass, YamlConfig config) {
+
+        LoaderOptions loaderOptions = new LoaderOptions();
+
+        List<String> trustedTags = new ArrayList<>();
+        trustedTags.add(targetClass.getName());
+        trustedTags.addAll(config.getAdditionalTrustedClassNames());
+        loaderOptions.setTagInspector(new TrustedPrefixesTagInspector(trustedTags));
+
+        Constructor constructor = new Constructor(targetClass, loaderOptions);
+        if (config.getConstructorCustomizer() != null) {
+            config.getConstructorCustomizer().accept(constructor);
+        }
+        return new Yaml(constructor);
+    }
+
+    /**
+     * Cache key made of the target class and the shape of the serialization config.
+     */
+    private static final class EngineKey {
+
+        private final Class<?> targetClass;
+        private final List<?> configShape;
+
+        EngineKey(Class<?> targetClass, List<?> configShape) {
+
+            this.targetClass = targetClass;
+            this.configShape = configShape;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            EngineKey engineKey = (EngineKey) o;
+            return targetClass.equals(engineKey.targetClass) && configShape.equals(engineKey.configShape);
+        }
+
+        @Override
+        public int hashCode() {
+
+            return Objects.hash(targetClass, configShape);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.common.filter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Filter parsed and validated against the filter schema of an endpoint. Compiled filters are immutable and shared
+ * between requests through the {@link FilterCompiler} cache.
+ */
+public final class CompiledFilter {
+
+    private final FilterSchema schema;
+    private final String filter;
+    private final FilterNode rootNode;
+    private final List<FilterExpression> expressions;
+    private final Set<String> attributes;
+    private final boolean conjunctive;
+
+    CompiledFilter(FilterSchema schema, String filter, FilterNode rootNode) {
+
+        this.schema = schema;
+        this.filter = filter;
+        this.rootNode = rootNode;
+
+        List<FilterExpression> filterExpressions = new ArrayList<>();
+        this.conjunctive = collectExpressions(rootNode, filterExpressions);
+        Set<String> filterAttributes = new LinkedHashSet<>();
+        for (FilterExpression expression : filterExpressions) {
+            filterAttributes.add(expression.getAttribute());
+        }
+        this.expressions = Collections.unmodifiableList(filterExpressions);
+        this.attributes = Collections.unmodifiableSet(filterAttributes);
+    }
+
+    /**
+     * Get the filter string the filter is compiled from.
+     *
+     * @return Filter string.
+     */
+    public String getFilter() {
+
+        return filter;
+    }
+
+    /**
+     * Get the attribute comparisons of the filter in the order they appear in the filter.
+     *
+     * @return Unmodifiable list of filter expressions.
+     */
+    public List<FilterExpression> getExpressions() {
+
+        return expressions;
+    }
+
+    /**
+     * Get the distinct attributes used in the filter.
+     *
+     * @return Unmodifiable set of attribute names.
+     */
+    public Set<String> getAttributes() {
+
+        return attributes;
+    }
+
+    /**
+     * Check whether the expressions of the filter are only combined with the 'and' operator, in which case the
+     * filter can be passed to backends accepting a list of conditions.
+     *
+     * @return True if the filter is a conjunction of its expressions.
+     */
+    public boolean isConjunctive() {
+
+        return conjunctive;
+    }
+
+    /**
+     * Build a predicate evaluating the filter on in-memory items, for the endpoints filtering after fetching.
+     * String attributes are compared case sensitively for equality and case insensitively for the partial matches,
+     * while boolean attributes are compared by their boolean value.
+     *
+     * @param attributeValues Functions resolving the string value of each filter attribute from an item.
+     * @param <T>             Type of the filtered items.
+     * @return Predicate matching the items selected by the filter.
+     */
+    public <T> Predicate<T> toPredicate(Map<String, Function<T, String>> attributeValues) {
+
+        return toPredicate(attributeValues, Collections.emptyMap());
+    }
+
+    /**
+     * Build a predicate evaluating the filter on in-memory items having multi valued attributes. A comparison on a
+     * multi valued attribute matches an item if any of the values of the item match.
+     *
+     * @param attributeValues            Functions resolving the string value of each single valued filter
+     *                                   attribute from an item.
+     * @param multiValuedAttributeValues Functions resolving the string values of each multi valued filter attribute
+     *                                   from an item.
+     * @param <T>                        Type of the filtered items.
+     * @return Predicate matching the items selected by the filter.
+     */
+    public <T> Predicate<T> toPredicate(Map<String, Function<T, String>> attributeValues,
+                                        Map<String, Function<T, Collection<String>>> multiValuedAttributeValues) {
+
+        return rootNode.toPredicate(schema, attributeValues, multiValuedAttributeValues);
+    }
+
+    private static boolean collectExpressions(FilterNode node, List<FilterExpression> filterExpressions) {
+
+        if (node instanceof LogicalFilterNode) {
+            LogicalFilterNode logicalNode = (LogicalFilterNode) node;
+            boolean leftConjunctive = collectExpressions(logicalNode.getLeft(), filterExpressions);
+            boolean rightConjunctive = collectExpressions(logicalNode.getRight(), filterExpressions);
+            return logicalNode.isConjunction() && leftConjunctive && rightConjunctive;
+        }
+        filterExpressions.add((FilterExpression) node);
+        return true;
+    }
+}
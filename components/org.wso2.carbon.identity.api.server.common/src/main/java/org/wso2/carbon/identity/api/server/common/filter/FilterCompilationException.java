@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.common.filter;
+
+/**
+ * Exception thrown when a filter cannot be compiled against the filter schema of an endpoint. The reason along with
+ * the offending attribute and operator allows each API to report the failure with its own error codes.
+ */
+public class FilterCompilationException extends Exception {
+
+    private static final long serialVersionUID = 4281730542063395874L;
+
+    /**
+     * Reasons for a filter to be rejected.
+     */
+    public enum Reason {
+
+        INVALID_FILTER,
+        UNSUPPORTED_ATTRIBUTE,
+        UNSUPPORTED_OPERATOR
+    }
+
+    private final Reason reason;
+    private final String filter;
+    private final String attribute;
+    private final String operator;
+
+    public FilterCompilationException(Reason reason, String filter, String attribute, String operator) {
+
+        super(buildMessage(reason, filter, attribute, operator));
+        this.reason = reason;
+        this.filter = filter;
+        this.attribute = attribute;
+        this.operator = operator;
+    }
+
+    public FilterCompilationException(String filter, Throwable cause) {
+
+        super(buildMessage(Reason.INVALID_FILTER, filter, null, null), cause);
+        this.reason = Reason.INVALID_FILTER;
+        this.filter = filter;
+        this.attribute = null;
+        this.operator = null;
+    }
+
+    public Reason getReason() {
+
+        return reason;
+    }
+
+    public String getFilter() {
+
+        return filter;
+    }
+
+    /**
+     * Get the attribute which is not supported, or which the unsupported operator is used on.
+     *
+     * @return Attribute name, or null if the failure is not related to an attribute.
+     */
+    public String getAttribute() {
+
+        return attribute;
+    }
+
+    /**
+     * Get the operator which is not supported.
+     *
+     * @return Operator name, or null if the failure is not related to an operator.
+     */
+    public String getOperator() {
+
+        return operator;
+    }
+
+    private static String buildMessage(Reason reason, String filter, String attribute, String operator) {
+
+        switch (reason) {
+            case UNSUPPORTED_ATTRIBUTE:
+                return "Unsupported filter attribute: " + attribute + " in filter: " + filter;
+            case UNSUPPORTED_OPERATOR:
+                return "Unsupported filter operator: " + operator + (attribute == null ? "" :
+                        " for attribute: " + attribute) + " in filter: " + filter;
+            default:
+                return "Invalid filter: " + filter;
+        }
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.common.filter;
+
+import org.apache.commons.lang.StringUtils;
+import org.wso2.carbon.identity.api.server.common.cache.LocalCache;
+import org.wso2.carbon.identity.base.IdentityException;
+import org.wso2.carbon.identity.core.model.ExpressionNode;
+import org.wso2.carbon.identity.core.model.FilterTreeBuilder;
+import org.wso2.carbon.identity.core.model.Node;
+import org.wso2.carbon.identity.core.model.OperationNode;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * Compiles SCIM style filters of the list endpoints into immutable {@link CompiledFilter}s.
+ * <p>
+ * Filters are parsed with the {@link FilterTreeBuilder} and validated against the {@link FilterSchema} of the
+ * endpoint. List views send the same few filters over and over, hence compiled filters are kept in a size bounded
+ * least recently used cache keyed by the endpoint and the filter string. A compiled filter only depends on the filter
+ * string and the schema, hence cached filters never expire.
+ */
+public final class FilterCompiler {
+
+    private static final int MAX_CACHED_FILTERS = 1000;
+    private static final String AND_OPERATION = "and";
+    private static final String OR_OPERATION = "or";
+
+    private static final FilterCompiler INSTANCE = new FilterCompiler();
+
+    private final LocalCache<CacheKey, CompiledFilter> compiledFilters = new LocalCache<>(MAX_CACHED_FILTERS);
+
+    private FilterCompiler() {
+
+    }
+
+    public static FilterCompiler getInstance() {
+
+        return INSTANCE;
+    }
+
+    /**
+     * Compile the given filter against the filter schema of an endpoint.
+     *
+     * @param schema Filter schema of the endpoint.
+     * @param filter Filter string.
+     * @return Compiled filter, or null if the filter is blank.
+     * @throws FilterCompilationException If the filter is malformed or uses unsupported attributes or operators.
+     */
+    public CompiledFilter compile(FilterSchema schema, String filter) throws FilterCompilationException {
+
+        if (StringUtils.isBlank(filter)) {
+            return null;
+        }
+        CacheKey cacheKey = new CacheKey(schema.getEndpoint(), filter);
+        CompiledFilter compiledFilter = compiledFilters.get(cacheKey);
+        if (compiledFilter != null) {
+            return compiledFilter;
+        }
+
+        Node rootNode;
+        try {
+            rootNode = new FilterTreeBuilder(filter).buildTree();
+        } catch (IOException | IdentityException e) {
+            throw new FilterCompilationException(filter, e);
+        }
+        if (rootNode == null) {
+            throw new FilterCompilationException(FilterCompilationException.Reason.INVALID_FILTER, filter, null,
+                    null);
+        }
+        compiledFilter = new CompiledFilter(schema, filter, buildNode(schema, filter, rootNode));
+        return compiledFilters.putIfAbsent(cacheKey, compiledFilter);
+    }
+
+    private FilterNode buildNode(FilterSchema schema, String filter, Node node) throws FilterCompilationException {
+
+        if (node instanceof OperationNode) {
+            String operation = ((OperationNode) node).getOperation();
+            boolean conjunction = AND_OPERATION.equalsIgnoreCase(operation);
+            if (!conjunction && !OR_OPERATION.equalsIgnoreCase(operation)) {
+                throw new FilterCompilationException(FilterCompilationException.Reason.UNSUPPORTED_OPERATOR, filter,
+                        null, operation);
+            }
+            if (node.getLeftNode() == null || node.getRightNode() == null) {
+                throw new FilterCompilationException(FilterCompilationException.Reason.INVALID_FILTER, filter, null,
+                        null);
+            }
+            return new LogicalFilterNode(conjunction, buildNode(schema, filter, node.getLeftNode()),
+                    buildNode(schema, filter, node.getRightNode()));
+        }
+        if (node instanceof ExpressionNode) {
+            return buildExpression(schema, filter, (ExpressionNode) node);
+        }
+        throw new FilterCompilationException(FilterCompilationException.Reason.INVALID_FILTER, filter, null, null);
+    }
+
+    private FilterExpression buildExpression(FilterSchema schema, String filter, ExpressionNode expressionNode)
+            throws FilterCompilationException {
+
+        String attribute = expressionNode.getAttributeValue();
+        if (StringUtils.isBlank(attribute)) {
+            throw new FilterCompilationException(FilterCompilationException.Reason.INVALID_FILTER, filter, null,
+                    null);
+        }
+        if (!schema.isSupportedAttribute(attribute)) {
+            throw new FilterCompilationException(FilterCompilationException.Reason.UNSUPPORTED_ATTRIBUTE, filter,
+                    attribute, null);
+        }
+        FilterOperator operator = FilterOperator.fromName(expressionNode.getOperation());
+        if (operator == null || !schema.isSupportedOperator(attribute, operator)) {
+            throw new FilterCompilationException(FilterCompilationException.Reason.UNSUPPORTED_OPERATOR, filter,
+                    attribute, expressionNode.getOperation());
+        }
+        return new FilterExpression(attribute, operator, expressionNode.getValue());
+    }
+
+    /**
+     * Cache key made of the endpoint and the filter string.
+     */
+    private static final class CacheKey {
+
+        private final String endpoint;
+        private final String filter;
+
+        CacheKey(String endpoint, String filter) {
+
+            this.endpoint = endpoint;
+            this.filter = filter;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            CacheKey cacheKey = (CacheKey) o;
+            return endpoint.equals(cacheKey.endpoint) && filter.equals(cacheKey.filter);
+        }
+
+        @Override
+        public int hashCode() {
+
+            return Objects.hash(endpoint, filter);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.common.filter;
+
+import org.apache.commons.lang.StringUtils;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Single attribute comparison of a compiled filter, e.g. {@code name sw app}.
+ */
+public final class FilterExpression extends FilterNode {
+
+    private final String attribute;
+    private final FilterOperator operator;
+    private final String value;
+
+    FilterExpression(String attribute, FilterOperator operator, String value) {
+
+        this.attribute = attribute;
+        this.operator = operator;
+        this.value = value;
+    }
+
+    public String getAttribute() {
+
+        return attribute;
+    }
+
+    public FilterOperator getOperator() {
+
+        return operator;
+    }
+
+    public String getValue() {
+
+        return value;
+    }
+
+    /**
+     * Check whether an attribute value satisfies the comparison. String attributes are compared case sensitively
+     * for equality and case insensitively for the partial matches, while boolean attributes are compared by their
+     * boolean value.
+     *
+     * @param schema Filter schema the filter is compiled against.
+     * @param actual Attribute value of an item. Can be null.
+     * @return Whether the value matches.
+     */
+    public boolean matches(FilterSchema schema, String actual) {
+
+        if (schema.getAttributeType(attribute) == FilterSchema.AttributeType.BOOLEAN) {
+            boolean equal = Boolean.parseBoolean(actual) == Boolean.parseBoolean(value);
+            return operator == FilterOperator.EQ ? equal : !equal;
+        }
+
+        switch (operator) {
+            case EQ:
+                return StringUtils.equals(actual, value);
+            case NE:
+                return !StringUtils.equals(actual, value);
+            case CO:
+                return StringUtils.containsIgnoreCase(actual, value);
+            case SW:
+                return StringUtils.startsWithIgnoreCase(actual, value);
+            case EW:
+                return StringUtils.endsWithIgnoreCase(actual, value);
+            default:
+                return isInOrder(actual);
+        }
+    }
+
+    @Override
+    <T> Predicate<T> toPredicate(FilterSchema schema, Map<String, Function<T, String>> attributeValues,
+                                 Map<String, Function<T, Collection<String>>> multiValuedAttributeValues) {
+
+        Function<T, String> attributeValue = attributeValues.get(attribute);
+        if (attributeValue != null) {
+            return item -> matches(schema, attributeValue.apply(item));
+        }
+        Function<T, Collection<String>> multiValuedAttributeValue = multiValuedAttributeValues.get(attribute);
+        if (multiValuedAttributeValue == null) {
+            throw new IllegalStateException("No value resolver is defined for the filter attribute: " + attribute +
+                    " of the endpoint: " + schema.getEndpoint());
+        }
+        // A multi valued attribute matches if any of its values match, hence an item without values never matches.
+        return item -> {
+            Collection<String> actualValues = multiValuedAttributeValue.apply(item);
+            return actualValues != null && actualValues.stream().anyMatch(actual -> matches(schema, actual));
+        };
+    }
+
+    @Override
+    <T> boolean comparesMultiValuedAttribute(Map<String, Function<T, String>> attributeValues) {
+
+        return !attributeValues.containsKey(attribute);
+    }
+
+    /**
+     * Check whether the given attribute value is ordered against the filter value as required by the ordering
+     * operator. A missing attribute value never matches.
+     */
+    private boolean isInOrder(String actual) {
+
+        if (actual == null) {
+            return false;
+        }
+        int comparison = actual.compareTo(value);
+        switch (operator) {
+            case GE:
+                return comparison >= 0;
+            case GT:
+                return comparison > 0;
+            case LE:
+                return comparison <= 0;
+            default:
+                return comparison < 0;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.common.filter;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Node of the immutable syntax tree of a compiled filter.
+ */
+abstract class FilterNode {
+
+    /**
+     * Build a predicate evaluating the node on in-memory items.
+     *
+     * @param schema                     Filter schema the filter is compiled against.
+     * @param attributeValues            Functions resolving the string value of each single valued filter
+     *                                   attribute from an item.
+     * @param multiValuedAttributeValues Functions resolving the string values of each multi valued filter attribute
+     *                                   from an item.
+     * @param <T>                        Type of the filtered items.
+     * @return Predicate of the node.
+     */
+    abstract <T> Predicate<T> toPredicate(FilterSchema schema, Map<String, Function<T, String>> attributeValues,
+                                          Map<String, Function<T, Collection<String>>> multiValuedAttributeValues);
+
+    /**
+     * Check whether the node compares any attribute which is not resolved as a single valued attribute.
+     *
+     * @param attributeValues Functions resolving the string value of each single valued filter attribute from an
+     *                        item.
+     * @param <T>             Type of the filtered items.
+     * @return True if the node compares a multi valued attribute.
+     */
+    abstract <T> boolean comparesMultiValuedAttribute(Map<String, Function<T, String>> attributeValues);
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.common.filter;
+
+import java.util.Locale;
+
+/**
+ * Comparison operators of the SCIM style filters accepted by the list endpoints.
+ */
+public enum FilterOperator {
+
+    EQ("eq"),
+    NE("ne"),
+    CO("co"),
+    SW("sw"),
+    EW("ew"),
+    GE("ge"),
+    GT("gt"),
+    LE("le"),
+    LT("lt");
+
+    private final String name;
+
+    FilterOperator(String name) {
+
+        this.name = name;
+    }
+
+    /**
+     * Get the name of the operator as used in filters.
+     *
+     * @return Operator name.
+     */
+    public String getName() {
+
+        return name;
+    }
+
+    /**
+     * Resolve the operator of the given name. Names are matched ignoring case.
+     *
+     * @param name Operator name.
+     * @return Filter operator, or null if there is no operator of the given name.
+     */
+    public static FilterOperator fromName(String name) {
+
+        if (name == null) {
+            return null;
+        }
+        String lowerCaseName = name.toLowerCase(Locale.ENGLISH);
+        for (FilterOperator operator : values()) {
+            if (operator.name.equals(lowerCaseName)) {
+                return operator;
+            }
+        }
+        return null;
+    }
+}
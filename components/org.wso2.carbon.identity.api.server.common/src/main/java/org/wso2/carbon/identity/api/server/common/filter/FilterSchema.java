@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.common.filter;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Filter attributes supported by a list endpoint, along with the type and the operators allowed for each attribute.
+ * <p>
+ * Compiled filters are cached by the endpoint name, hence each schema must be given a name unique to the endpoint
+ * and schemas are expected to be built once and kept as constants.
+ */
+public final class FilterSchema {
+
+    /**
+     * Types of filter attributes, deciding how the attribute values are compared when a filter is evaluated in
+     * memory.
+     */
+    public enum AttributeType {
+
+        STRING,
+        BOOLEAN
+    }
+
+    private final String endpoint;
+    private final Map<String, AttributeType> attributeTypes;
+    private final Map<String, Set<FilterOperator>> attributeOperators;
+
+    private FilterSchema(Builder builder) {
+
+        this.endpoint = builder.endpoint;
+        this.attributeTypes = Collections.unmodifiableMap(new HashMap<>(builder.attributeTypes));
+        this.attributeOperators = Collections.unmodifiableMap(new HashMap<>(builder.attributeOperators));
+    }
+
+    /**
+     * Create a builder for the filter schema of an endpoint.
+     *
+     * @param endpoint Name of the endpoint, unique across the APIs.
+     * @return Filter schema builder.
+     */
+    public static Builder builder(String endpoint) {
+
+        return new Builder(endpoint);
+    }
+
+    public String getEndpoint() {
+
+        return endpoint;
+    }
+
+    /**
+     * Check whether the given attribute can be used in filters.
+     *
+     * @param attribute Attribute name.
+     * @return True if the attribute is supported.
+     */
+    public boolean isSupportedAttribute(String attribute) {
+
+        return attributeTypes.containsKey(attribute);
+    }
+
+    /**
+     * Check whether the given operator can be used with the given attribute.
+     *
+     * @param attribute Attribute name.
+     * @param operator  Filter operator.
+     * @return True if the operator is allowed for the attribute.
+     */
+    public boolean isSupportedOperator(String attribute, FilterOperator operator) {
+
+        Set<FilterOperator> operators = attributeOperators.get(attribute);
+        return operators != null && operators.contains(operator);
+    }
+
+    /**
+     * Get the type of the given attribute.
+     *
+     * @param attribute Attribute name.
+     * @return Attribute type, or null if the attribute is not supported.
+     */
+    public AttributeType getAttributeType(String attribute) {
+
+        return attributeTypes.get(attribute);
+    }
+
+    /**
+     * Builder of filter schemas.
+     */
+    public static final class Builder {
+
+        private final String endpoint;
+        private final Map<String, AttributeType> attributeTypes = new HashMap<>();
+        private final Map<String, Set<FilterOperator>> attributeOperators = new HashMap<>();
+
+        private Builder(String endpoint) {
+
+            this.endpoint = endpoint;
+        }
+
+        /**
+         * Add a string attribute. All the operators are allowed if none are given.
+         *
+         * @param attribute Attribute name.
+         * @param operators Operators allowed for the attribute.
+         * @return This builder.
+         */
+        public Builder stringAttribute(String attribute, FilterOperator... operators) {
+
+            return attribute(attribute, AttributeType.STRING, operators.length == 0 ?
+                    EnumSet.allOf(FilterOperator.class) : EnumSet.copyOf(Arrays.asList(operators)));
+        }
+
+        /**
+         * Add a boolean attribute, which only allows the equality operators.
+         *
+         * @param attribute Attribute name.
+         * @return This builder.
+         */
+        public Builder booleanAttribute(String attribute) {
+
+            return attribute(attribute, AttributeType.BOOLEAN, EnumSet.of(FilterOperator.EQ, FilterOperator.NE));
+        }
+
+        public FilterSchema build() {
+
+            return new FilterSchema(this);
+        }
+
+        private Builder attribute(String attribute, AttributeType type, Set<FilterOperator> operators) {
+
+            attributeTypes.put(attribute, type);
+            attributeOperators.put(attribute, Collections.unmodifiableSet(operators));
+            return this;
+        }
+    }
+}
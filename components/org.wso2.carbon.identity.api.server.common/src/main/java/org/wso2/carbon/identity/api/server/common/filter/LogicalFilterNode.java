@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.common.filter;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Conjunction or disjunction of two filter nodes.
+ */
+final class LogicalFilterNode extends FilterNode {
+
+    private final boolean conjunction;
+    private final FilterNode left;
+    private final FilterNode right;
+
+    LogicalFilterNode(boolean conjunction, FilterNode left, FilterNode right) {
+
+        this.conjunction = conjunction;
+        this.left = left;
+        this.right = right;
+    }
+
+    boolean isConjunction() {
+
+        return conjunction;
+    }
+
+    FilterNode getLeft() {
+
+        return left;
+    }
+
+    FilterNode getRight() {
+
+        return right;
+    }
+
+    @Override
+    <T> Predicate<T> toPredicate(FilterSchema schema, Map<String, Function<T, String>> attributeValues,
+                                 Map<String, Function<T, Collection<String>>> multiValuedAttributeValues) {
+
+        /*
+        Multi valued attributes can be costly to resolve, e.g. when they are loaded separately from the item, hence
+        an operand comparing them is evaluated after the other operand, which may already decide the result.
+         */
+        FilterNode first = left;
+        FilterNode second = right;
+        if (left.comparesMultiValuedAttribute(attributeValues)
+                && !right.comparesMultiValuedAttribute(attributeValues)) {
+            first = right;
+            second = left;
+        }
+        Predicate<T> firstPredicate = first.toPredicate(schema, attributeValues, multiValuedAttributeValues);
+        Predicate<T> secondPredicate = second.toPredicate(schema, attributeValues, multiValuedAttributeValues);
+        return conjunction ? firstPredicate.and(secondPredicate) : firstPredicate.or(secondPredicate);
+    }
+
+    @Override
+    <T> boolean comparesMultiValuedAttribute(Map<String, Function<T, String>> attributeValues) {
+
+        return left.comparesMultiValuedAttribute(attributeValues)
+                || right.comparesMultiValuedAttribute(attributeValues);
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.common;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.base.CarbonBaseConstants;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link ContextPropagatingExecutor}.
+ */
+public class ContextPropagatingExecutorTest {
+
+    private static final String TENANT_DOMAIN = "abc.com";
+    private static final int TENANT_ID = 1;
+    private static final String USERNAME = "admin";
+    private static final String USER_ID = "1234";
+    private static final String ORGANIZATION_ID = "org-id";
+    private static final String APPLICATION_RESIDENT_ORGANIZATION_ID = "app-org-id";
+    private static final String THREAD_LOCAL_PROPERTY = "threadLocalProperty";
+
+    private final ContextPropagatingExecutor executor = ContextPropagatingExecutor.getInstance();
+
+    @BeforeClass
+    public void setUpClass() {
+
+        String carbonHome = Paths.get(System.getProperty("user.dir"), "target", "test-classes").toString();
+        System.setProperty(CarbonBaseConstants.CARBON_HOME, carbonHome);
+        System.setProperty(CarbonBaseConstants.CARBON_CONFIG_DIR_PATH, Paths.get(carbonHome,
+                "repository/conf").toString());
+    }
+
+    @BeforeMethod
+    public void setUp() {
+
+        PrivilegedCarbonContext.startTenantFlow();
+        PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+        carbonContext.setTenantDomain(TENANT_DOMAIN);
+        carbonContext.setTenantId(TENANT_ID);
+        carbonContext.setUsername(USERNAME);
+        carbonContext.setUserId(USER_ID);
+        carbonContext.setOrganizationId(ORGANIZATION_ID);
+        carbonContext.setApplicationResidentOrganizationId(APPLICATION_RESIDENT_ORGANIZATION_ID);
+        IdentityUtil.threadLocalProperties.get().put(THREAD_LOCAL_PROPERTY, "value");
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        IdentityUtil.threadLocalProperties.remove();
+        PrivilegedCarbonContext.endTenantFlow();
+    }
+
+    @Test
+    public void testRequestContextIsPropagatedToWorkerThread() throws Exception {
+
+        Thread submittingThread = Thread.currentThread();
+        Map<String, Object> workerContext = executor.submit(this::readContext).get(10, TimeUnit.SECONDS);
+
+        assertNotEquals(workerContext.get("thread"), submittingThread);
+        assertEquals(workerContext.get("tenantDomain"), TENANT_DOMAIN);
+        assertEquals(workerContext.get("tenantId"), TENANT_ID);
+        assertEquals(workerContext.get("username"), USERNAME);
+        assertEquals(workerContext.get("userId"), USER_ID);
+        assertEquals(workerContext.get("organizationId"), ORGANIZATION_ID);
+        assertEquals(workerContext.get("applicationResidentOrganizationId"), APPLICATION_RESIDENT_ORGANIZATION_ID);
+        assertEquals(workerContext.get(THREAD_LOCAL_PROPERTY), "value");
+    }
+
+    @Test
+    public void testWorkerThreadsAreDaemonThreads() throws Exception {
+
+        Map<String, Object> workerContext = executor.submit(this::readContext).get(10, TimeUnit.SECONDS);
+
+        assertTrue(((Thread) workerContext.get("thread")).isDaemon());
+    }
+
+    private Map<String, Object> readContext() {
+
+        PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+        Map<String, Object> context = new HashMap<>();
+        context.put("thread", Thread.currentThread());
+        context.put("tenantDomain", carbonContext.getTenantDomain());
+        context.put("tenantId", carbonContext.getTenantId());
+        context.put("username", carbonContext.getUsername());
+        context.put("userId", carbonContext.getUserId());
+        context.put("organizationId", carbonContext.getOrganizationId());
+        context.put("applicationResidentOrganizationId", carbonContext.getApplicationResidentOrganizationId());
+        context.put(THREAD_LOCAL_PROPERTY, IdentityUtil.threadLocalProperties.get().get(THREAD_LOCAL_PROPERTY));
+        return context;
+    }
+}
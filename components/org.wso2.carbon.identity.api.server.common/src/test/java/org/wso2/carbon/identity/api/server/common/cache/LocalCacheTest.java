@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.common.cache;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Unit tests for {@link LocalCache}.
+ */
+public class LocalCacheTest {
+
+    @Test
+    public void testGetReturnsCachedValue() {
+
+        LocalCache<String, String> cache = new LocalCache<>(10);
+        cache.put("key", "value");
+
+        Assert.assertEquals(cache.get("key"), "value");
+        Assert.assertNull(cache.get("missing"));
+        Assert.assertEquals(cache.getHitCount(), 1);
+        Assert.assertEquals(cache.getMissCount(), 1);
+    }
+
+    @Test
+    public void testPutNullValueRemovesEntry() {
+
+        LocalCache<String, String> cache = new LocalCache<>(10);
+        cache.put("key", "value");
+        cache.put("key", null);
+
+        Assert.assertNull(cache.get("key"));
+        Assert.assertEquals(cache.size(), 0);
+    }
+
+    @Test
+    public void testEntryExpiresAfterTimeToLive() throws InterruptedException {
+
+        LocalCache<String, String> cache = new LocalCache<>(10, 50);
+        cache.put("key", "value");
+        Assert.assertEquals(cache.get("key"), "value");
+
+        Thread.sleep(120);
+
+        Assert.assertNull(cache.get("key"));
+        Assert.assertEquals(cache.size(), 0);
+    }
+
+    @Test
+    public void testEntryDoesNotExpireWithoutTimeToLive() throws InterruptedException {
+
+        LocalCache<String, String> cache = new LocalCache<>(10, 0);
+        cache.put("key", "value");
+
+        Thread.sleep(20);
+
+        Assert.assertEquals(cache.get("key"), "value");
+    }
+
+    @Test
+    public void testPutIfAbsentReplacesExpiredEntry() throws InterruptedException {
+
+        LocalCache<String, String> cache = new LocalCache<>(10, 50);
+        Assert.assertEquals(cache.putIfAbsent("key", "first"), "first");
+        Assert.assertEquals(cache.putIfAbsent("key", "second"), "first");
+
+        Thread.sleep(120);
+
+        Assert.assertEquals(cache.putIfAbsent("key", "third"), "third");
+        Assert.assertEquals(cache.get("key"), "third");
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEntryIsEvicted() {
+
+        LocalCache<String, String> cache = new LocalCache<>(2);
+        cache.put("first", "1");
+        cache.put("second", "2");
+        // Reading the first entry makes the second one the least recently used.
+        cache.get("first");
+        cache.put("third", "3");
+
+        Assert.assertEquals(cache.size(), 2);
+        Assert.assertEquals(cache.get("first"), "1");
+        Assert.assertNull(cache.get("second"));
+        Assert.assertEquals(cache.get("third"), "3");
+    }
+
+    @Test
+    public void testOldestEntryIsEvictedWithoutReads() {
+
+        LocalCache<String, String> cache = new LocalCache<>(2);
+        cache.put("first", "1");
+        cache.put("second", "2");
+        cache.put("third", "3");
+
+        Assert.assertNull(cache.get("first"));
+        Assert.assertEquals(cache.get("second"), "2");
+        Assert.assertEquals(cache.get("third"), "3");
+    }
+
+    @Test
+    public void testRemoveIfRemovesMatchingKeys() {
+
+        LocalCache<String, String> cache = new LocalCache<>(10);
+        cache.put("tenant1:a", "a");
+        cache.put("tenant1:b", "b");
+        cache.put("tenant2:a", "a");
+
+        cache.removeIf(key -> key.startsWith("tenant1:"));
+
+        Assert.assertEquals(cache.size(), 1);
+        Assert.assertEquals(cache.get("tenant2:a"), "a");
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testNonPositiveSizeIsRejected() {
+
+        new LocalCache<String, String>(0);
+    }
+
+    @Test
+    public void testConcurrentPutAndRemove() throws Exception {
+
+        int maxEntries = 50;
+        int threads = 8;
+        int operations = 5000;
+        LocalCache<Integer, Integer> cache = new LocalCache<>(maxEntries);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Void>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int seed = t;
+                Callable<Void> task = () -> {
+                    start.await();
+                    for (int i = 0; i < operations; i++) {
+                        int key = (seed * operations + i) % (maxEntries * 2);
+                        if (i % 3 == 0) {
+                            cache.remove(key);
+                        } else {
+                            cache.put(key, key);
+                            Integer value = cache.get(key);
+                            if (value != null) {
+                                Assert.assertEquals(value.intValue(), key);
+                            }
+                        }
+                    }
+                    return null;
+                };
+                futures.add(executor.submit(task));
+            }
+            start.countDown();
+            for (Future<Void> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Assert.assertTrue(cache.size() <= maxEntries);
+    }
+}
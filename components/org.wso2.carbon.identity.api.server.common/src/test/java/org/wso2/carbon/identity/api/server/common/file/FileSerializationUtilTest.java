@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.common.file;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.api.server.common.Constants;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Unit tests for the streamed serialization of {@link FileSerializationUtil}.
+ */
+public class FileSerializationUtilTest {
+
+    @Test
+    public void testSerializeAsStreamWritesOnlyWhenContentIsWritten() throws Exception {
+
+        CountingEntity entity = new CountingEntity();
+        entity.setName("sample");
+
+        FileContent fileContent = FileSerializationUtil.serializeAsStream(entity, "export", Constants.MEDIA_TYPE_JSON,
+                null);
+
+        Assert.assertEquals(fileContent.getFileName(), "export" + Constants.JSON_FILE_EXTENSION);
+        Assert.assertEquals(fileContent.getFileType(), Constants.MEDIA_TYPE_JSON);
+        Assert.assertTrue(fileContent.isStreamed());
+        Assert.assertEquals(entity.getReadCount(), 0);
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        fileContent.writeTo(outputStream);
+
+        Assert.assertEquals(entity.getReadCount(), 1);
+        CountingEntity written = FileSerializationUtil.deserialize(
+                new FileContent("export.json", Constants.MEDIA_TYPE_JSON,
+                        new String(outputStream.toByteArray(), StandardCharsets.UTF_8)), CountingEntity.class);
+        Assert.assertEquals(written.getName(), "sample");
+    }
+
+    @Test(expectedExceptions = FileSerializationException.class)
+    public void testSerializeAsStreamRejectsUnsupportedMediaTypeUpFront() throws Exception {
+
+        FileSerializationConfig config = new FileSerializationConfig();
+        config.setSerializeDefault(FileSerializationConfig.DefaultFormat.ERROR);
+
+        FileSerializationUtil.serializeAsStream(new CountingEntity(), "export", "application/pdf", config);
+    }
+
+    /**
+     * Entity which counts how many times it was read by a serializer.
+     */
+    public static class CountingEntity {
+
+        private String name;
+        private int readCount;
+
+        public String getName() {
+
+            readCount++;
+            return name;
+        }
+
+        public void setName(String name) {
+
+            this.name = name;
+        }
+
+        int getReadCount() {
+
+            return readCount;
+        }
+    }
+}
@@ -0,0 +1,270 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.common.filter;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Unit tests for {@link FilterCompiler} and {@link CompiledFilter}.
+ */
+public class FilterCompilerTest {
+
+    private static final String NAME = "name";
+    private static final String ENABLED = "enabled";
+    private static final String TAG = "tag";
+
+    @Test
+    public void testCompileBlankFilter() throws FilterCompilationException {
+
+        FilterSchema schema = buildSchema("test/blank");
+
+        Assert.assertNull(FilterCompiler.getInstance().compile(schema, null));
+        Assert.assertNull(FilterCompiler.getInstance().compile(schema, " "));
+    }
+
+    @Test
+    public void testCompileExposesExpressions() throws FilterCompilationException {
+
+        CompiledFilter compiledFilter = FilterCompiler.getInstance().compile(buildSchema("test/expressions"),
+                "name sw app and enabled eq true");
+
+        Assert.assertTrue(compiledFilter.isConjunctive());
+        Assert.assertEquals(compiledFilter.getFilter(), "name sw app and enabled eq true");
+        Assert.assertEquals(compiledFilter.getAttributes(), new LinkedHashSet<>(Arrays.asList(NAME, ENABLED)));
+        List<FilterExpression> expressions = compiledFilter.getExpressions();
+        Assert.assertEquals(expressions.size(), 2);
+        Assert.assertEquals(expressions.get(0).getAttribute(), NAME);
+        Assert.assertEquals(expressions.get(0).getOperator(), FilterOperator.SW);
+        Assert.assertEquals(expressions.get(0).getValue(), "app");
+        Assert.assertEquals(expressions.get(1).getAttribute(), ENABLED);
+        Assert.assertEquals(expressions.get(1).getOperator(), FilterOperator.EQ);
+        Assert.assertEquals(expressions.get(1).getValue(), "true");
+    }
+
+    @Test
+    public void testCompileDisjunctiveFilter() throws FilterCompilationException {
+
+        CompiledFilter compiledFilter = FilterCompiler.getInstance().compile(buildSchema("test/disjunctive"),
+                "name eq app or name eq console");
+
+        Assert.assertFalse(compiledFilter.isConjunctive());
+        Assert.assertEquals(compiledFilter.getAttributes(), Collections.singleton(NAME));
+    }
+
+    @Test
+    public void testCompileRejectsUnsupportedAttribute() {
+
+        try {
+            FilterCompiler.getInstance().compile(buildSchema("test/unsupported-attribute"),
+                    "name eq app and owner eq admin");
+            Assert.fail("A filter with an unsupported attribute should be rejected.");
+        } catch (FilterCompilationException e) {
+            Assert.assertEquals(e.getReason(), FilterCompilationException.Reason.UNSUPPORTED_ATTRIBUTE);
+            Assert.assertEquals(e.getAttribute(), "owner");
+            Assert.assertNull(e.getOperator());
+        }
+    }
+
+    @Test
+    public void testCompileRejectsOperatorNotAllowedForAttribute() {
+
+        try {
+            FilterCompiler.getInstance().compile(buildSchema("test/unsupported-operator"), "name co app");
+            Assert.fail("A filter with an operator which is not allowed for the attribute should be rejected.");
+        } catch (FilterCompilationException e) {
+            Assert.assertEquals(e.getReason(), FilterCompilationException.Reason.UNSUPPORTED_OPERATOR);
+            Assert.assertEquals(e.getAttribute(), NAME);
+            Assert.assertEquals(e.getOperator(), "co");
+        }
+    }
+
+    @Test
+    public void testCompileRejectsOrderingOperatorForBooleanAttribute() {
+
+        try {
+            FilterCompiler.getInstance().compile(buildSchema("test/boolean-operator"), "enabled gt false");
+            Assert.fail("A boolean attribute should only allow the equality operators.");
+        } catch (FilterCompilationException e) {
+            Assert.assertEquals(e.getReason(), FilterCompilationException.Reason.UNSUPPORTED_OPERATOR);
+            Assert.assertEquals(e.getAttribute(), ENABLED);
+        }
+    }
+
+    @Test
+    public void testCompiledFilterIsCachedPerEndpointAndFilter() throws FilterCompilationException {
+
+        FilterSchema schema = buildSchema("test/cache");
+
+        CompiledFilter compiledFilter = FilterCompiler.getInstance().compile(schema, "name eq app");
+
+        Assert.assertSame(FilterCompiler.getInstance().compile(schema, "name eq app"), compiledFilter);
+        Assert.assertNotSame(FilterCompiler.getInstance().compile(schema, "name eq console"), compiledFilter);
+    }
+
+    @Test
+    public void testCacheKeyIncludesEndpoint() throws FilterCompilationException {
+
+        FilterSchema schemaWithName = buildSchema("test/cache-endpoint-with-name");
+        FilterSchema schemaWithoutName = FilterSchema.builder("test/cache-endpoint-without-name")
+                .booleanAttribute(ENABLED)
+                .build();
+
+        Assert.assertNotNull(FilterCompiler.getInstance().compile(schemaWithName, "name eq app"));
+        try {
+            FilterCompiler.getInstance().compile(schemaWithoutName, "name eq app");
+            Assert.fail("A filter compiled for an endpoint should not be reused for another endpoint.");
+        } catch (FilterCompilationException e) {
+            Assert.assertEquals(e.getReason(), FilterCompilationException.Reason.UNSUPPORTED_ATTRIBUTE);
+        }
+    }
+
+    @Test
+    public void testPredicateComparesStrings() throws FilterCompilationException {
+
+        FilterSchema schema = buildSchema("test/predicate-strings");
+        Item item = new Item("MyApp", true);
+
+        Assert.assertTrue(toPredicate(schema, "name eq MyApp").test(item));
+        Assert.assertFalse(toPredicate(schema, "name eq myapp").test(item));
+        Assert.assertTrue(toPredicate(schema, "name sw my").test(item));
+        Assert.assertFalse(toPredicate(schema, "name sw app").test(item));
+        Assert.assertFalse(toPredicate(schema, "name eq MyApp").test(new Item(null, true)));
+    }
+
+    @Test
+    public void testPredicateComparesBooleans() throws FilterCompilationException {
+
+        FilterSchema schema = buildSchema("test/predicate-booleans");
+
+        Assert.assertTrue(toPredicate(schema, "enabled eq true").test(new Item("app", true)));
+        Assert.assertFalse(toPredicate(schema, "enabled eq true").test(new Item("app", false)));
+        Assert.assertTrue(toPredicate(schema, "enabled ne true").test(new Item("app", false)));
+    }
+
+    @Test
+    public void testPredicateCombinesExpressions() throws FilterCompilationException {
+
+        FilterSchema schema = buildSchema("test/predicate-logical");
+
+        Predicate<Item> conjunction = toPredicate(schema, "name sw app and enabled eq true");
+        Assert.assertTrue(conjunction.test(new Item("application", true)));
+        Assert.assertFalse(conjunction.test(new Item("application", false)));
+        Assert.assertFalse(conjunction.test(new Item("console", true)));
+
+        Predicate<Item> disjunction = toPredicate(schema, "name eq console or enabled eq true");
+        Assert.assertTrue(disjunction.test(new Item("console", false)));
+        Assert.assertTrue(disjunction.test(new Item("application", true)));
+        Assert.assertFalse(disjunction.test(new Item("application", false)));
+    }
+
+    @Test
+    public void testPredicateMatchesAnyValueOfMultiValuedAttribute() throws FilterCompilationException {
+
+        FilterSchema schema = buildSchema("test/predicate-multi-valued");
+
+        Predicate<Item> predicate = toPredicate(schema, "tag eq social");
+        Assert.assertTrue(predicate.test(new Item("app", true, "2fa", "social")));
+        Assert.assertFalse(predicate.test(new Item("app", true, "2fa")));
+        Assert.assertFalse(predicate.test(new Item("app", true)));
+    }
+
+    @Test
+    public void testPredicateResolvesMultiValuedAttributeLast() throws FilterCompilationException {
+
+        FilterSchema schema = buildSchema("test/predicate-evaluation-order");
+        AtomicInteger multiValuedResolutions = new AtomicInteger();
+        Map<String, Function<Item, String>> attributeValues = Collections.singletonMap(NAME, item -> item.name);
+        Map<String, Function<Item, Collection<String>>> multiValuedAttributeValues =
+                Collections.singletonMap(TAG, item -> {
+                    multiValuedResolutions.incrementAndGet();
+                    return item.tags;
+                });
+
+        Predicate<Item> conjunction = FilterCompiler.getInstance().compile(schema, "tag eq social and name eq app")
+                .toPredicate(attributeValues, multiValuedAttributeValues);
+        Assert.assertFalse(conjunction.test(new Item("console", true, "social")));
+        Assert.assertEquals(multiValuedResolutions.get(), 0);
+        Assert.assertTrue(conjunction.test(new Item("app", true, "social")));
+        Assert.assertEquals(multiValuedResolutions.get(), 1);
+
+        Predicate<Item> disjunction = FilterCompiler.getInstance().compile(schema, "tag eq social or name eq app")
+                .toPredicate(attributeValues, multiValuedAttributeValues);
+        Assert.assertTrue(disjunction.test(new Item("app", true)));
+        Assert.assertEquals(multiValuedResolutions.get(), 1);
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void testPredicateRequiresValueResolverOfEachAttribute() throws FilterCompilationException {
+
+        CompiledFilter compiledFilter = FilterCompiler.getInstance().compile(buildSchema("test/predicate-resolver"),
+                "name eq app");
+
+        compiledFilter.toPredicate(Collections.<String, Function<Item, String>>emptyMap());
+    }
+
+    private static FilterSchema buildSchema(String endpoint) {
+
+        return FilterSchema.builder(endpoint)
+                .stringAttribute(NAME, FilterOperator.EQ, FilterOperator.SW)
+                .booleanAttribute(ENABLED)
+                .stringAttribute(TAG, FilterOperator.EQ)
+                .build();
+    }
+
+    private static Predicate<Item> toPredicate(FilterSchema schema, String filter)
+            throws FilterCompilationException {
+
+        Map<String, Function<Item, String>> attributeValues = new HashMap<>();
+        attributeValues.put(NAME, item -> item.name);
+        attributeValues.put(ENABLED, item -> String.valueOf(item.enabled));
+        Map<String, Function<Item, Collection<String>>> multiValuedAttributeValues =
+                Collections.singletonMap(TAG, item -> item.tags);
+        return FilterCompiler.getInstance().compile(schema, filter).toPredicate(attributeValues,
+                multiValuedAttributeValues);
+    }
+
+    /**
+     * Item filtered in memory.
+     */
+    private static final class Item {
+
+        private final String name;
+        private final boolean enabled;
+        private final List<String> tags;
+
+        Item(String name, boolean enabled, String... tags) {
+
+            this.name = name;
+            this.enabled = enabled;
+            this.tags = tags.length == 0 ? null : Arrays.asList(tags);
+        }
+    }
+}
@@ -644,11 +644,12 @@ public class ServerConfigManagementService {
      */
     public List<SchemaListItem> getSchemas() {
 
+        ContextLoader.URIResolver uriResolver = ContextLoader.getURIResolver();
         return SchemaConfigParser.getInstance().getSchemaMap().keySet().stream()
                 .map(key -> {
                     final String schemaId = base64URLEncode(key);
                     return new SchemaListItem().id(schemaId).name(key)
-                            .self(ContextLoader.buildURIForBody(V1_API_PATH_COMPONENT +
+                            .self(uriResolver.buildURIForBody(V1_API_PATH_COMPONENT +
                                     CONFIGS_SCHEMAS_PATH_COMPONENT + PATH_SEPERATOR + schemaId).toString());
                 }).collect(Collectors.toList());
     }
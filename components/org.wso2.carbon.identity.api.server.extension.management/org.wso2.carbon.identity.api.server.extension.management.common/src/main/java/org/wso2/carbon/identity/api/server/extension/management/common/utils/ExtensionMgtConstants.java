@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2023-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -49,6 +49,8 @@ public class ExtensionMgtConstants {
                 "provided extension id: %s, extension type: %s."),
         ERROR_CODE_INVALID_EXTENSION_TYPE("60003", "Invalid extension type.", "Provided extension type: %s is " +
                 "invalid."),
+        ERROR_CODE_INVALID_PAGINATION_PARAMETER("60004", "Invalid pagination parameter.",
+                "The value of the pagination parameter '%s' should not be negative."),
 
         // Server Error starting from 650xx.
         ERROR_CODE_ERROR_GETTING_EXTENSION("65001", "Unable to get extension.",
@@ -76,6 +76,7 @@ public class ExtensionsApi  {
     @ApiOperation(value = "Get the extension metadata by type and id.", notes = "This API provides the capability to retrieve the extension metadata that is registered in the system.<br>   <b>Permission required:</b> <br>       * TBD <br>   <b>Scope required:</b> <br>       * TBD ", response = Map.class, responseContainer = "List", tags={ "Browse", })
     @ApiResponses(value = { 
         @ApiResponse(code = 200, message = "OK", response = String.class, responseContainer = "List"),
+        @ApiResponse(code = 304, message = "Not Modified", response = Void.class),
         @ApiResponse(code = 400, message = "Bad Request", response = Error.class),
         @ApiResponse(code = 401, message = "Unauthorized", response = Void.class),
         @ApiResponse(code = 403, message = "Forbidden", response = Void.class),
@@ -95,6 +96,7 @@ public class ExtensionsApi  {
     @ApiOperation(value = "Get the extension template by type and id.", notes = "This API provides the capability to retrieve the extension template that is registered in the system.<br>   <b>Permission required:</b> <br>       * TBD <br>   <b>Scope required:</b> <br>       * TBD ", response = String.class, responseContainer = "Map", tags={ "Browse", })
     @ApiResponses(value = { 
         @ApiResponse(code = 200, message = "OK", response = Map.class, responseContainer = "Map"),
+        @ApiResponse(code = 304, message = "Not Modified", response = Void.class),
         @ApiResponse(code = 400, message = "Bad Request", response = Error.class),
         @ApiResponse(code = 401, message = "Unauthorized", response = Void.class),
         @ApiResponse(code = 403, message = "Forbidden", response = Void.class),
@@ -114,6 +116,7 @@ public class ExtensionsApi  {
     @ApiOperation(value = "List the extensions.", notes = "This API provides the capability to retrieve the extensions that are registered in the system.<br>   <b>Permission required:</b> <br>       * TBD <br>   <b>Scope required:</b> <br>       * TBD ", response = ExtensionListItem.class, responseContainer = "List", tags={ "Browse", })
     @ApiResponses(value = { 
         @ApiResponse(code = 200, message = "Successful operation", response = ExtensionListItem.class, responseContainer = "List"),
+        @ApiResponse(code = 304, message = "Not Modified", response = Void.class),
         @ApiResponse(code = 400, message = "Bad Request", response = Error.class),
         @ApiResponse(code = 401, message = "Unauthorized", response = Void.class),
         @ApiResponse(code = 403, message = "Forbidden", response = Void.class),
@@ -121,9 +124,9 @@ public class ExtensionsApi  {
         @ApiResponse(code = 500, message = "Server Error", response = Error.class),
         @ApiResponse(code = 501, message = "Not Implemented", response = Error.class)
     })
-    public Response listExtensions() {
+    public Response listExtensions(    @Valid @Min(0)@ApiParam(value = "Maximum number of records to return.")  @QueryParam("limit") Integer limit,     @Valid @Min(0)@ApiParam(value = "Number of records to skip for pagination.")  @QueryParam("offset") Integer offset) {
 
-        return delegate.listExtensions();
+        return delegate.listExtensions(limit,  offset );
     }
 
     @Valid
@@ -134,6 +137,7 @@ public class ExtensionsApi  {
     @ApiOperation(value = "List the extensions by type.", notes = "This API provides the capability to retrieve the extensions that are registered in the system.<br>   <b>Permission required:</b> <br>       * TBD <br>   <b>Scope required:</b> <br>       * TBD ", response = ExtensionListItem.class, responseContainer = "List", tags={ "Browse" })
     @ApiResponses(value = { 
         @ApiResponse(code = 200, message = "Successful operation", response = ExtensionListItem.class, responseContainer = "List"),
+        @ApiResponse(code = 304, message = "Not Modified", response = Void.class),
         @ApiResponse(code = 400, message = "Bad Request", response = Error.class),
         @ApiResponse(code = 401, message = "Unauthorized", response = Void.class),
         @ApiResponse(code = 403, message = "Forbidden", response = Void.class),
@@ -141,9 +145,9 @@ public class ExtensionsApi  {
         @ApiResponse(code = 500, message = "Server Error", response = Error.class),
         @ApiResponse(code = 501, message = "Not Implemented", response = Error.class)
     })
-    public Response listExtensionsByType(@ApiParam(value = "ID of the extension",required=true) @PathParam("extensionType") String extensionType) {
+    public Response listExtensionsByType(@ApiParam(value = "ID of the extension",required=true) @PathParam("extensionType") String extensionType,     @Valid @Min(0)@ApiParam(value = "Maximum number of records to return.")  @QueryParam("limit") Integer limit,     @Valid @Min(0)@ApiParam(value = "Number of records to skip for pagination.")  @QueryParam("offset") Integer offset) {
 
-        return delegate.listExtensionsByType(extensionType );
+        return delegate.listExtensionsByType(extensionType,  limit,  offset );
     }
 
 }
@@ -39,7 +39,7 @@ public interface ExtensionsApiService {
 
       public Response getTemplateById(String extensionType, String extensionId);
 
-      public Response listExtensions();
+      public Response listExtensions(Integer limit, Integer offset);
 
-      public Response listExtensionsByType(String extensionType);
+      public Response listExtensionsByType(String extensionType, Integer limit, Integer offset);
 }
@@ -0,0 +1,383 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.extension.management.v1.core;
+
+import org.json.JSONObject;
+import org.wso2.carbon.identity.api.server.common.Constants;
+import org.wso2.carbon.identity.api.server.common.ContextLoader;
+import org.wso2.carbon.identity.api.server.common.Util;
+import org.wso2.carbon.identity.api.server.common.cache.LocalCache;
+import org.wso2.carbon.identity.api.server.extension.management.common.ExtensionManagementServiceHolder;
+import org.wso2.carbon.identity.api.server.extension.management.v1.function.ExtensionListItemBuilder;
+import org.wso2.carbon.identity.api.server.extension.management.v1.model.ExtensionListItem;
+import org.wso2.carbon.identity.extension.mgt.exception.ExtensionManagementException;
+import org.wso2.carbon.identity.extension.mgt.model.ExtensionInfo;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import static org.wso2.carbon.identity.api.server.extension.management.common.utils.ExtensionMgtConstants.EXTENSION_MGT_PATH_COMPONENT;
+
+/**
+ * Catalogue of the serialized extension list, template and metadata responses.
+ * <p>
+ * Extensions are loaded by the extension manager when the server starts and only change on a redeployment, hence
+ * the responses are serialized once and served along with their strong entity tags from then on. The lists, their
+ * pages, the templates and the metadata are shared by all the tenants. The only tenant specific values are the
+ * 'self' links of the list items, which are serialized with a placeholder in place of the API location, and the
+ * location of the tenant or organization of the request is filled in when a page is served.
+ */
+public final class ExtensionCatalogue {
+
+    private static final int MAX_CACHED_LISTS = 100;
+    private static final int MAX_CACHED_PAGES = 100;
+    private static final int MAX_CACHED_DOCUMENTS = 1000;
+    private static final String TEMPLATE = "TEMPLATE";
+    private static final String METADATA = "METADATA";
+    // Extension types are never blank, hence the key of the list of all the extensions does not clash with a type.
+    private static final String ALL_EXTENSIONS = "";
+    private static final String LOCATION_PLACEHOLDER = "urn:wso2:extension-catalogue:location";
+    private static final byte[] LOCATION_PLACEHOLDER_BYTES = LOCATION_PLACEHOLDER.getBytes(StandardCharsets.UTF_8);
+
+    private static final ExtensionCatalogue INSTANCE = new ExtensionCatalogue();
+
+    private final LocalCache<String, ExtensionList> extensionLists = new LocalCache<>(MAX_CACHED_LISTS);
+    private final LocalCache<DocumentKey, CatalogueContent> documents = new LocalCache<>(MAX_CACHED_DOCUMENTS);
+
+    private ExtensionCatalogue() {
+
+    }
+
+    public static ExtensionCatalogue getInstance() {
+
+        return INSTANCE;
+    }
+
+    /**
+     * Get a page of the list of all the extensions.
+     *
+     * @param limit  Maximum number of extensions to return, or null to return all the remaining extensions.
+     * @param offset Number of extensions to skip.
+     * @return Serialized page of extensions.
+     */
+    public CatalogueContent getExtensions(Integer limit, int offset) {
+
+        ExtensionList extensionList = extensionLists.get(ALL_EXTENSIONS);
+        if (extensionList == null) {
+            extensionList = extensionLists.putIfAbsent(ALL_EXTENSIONS, ExtensionList.of(
+                    ExtensionManagementServiceHolder.getExtensionManager().getExtensions()));
+        }
+        return extensionList.getPage(limit, offset).render(getExtensionsLocation());
+    }
+
+    /**
+     * Get a page of the list of the extensions of a given type.
+     *
+     * @param extensionType Type of the extensions.
+     * @param limit         Maximum number of extensions to return, or null to return all the remaining extensions.
+     * @param offset        Number of extensions to skip.
+     * @return Serialized page of extensions.
+     * @throws ExtensionManagementException If an error occurs while getting the extensions.
+     */
+    public CatalogueContent getExtensionsByType(String extensionType, Integer limit, int offset)
+            throws ExtensionManagementException {
+
+        ExtensionList extensionList = extensionLists.get(extensionType);
+        if (extensionList == null) {
+            extensionList = extensionLists.putIfAbsent(extensionType, ExtensionList.of(
+                    ExtensionManagementServiceHolder.getExtensionManager().getExtensionsByType(extensionType)));
+        }
+        return extensionList.getPage(limit, offset).render(getExtensionsLocation());
+    }
+
+    /**
+     * Get the template of an extension.
+     *
+     * @param extensionType Type of the extension.
+     * @param extensionId   Id of the extension.
+     * @return Serialized template, or null if the extension has no template.
+     * @throws ExtensionManagementException If an error occurs while getting the template.
+     */
+    public CatalogueContent getTemplate(String extensionType, String extensionId)
+            throws ExtensionManagementException {
+
+        DocumentKey documentKey = new DocumentKey(TEMPLATE, extensionType, extensionId);
+        CatalogueContent template = documents.get(documentKey);
+        if (template == null) {
+            JSONObject templateJSON = ExtensionManagementServiceHolder.getExtensionManager()
+                    .getExtensionTemplate(extensionType, extensionId);
+            if (templateJSON == null) {
+                return null;
+            }
+            template = documents.putIfAbsent(documentKey, CatalogueContent.of(toBytes(templateJSON)));
+        }
+        return template;
+    }
+
+    /**
+     * Get the metadata of an extension.
+     *
+     * @param extensionType Type of the extension.
+     * @param extensionId   Id of the extension.
+     * @return Serialized metadata, or null if the extension has no metadata.
+     * @throws ExtensionManagementException If an error occurs while getting the metadata.
+     */
+    public CatalogueContent getMetadata(String extensionType, String extensionId)
+            throws ExtensionManagementException {
+
+        DocumentKey documentKey = new DocumentKey(METADATA, extensionType, extensionId);
+        CatalogueContent metadata = documents.get(documentKey);
+        if (metadata == null) {
+            JSONObject metadataJSON = ExtensionManagementServiceHolder.getExtensionManager()
+                    .getExtensionMetadata(extensionType, extensionId);
+            if (metadataJSON == null) {
+                return null;
+            }
+            metadata = documents.putIfAbsent(documentKey, CatalogueContent.of(toBytes(metadataJSON)));
+        }
+        return metadata;
+    }
+
+    /**
+     * Get the location of the extensions API for the tenant or organization of the request, which prefixes the
+     * links of the listed extensions.
+     */
+    private static String getExtensionsLocation() {
+
+        return ContextLoader.buildURIForBody(Constants.V1_API_PATH_COMPONENT + EXTENSION_MGT_PATH_COMPONENT)
+                .toString();
+    }
+
+    private static byte[] toBytes(JSONObject jsonObject) {
+
+        return jsonObject.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Serialized content of a catalogue response along with its strong entity tag.
+     * Instances are shared between requests, hence the content must not be modified.
+     */
+    public static final class CatalogueContent {
+
+        private final byte[] content;
+        private final String eTag;
+
+        private CatalogueContent(byte[] content, String eTag) {
+
+            this.content = content;
+            this.eTag = eTag;
+        }
+
+        static CatalogueContent of(byte[] content) {
+
+            return new CatalogueContent(content, Util.buildStrongETag(content));
+        }
+
+        public byte[] getContent() {
+
+            return content;
+        }
+
+        public String getETag() {
+
+            return eTag;
+        }
+    }
+
+    /**
+     * Immutable list of extensions, with each list item serialized separately so that pages are built by joining
+     * the serialized items. The pages are cached along with the list, as the clients mostly request the same pages.
+     */
+    private static final class ExtensionList {
+
+        private final List<byte[]> items;
+        private final LocalCache<Long, PageTemplate> pages = new LocalCache<>(MAX_CACHED_PAGES);
+
+        private ExtensionList(List<byte[]> items) {
+
+            this.items = Collections.unmodifiableList(items);
+        }
+
+        static ExtensionList of(List<ExtensionInfo> extensionInfoList) {
+
+            List<byte[]> items = new ArrayList<>();
+            if (extensionInfoList != null) {
+                ExtensionListItemBuilder listItemBuilder = new ExtensionListItemBuilder();
+                for (ExtensionInfo extensionInfo : extensionInfoList) {
+                    ExtensionListItem listItem = listItemBuilder.apply(extensionInfo);
+                    listItem.setSelf(LOCATION_PLACEHOLDER + '/' + extensionInfo.getType() + '/' +
+                            extensionInfo.getId());
+                    try {
+                        items.add(Util.serializeAsJson(listItem));
+                    } catch (IOException e) {
+                        throw new IllegalStateException("Error while serializing the extension: " +
+                                extensionInfo.getId() + " of type: " + extensionInfo.getType(), e);
+                    }
+                }
+            }
+            return new ExtensionList(items);
+        }
+
+        PageTemplate getPage(Integer limit, int offset) {
+
+            int fromIndex = Math.min(offset, items.size());
+            int toIndex = limit == null ? items.size() : (int) Math.min((long) fromIndex + limit, items.size());
+            // Pages are keyed by the range of items they hold, so that requests selecting the same items share it.
+            Long pageKey = ((long) fromIndex << Integer.SIZE) | toIndex;
+            PageTemplate page = pages.get(pageKey);
+            if (page == null) {
+                page = pages.putIfAbsent(pageKey, PageTemplate.of(join(items.subList(fromIndex, toIndex))));
+            }
+            return page;
+        }
+
+        private static byte[] join(List<byte[]> serializedItems) {
+
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            outputStream.write('[');
+            for (int i = 0; i < serializedItems.size(); i++) {
+                if (i > 0) {
+                    outputStream.write(',');
+                }
+                byte[] item = serializedItems.get(i);
+                outputStream.write(item, 0, item.length);
+            }
+            outputStream.write(']');
+            return outputStream.toByteArray();
+        }
+    }
+
+    /**
+     * Serialized page of an extension list, split at the placeholders of the API location, along with the entity
+     * tag of the tenant independent content.
+     */
+    private static final class PageTemplate {
+
+        private final List<byte[]> segments;
+        private final int length;
+        private final String eTag;
+
+        private PageTemplate(List<byte[]> segments, int length, String eTag) {
+
+            this.segments = segments;
+            this.length = length;
+            this.eTag = eTag;
+        }
+
+        static PageTemplate of(byte[] content) {
+
+            List<byte[]> segments = new ArrayList<>();
+            int segmentStart = 0;
+            int index = indexOfPlaceholder(content, 0);
+            while (index >= 0) {
+                segments.add(Arrays.copyOfRange(content, segmentStart, index));
+                segmentStart = index + LOCATION_PLACEHOLDER_BYTES.length;
+                index = indexOfPlaceholder(content, segmentStart);
+            }
+            segments.add(Arrays.copyOfRange(content, segmentStart, content.length));
+            return new PageTemplate(segments, content.length - (segments.size() - 1) *
+                    LOCATION_PLACEHOLDER_BYTES.length, Util.buildStrongETag(content));
+        }
+
+        /**
+         * Fill in the API location of the request. The entity tag is derived from the entity tag of the template
+         * and the location, as the location is the only value which differs between the tenants.
+         *
+         * @param location API location of the tenant or organization of the request.
+         * @return Serialized page.
+         */
+        CatalogueContent render(String location) {
+
+            String quotedLocation = JSONObject.quote(location);
+            byte[] locationBytes = quotedLocation.substring(1, quotedLocation.length() - 1)
+                    .getBytes(StandardCharsets.UTF_8);
+            byte[] content = new byte[length + (segments.size() - 1) * locationBytes.length];
+            int position = 0;
+            for (int i = 0; i < segments.size(); i++) {
+                if (i > 0) {
+                    System.arraycopy(locationBytes, 0, content, position, locationBytes.length);
+                    position += locationBytes.length;
+                }
+                byte[] segment = segments.get(i);
+                System.arraycopy(segment, 0, content, position, segment.length);
+                position += segment.length;
+            }
+            return new CatalogueContent(content,
+                    Util.buildStrongETag((eTag + location).getBytes(StandardCharsets.UTF_8)));
+        }
+
+        private static int indexOfPlaceholder(byte[] content, int fromIndex) {
+
+            for (int i = fromIndex; i <= content.length - LOCATION_PLACEHOLDER_BYTES.length; i++) {
+                int j = 0;
+                while (j < LOCATION_PLACEHOLDER_BYTES.length && content[i + j] == LOCATION_PLACEHOLDER_BYTES[j]) {
+                    j++;
+                }
+                if (j == LOCATION_PLACEHOLDER_BYTES.length) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * Cache key of an extension template or metadata document.
+     */
+    private static final class DocumentKey {
+
+        private final String document;
+        private final String extensionType;
+        private final String extensionId;
+
+        DocumentKey(String document, String extensionType, String extensionId) {
+
+            this.document = document;
+            this.extensionType = extensionType;
+            this.extensionId = extensionId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            DocumentKey documentKey = (DocumentKey) o;
+            return document.equals(documentKey.document) && extensionType.equals(documentKey.extensionType) &&
+                    extensionId.equals(documentKey.extensionId);
+        }
+
+        @Override
+        public int hashCode() {
+
+            return Objects.hash(document, extensionType, extensionId);
+        }
+    }
+}
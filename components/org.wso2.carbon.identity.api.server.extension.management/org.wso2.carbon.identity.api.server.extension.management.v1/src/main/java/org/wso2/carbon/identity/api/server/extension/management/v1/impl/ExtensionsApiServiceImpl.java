@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2023-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -18,18 +18,22 @@
 
 package org.wso2.carbon.identity.api.server.extension.management.v1.impl;
 
-import org.json.JSONObject;
+import org.wso2.carbon.identity.api.server.common.Util;
 import org.wso2.carbon.identity.api.server.extension.management.common.ExtensionManagementServiceHolder;
 import org.wso2.carbon.identity.api.server.extension.management.common.utils.ExtensionMgtConstants;
 import org.wso2.carbon.identity.api.server.extension.management.common.utils.ExtensionMgtUtils;
 import org.wso2.carbon.identity.api.server.extension.management.v1.ExtensionsApiService;
-import org.wso2.carbon.identity.api.server.extension.management.v1.function.ExtensionListItemBuilder;
+import org.wso2.carbon.identity.api.server.extension.management.v1.core.ExtensionCatalogue;
+import org.wso2.carbon.identity.api.server.extension.management.v1.core.ExtensionCatalogue.CatalogueContent;
 import org.wso2.carbon.identity.api.server.extension.management.v1.function.ExtensionResponseModelBuilder;
 import org.wso2.carbon.identity.extension.mgt.exception.ExtensionManagementException;
 import org.wso2.carbon.identity.extension.mgt.model.ExtensionInfo;
 
-import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Collections;
+import java.util.Map;
+
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 
 import static org.wso2.carbon.identity.api.server.extension.management.common.utils.ExtensionMgtUtils.validateExtensionType;
@@ -40,36 +44,41 @@ import static org.wso2.carbon.identity.api.server.extension.management.common.ut
  */
 public class ExtensionsApiServiceImpl implements ExtensionsApiService {
 
+    private static final Map<String, Object> JSON_ENTITY_HEADERS =
+            Collections.singletonMap(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON);
+
     /**
      * Get all the extensions.
      *
+     * @param limit  Maximum number of extensions to return.
+     * @param offset Number of extensions to skip.
      * @return List of extensions.
      */
     @Override
-    public Response listExtensions() {
+    public Response listExtensions(Integer limit, Integer offset) {
 
-        List<ExtensionInfo> extensionInfoList = ExtensionManagementServiceHolder.getExtensionManager()
-                .getExtensions();
-        return Response.ok().entity(extensionInfoList.stream().map(new
-                ExtensionListItemBuilder()).collect(Collectors.toList())).build();
+        validatePaginationParameters(limit, offset);
+        CatalogueContent extensions = ExtensionCatalogue.getInstance().getExtensions(limit, resolveOffset(offset));
+        return buildCatalogueResponse(extensions);
     }
 
     /**
      * Get all the extensions of a given type.
      *
      * @param extensionType Type of the extension.
+     * @param limit         Maximum number of extensions to return.
+     * @param offset        Number of extensions to skip.
      * @return List of extensions.
      */
     @Override
-    public Response listExtensionsByType(String extensionType) {
+    public Response listExtensionsByType(String extensionType, Integer limit, Integer offset) {
 
-        // TODO: Add pagination support.
         validateExtensionType(extensionType);
+        validatePaginationParameters(limit, offset);
         try {
-            List<ExtensionInfo> extensionInfoList = ExtensionManagementServiceHolder.getExtensionManager()
-                    .getExtensionsByType(extensionType);
-            return Response.ok().entity(extensionInfoList.stream().map(new
-                    ExtensionListItemBuilder()).collect(Collectors.toList())).build();
+            CatalogueContent extensions = ExtensionCatalogue.getInstance().getExtensionsByType(extensionType, limit,
+                    resolveOffset(offset));
+            return buildCatalogueResponse(extensions);
         } catch (ExtensionManagementException e) {
             throw ExtensionMgtUtils.handleServerException(Response.Status.INTERNAL_SERVER_ERROR,
                     ExtensionMgtConstants.ErrorMessage.ERROR_CODE_ERROR_GETTING_EXTENSIONS_BY_TYPE, e, extensionType);
@@ -114,13 +123,12 @@ public class ExtensionsApiServiceImpl implements ExtensionsApiService {
 
         validateExtensionType(extensionType);
         try {
-            JSONObject template = ExtensionManagementServiceHolder.getExtensionManager()
-                    .getExtensionTemplate(extensionType, extensionId);
+            CatalogueContent template = ExtensionCatalogue.getInstance().getTemplate(extensionType, extensionId);
             if (template == null) {
                 throw ExtensionMgtUtils.handleClientException(Response.Status.NOT_FOUND,
                         ExtensionMgtConstants.ErrorMessage.ERROR_CODE_TEMPLATE_NOT_FOUND, extensionId, extensionType);
             }
-            return Response.ok().entity(template.toString()).build();
+            return buildCatalogueResponse(template);
         } catch (ExtensionManagementException e) {
             throw ExtensionMgtUtils.handleServerException(Response.Status.INTERNAL_SERVER_ERROR,
                     ExtensionMgtConstants.ErrorMessage.ERROR_CODE_ERROR_GETTING_TEMPLATE, e, extensionId,
@@ -140,17 +148,46 @@ public class ExtensionsApiServiceImpl implements ExtensionsApiService {
 
         validateExtensionType(extensionType);
         try {
-            JSONObject metadata = ExtensionManagementServiceHolder.getExtensionManager()
-                    .getExtensionMetadata(extensionType, extensionId);
+            CatalogueContent metadata = ExtensionCatalogue.getInstance().getMetadata(extensionType, extensionId);
             if (metadata == null) {
                 throw ExtensionMgtUtils.handleClientException(Response.Status.NOT_FOUND,
                         ExtensionMgtConstants.ErrorMessage.ERROR_CODE_METADATA_NOT_FOUND, extensionId, extensionType);
             }
-            return Response.ok().entity(metadata.toString()).build();
+            return buildCatalogueResponse(metadata);
         } catch (ExtensionManagementException e) {
             throw ExtensionMgtUtils.handleServerException(Response.Status.INTERNAL_SERVER_ERROR,
                     ExtensionMgtConstants.ErrorMessage.ERROR_CODE_ERROR_GETTING_METADATA, e, extensionId,
                     extensionType);
         }
     }
+
+    /**
+     * Build the response of a catalogue content, answering with 'Not Modified' if the client already has the
+     * current content.
+     *
+     * @param catalogueContent Serialized catalogue content.
+     * @return Response.
+     */
+    private Response buildCatalogueResponse(CatalogueContent catalogueContent) {
+
+        return Util.buildConditionalResponse(catalogueContent.getContent(), catalogueContent.getETag(),
+                JSON_ENTITY_HEADERS).build();
+    }
+
+    private void validatePaginationParameters(Integer limit, Integer offset) {
+
+        if (limit != null && limit < 0) {
+            throw ExtensionMgtUtils.handleClientException(Response.Status.BAD_REQUEST,
+                    ExtensionMgtConstants.ErrorMessage.ERROR_CODE_INVALID_PAGINATION_PARAMETER, "limit");
+        }
+        if (offset != null && offset < 0) {
+            throw ExtensionMgtUtils.handleClientException(Response.Status.BAD_REQUEST,
+                    ExtensionMgtConstants.ErrorMessage.ERROR_CODE_INVALID_PAGINATION_PARAMETER, "offset");
+        }
+    }
+
+    private int resolveOffset(Integer offset) {
+
+        return offset == null ? 0 : offset;
+    }
 }
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.extension.management.v1.core;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.json.JSONArray;
+import org.mockito.MockedStatic;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.api.server.common.ContextLoader;
+import org.wso2.carbon.identity.api.server.common.Util;
+import org.wso2.carbon.identity.api.server.extension.management.common.ExtensionManagementServiceHolder;
+import org.wso2.carbon.identity.api.server.extension.management.v1.core.ExtensionCatalogue.CatalogueContent;
+import org.wso2.carbon.identity.extension.mgt.ExtensionManager;
+import org.wso2.carbon.identity.extension.mgt.exception.ExtensionManagementException;
+import org.wso2.carbon.identity.extension.mgt.model.ExtensionInfo;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link ExtensionCatalogue}.
+ */
+public class ExtensionCatalogueTest {
+
+    private static final String EXTENSIONS_PATH = "/api/server/v1/extensions";
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private String tenantLocation;
+    private ExtensionManager extensionManager;
+    private MockedStatic<Util> util;
+    private MockedStatic<ContextLoader> contextLoader;
+    private MockedStatic<ExtensionManagementServiceHolder> serviceHolder;
+
+    @BeforeMethod
+    public void setUp() {
+
+        tenantLocation = "https://localhost:9443/t/tenant-a";
+        extensionManager = mock(ExtensionManager.class);
+
+        util = mockStatic(Util.class, CALLS_REAL_METHODS);
+        util.when(() -> Util.serializeAsJson(any())).thenAnswer(invocation ->
+                OBJECT_MAPPER.writeValueAsBytes(invocation.getArgument(0)));
+        contextLoader = mockStatic(ContextLoader.class);
+        contextLoader.when(() -> ContextLoader.buildURIForBody(anyString())).thenAnswer(invocation ->
+                URI.create(tenantLocation + invocation.getArgument(0)));
+        serviceHolder = mockStatic(ExtensionManagementServiceHolder.class);
+        serviceHolder.when(ExtensionManagementServiceHolder::getExtensionManager).thenReturn(extensionManager);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        serviceHolder.close();
+        contextLoader.close();
+        util.close();
+    }
+
+    @Test
+    public void testListIsSharedByTenantsWithTheirOwnLinks() throws ExtensionManagementException {
+
+        String type = "sharedType";
+        mockExtensions(type, 2);
+
+        CatalogueContent tenantAPage = ExtensionCatalogue.getInstance().getExtensionsByType(type, null, 0);
+        tenantLocation = "https://localhost:9443/t/tenant-b";
+        CatalogueContent tenantBPage = ExtensionCatalogue.getInstance().getExtensionsByType(type, null, 0);
+
+        verify(extensionManager, times(1)).getExtensionsByType(type);
+        JSONArray tenantAItems = toJSONArray(tenantAPage);
+        JSONArray tenantBItems = toJSONArray(tenantBPage);
+        Assert.assertEquals(tenantAItems.length(), 2);
+        Assert.assertEquals(tenantAItems.getJSONObject(0).getString("self"),
+                "https://localhost:9443/t/tenant-a" + EXTENSIONS_PATH + "/" + type + "/" + type + "-0");
+        Assert.assertEquals(tenantBItems.getJSONObject(1).getString("self"),
+                "https://localhost:9443/t/tenant-b" + EXTENSIONS_PATH + "/" + type + "/" + type + "-1");
+        Assert.assertEquals(tenantBItems.getJSONObject(1).getString("name"), "Extension 1");
+        Assert.assertNotEquals(tenantAPage.getETag(), tenantBPage.getETag());
+    }
+
+    @Test
+    public void testPagesHoldTheRequestedRange() throws ExtensionManagementException {
+
+        String type = "pagedType";
+        mockExtensions(type, 5);
+
+        JSONArray secondPage = toJSONArray(ExtensionCatalogue.getInstance().getExtensionsByType(type, 2, 2));
+        JSONArray lastPage = toJSONArray(ExtensionCatalogue.getInstance().getExtensionsByType(type, 10, 4));
+        JSONArray pastTheEnd = toJSONArray(ExtensionCatalogue.getInstance().getExtensionsByType(type, 2, 7));
+
+        Assert.assertEquals(secondPage.length(), 2);
+        Assert.assertEquals(secondPage.getJSONObject(0).getString("id"), type + "-2");
+        Assert.assertEquals(secondPage.getJSONObject(1).getString("id"), type + "-3");
+        Assert.assertEquals(lastPage.length(), 1);
+        Assert.assertEquals(lastPage.getJSONObject(0).getString("id"), type + "-4");
+        Assert.assertEquals(pastTheEnd.length(), 0);
+    }
+
+    @Test
+    public void testRepeatedPageIsServedFromTheCache() throws Exception {
+
+        String type = "cachedType";
+        mockExtensions(type, 3);
+
+        CatalogueContent firstPage = ExtensionCatalogue.getInstance().getExtensionsByType(type, 2, 0);
+        CatalogueContent repeatedPage = ExtensionCatalogue.getInstance().getExtensionsByType(type, 2, 0);
+
+        Assert.assertEquals(repeatedPage.getContent(), firstPage.getContent());
+        Assert.assertEquals(repeatedPage.getETag(), firstPage.getETag());
+        // Each item is serialized once, when the list is loaded.
+        util.verify(() -> Util.serializeAsJson(any()), times(3));
+        // The page content is tagged once, each response only tags the page tag along with the API location.
+        util.verify(() -> Util.buildStrongETag(any(byte[].class)), times(3));
+    }
+
+    private void mockExtensions(String type, int count) throws ExtensionManagementException {
+
+        List<ExtensionInfo> extensions = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            ExtensionInfo extensionInfo = mock(ExtensionInfo.class);
+            when(extensionInfo.getId()).thenReturn(type + "-" + i);
+            when(extensionInfo.getType()).thenReturn(type);
+            when(extensionInfo.getName()).thenReturn("Extension " + i);
+            extensions.add(extensionInfo);
+        }
+        when(extensionManager.getExtensionsByType(type)).thenReturn(extensions);
+    }
+
+    private static JSONArray toJSONArray(CatalogueContent catalogueContent) {
+
+        return new JSONArray(new String(catalogueContent.getContent(), StandardCharsets.UTF_8));
+    }
+}
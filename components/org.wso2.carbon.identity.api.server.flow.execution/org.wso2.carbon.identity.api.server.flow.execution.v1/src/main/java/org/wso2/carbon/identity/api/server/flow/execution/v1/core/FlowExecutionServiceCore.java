@@ -18,8 +18,6 @@
 
 package org.wso2.carbon.identity.api.server.flow.execution.v1.core;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.commons.lang.StringUtils;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
 import org.wso2.carbon.identity.api.server.flow.execution.v1.FlowExecutionRequest;
@@ -29,9 +27,7 @@ import org.wso2.carbon.identity.flow.execution.engine.FlowExecutionService;
 import org.wso2.carbon.identity.flow.execution.engine.exception.FlowEngineException;
 import org.wso2.carbon.identity.flow.execution.engine.model.FlowExecutionStep;
 
-import java.util.Collections;
 import java.util.Map;
-import java.util.Optional;
 
 /**
  * Service class for flow execution.
@@ -59,10 +55,7 @@ public class FlowExecutionServiceCore {
                 Utils.validateFlowInitiation(flowExecutionRequest);
             }
 
-            ObjectMapper objectMapper = new ObjectMapper();
-            Map<String, String> inputMap = Optional.ofNullable(flowExecutionRequest.getInputs())
-                    .map(inputs -> objectMapper.convertValue(inputs, new MapTypeReference()))
-                    .orElse(Collections.emptyMap());
+            Map<String, String> inputMap = Utils.convertToInputMap(flowExecutionRequest.getInputs());
             FlowExecutionStep flowExecutionStep = flowExecutionService.executeFlow(tenantDomain,
                     flowExecutionRequest.getApplicationId(), flowExecutionRequest.getFlowId(),
                     flowExecutionRequest.getActionId(), flowExecutionRequest.getFlowType(), inputMap);
@@ -82,11 +75,4 @@ public class FlowExecutionServiceCore {
             throw Utils.handleFlowException(e, tenantDomain);
         }
     }
-
-    /**
-     * Static inner class for TypeReference.
-     */
-    private static class MapTypeReference extends TypeReference<Map<String, String>> {
-
-    }
 }
@@ -18,7 +18,7 @@
 
 package org.wso2.carbon.identity.api.server.flow.execution.v1.utils;
 
-import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
@@ -31,6 +31,7 @@ import org.wso2.carbon.identity.api.server.flow.execution.v1.Data;
 import org.wso2.carbon.identity.api.server.flow.execution.v1.FlowExecutionRequest;
 import org.wso2.carbon.identity.api.server.flow.execution.v1.constants.FlowExecutionEndpointConstants;
 import org.wso2.carbon.identity.api.server.flow.execution.v1.model.FlowExecutionErrorDTO;
+import org.wso2.carbon.identity.api.server.flow.management.common.FlowEnabledStatusCache;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.flow.execution.engine.exception.FlowEngineClientException;
 import org.wso2.carbon.identity.flow.execution.engine.exception.FlowEngineException;
@@ -42,9 +43,13 @@ import org.wso2.carbon.identity.flow.mgt.model.DataDTO;
 import org.wso2.carbon.identity.flow.mgt.model.FlowConfigDTO;
 
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 import javax.ws.rs.core.Response;
 
@@ -60,6 +65,14 @@ public class Utils {
 
     private static final String RESEND = "RESEND";
     private static final Log LOG = LogFactory.getLog(Utils.class);
+    private static final Set<String> FLOW_TYPES = getFlowTypeNames();
+
+    // Object mappers are thread safe once configured, hence a single instance and the resolved types are shared.
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final JavaType STRING_MAP_TYPE =
+            OBJECT_MAPPER.getTypeFactory().constructMapType(HashMap.class, String.class, String.class);
+    private static final JavaType OBJECT_MAP_TYPE =
+            OBJECT_MAPPER.getTypeFactory().constructMapType(LinkedHashMap.class, String.class, Object.class);
 
     private Utils() {
 
@@ -168,16 +181,12 @@ public class Utils {
         switch (type) {
             case Constants.StepTypes.VIEW:
                 if (dataDTO.getComponents() != null && !dataDTO.getComponents().isEmpty()) {
-                    return data.components(dataDTO.getComponents().stream()
-                            .map(Utils::convertToComponent)
-                            .collect(Collectors.toList()));
+                    return data.components(convertToComponents(dataDTO.getComponents()));
                 }
                 return data.components(new ArrayList<>());
             case Constants.StepTypes.REDIRECTION:
                 if (dataDTO.getComponents() != null && !dataDTO.getComponents().isEmpty()) {
-                    data.components(dataDTO.getComponents().stream()
-                            .map(Utils::convertToComponent)
-                            .collect(Collectors.toList()));
+                    data.components(convertToComponents(dataDTO.getComponents()));
                 }
                 return data.redirectURL(dataDTO.getRedirectURL());
             case Constants.StepTypes.WEBAUTHN:
@@ -187,6 +196,25 @@ public class Utils {
         }
     }
 
+    /**
+     * Converts the inputs of a flow execution request to a map of input values.
+     *
+     * @param inputs Inputs of the flow execution request.
+     * @return Map of input values, or an empty map if there are no inputs.
+     */
+    public static Map<String, String> convertToInputMap(Object inputs) {
+
+        if (inputs == null) {
+            return Collections.emptyMap();
+        }
+        if (isStringValuedMap(inputs)) {
+            @SuppressWarnings("unchecked")
+            Map<String, String> inputMap = new HashMap<>((Map<String, String>) inputs);
+            return inputMap;
+        }
+        return OBJECT_MAPPER.convertValue(inputs, STRING_MAP_TYPE);
+    }
+
     /**
      * Validates the flow initiation request.
      *
@@ -195,8 +223,7 @@ public class Utils {
     public static void validateFlowInitiation(FlowExecutionRequest flowExecutionRequest) {
 
         String flowType = flowExecutionRequest.getFlowType();
-        if (StringUtils.isBlank(flowType) || Arrays.stream(Constants.FlowTypes.values())
-                .noneMatch(type -> type.name().equals(flowType))) {
+        if (StringUtils.isBlank(flowType) || !FLOW_TYPES.contains(flowType)) {
             throw Utils.handleFlowException(new FlowEngineClientException(
                     ERROR_CODE_INVALID_FLOW_TYPE.getCode(),
                     ERROR_CODE_INVALID_FLOW_TYPE.getMessage(),
@@ -222,10 +249,17 @@ public class Utils {
      */
     public static boolean isOrchestrationEnabled(String flowType, String tenantDomain) {
 
+        int tenantId = IdentityTenantUtil.getTenantId(tenantDomain);
+        Boolean enabled = FlowEnabledStatusCache.getInstance().getEnabledStatus(tenantId, flowType);
+        if (enabled != null) {
+            return enabled;
+        }
         try {
             FlowConfigDTO flowConfig = FlowExecutionServiceHolder.getFlowMgtService().getFlowConfig(
-                    flowType, IdentityTenantUtil.getTenantId(tenantDomain));
-            return flowConfig.getIsEnabled();
+                    flowType, tenantId);
+            boolean flowEnabled = flowConfig.getIsEnabled();
+            FlowEnabledStatusCache.getInstance().putEnabledStatus(tenantId, flowType, flowEnabled);
+            return flowEnabled;
         } catch (FlowMgtFrameworkException e) {
             throw handleFlowException(new FlowEngineServerException(
                     ERROR_CODE_GET_FLOW_CONFIG.getCode(),
@@ -234,6 +268,24 @@ public class Utils {
         }
     }
 
+    private static Set<String> getFlowTypeNames() {
+
+        Set<String> flowTypes = new HashSet<>();
+        for (Constants.FlowTypes flowType : Constants.FlowTypes.values()) {
+            flowTypes.add(flowType.name());
+        }
+        return Collections.unmodifiableSet(flowTypes);
+    }
+
+    private static List<Component> convertToComponents(List<ComponentDTO> componentDTOs) {
+
+        List<Component> components = new ArrayList<>(componentDTOs.size());
+        for (ComponentDTO componentDTO : componentDTOs) {
+            components.add(convertToComponent(componentDTO));
+        }
+        return components;
+    }
+
     private static Component convertToComponent(ComponentDTO componentDTO) {
 
         if (componentDTO == null) {
@@ -245,22 +297,27 @@ public class Utils {
                 .type(componentDTO.getType())
                 .variant(componentDTO.getVariant())
                 .config(convertToMap(componentDTO.getConfigs()))
-                .components(componentDTO.getComponents() != null ? componentDTO.getComponents().stream()
-                        .map(Utils::convertToComponent)
-                        .collect(Collectors.toList()) : null);
+                .components(componentDTO.getComponents() != null ?
+                        convertToComponents(componentDTO.getComponents()) : null);
         if (Constants.ComponentTypes.BUTTON.equals(componentDTO.getType())) {
             component.actionId(componentDTO.getId());
         } else if (Constants.ComponentTypes.FORM.equals(componentDTO.getType())
                 && componentDTO.getComponents() != null) {
             // Set the action id of the button component to the RESEND components inside the form.
-            String formActionId = componentDTO.getComponents().stream()
-                    .filter(c -> Constants.ComponentTypes.BUTTON.equals(c.getType()))
-                    .findFirst()
-                    .map(ComponentDTO::getId)
-                    .orElse(null);
+            String formActionId = null;
+            for (ComponentDTO childComponentDTO : componentDTO.getComponents()) {
+                if (childComponentDTO != null &&
+                        Constants.ComponentTypes.BUTTON.equals(childComponentDTO.getType())) {
+                    formActionId = childComponentDTO.getId();
+                    break;
+                }
+            }
             if (StringUtils.isNotBlank(formActionId)) {
-                component.getComponents().stream().filter(c -> RESEND
-                        .equals(c.getType())).forEach(c -> c.setActionId(formActionId));
+                for (Component childComponent : component.getComponents()) {
+                    if (childComponent != null && RESEND.equals(childComponent.getType())) {
+                        childComponent.setActionId(formActionId);
+                    }
+                }
             }
         }
         return component;
@@ -271,8 +328,38 @@ public class Utils {
         if (map == null) {
             return null;
         }
-        ObjectMapper objectMapper = new ObjectMapper();
-        return objectMapper.convertValue(map, new TypeReference<Map<String, Object>>() {
-        });
+        if (isStringKeyedMap(map)) {
+            // Configs are usually already a map, which only needs to be copied instead of a full conversion.
+            @SuppressWarnings("unchecked")
+            Map<String, Object> configs = new LinkedHashMap<>((Map<String, Object>) map);
+            return configs;
+        }
+        return OBJECT_MAPPER.convertValue(map, OBJECT_MAP_TYPE);
+    }
+
+    private static boolean isStringKeyedMap(Object object) {
+
+        if (!(object instanceof Map)) {
+            return false;
+        }
+        for (Object key : ((Map<?, ?>) object).keySet()) {
+            if (!(key instanceof String)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isStringValuedMap(Object object) {
+
+        if (!isStringKeyedMap(object)) {
+            return false;
+        }
+        for (Object value : ((Map<?, ?>) object).values()) {
+            if (value != null && !(value instanceof String)) {
+                return false;
+            }
+        }
+        return true;
     }
 }
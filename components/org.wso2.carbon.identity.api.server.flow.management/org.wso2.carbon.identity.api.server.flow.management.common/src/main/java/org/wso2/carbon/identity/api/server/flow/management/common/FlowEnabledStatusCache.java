@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.flow.management.common;
+
+import org.wso2.carbon.identity.api.server.common.cache.LocalCache;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per tenant cache of whether orchestration is enabled for a flow type.
+ * <p>
+ * The flow execution API reads the status on every flow initiation, while the flow management API evicts it on every
+ * flow configuration update. The expiry bounds the staleness of changes done on other nodes or through other
+ * channels.
+ */
+public final class FlowEnabledStatusCache {
+
+    private static final int MAX_CACHED_ENTRIES = 1000;
+    private static final long CACHE_TTL_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+    private static final FlowEnabledStatusCache INSTANCE = new FlowEnabledStatusCache();
+
+    private final LocalCache<CacheKey, Boolean> enabledStatuses =
+            new LocalCache<>(MAX_CACHED_ENTRIES, CACHE_TTL_MILLIS);
+
+    private FlowEnabledStatusCache() {
+
+    }
+
+    public static FlowEnabledStatusCache getInstance() {
+
+        return INSTANCE;
+    }
+
+    /**
+     * Get the cached enabled status of a flow type.
+     *
+     * @param tenantId Tenant id.
+     * @param flowType Flow type.
+     * @return Whether the flow is enabled, or null if the status is not cached.
+     */
+    public Boolean getEnabledStatus(int tenantId, String flowType) {
+
+        return enabledStatuses.get(new CacheKey(tenantId, flowType));
+    }
+
+    /**
+     * Cache the enabled status of a flow type.
+     *
+     * @param tenantId Tenant id.
+     * @param flowType Flow type.
+     * @param enabled  Whether the flow is enabled.
+     */
+    public void putEnabledStatus(int tenantId, String flowType, boolean enabled) {
+
+        enabledStatuses.put(new CacheKey(tenantId, flowType), enabled);
+    }
+
+    /**
+     * Remove the cached enabled status of a flow type.
+     *
+     * @param tenantId Tenant id.
+     * @param flowType Flow type.
+     */
+    public void invalidate(int tenantId, String flowType) {
+
+        enabledStatuses.remove(new CacheKey(tenantId, flowType));
+    }
+
+    /**
+     * Cache key made of the tenant id and the flow type.
+     */
+    private static final class CacheKey {
+
+        private final int tenantId;
+        private final String flowType;
+
+        CacheKey(int tenantId, String flowType) {
+
+            this.tenantId = tenantId;
+            this.flowType = flowType;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            CacheKey cacheKey = (CacheKey) o;
+            return tenantId == cacheKey.tenantId && Objects.equals(flowType, cacheKey.flowType);
+        }
+
+        @Override
+        public int hashCode() {
+
+            return Objects.hash(tenantId, flowType);
+        }
+    }
+}
@@ -19,6 +19,7 @@
 package org.wso2.carbon.identity.api.server.flow.management.v1.core;
 
 import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.api.server.flow.management.common.FlowEnabledStatusCache;
 import org.wso2.carbon.identity.api.server.flow.management.v1.FlowConfig;
 import org.wso2.carbon.identity.api.server.flow.management.v1.FlowConfigPatchModel;
 import org.wso2.carbon.identity.api.server.flow.management.v1.FlowMetaResponse;
@@ -210,10 +211,15 @@ public class ServerFlowMgtService {
                     }
                 }
             }
-            FlowConfigDTO updatedFlowConfig =
-                    flowMgtService.updateFlowConfig(Utils.convertToFlowConfigDTO(flowConfigPatchModel),
-                            PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantId());
-            return Utils.convertToFlowConfig(updatedFlowConfig);
+            int tenantId = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantId();
+            try {
+                FlowConfigDTO updatedFlowConfig = flowMgtService.updateFlowConfig(
+                        Utils.convertToFlowConfigDTO(flowConfigPatchModel), tenantId);
+                return Utils.convertToFlowConfig(updatedFlowConfig);
+            } finally {
+                // Evict the status read by the flow execution API, even if the update was only partially applied.
+                FlowEnabledStatusCache.getInstance().invalidate(tenantId, flowConfigPatchModel.getFlowType());
+            }
         } catch (FlowMgtFrameworkException e) {
             throw Utils.handleFlowMgtException(e);
         }
@@ -23,6 +23,7 @@ import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.api.server.common.cache.LocalCache;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
 import org.wso2.carbon.identity.api.server.identity.governance.common.GovernanceConstants;
@@ -50,9 +51,12 @@ import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Base64;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 import javax.ws.rs.core.Response;
 
@@ -72,6 +76,16 @@ public class ServerIdentityGovernanceService {
 
     private final IdentityGovernanceService identityGovernanceService;
     private static final Log LOG = LogFactory.getLog(ServerIdentityGovernanceService.class);
+    private static final int MAX_CACHED_TENANTS = 1000;
+    private static final long CONNECTOR_PROPERTIES_CACHE_TTL_MILLIS = TimeUnit.SECONDS.toMillis(30);
+
+    /*
+    Properties of all the governance connectors of a tenant, keyed by the connector name and then by the property
+    name. The entries are invalidated when the connector properties are updated or reverted through this API, while
+    the short expiry bounds the staleness of changes done through other channels.
+     */
+    private final LocalCache<String, Map<String, Map<String, Property>>> connectorPropertiesCache =
+            new LocalCache<>(MAX_CACHED_TENANTS, CONNECTOR_PROPERTIES_CACHE_TTL_MILLIS);
 
     public ServerIdentityGovernanceService(IdentityGovernanceService identityGovernanceService) {
 
@@ -195,32 +209,89 @@ public class ServerIdentityGovernanceService {
 
         String tenantDomain = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain();
         List<PreferenceResp> preferenceRespList = new ArrayList<>();
-        for (PreferenceSearchAttribute prefSearchAttr : preferenceSearchAttribute) {
-            String connectorName = prefSearchAttr.getConnectorName();
-            List<String> expectedProperties = prefSearchAttr.getProperties();
-            Property[] properties;
-            try {
-                ConnectorConfig connectorConfig = identityGovernanceService.getConnectorWithConfigs(tenantDomain,
-                        connectorName);
-                if (connectorConfig == null) {
-                    throw handleBadRequestError(GovernanceConstants.ErrorMessage.ERROR_CODE_INCORRECT_CONNECTOR_NAME,
-                            connectorName);
+        try {
+            Map<String, Map<String, Property>> connectorProperties = getConnectorProperties(tenantDomain);
+            for (PreferenceSearchAttribute prefSearchAttr : preferenceSearchAttribute) {
+                String connectorName = prefSearchAttr.getConnectorName();
+                Map<String, Property> properties = connectorProperties.get(connectorName);
+                if (properties == null) {
+                    properties = getConnectorProperties(tenantDomain, connectorName);
                 }
-                properties = connectorConfig.getProperties();
                 PreferenceResp preferenceResp =
-                        buildPreferenceRespDTO(connectorName, properties, expectedProperties);
+                        buildPreferenceRespDTO(connectorName, properties, prefSearchAttr.getProperties());
                 preferenceRespList.add(preferenceResp);
-            } catch (IdentityGovernanceException e) {
-                GovernanceConstants.ErrorMessage errorEnum =
-                        GovernanceConstants.ErrorMessage.ERROR_CODE_ERROR_RETRIEVING_CONNECTOR_PREFERENCES;
-                Response.Status status = Response.Status.INTERNAL_SERVER_ERROR;
-                throw handleException(e, errorEnum, status);
             }
+        } catch (IdentityGovernanceException e) {
+            GovernanceConstants.ErrorMessage errorEnum =
+                    GovernanceConstants.ErrorMessage.ERROR_CODE_ERROR_RETRIEVING_CONNECTOR_PREFERENCES;
+            Response.Status status = Response.Status.INTERNAL_SERVER_ERROR;
+            throw handleException(e, errorEnum, status);
         }
         return preferenceRespList;
     }
 
-    private PreferenceResp buildPreferenceRespDTO(String connectorName, Property[] properties,
+    /**
+     * Get the properties of all the governance connectors of the tenant with a single categorized fetch.
+     *
+     * @param tenantDomain Tenant domain.
+     * @return Unmodifiable map of connector properties keyed by the connector name and then by the property name.
+     * @throws IdentityGovernanceException If an error occurred while retrieving the connectors.
+     */
+    private Map<String, Map<String, Property>> getConnectorProperties(String tenantDomain)
+            throws IdentityGovernanceException {
+
+        Map<String, Map<String, Property>> connectorProperties = connectorPropertiesCache.get(tenantDomain);
+        if (connectorProperties != null) {
+            return connectorProperties;
+        }
+
+        connectorProperties = new HashMap<>();
+        Map<String, List<ConnectorConfig>> connectorConfigs =
+                identityGovernanceService.getCategorizedConnectorListWithConfigs(tenantDomain);
+        for (List<ConnectorConfig> categoryConnectorConfigs : connectorConfigs.values()) {
+            for (ConnectorConfig connectorConfig : categoryConnectorConfigs) {
+                connectorProperties.putIfAbsent(connectorConfig.getName(),
+                        indexByPropertyName(connectorConfig.getProperties()));
+            }
+        }
+        return connectorPropertiesCache.putIfAbsent(tenantDomain, Collections.unmodifiableMap(connectorProperties));
+    }
+
+    /**
+     * Get the properties of a governance connector which is not part of the categorized connector list.
+     *
+     * @param tenantDomain  Tenant domain.
+     * @param connectorName Governance connector name.
+     * @return Map of connector properties keyed by the property name.
+     * @throws IdentityGovernanceException If an error occurred while retrieving the connector.
+     */
+    private Map<String, Property> getConnectorProperties(String tenantDomain, String connectorName)
+            throws IdentityGovernanceException {
+
+        ConnectorConfig connectorConfig = identityGovernanceService.getConnectorWithConfigs(tenantDomain,
+                connectorName);
+        if (connectorConfig == null) {
+            throw handleBadRequestError(GovernanceConstants.ErrorMessage.ERROR_CODE_INCORRECT_CONNECTOR_NAME,
+                    connectorName);
+        }
+        return indexByPropertyName(connectorConfig.getProperties());
+    }
+
+    private Map<String, Property> indexByPropertyName(Property[] properties) {
+
+        Map<String, Property> propertyMap = new LinkedHashMap<>();
+        for (Property property : properties) {
+            propertyMap.put(property.getName(), property);
+        }
+        return Collections.unmodifiableMap(propertyMap);
+    }
+
+    private void invalidateConnectorProperties(String tenantDomain) {
+
+        connectorPropertiesCache.remove(tenantDomain);
+    }
+
+    private PreferenceResp buildPreferenceRespDTO(String connectorName, Map<String, Property> properties,
                                                   List<String> expectedProperties) {
 
         PreferenceResp preferenceResp = new PreferenceResp();
@@ -231,7 +302,7 @@ public class ServerIdentityGovernanceService {
         return preferenceResp;
     }
 
-    private List<PropertyReq> buildPropertyReqDTO(Property[] properties, List<String> expectedProperties) {
+    private List<PropertyReq> buildPropertyReqDTO(Map<String, Property> properties, List<String> expectedProperties) {
 
         if (expectedProperties != null) {
             return buildPropertyReqForExpectedAttributes(properties, expectedProperties);
@@ -240,10 +311,10 @@ public class ServerIdentityGovernanceService {
 
     }
 
-    private List<PropertyReq> buildPropertyReqForAllProperties(Property[] properties) {
+    private List<PropertyReq> buildPropertyReqForAllProperties(Map<String, Property> properties) {
 
         List<PropertyReq> propertyReqList = new ArrayList<>();
-        for (Property property : properties) {
+        for (Property property : properties.values()) {
             if (property.isConfidential()) {
                 continue;
             }
@@ -252,16 +323,12 @@ public class ServerIdentityGovernanceService {
         return propertyReqList;
     }
 
-    private List<PropertyReq> buildPropertyReqForExpectedAttributes(Property[] properties,
+    private List<PropertyReq> buildPropertyReqForExpectedAttributes(Map<String, Property> properties,
                                                                     List<String> expectedProperties) {
 
         List<PropertyReq> propertyReqList = new ArrayList<>();
-        Map<String, Property> propertyMap = new HashMap<>();
-        for (Property property : properties) {
-            propertyMap.put(property.getName(), property);
-        }
         for (String expectedProperty : expectedProperties) {
-            Property property = propertyMap.get(expectedProperty);
+            Property property = properties.get(expectedProperty);
             if (property == null || property.isConfidential()) {
                 throw handleException(new IdentityGovernanceException(GovernanceConstants.ErrorMessage
                                 .ERROR_CODE_UNSUPPORTED_PROPERTY_NAME.getMessage()), GovernanceConstants.
@@ -317,6 +384,7 @@ public class ServerIdentityGovernanceService {
                 }
             }
             identityGovernanceService.updateConfiguration(tenantDomain, configurationDetails);
+            invalidateConnectorProperties(tenantDomain);
         } catch (IdentityGovernanceClientException e) {
             throw handleBadRequestError(GovernanceConstants.ErrorMessage.ERROR_CODE_INVALID_CONNECTOR_CONFIGURATION,
                     e.getMessage());
@@ -380,6 +448,7 @@ public class ServerIdentityGovernanceService {
             }
 
             identityGovernanceService.updateConfiguration(tenantDomain, configurationDetails);
+            invalidateConnectorProperties(tenantDomain);
 
         } catch (IdentityGovernanceException e) {
             GovernanceConstants.ErrorMessage errorEnum =
@@ -413,6 +482,7 @@ public class ServerIdentityGovernanceService {
             }
 
             identityGovernanceService.deleteConfiguration(propertyRevertReq.getProperties(), tenantDomain);
+            invalidateConnectorProperties(tenantDomain);
         } catch (IdentityGovernanceException e) {
             GovernanceConstants.ErrorMessage errorEnum =
                     GovernanceConstants.ErrorMessage.ERROR_CODE_ERROR_REVERTING_CONNECTOR_PROPERTY;
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.idp.v1.core;
+
+import org.wso2.carbon.identity.claim.metadata.mgt.ClaimMetadataManagementService;
+import org.wso2.carbon.identity.claim.metadata.mgt.exception.ClaimMetadataException;
+import org.wso2.carbon.identity.claim.metadata.mgt.model.LocalClaim;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Request scoped index of the local claims of a tenant keyed by the claim URI.
+ * The local claims are fetched lazily and only once per index, so that the claim configurations of one or more IdPs
+ * can be resolved and validated with a single call to the claim metadata service.
+ */
+final class LocalClaimIndex {
+
+    private final ClaimMetadataManagementService claimMetadataManagementService;
+    private final String tenantDomain;
+    private Map<String, LocalClaim> localClaims;
+
+    LocalClaimIndex(ClaimMetadataManagementService claimMetadataManagementService, String tenantDomain) {
+
+        this.claimMetadataManagementService = claimMetadataManagementService;
+        this.tenantDomain = tenantDomain;
+    }
+
+    String getTenantDomain() {
+
+        return tenantDomain;
+    }
+
+    /**
+     * Get the local claim of the given claim URI.
+     *
+     * @param claimUri Local claim URI.
+     * @return Local claim or null if there is no local claim for the URI.
+     * @throws ClaimMetadataException If an error occurred while retrieving the local claims.
+     */
+    LocalClaim getLocalClaim(String claimUri) throws ClaimMetadataException {
+
+        if (claimUri == null) {
+            return null;
+        }
+        return getLocalClaims().get(claimUri);
+    }
+
+    /**
+     * Get the URIs of all the local claims of the tenant.
+     *
+     * @return Unmodifiable set of local claim URIs.
+     * @throws ClaimMetadataException If an error occurred while retrieving the local claims.
+     */
+    Set<String> getLocalClaimURIs() throws ClaimMetadataException {
+
+        return Collections.unmodifiableSet(getLocalClaims().keySet());
+    }
+
+    private Map<String, LocalClaim> getLocalClaims() throws ClaimMetadataException {
+
+        if (localClaims == null) {
+            List<LocalClaim> localClaimList = claimMetadataManagementService.getLocalClaims(tenantDomain);
+            Map<String, LocalClaim> claimsByURI = new HashMap<>();
+            for (LocalClaim localClaim : localClaimList) {
+                claimsByURI.putIfAbsent(localClaim.getClaimURI(), localClaim);
+            }
+            localClaims = claimsByURI;
+        }
+        return localClaims;
+    }
+}
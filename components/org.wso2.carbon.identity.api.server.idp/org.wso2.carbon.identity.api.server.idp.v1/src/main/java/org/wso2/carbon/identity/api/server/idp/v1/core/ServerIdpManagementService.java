@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019-2025, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2019-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -37,6 +37,7 @@ import org.apache.cxf.jaxrs.ext.search.ConditionType;
 import org.apache.cxf.jaxrs.ext.search.PrimitiveStatement;
 import org.apache.cxf.jaxrs.ext.search.SearchCondition;
 import org.apache.cxf.jaxrs.ext.search.SearchContext;
+import org.wso2.carbon.identity.api.server.authenticators.common.AuthenticatorTagIndexCache;
 import org.wso2.carbon.identity.api.server.common.ContextLoader;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
@@ -86,6 +87,7 @@ import org.wso2.carbon.identity.api.server.idp.v1.model.ProvisioningClaim;
 import org.wso2.carbon.identity.api.server.idp.v1.model.ProvisioningResponse;
 import org.wso2.carbon.identity.api.server.idp.v1.model.Roles;
 import org.wso2.carbon.identity.api.server.idp.v1.util.CertificateUtil;
+import org.wso2.carbon.identity.api.server.idp.v1.util.IdentityProviderCloneUtil;
 import org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants;
 import org.wso2.carbon.identity.application.common.ApplicationAuthenticatorService;
 import org.wso2.carbon.identity.application.common.model.AccountLookupAttributeMappingConfig;
@@ -103,7 +105,6 @@ import org.wso2.carbon.identity.application.common.model.Property;
 import org.wso2.carbon.identity.application.common.model.ProvisioningConnectorConfig;
 import org.wso2.carbon.identity.application.common.model.RoleMapping;
 import org.wso2.carbon.identity.application.common.model.SubProperty;
-import org.wso2.carbon.identity.application.common.model.UserDefinedFederatedAuthenticatorConfig;
 import org.wso2.carbon.identity.application.common.util.IdentityApplicationConstants;
 import org.wso2.carbon.identity.application.common.util.IdentityApplicationManagementUtil;
 import org.wso2.carbon.identity.base.AuthenticatorPropertyConstants.DefinedByType;
@@ -261,6 +262,7 @@ public class ServerIdpManagementService {
             validateFederatedAuthenticatorsPropertyLimit(identityProviderPOSTRequest.getFederatedAuthenticators());
             identityProvider = identityProviderManager.addIdPWithResourceId(createIDP(identityProviderPOSTRequest),
                     ContextLoader.getTenantDomainFromContext());
+            invalidateAuthenticatorTagIndex();
         } catch (IdentityProviderManagementException e) {
             throw handleIdPException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_ADDING_IDP, null);
         }
@@ -312,6 +314,7 @@ public class ServerIdpManagementService {
             validateSystemReservedIDP(idpToUpdate.getIdentityProviderName());
             IdentityProvider updatedIdP = identityProviderManager.updateIdPByResourceId(identityProviderId, idpToUpdate,
                     ContextLoader.getTenantDomainFromContext());
+            invalidateAuthenticatorTagIndex();
             return createIDPResponse(updatedIdP);
 
         } catch (IdentityProviderManagementException e) {
@@ -329,6 +332,7 @@ public class ServerIdpManagementService {
         try {
             identityProviderManager.deleteIdPByResourceId(identityProviderId,
                     ContextLoader.getTenantDomainFromContext());
+            invalidateAuthenticatorTagIndex();
         } catch (IdentityProviderManagementException e) {
             throw handleIdPException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_DELETING_IDP, identityProviderId);
         }
@@ -345,6 +349,7 @@ public class ServerIdpManagementService {
         try {
             identityProviderManager.forceDeleteIdpByResourceId(identityProviderId,
                     ContextLoader.getTenantDomainFromContext());
+            invalidateAuthenticatorTagIndex();
         } catch (IdentityProviderManagementException e) {
             throw handleIdPException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_DELETING_IDP, identityProviderId);
         }
@@ -417,6 +422,7 @@ public class ServerIdpManagementService {
             String contentType = fileDetail.getContentType().toString();
             identityProvider = identityProviderManager.addIdPWithResourceId(
                     createIDPImportRequest(getIDPFromFile(fileInputStream, fileDetail), contentType), tenantDomain);
+            invalidateAuthenticatorTagIndex();
         } catch (IdentityProviderManagementException e) {
             throw handleIdPException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_IMPORTING_IDP, null);
         }
@@ -443,6 +449,7 @@ public class ServerIdpManagementService {
             } else {
                 identityProviderManager.updateIdPByResourceId(identityProviderId, identityProvider, tenantDomain);
             }
+            invalidateAuthenticatorTagIndex();
         } catch (IdentityProviderManagementException e) {
             throw handleIdPException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_UPDATING_IDP, null);
         }
@@ -796,6 +803,7 @@ public class ServerIdpManagementService {
             updateFederatedAuthenticatorConfig(idpToUpdate, authenticatorRequest, IdpOperation.UPDATE);
             IdentityProvider updatedIdp = identityProviderManager.updateIdPByResourceId(idpId, idpToUpdate,
                         ContextLoader.getTenantDomainFromContext());
+            invalidateAuthenticatorTagIndex();
             return createFederatedAuthenticatorResponse(updatedIdp);
         } catch (IdentityProviderManagementException e) {
             throw handleIdPException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_UPDATING_IDP, StringUtils.EMPTY);
@@ -854,6 +862,7 @@ public class ServerIdpManagementService {
 
             IdentityProvider updatedIdP = identityProviderManager.updateIdPByResourceId(idpId, idpToUpdate,
                     ContextLoader.getTenantDomainFromContext());
+            invalidateAuthenticatorTagIndex();
             return createFederatedAuthenticator(federatedAuthenticatorId, updatedIdP);
         } catch (IdentityProviderManagementException e) {
             throw handleIdPException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_UPDATING_IDP_AUTHENTICATOR,
@@ -1038,7 +1047,8 @@ public class ServerIdpManagementService {
                 throw handleException(Response.Status.NOT_FOUND, Constants.ErrorMessage.ERROR_CODE_IDP_NOT_FOUND,
                         idpId);
             }
-            return createClaimResponse(identityProvider.getClaimConfig());
+            return createClaimResponse(identityProvider.getClaimConfig(),
+                    createLocalClaimIndex(ContextLoader.getTenantDomainFromContext()));
 
         } catch (IdentityProviderManagementException e) {
             throw handleIdPException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_RETRIEVING_IDP_CLAIMS, idpId);
@@ -1056,7 +1066,8 @@ public class ServerIdpManagementService {
 
         try {
             String tenantDomain = ContextLoader.getTenantDomainFromContext();
-            validateClaims(tenantDomain, claims);
+            LocalClaimIndex localClaimIndex = createLocalClaimIndex(tenantDomain);
+            validateClaims(localClaimIndex, claims);
             IdentityProvider idP =
                     createIdPClone(identityProviderManager.getIdPByResourceId(idpId, tenantDomain, true));
             if (idP == null) {
@@ -1065,7 +1076,7 @@ public class ServerIdpManagementService {
             }
             updateClaims(idP, claims);
             IdentityProvider updatedIdP = identityProviderManager.updateIdPByResourceId(idpId, idP, tenantDomain);
-            return createClaimResponse(updatedIdP.getClaimConfig());
+            return createClaimResponse(updatedIdP.getClaimConfig(), localClaimIndex);
         } catch (IdentityProviderManagementException e) {
             throw handleIdPException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_UPDATING_IDP_CLAIMS, idpId);
         }
@@ -1554,6 +1565,7 @@ public class ServerIdpManagementService {
         IdentityProviderTemplateListResponse idpTemplateListResponse = new IdentityProviderTemplateListResponse();
         if (!CollectionUtils.isEmpty(templateInfoList)) {
             List<IdentityProviderTemplateListItem> idpTemplates = new ArrayList<>();
+            ContextLoader.URIResolver uriResolver = ContextLoader.getURIResolver();
             for (Template idpTemplate: templateInfoList) {
                 IdentityProviderTemplateListItem idpTemplateListItem = new IdentityProviderTemplateListItem();
                 idpTemplateListItem.setId(idpTemplate.getTemplateId());
@@ -1561,7 +1573,7 @@ public class ServerIdpManagementService {
                 idpTemplateListItem.setName(idpTemplate.getTemplateName());
                 idpTemplateListItem.setImage(idpTemplate.getImageUrl());
                 idpTemplateListItem.setSelf(
-                        ContextLoader.buildURIForBody(String.format(V1_API_PATH_COMPONENT + IDP_PATH_COMPONENT
+                        uriResolver.buildURIForBody(String.format(V1_API_PATH_COMPONENT + IDP_PATH_COMPONENT
                                         + IDP_TEMPLATE_PATH_COMPONENT + "/%s",
                                 idpTemplate.getTemplateId())).toString());
                 if (idpTemplate.getPropertiesMap().containsKey(PROP_CATEGORY)) {
@@ -1771,10 +1783,11 @@ public class ServerIdpManagementService {
         }
         List<ConnectedApp> connectedAppList = new ArrayList<>();
         if (CollectionUtils.isNotEmpty(connectedAppsResult.getApps())) {
+            ContextLoader.URIResolver uriResolver = ContextLoader.getURIResolver();
             for (String app : connectedAppsResult.getApps()) {
                 ConnectedApp listItem = new ConnectedApp();
                 listItem.setAppId(app);
-                listItem.setSelf(ContextLoader.buildURIForBody(String.format(V1_API_PATH_COMPONENT +
+                listItem.setSelf(uriResolver.buildURIForBody(String.format(V1_API_PATH_COMPONENT +
                                 "/applications/%s", app)).toString());
                 connectedAppList.add(listItem);
             }
@@ -2263,8 +2276,12 @@ public class ServerIdpManagementService {
         IdentityProviderListResponse listResponse = new IdentityProviderListResponse();
         if (CollectionUtils.isNotEmpty(idps)) {
             List<IdentityProviderListItem> identityProviderList = new ArrayList<>();
+            // Local claims are fetched once for the whole page, and only if claims are requested.
+            LocalClaimIndex localClaimIndex = createLocalClaimIndex(ContextLoader.getTenantDomainFromContext());
+            ContextLoader.URIResolver uriResolver = ContextLoader.getURIResolver();
             for (IdentityProvider idp : idps) {
-                IdentityProviderListItem listItem = populateIDPListResponse(idp, requestedAttributeList);
+                IdentityProviderListItem listItem = populateIDPListResponse(idp, requestedAttributeList,
+                        localClaimIndex, uriResolver);
                 identityProviderList.add(listItem);
             }
             listResponse.setIdentityProviders(identityProviderList);
@@ -2282,7 +2299,9 @@ public class ServerIdpManagementService {
     }
 
     private IdentityProviderListItem populateIDPListResponse(IdentityProvider idp,
-                                                             List<String> requestedAttributeList) {
+                                                             List<String> requestedAttributeList,
+                                                             LocalClaimIndex localClaimIndex,
+                                                             ContextLoader.URIResolver uriResolver) {
 
         IdentityProviderListItem identityProviderListItem = new IdentityProviderListItem();
         // Create IDP basic information.
@@ -2292,7 +2311,7 @@ public class ServerIdpManagementService {
         identityProviderListItem.setIsEnabled(idp.isEnable());
         identityProviderListItem.setImage(idp.getImageUrl());
         identityProviderListItem.setSelf(
-                ContextLoader.buildURIForBody(String.format(V1_API_PATH_COMPONENT + IDP_PATH_COMPONENT + "/%s",
+                uriResolver.buildURIForBody(String.format(V1_API_PATH_COMPONENT + IDP_PATH_COMPONENT + "/%s",
                         idp.getResourceId())).toString());
 
         // Populate optional IDP information if exists.
@@ -2315,7 +2334,8 @@ public class ServerIdpManagementService {
                         identityProviderListItem.setAlias(idp.getAlias());
                         break;
                     case Constants.CLAIMS:
-                        identityProviderListItem.setClaims(createClaimResponse(idp.getClaimConfig()));
+                        identityProviderListItem.setClaims(createClaimResponse(idp.getClaimConfig(),
+                                localClaimIndex));
                         break;
                     case Constants.ROLES:
                         identityProviderListItem.setRoles(createRoleResponse(idp));
@@ -2396,7 +2416,8 @@ public class ServerIdpManagementService {
         populateIDPBasicInfo(idpResponse, identityProvider);
         idpResponse.setTemplateId(identityProvider.getTemplateId());
         idpResponse.setCertificate(createIDPCertificate(identityProvider));
-        idpResponse.setClaims(createClaimResponse(identityProvider.getClaimConfig()));
+        idpResponse.setClaims(createClaimResponse(identityProvider.getClaimConfig(),
+                createLocalClaimIndex(ContextLoader.getTenantDomainFromContext())));
         idpResponse.setRoles(createRoleResponse(identityProvider));
         idpResponse.setGroups(createGroupResponse(identityProvider));
         idpResponse.setFederatedAuthenticators(createFederatedAuthenticatorResponse(identityProvider));
@@ -2453,7 +2474,7 @@ public class ServerIdpManagementService {
         return certificate;
     }
 
-    private Claims createClaimResponse(ClaimConfig claimConfig) {
+    private Claims createClaimResponse(ClaimConfig claimConfig, LocalClaimIndex localClaimIndex) {
 
         Claims apiClaims = new Claims();
         List<org.wso2.carbon.identity.api.server.idp.v1.model.ClaimMapping> apiMappings = new ArrayList<>();
@@ -2468,7 +2489,8 @@ public class ServerIdpManagementService {
                     Claim localClaim = new Claim();
                     localClaim.setId(base64URLEncode(mapping.getLocalClaim().getClaimUri()));
                     localClaim.setUri(mapping.getLocalClaim().getClaimUri());
-                    localClaim.setDisplayName(getDisplayNameOfLocalClaim(mapping.getLocalClaim().getClaimUri()));
+                    localClaim.setDisplayName(getDisplayNameOfLocalClaim(mapping.getLocalClaim().getClaimUri(),
+                            localClaimIndex));
                     apiMapping.setLocalClaim(localClaim);
                     // As the provisioning claims are added as claim mappings without any remote claim internally, we
                     // need to validate this here.
@@ -2485,7 +2507,8 @@ public class ServerIdpManagementService {
                         } else {
                             provClaim.setId(base64URLEncode(mapping.getLocalClaim().getClaimUri()));
                             provClaim.setUri(mapping.getLocalClaim().getClaimUri());
-                            provClaim.setDisplayName(getDisplayNameOfLocalClaim(mapping.getLocalClaim().getClaimUri()));
+                            provClaim.setDisplayName(getDisplayNameOfLocalClaim(
+                                    mapping.getLocalClaim().getClaimUri(), localClaimIndex));
                         }
                         provClaimResponse.setClaim(provClaim);
                         provClaimResponse.setDefaultValue(mapping.getDefaultValue());
@@ -2495,17 +2518,19 @@ public class ServerIdpManagementService {
             }
 
             Claim roleClaim = new Claim();
-            if (getLocalClaim(claimConfig.getRoleClaimURI()) != null) {
+            LocalClaim localRoleClaim = getLocalClaim(claimConfig.getRoleClaimURI(), localClaimIndex);
+            if (localRoleClaim != null) {
                 roleClaim.setId(base64URLEncode(claimConfig.getRoleClaimURI()));
-                roleClaim.setDisplayName(getDisplayNameOfLocalClaim(claimConfig.getRoleClaimURI()));
+                roleClaim.setDisplayName(localRoleClaim.getClaimProperties().get(Constants.PROP_DISPLAY_NAME));
             }
             roleClaim.setUri(claimConfig.getRoleClaimURI());
             apiClaims.setRoleClaim(roleClaim);
 
             Claim userIdClaim = new Claim();
-            if (getLocalClaim(claimConfig.getUserClaimURI()) != null) {
+            LocalClaim localUserIdClaim = getLocalClaim(claimConfig.getUserClaimURI(), localClaimIndex);
+            if (localUserIdClaim != null) {
                 userIdClaim.setId(base64URLEncode(claimConfig.getUserClaimURI()));
-                userIdClaim.setDisplayName(getDisplayNameOfLocalClaim(claimConfig.getUserClaimURI()));
+                userIdClaim.setDisplayName(localUserIdClaim.getClaimProperties().get(Constants.PROP_DISPLAY_NAME));
             }
             userIdClaim.setUri(claimConfig.getUserClaimURI());
             apiClaims.setUserIdClaim(userIdClaim);
@@ -2758,12 +2783,13 @@ public class ServerIdpManagementService {
     /**
      * Retrieves display name property of Local claim identified by local claim uri.
      *
-     * @param claimUri Local claim uri.
+     * @param claimUri        Local claim uri.
+     * @param localClaimIndex Index of the local claims of the tenant.
      * @return Display Name.
      */
-    private String getDisplayNameOfLocalClaim(String claimUri) {
+    private String getDisplayNameOfLocalClaim(String claimUri, LocalClaimIndex localClaimIndex) {
 
-        LocalClaim localClaim = getLocalClaim(claimUri);
+        LocalClaim localClaim = getLocalClaim(claimUri, localClaimIndex);
         if (localClaim != null) {
             Map<String, String> localClaimProperties = localClaim.getClaimProperties();
             return localClaimProperties.get(Constants.PROP_DISPLAY_NAME);
@@ -2776,39 +2802,38 @@ public class ServerIdpManagementService {
     /**
      * Returns internal LocalClaim given local claim URI.
      *
-     * @param claimUri URI of the required local claim.
+     * @param claimUri        URI of the required local claim.
+     * @param localClaimIndex Index of the local claims of the tenant.
      * @return Local Claim.
      */
-    private LocalClaim getLocalClaim(String claimUri) {
+    private LocalClaim getLocalClaim(String claimUri, LocalClaimIndex localClaimIndex) {
 
-        LocalClaim localClaim;
         try {
-            List<LocalClaim> localClaimList = claimMetadataManagementService.getLocalClaims(ContextLoader
-                    .getTenantDomainFromContext());
-
-            localClaim = extractLocalClaimFromClaimList(claimUri, localClaimList);
+            return localClaimIndex.getLocalClaim(claimUri);
         } catch (ClaimMetadataException e) {
             throw handleException(Response.Status.BAD_REQUEST,
                     Constants.ErrorMessage.ERROR_CODE_INVALID_LOCAL_CLAIM_ID, claimUri);
         }
-        return localClaim;
     }
 
     /**
-     * Extracts the LocalClaim corresponding to the given claim uri.
+     * Create an index of the local claims of the given tenant to be shared while building a single response.
      *
-     * @param claimURI  Local claim uri.
-     * @param claimList Local claim list.
-     * @return LocalClaim.
+     * @param tenantDomain Tenant domain.
+     * @return Local claim index which fetches the local claims on first use.
      */
-    private LocalClaim extractLocalClaimFromClaimList(String claimURI, List<LocalClaim> claimList) {
+    private LocalClaimIndex createLocalClaimIndex(String tenantDomain) {
 
-        for (LocalClaim claim : claimList) {
-            if (StringUtils.equals(claim.getClaimURI(), claimURI)) {
-                return claim;
-            }
-        }
-        return null;
+        return new LocalClaimIndex(claimMetadataManagementService, tenantDomain);
+    }
+
+    /**
+     * Invalidate the authenticator tag index of the tenant, as the authenticators API lists the identity providers
+     * along with the tags of their federated authenticators.
+     */
+    private void invalidateAuthenticatorTagIndex() {
+
+        AuthenticatorTagIndexCache.getInstance().invalidate(ContextLoader.getTenantDomainFromContext());
     }
 
     /**
@@ -2819,15 +2844,7 @@ public class ServerIdpManagementService {
      */
     private IdentityProvider createIdPClone(IdentityProvider idP) {
 
-        Gson gson = new Gson();
-        IdentityProvider clonedIdentityProvider = gson.fromJson(gson.toJson(idP), IdentityProvider.class);
-        if (idP.getFederatedAuthenticatorConfigs().length == 1 &&
-                idP.getFederatedAuthenticatorConfigs()[0].getDefinedByType() == DefinedByType.USER) {
-            UserDefinedFederatedAuthenticatorConfig clonedFedAuth = gson.fromJson(gson.toJson(
-                    idP.getFederatedAuthenticatorConfigs()[0]), UserDefinedFederatedAuthenticatorConfig.class);
-            clonedIdentityProvider.setFederatedAuthenticatorConfigs(new FederatedAuthenticatorConfig[]{clonedFedAuth});
-        }
-        return clonedIdentityProvider;
+        return IdentityProviderCloneUtil.cloneIdentityProvider(idP);
     }
 
     /**
@@ -3619,24 +3636,25 @@ public class ServerIdpManagementService {
     /**
      * Validate the claim configs of an IDP.
      *
-     * @param tenantDomain Tenant domain.
-     * @param claims       Claim configs.
+     * @param localClaimIndex Index of the local claims of the tenant.
+     * @param claims          Claim configs.
      * @throws IdentityProviderManagementException If an error while validating the claim configs or if an invalid
      *                                             config is found.
      */
-    private void validateClaims(String tenantDomain, Claims claims) throws IdentityProviderManagementException {
+    private void validateClaims(LocalClaimIndex localClaimIndex, Claims claims)
+            throws IdentityProviderManagementException {
 
         if (claims == null) {
             return;
         }
+        String tenantDomain = localClaimIndex.getTenantDomain();
         String userClaimURI = claims.getUserIdClaim() == null ? null : claims.getUserIdClaim().getUri();
         String roleClaimURI = claims.getRoleClaim() == null ? null : claims.getRoleClaim().getUri();
         List<org.wso2.carbon.identity.api.server.idp.v1.model.ClaimMapping> claimMappings = claims.getMappings();
 
         // EMPTY claimMappings indicate that the IDP is using local claim dialect.
         if (CollectionUtils.isEmpty(claimMappings)) {
-            List<LocalClaim> localClaimsList = getLocalClaimURIs(tenantDomain);
-            Set<String> claimURIs = localClaimsList.stream().map(LocalClaim::getClaimURI).collect(Collectors.toSet());
+            Set<String> claimURIs = getLocalClaimURIs(localClaimIndex);
             // Validate userClaimURI and roleClaimURI.
             if (StringUtils.isNotBlank(userClaimURI) && !claimURIs.contains(userClaimURI)) {
                 throw new IdentityProviderManagementClientException(
@@ -3655,8 +3673,7 @@ public class ServerIdpManagementService {
         validateUserAndRoleClaims(userClaimURI, roleClaimURI, claimMappings);
 
         // Validate LocalClaim objects against local claim URIs.
-        List<LocalClaim> localClaimsList = getLocalClaimURIs(tenantDomain);
-        Set<String> claimURIs = localClaimsList.stream().map(LocalClaim::getClaimURI).collect(Collectors.toSet());
+        Set<String> claimURIs = getLocalClaimURIs(localClaimIndex);
         for (org.wso2.carbon.identity.api.server.idp.v1.model.ClaimMapping claimMapping : claimMappings) {
 
             // If a claim URI does not exist in claimURIs list, then that's a not existing URI.
@@ -3714,22 +3731,24 @@ public class ServerIdpManagementService {
     /**
      * Get the local claim URIs of the tenant.
      *
-     * @param tenantDomain Tenant domain.
-     * @return List of local claim URIs.
+     * @param localClaimIndex Index of the local claims of the tenant.
+     * @return Set of local claim URIs.
      * @throws IdentityProviderManagementServerException If an error occurred while getting the claims list.
      */
-    private List<LocalClaim> getLocalClaimURIs(String tenantDomain) throws IdentityProviderManagementServerException {
+    private Set<String> getLocalClaimURIs(LocalClaimIndex localClaimIndex)
+            throws IdentityProviderManagementServerException {
 
+        String tenantDomain = localClaimIndex.getTenantDomain();
         try {
-            List<LocalClaim> localClaimsList = claimMetadataManagementService.getLocalClaims(tenantDomain);
-            if (localClaimsList.isEmpty()) {
+            Set<String> localClaimURIs = localClaimIndex.getLocalClaimURIs();
+            if (localClaimURIs.isEmpty()) {
                 if (log.isDebugEnabled()) {
                     log.debug("No local claims found for tenant:" + tenantDomain + ".Therefore, skipping " +
                             "local claim URI validation.");
                 }
-                return Collections.emptyList();
+                return Collections.emptySet();
             }
-            return localClaimsList;
+            return localClaimURIs;
         } catch (ClaimMetadataException e) {
             if (log.isDebugEnabled()) {
                 log.debug("Error occurred while validating the local claim URIs for tenant: " + tenantDomain, e);
@@ -3809,7 +3828,7 @@ public class ServerIdpManagementService {
         config.setYamlConfig(yamlConfig);
 
         try {
-            return FileSerializationUtil.serialize(identityProvider,
+            return FileSerializationUtil.serializeAsStream(identityProvider,
                     identityProvider.getIdentityProviderName(), fileType, config);
         } catch (FileSerializationException e) {
             throw new IdentityProviderManagementException("Error when parsing identity provider to file.", e);
@@ -3821,8 +3840,7 @@ public class ServerIdpManagementService {
 
         try {
             FileContent idpFileContent = new FileContent(fileDetail.getDataHandler().getName(),
-                    fileDetail.getDataHandler().getContentType(),
-                    IOUtils.toString(fileInputStream, StandardCharsets.UTF_8.name()));
+                    fileDetail.getDataHandler().getContentType(), fileInputStream);
 
             return generateModelFromFile(idpFileContent);
         } catch (IOException | IdentityProviderManagementClientException e) {
@@ -3833,13 +3851,13 @@ public class ServerIdpManagementService {
     }
 
     private IdentityProvider generateModelFromFile(FileContent fileContent)
-            throws IdentityProviderManagementClientException {
+            throws IdentityProviderManagementClientException, IOException {
 
         if (log.isDebugEnabled()) {
             log.debug(String.format("Parsing identity provider from file: %s of type: %s.", fileContent.getFileName(),
                     fileContent.getFileType()));
         }
-        if (StringUtils.isEmpty(fileContent.getContent())) {
+        if (fileContent.isEmpty()) {
             throw new IdentityProviderManagementClientException(String.format(
                     "Empty Identity Provider configuration file %s uploaded.", fileContent.getFileName()));
         }
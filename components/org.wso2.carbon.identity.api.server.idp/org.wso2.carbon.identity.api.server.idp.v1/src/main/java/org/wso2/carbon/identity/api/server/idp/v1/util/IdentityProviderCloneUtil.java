@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.idp.v1.util;
+
+import org.wso2.carbon.identity.application.common.model.IdentityProvider;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Utility class to create structural copies of identity providers.
+ * <p>
+ * The identity provider is copied field by field. Every nested model object, array, collection and map is copied
+ * into a new instance of its runtime type, so the model of the copy can be modified without affecting the source.
+ * Fields are set directly instead of through setters, since some setters of the model normalize the value they are
+ * given. Transient fields are not copied, as they were not carried over by the JSON round trip this copy replaces.
+ * Objects of types outside the WSO2 packages are not part of the model, and are shared with the source as they are.
+ */
+public final class IdentityProviderCloneUtil {
+
+    private static final String MODEL_PACKAGE_PREFIX = "org.wso2.";
+    private static final Map<Class<?>, List<Field>> COPYABLE_FIELDS = new ConcurrentHashMap<>();
+
+    private IdentityProviderCloneUtil() {
+
+    }
+
+    /**
+     * Create a structural copy of an identity provider.
+     *
+     * @param identityProvider Identity provider.
+     * @return Copy of the identity provider which shares no model objects, arrays, collections or maps with the
+     * source.
+     */
+    public static IdentityProvider cloneIdentityProvider(IdentityProvider identityProvider) {
+
+        return (IdentityProvider) copyValue(identityProvider, new IdentityHashMap<>());
+    }
+
+    private static Object copyValue(Object value, Map<Object, Object> copies) {
+
+        if (value == null || isImmutable(value)) {
+            return value;
+        }
+        Object copy = copies.get(value);
+        if (copy != null) {
+            return copy;
+        }
+        Class<?> type = value.getClass();
+        if (type.isArray()) {
+            return copyArray(value, copies);
+        }
+        if (value instanceof Collection) {
+            return copyCollection((Collection<?>) value, copies);
+        }
+        if (value instanceof Map) {
+            return copyMap((Map<?, ?>) value, copies);
+        }
+        if (!type.getName().startsWith(MODEL_PACKAGE_PREFIX)) {
+            // Values of other libraries are not part of the identity provider model and are shared as they are.
+            return value;
+        }
+        return copyModel(value, copies);
+    }
+
+    private static boolean isImmutable(Object value) {
+
+        // Enum constants with a body are instances of an anonymous subclass, for which Class.isEnum() is false.
+        Class<?> type = value.getClass();
+        return type == String.class || type == Boolean.class || type == Character.class || type == Class.class ||
+                value instanceof Enum ||
+                (Number.class.isAssignableFrom(type) && type.getName().startsWith("java.lang."));
+    }
+
+    private static Object copyArray(Object array, Map<Object, Object> copies) {
+
+        int length = Array.getLength(array);
+        Object copy = Array.newInstance(array.getClass().getComponentType(), length);
+        copies.put(array, copy);
+        for (int i = 0; i < length; i++) {
+            Array.set(copy, i, copyValue(Array.get(array, i), copies));
+        }
+        return copy;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object copyCollection(Collection<?> collection, Map<Object, Object> copies) {
+
+        Collection<Object> copy = (Collection<Object>) newInstance(collection.getClass());
+        if (copy == null) {
+            copy = collection instanceof Set ? new LinkedHashSet<>() : new ArrayList<>();
+        }
+        copies.put(collection, copy);
+        for (Object element : collection) {
+            copy.add(copyValue(element, copies));
+        }
+        return copy;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object copyMap(Map<?, ?> map, Map<Object, Object> copies) {
+
+        Map<Object, Object> copy = (Map<Object, Object>) newInstance(map.getClass());
+        if (copy == null) {
+            copy = new LinkedHashMap<>();
+        }
+        copies.put(map, copy);
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            copy.put(copyValue(entry.getKey(), copies), copyValue(entry.getValue(), copies));
+        }
+        return copy;
+    }
+
+    private static Object copyModel(Object model, Map<Object, Object> copies) {
+
+        Object copy = newInstance(model.getClass());
+        if (copy == null) {
+            throw new IllegalStateException("Cannot create a copy of " + model.getClass().getName() +
+                    " as it has no no-argument constructor.");
+        }
+        copies.put(model, copy);
+        try {
+            for (Field field : getCopyableFields(model.getClass())) {
+                field.set(copy, copyValue(field.get(model), copies));
+            }
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Error while copying " + model.getClass().getName(), e);
+        }
+        return copy;
+    }
+
+    /**
+     * Create an instance of a type through its no-argument constructor.
+     *
+     * @param type Type to be instantiated.
+     * @return New instance, or null if the type cannot be instantiated through a no-argument constructor.
+     */
+    private static Object newInstance(Class<?> type) {
+
+        try {
+            Constructor<?> constructor = type.getDeclaredConstructor();
+            if (!Modifier.isPublic(constructor.getModifiers()) || !Modifier.isPublic(type.getModifiers())) {
+                if (!type.getName().startsWith(MODEL_PACKAGE_PREFIX)) {
+                    return null;
+                }
+                constructor.setAccessible(true);
+            }
+            return constructor.newInstance();
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static List<Field> getCopyableFields(Class<?> type) {
+
+        return COPYABLE_FIELDS.computeIfAbsent(type, key -> {
+            List<Field> fields = new ArrayList<>();
+            for (Class<?> current = key; current != null && current != Object.class;
+                 current = current.getSuperclass()) {
+                for (Field field : current.getDeclaredFields()) {
+                    if (Modifier.isStatic(field.getModifiers()) || Modifier.isTransient(field.getModifiers()) ||
+                            field.isSynthetic()) {
+                        continue;
+                    }
+                    field.setAccessible(true);
+                    fields.add(field);
+                }
+            }
+            return fields;
+        });
+    }
+}
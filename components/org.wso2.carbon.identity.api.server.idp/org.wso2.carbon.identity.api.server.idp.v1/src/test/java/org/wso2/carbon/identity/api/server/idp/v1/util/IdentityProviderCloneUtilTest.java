@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.idp.v1.util;
+
+import com.google.gson.Gson;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.application.common.model.ClaimConfig;
+import org.wso2.carbon.identity.application.common.model.ClaimMapping;
+import org.wso2.carbon.identity.application.common.model.FederatedAuthenticatorConfig;
+import org.wso2.carbon.identity.application.common.model.IdentityProvider;
+import org.wso2.carbon.identity.application.common.model.IdentityProviderProperty;
+import org.wso2.carbon.identity.application.common.model.Property;
+import org.wso2.carbon.identity.application.common.model.UserDefinedFederatedAuthenticatorConfig;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Unit tests for {@link IdentityProviderCloneUtil}.
+ */
+public class IdentityProviderCloneUtilTest {
+
+    private static final Gson GSON = new Gson();
+
+    @Test
+    public void testCloneIsStructurallyEqualToSource() {
+
+        IdentityProvider identityProvider = buildIdentityProvider();
+
+        IdentityProvider clone = IdentityProviderCloneUtil.cloneIdentityProvider(identityProvider);
+
+        Assert.assertNotSame(clone, identityProvider);
+        Assert.assertEquals(GSON.toJsonTree(clone), GSON.toJsonTree(identityProvider));
+    }
+
+    @Test
+    public void testCloneSharesNoMutableState() throws IllegalAccessException {
+
+        IdentityProvider identityProvider = buildIdentityProvider();
+
+        IdentityProvider clone = IdentityProviderCloneUtil.cloneIdentityProvider(identityProvider);
+
+        Assert.assertNotSame(clone.getFederatedAuthenticatorConfigs(),
+                identityProvider.getFederatedAuthenticatorConfigs());
+        Assert.assertNotSame(clone.getIdpProperties(), identityProvider.getIdpProperties());
+        Assert.assertNotSame(clone.getClaimConfig().getClaimMappings(),
+                identityProvider.getClaimConfig().getClaimMappings());
+        assertNoSharedMutableState(identityProvider, clone,
+                Collections.newSetFromMap(new IdentityHashMap<>()));
+    }
+
+    @Test
+    public void testCloneKeepsFederatedAuthenticatorTypes() {
+
+        IdentityProvider identityProvider = buildIdentityProvider();
+
+        IdentityProvider clone = IdentityProviderCloneUtil.cloneIdentityProvider(identityProvider);
+
+        FederatedAuthenticatorConfig[] sourceConfigs = identityProvider.getFederatedAuthenticatorConfigs();
+        FederatedAuthenticatorConfig[] clonedConfigs = clone.getFederatedAuthenticatorConfigs();
+        Assert.assertEquals(clonedConfigs.length, sourceConfigs.length);
+        for (int i = 0; i < sourceConfigs.length; i++) {
+            Assert.assertEquals(clonedConfigs[i].getClass(), sourceConfigs[i].getClass());
+            Assert.assertEquals(clonedConfigs[i].getDefinedByType(), sourceConfigs[i].getDefinedByType());
+        }
+    }
+
+    @Test
+    public void testModifyingCloneDoesNotAffectSource() {
+
+        IdentityProvider identityProvider = buildIdentityProvider();
+
+        IdentityProvider clone = IdentityProviderCloneUtil.cloneIdentityProvider(identityProvider);
+        clone.getFederatedAuthenticatorConfigs()[0].getProperties()[0].setValue("updated-client-id");
+        clone.getIdpProperties()[0].setValue("updated-value");
+
+        Assert.assertEquals(identityProvider.getFederatedAuthenticatorConfigs()[0].getProperties()[0].getValue(),
+                "client-id");
+        Assert.assertEquals(identityProvider.getIdpProperties()[0].getValue(), "value");
+    }
+
+    @Test
+    public void testCloneOfNullIsNull() {
+
+        Assert.assertNull(IdentityProviderCloneUtil.cloneIdentityProvider(null));
+    }
+
+    private static IdentityProvider buildIdentityProvider() {
+
+        Property clientIdProperty = new Property();
+        clientIdProperty.setName("ClientId");
+        clientIdProperty.setValue("client-id");
+
+        FederatedAuthenticatorConfig systemAuthenticator = new FederatedAuthenticatorConfig();
+        systemAuthenticator.setName("OpenIDConnectAuthenticator");
+        systemAuthenticator.setDisplayName("openidconnect");
+        systemAuthenticator.setEnabled(true);
+        systemAuthenticator.setProperties(new Property[]{clientIdProperty});
+
+        UserDefinedFederatedAuthenticatorConfig userDefinedAuthenticator =
+                new UserDefinedFederatedAuthenticatorConfig();
+        userDefinedAuthenticator.setName("CustomAuthenticator");
+        userDefinedAuthenticator.setDisplayName("Custom");
+        userDefinedAuthenticator.setEnabled(true);
+
+        IdentityProviderProperty idpProperty = new IdentityProviderProperty();
+        idpProperty.setName("property");
+        idpProperty.setValue("value");
+
+        ClaimConfig claimConfig = new ClaimConfig();
+        claimConfig.setClaimMappings(new ClaimMapping[]{
+                ClaimMapping.build("http://wso2.org/claims/emailaddress", "email", null, true)});
+
+        IdentityProvider identityProvider = new IdentityProvider();
+        identityProvider.setIdentityProviderName("Google");
+        identityProvider.setDisplayName("Google IdP");
+        identityProvider.setEnable(true);
+        identityProvider.setFederatedAuthenticatorConfigs(
+                new FederatedAuthenticatorConfig[]{systemAuthenticator, userDefinedAuthenticator});
+        identityProvider.setDefaultAuthenticatorConfig(systemAuthenticator);
+        identityProvider.setIdpProperties(new IdentityProviderProperty[]{idpProperty});
+        identityProvider.setClaimConfig(claimConfig);
+        return identityProvider;
+    }
+
+    /**
+     * Walk the source and the clone together and assert that no object array, collection, map or model object of the
+     * source is reachable from the clone.
+     */
+    private static void assertNoSharedMutableState(Object source, Object clone, Set<Object> visited)
+            throws IllegalAccessException {
+
+        if (source == null || !isMutableModelState(source) || !visited.add(source)) {
+            return;
+        }
+        Assert.assertNotSame(clone, source, "Shared instance of " + source.getClass().getName());
+        if (source.getClass().isArray()) {
+            for (int i = 0; i < Array.getLength(source); i++) {
+                assertNoSharedMutableState(Array.get(source, i), Array.get(clone, i), visited);
+            }
+            return;
+        }
+        if (source instanceof Collection || source instanceof Map) {
+            return;
+        }
+        for (Class<?> type = source.getClass(); type != null && type != Object.class; type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers())) {
+                    continue;
+                }
+                field.setAccessible(true);
+                assertNoSharedMutableState(field.get(source), field.get(clone), visited);
+            }
+        }
+    }
+
+    private static boolean isMutableModelState(Object value) {
+
+        Class<?> type = value.getClass();
+        return (type.isArray() && !type.getComponentType().isPrimitive()) || value instanceof Collection ||
+                value instanceof Map || (type.getName().startsWith("org.wso2.") && !type.isEnum());
+    }
+}
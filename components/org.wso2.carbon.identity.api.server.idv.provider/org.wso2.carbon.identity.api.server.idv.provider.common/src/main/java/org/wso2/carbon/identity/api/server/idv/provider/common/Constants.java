@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2023-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -24,8 +24,20 @@ package org.wso2.carbon.identity.api.server.idv.provider.common;
 public class Constants {
 
     public static final String IDV_API_PATH_COMPONENT = "/api/server/v1/idv-providers/";
+    public static final String IDV_PROVIDERS_PATH_COMPONENT = "/idv-providers";
     public static final String ERROR_PREFIX = "IDVP-";
 
+    // Pagination related constants.
+    public static final String LIMIT_PARAM = "limit";
+    public static final String OFFSET_PARAM = "offset";
+    public static final String FILTER_PARAM = "filter";
+    public static final String INCLUDE_TOTAL_PARAM = "includeTotal";
+    public static final String EXCLUDE_DETAILS_PARAM = "excludeDetails";
+    public static final String PAGINATION_AFTER = "after";
+    public static final String PAGINATION_BEFORE = "before";
+    public static final String NEXT_LINK_REL = "next";
+    public static final String PREVIOUS_LINK_REL = "previous";
+
     /**
      * Enum for identity verification related errors.
      * Error Code - code to identify the error.
@@ -41,6 +53,12 @@ public class Constants {
         ERROR_CODE_IDVP_EXISTS("60001",
                 "Identity Verification Provider already exists with the given name.",
                 "Identity Verification Provider: %s already exists with the given name."),
+        ERROR_CODE_INVALID_PAGINATION_PARAMETER("60002",
+                "Invalid pagination parameter.",
+                "The value provided for the pagination parameter: %s is invalid."),
+        ERROR_CODE_INVALID_PAGINATION_CURSOR("60003",
+                "Invalid pagination cursor.",
+                "The pagination cursor is invalid, or is used along with another cursor or an offset."),
 
         // Server errors - IDVP server APIs.
         ERROR_ADDING_IDVP("65000",
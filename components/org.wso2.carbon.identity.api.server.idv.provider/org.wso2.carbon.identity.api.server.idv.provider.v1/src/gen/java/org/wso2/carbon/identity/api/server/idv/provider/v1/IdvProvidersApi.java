@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2023-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -140,9 +140,9 @@ public class IdvProvidersApi  {
         @ApiResponse(code = 500, message = "Server Error", response = Error.class),
         @ApiResponse(code = 501, message = "Not Implemented", response = Error.class)
     })
-    public Response getIdVProviders(    @Valid@ApiParam(value = "Maximum number of records to return. ")  @QueryParam("limit") Integer limit,     @Valid@ApiParam(value = "Number of records to skip for pagination. ")  @QueryParam("offset") Integer offset,     @Valid@ApiParam(value = "Condition to filter the retrieval of records. Supports 'sw', 'co', 'ew' and 'eq' operations and also complex queries with 'and' operations. E.g. /idv-providers?filter=name+sw+onfido+and+isEnabled+eq+true ")  @QueryParam("filter") String filter) {
+    public Response getIdVProviders(    @Valid@ApiParam(value = "Maximum number of records to return. ")  @QueryParam("limit") Integer limit,     @Valid@ApiParam(value = "Number of records to skip for pagination. ")  @QueryParam("offset") Integer offset,     @Valid@ApiParam(value = "Condition to filter the retrieval of records. Supports 'sw', 'co', 'ew' and 'eq' operations and also complex queries with 'and' operations. E.g. /idv-providers?filter=name+sw+onfido+and+isEnabled+eq+true ")  @QueryParam("filter") String filter,     @Valid@ApiParam(value = "Cursor of the first identity verification provider of the next page, to retrieve the previous page. Cannot be used with the 'after' cursor or an offset. ")  @QueryParam("before") String before,     @Valid@ApiParam(value = "Cursor of the last identity verification provider of the previous page, to retrieve the next page. Cannot be used with the 'before' cursor or an offset. ")  @QueryParam("after") String after,     @Valid@ApiParam(value = "Whether the total number of identity verification providers matching the filter is returned. Defaults to true with offset pagination and to false with cursor pagination. ")  @QueryParam("includeTotal") Boolean includeTotal,     @Valid@ApiParam(value = "Whether only the id, name, type and the enabled status of the identity verification providers are returned. ", defaultValue="false") @DefaultValue("false")  @QueryParam("excludeDetails") Boolean excludeDetails) {
 
-        return delegate.getIdVProviders(limit,  offset,  filter );
+        return delegate.getIdVProviders(limit,  offset,  filter,  before,  after,  includeTotal,  excludeDetails );
     }
 
     @Valid
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2023-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -39,7 +39,7 @@ public interface IdvProvidersApiService {
 
       public Response getIdVProvider(String idvProviderId);
 
-      public Response getIdVProviders(Integer limit, Integer offset, String filter);
+      public Response getIdVProviders(Integer limit, Integer offset, String filter, String before, String after, Boolean includeTotal, Boolean excludeDetails);
 
       public Response updateIdVProviders(String idvProviderId, IdVProviderRequest idVProviderRequest);
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2023-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -25,6 +25,7 @@ import io.swagger.annotations.ApiModelProperty;
 import java.util.ArrayList;
 import java.util.List;
 import org.wso2.carbon.identity.api.server.idv.provider.v1.model.IdVProviderResponse;
+import org.wso2.carbon.identity.api.server.idv.provider.v1.model.Link;
 import javax.validation.constraints.*;
 
 
@@ -39,6 +40,7 @@ public class IdVProviderListResponse  {
     private Integer startIndex;
     private Integer count;
     private List<IdVProviderResponse> identityVerificationProviders = null;
+    private List<Link> links = null;
 
 
     /**
@@ -121,6 +123,33 @@ public class IdVProviderListResponse  {
         return this;
     }
 
+    /**
+    * Pagination links of the previous and the next pages.
+    **/
+    public IdVProviderListResponse links(List<Link> links) {
+
+        this.links = links;
+        return this;
+    }
+    
+    @ApiModelProperty(value = "Pagination links of the previous and the next pages.")
+    @JsonProperty("links")
+    @Valid
+    public List<Link> getLinks() {
+        return links;
+    }
+    public void setLinks(List<Link> links) {
+        this.links = links;
+    }
+
+    public IdVProviderListResponse addLinksItem(Link linksItem) {
+        if (this.links == null) {
+            this.links = new ArrayList<>();
+        }
+        this.links.add(linksItem);
+        return this;
+    }
+
     
 
     @Override
@@ -136,12 +165,13 @@ public class IdVProviderListResponse  {
         return Objects.equals(this.totalResults, idVProviderListResponse.totalResults) &&
             Objects.equals(this.startIndex, idVProviderListResponse.startIndex) &&
             Objects.equals(this.count, idVProviderListResponse.count) &&
-            Objects.equals(this.identityVerificationProviders, idVProviderListResponse.identityVerificationProviders);
+            Objects.equals(this.identityVerificationProviders, idVProviderListResponse.identityVerificationProviders) &&
+            Objects.equals(this.links, idVProviderListResponse.links);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(totalResults, startIndex, count, identityVerificationProviders);
+        return Objects.hash(totalResults, startIndex, count, identityVerificationProviders, links);
     }
 
     @Override
@@ -154,6 +184,7 @@ public class IdVProviderListResponse  {
         sb.append("    startIndex: ").append(toIndentedString(startIndex)).append("\n");
         sb.append("    count: ").append(toIndentedString(count)).append("\n");
         sb.append("    identityVerificationProviders: ").append(toIndentedString(identityVerificationProviders)).append("\n");
+        sb.append("    links: ").append(toIndentedString(links)).append("\n");
         sb.append("}");
         return sb.toString();
     }
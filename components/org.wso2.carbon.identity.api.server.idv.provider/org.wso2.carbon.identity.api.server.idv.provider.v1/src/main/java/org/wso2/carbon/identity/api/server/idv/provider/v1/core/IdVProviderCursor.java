@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.idv.provider.v1.core;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Cursor of the identity verification provider listing, made of the position and the identifier of the provider at
+ * the boundary of a page.
+ * <p>
+ * Providers are only retrievable by position, hence the position locates the boundary provider with a single query,
+ * while the identifier detects providers added or removed before the boundary since the cursor was issued.
+ */
+final class IdVProviderCursor {
+
+    private static final String SEPARATOR = ",";
+
+    private final int position;
+    private final String idVProviderId;
+
+    IdVProviderCursor(int position, String idVProviderId) {
+
+        this.position = position;
+        this.idVProviderId = idVProviderId;
+    }
+
+    /**
+     * Decode a cursor sent in the 'before' or 'after' query parameter.
+     *
+     * @param encodedCursor Base64 URL encoded cursor.
+     * @return Decoded cursor, or null if the value is not a valid cursor.
+     */
+    static IdVProviderCursor decode(String encodedCursor) {
+
+        String cursor;
+        try {
+            cursor = new String(Base64.getUrlDecoder().decode(encodedCursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        int separatorIndex = cursor.indexOf(SEPARATOR);
+        if (separatorIndex <= 0 || separatorIndex == cursor.length() - 1) {
+            return null;
+        }
+        try {
+            int position = Integer.parseInt(cursor.substring(0, separatorIndex));
+            if (position < 0) {
+                return null;
+            }
+            return new IdVProviderCursor(position, cursor.substring(separatorIndex + 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Encode the cursor to be sent in a pagination link.
+     *
+     * @return Base64 URL encoded cursor.
+     */
+    String encode() {
+
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((position + SEPARATOR + idVProviderId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Get the position of the boundary provider when the cursor was issued.
+     *
+     * @return Zero based position.
+     */
+    int getPosition() {
+
+        return position;
+    }
+
+    /**
+     * Get the identifier of the boundary provider.
+     *
+     * @return Identity verification provider id.
+     */
+    String getIdVProviderId() {
+
+        return idVProviderId;
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.idv.provider.v1.core;
+
+import org.wso2.carbon.extension.identity.verification.provider.exception.IdVProviderMgtException;
+import org.wso2.carbon.extension.identity.verification.provider.model.IdVProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Offset and cursor pagination of the identity verification providers on top of the offset pagination of the
+ * identity verification provider manager.
+ * <p>
+ * Each page is read from a window of providers slightly larger than the page, which holds the boundary provider of
+ * the cursor and an additional provider used to find whether more providers follow. The provider manager caps the
+ * number of providers fetched at once at the maximum items per page, hence a window exceeding the cap is fetched in
+ * several batches.
+ */
+final class IdVProviderPager {
+
+    /**
+     * Source of the identity verification providers, in their listing order.
+     */
+    interface IdVProviderSource {
+
+        /**
+         * Get a batch of the identity verification providers.
+         *
+         * @param limit  Maximum number of providers to return.
+         * @param offset Number of providers to skip.
+         * @return Identity verification providers, or null if there are none.
+         * @throws IdVProviderMgtException If an error occurs while retrieving the providers.
+         */
+        List<IdVProvider> getIdVProviders(int limit, int offset) throws IdVProviderMgtException;
+    }
+
+    private final IdVProviderSource source;
+    private final int maximumItemsPerPage;
+
+    /**
+     * Create a pager.
+     *
+     * @param source              Source of the identity verification providers.
+     * @param maximumItemsPerPage Maximum number of providers the source returns at once.
+     */
+    IdVProviderPager(IdVProviderSource source, int maximumItemsPerPage) {
+
+        this.source = source;
+        this.maximumItemsPerPage = maximumItemsPerPage;
+    }
+
+    /**
+     * Get the page starting at the given offset. An additional provider is fetched to find whether there is a next
+     * page.
+     *
+     * @param offset Number of providers to skip.
+     * @param limit  Maximum number of providers of the page.
+     * @return Page of providers.
+     * @throws IdVProviderMgtException If an error occurs while retrieving the providers.
+     */
+    IdVProviderPage getPage(int offset, int limit) throws IdVProviderMgtException {
+
+        List<IdVProvider> idVProviders = fetchWindow(limit + 1, offset);
+        boolean hasNext = idVProviders.size() > limit;
+        return new IdVProviderPage(idVProviders.subList(0, Math.min(limit, idVProviders.size())), offset,
+                offset > 0, hasNext);
+    }
+
+    /**
+     * Get the page following the boundary provider of the cursor. The fetched window starts at the position the
+     * boundary provider had when the cursor was issued. If providers were added before the boundary provider since
+     * then, the page starts after wherever the boundary provider is found in the window. If the boundary provider is
+     * not found, the page starts at the position of the cursor.
+     *
+     * @param cursor Cursor of the last provider of the previous page.
+     * @param limit  Maximum number of providers of the page.
+     * @return Page of providers.
+     * @throws IdVProviderMgtException If an error occurs while retrieving the providers.
+     */
+    IdVProviderPage getPageAfter(IdVProviderCursor cursor, int limit) throws IdVProviderMgtException {
+
+        int windowSize = limit + 2;
+        List<IdVProvider> window = fetchWindow(windowSize, cursor.getPosition());
+        int boundaryIndex = indexOfIdVProvider(window, cursor.getIdVProviderId());
+        int from = Math.min(boundaryIndex + 1, window.size());
+        int to = Math.min(from + limit, window.size());
+        boolean hasNext = to < window.size() || window.size() >= windowSize;
+        int startOffset = cursor.getPosition() + from;
+        return new IdVProviderPage(window.subList(from, to), startOffset, startOffset > 0, hasNext);
+    }
+
+    /**
+     * Get the page preceding the boundary provider of the cursor. The fetched window ends right after the position
+     * the boundary provider had when the cursor was issued, and the page ends before wherever the boundary provider is
+     * found in the window. If the boundary provider is not found, the page ends at the position of the cursor.
+     *
+     * @param cursor Cursor of the first provider of the next page.
+     * @param limit  Maximum number of providers of the page.
+     * @return Page of providers.
+     * @throws IdVProviderMgtException If an error occurs while retrieving the providers.
+     */
+    IdVProviderPage getPageBefore(IdVProviderCursor cursor, int limit) throws IdVProviderMgtException {
+
+        int windowOffset = Math.max(0, cursor.getPosition() - limit);
+        int windowSize = cursor.getPosition() - windowOffset + 2;
+        List<IdVProvider> window = fetchWindow(windowSize, windowOffset);
+        int boundaryIndex = indexOfIdVProvider(window, cursor.getIdVProviderId());
+        int to = boundaryIndex >= 0 ? boundaryIndex : Math.min(cursor.getPosition() - windowOffset, window.size());
+        int from = Math.max(0, to - limit);
+        int startOffset = windowOffset + from;
+        return new IdVProviderPage(window.subList(from, to), startOffset, startOffset > 0,
+                to < window.size() || window.size() >= windowSize);
+    }
+
+    /**
+     * Fetch a window of providers. The window is fetched in batches of at most the maximum items per page, until it
+     * is full or a batch is not full.
+     */
+    private List<IdVProvider> fetchWindow(int windowSize, int offset) throws IdVProviderMgtException {
+
+        List<IdVProvider> window = new ArrayList<>(windowSize);
+        while (window.size() < windowSize) {
+            int batchSize = Math.min(windowSize - window.size(), maximumItemsPerPage);
+            List<IdVProvider> batch = source.getIdVProviders(batchSize, offset + window.size());
+            if (batch == null) {
+                break;
+            }
+            window.addAll(batch.subList(0, Math.min(batchSize, batch.size())));
+            if (batch.size() < batchSize) {
+                break;
+            }
+        }
+        return window;
+    }
+
+    private static int indexOfIdVProvider(List<IdVProvider> idVProviders, String idVProviderId) {
+
+        for (int i = 0; i < idVProviders.size(); i++) {
+            if (idVProviderId.equals(idVProviders.get(i).getIdVProviderUuid())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Page of identity verification providers.
+     */
+    static final class IdVProviderPage {
+
+        private final List<IdVProvider> idVProviders;
+        private final int startOffset;
+        private final boolean hasPrevious;
+        private final boolean hasNext;
+
+        IdVProviderPage(List<IdVProvider> idVProviders, int startOffset, boolean hasPrevious, boolean hasNext) {
+
+            this.idVProviders = idVProviders;
+            this.startOffset = startOffset;
+            this.hasPrevious = hasPrevious;
+            this.hasNext = hasNext;
+        }
+
+        List<IdVProvider> getIdVProviders() {
+
+            return idVProviders;
+        }
+
+        int getStartOffset() {
+
+            return startOffset;
+        }
+
+        boolean hasPrevious() {
+
+            return hasPrevious;
+        }
+
+        boolean hasNext() {
+
+            return hasNext;
+        }
+    }
+}
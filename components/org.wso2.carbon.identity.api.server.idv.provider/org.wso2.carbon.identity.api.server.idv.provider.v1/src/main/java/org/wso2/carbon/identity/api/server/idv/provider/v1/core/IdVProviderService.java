@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2023-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -18,7 +18,6 @@
 
 package org.wso2.carbon.identity.api.server.idv.provider.v1.core;
 
-import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang.ArrayUtils;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
@@ -33,14 +32,20 @@ import org.wso2.carbon.identity.api.server.common.ContextLoader;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
 import org.wso2.carbon.identity.api.server.idv.provider.common.Constants;
+import org.wso2.carbon.identity.api.server.idv.provider.v1.core.IdVProviderPager.IdVProviderPage;
 import org.wso2.carbon.identity.api.server.idv.provider.v1.model.ConfigProperty;
 import org.wso2.carbon.identity.api.server.idv.provider.v1.model.IdVProviderListResponse;
 import org.wso2.carbon.identity.api.server.idv.provider.v1.model.IdVProviderRequest;
 import org.wso2.carbon.identity.api.server.idv.provider.v1.model.IdVProviderResponse;
+import org.wso2.carbon.identity.api.server.idv.provider.v1.model.Link;
 import org.wso2.carbon.identity.api.server.idv.provider.v1.model.VerificationClaim;
 import org.wso2.carbon.identity.base.IdentityException;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
 
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -51,6 +56,8 @@ import java.util.stream.Collectors;
 
 import javax.ws.rs.core.Response;
 
+import static org.wso2.carbon.identity.api.server.common.Constants.V1_API_PATH_COMPONENT;
+
 /**
  * Service class for identity verification.
  */
@@ -168,32 +175,70 @@ public class IdVProviderService {
      */
     public IdVProviderListResponse getIdVProviders(Integer limit, Integer offset, String filter) {
 
+        return getIdVProviders(limit, offset, filter, null, null, null, null);
+    }
+
+    /**
+     * Get identity verification providers with offset or cursor pagination.
+     * A page costs a single query to the identity verification provider manager, unless the total number of
+     * providers is requested.
+     *
+     * @param limit          Limit per page.
+     * @param offset         Offset value.
+     * @param filter         Filter on the identity verification providers.
+     * @param before         Cursor of the first provider of the next page, for backward pagination.
+     * @param after          Cursor of the last provider of the previous page, for forward pagination.
+     * @param includeTotal   Whether the total number of providers matching the filter is resolved. Defaults to true
+     *                       with offset pagination and to false with cursor pagination.
+     * @param excludeDetails Whether only the id, name, type and the enabled status of the providers are returned.
+     * @return Identity verification providers.
+     */
+    public IdVProviderListResponse getIdVProviders(Integer limit, Integer offset, String filter, String before,
+                                                   String after, Boolean includeTotal, Boolean excludeDetails) {
+
+        int resolvedLimit = validateAndResolveLimit(limit);
+        if (offset != null && offset < 0) {
+            throw handleException(Response.Status.BAD_REQUEST,
+                    Constants.ErrorMessage.ERROR_CODE_INVALID_PAGINATION_PARAMETER, Constants.OFFSET_PARAM);
+        }
+        boolean backward = StringUtils.isNotBlank(before);
+        boolean cursorPaginated = backward || StringUtils.isNotBlank(after);
+        if (cursorPaginated && ((backward && StringUtils.isNotBlank(after)) || offset != null)) {
+            throw handleException(Response.Status.BAD_REQUEST,
+                    Constants.ErrorMessage.ERROR_CODE_INVALID_PAGINATION_CURSOR, null);
+        }
+        IdVProviderCursor cursor = cursorPaginated ? decodeCursor(backward ? before : after) : null;
+
         int tenantId = getTenantId();
+        IdVProviderPager pager = new IdVProviderPager((batchLimit, batchOffset) ->
+                idvProviderManager.getIdVProviders(batchLimit, batchOffset, filter, tenantId),
+                IdentityUtil.getMaximumItemPerPage());
         try {
-            int totalResults = idvProviderManager.getCountOfIdVProviders(tenantId, filter);
+            IdVProviderPage page;
+            if (cursor == null) {
+                page = pager.getPage(offset == null ? 0 : offset, resolvedLimit);
+            } else if (backward) {
+                page = pager.getPageBefore(cursor, resolvedLimit);
+            } else {
+                page = pager.getPageAfter(cursor, resolvedLimit);
+            }
 
             IdVProviderListResponse idVProviderListResponse = new IdVProviderListResponse();
-
-            if (totalResults > 0) {
-                List<IdVProvider> idVProviders = idvProviderManager.getIdVProviders(limit, offset, filter, tenantId);
-
-                if (CollectionUtils.isNotEmpty(idVProviders)) {
-                    List<IdVProviderResponse> idVProvidersList = new ArrayList<>();
-                    for (IdVProvider idVP : idVProviders) {
-                        IdVProviderResponse idVPlistItem = getIdVProviderResponse(idVP);
-                        idVProvidersList.add(idVPlistItem);
-                    }
-                    idVProviderListResponse.setIdentityVerificationProviders(idVProvidersList);
-                    idVProviderListResponse.setCount(idVProviders.size());
-                } else {
-                    idVProviderListResponse.setCount(0);
+            if (!page.getIdVProviders().isEmpty()) {
+                boolean summaryOnly = Boolean.TRUE.equals(excludeDetails);
+                List<IdVProviderResponse> idVProvidersList = new ArrayList<>(page.getIdVProviders().size());
+                for (IdVProvider idVP : page.getIdVProviders()) {
+                    idVProvidersList.add(summaryOnly ? getIdVProviderSummary(idVP) : getIdVProviderResponse(idVP));
                 }
-            } else {
-                idVProviderListResponse.setCount(0);
+                idVProviderListResponse.setIdentityVerificationProviders(idVProvidersList);
+                idVProviderListResponse.setLinks(buildIdVProvidersLinks(page, resolvedLimit, filter, includeTotal,
+                        excludeDetails));
+            }
+            idVProviderListResponse.setCount(page.getIdVProviders().size());
+            idVProviderListResponse.setStartIndex(page.getStartOffset() + 1);
+            if (includeTotal != null ? includeTotal : !cursorPaginated) {
+                idVProviderListResponse.setTotalResults(idvProviderManager.getCountOfIdVProviders(tenantId, filter));
             }
-            offset = (offset == null) ? Integer.valueOf(0) : offset;
-            idVProviderListResponse.setStartIndex(offset + 1);
-            idVProviderListResponse.setTotalResults(totalResults);
             return idVProviderListResponse;
         } catch (IdVProviderMgtException e) {
             throw handleIdVException(e, Constants.ErrorMessage.ERROR_RETRIEVING_IDVPS,
@@ -250,6 +295,84 @@ public class IdVProviderService {
         return idvProviderResponse;
     }
 
+    private IdVProviderResponse getIdVProviderSummary(IdVProvider idVProvider) {
+
+        IdVProviderResponse idvProviderResponse = new IdVProviderResponse();
+        idvProviderResponse.setId(idVProvider.getIdVProviderUuid());
+        idvProviderResponse.setType(idVProvider.getType());
+        idvProviderResponse.setName(idVProvider.getIdVProviderName());
+        idvProviderResponse.setIsEnabled(idVProvider.isEnabled());
+        return idvProviderResponse;
+    }
+
+    private int validateAndResolveLimit(Integer limit) {
+
+        int maximumItemsPerPage = IdentityUtil.getMaximumItemPerPage();
+        if (limit == null) {
+            return Math.min(IdentityUtil.getDefaultItemsPerPage(), maximumItemsPerPage);
+        }
+        if (limit < 0) {
+            throw handleException(Response.Status.BAD_REQUEST,
+                    Constants.ErrorMessage.ERROR_CODE_INVALID_PAGINATION_PARAMETER, Constants.LIMIT_PARAM);
+        }
+        return Math.min(limit, maximumItemsPerPage);
+    }
+
+    private IdVProviderCursor decodeCursor(String encodedCursor) {
+
+        IdVProviderCursor cursor = IdVProviderCursor.decode(encodedCursor);
+        if (cursor == null) {
+            throw handleException(Response.Status.BAD_REQUEST,
+                    Constants.ErrorMessage.ERROR_CODE_INVALID_PAGINATION_CURSOR, null);
+        }
+        return cursor;
+    }
+
+    private List<Link> buildIdVProvidersLinks(IdVProviderPage page, int limit, String filter, Boolean includeTotal,
+                                              Boolean excludeDetails) {
+
+        ContextLoader.URIResolver uriResolver = ContextLoader.getURIResolver();
+        List<Link> links = new ArrayList<>();
+        if (page.hasPrevious()) {
+            IdVProviderCursor firstCursor = new IdVProviderCursor(page.getStartOffset(),
+                    page.getIdVProviders().get(0).getIdVProviderUuid());
+            links.add(buildIdVProvidersLink(Constants.PREVIOUS_LINK_REL, Constants.PAGINATION_BEFORE, firstCursor,
+                    limit, filter, includeTotal, excludeDetails, uriResolver));
+        }
+        if (page.hasNext()) {
+            int lastIndex = page.getIdVProviders().size() - 1;
+            IdVProviderCursor lastCursor = new IdVProviderCursor(page.getStartOffset() + lastIndex,
+                    page.getIdVProviders().get(lastIndex).getIdVProviderUuid());
+            links.add(buildIdVProvidersLink(Constants.NEXT_LINK_REL, Constants.PAGINATION_AFTER, lastCursor, limit,
+                    filter, includeTotal, excludeDetails, uriResolver));
+        }
+        return links;
+    }
+
+    private Link buildIdVProvidersLink(String rel, String paginationParam, IdVProviderCursor cursor, int limit,
+                                       String filter, Boolean includeTotal, Boolean excludeDetails,
+                                       ContextLoader.URIResolver uriResolver) {
+
+        StringBuilder url = new StringBuilder(V1_API_PATH_COMPONENT).append(Constants.IDV_PROVIDERS_PATH_COMPONENT)
+                .append("?").append(Constants.LIMIT_PARAM).append("=").append(limit);
+        if (StringUtils.isNotBlank(filter)) {
+            try {
+                url.append("&").append(Constants.FILTER_PARAM).append("=")
+                        .append(URLEncoder.encode(filter, StandardCharsets.UTF_8.name()));
+            } catch (UnsupportedEncodingException e) {
+                throw new IllegalStateException("UTF-8 encoding is not supported.", e);
+            }
+        }
+        if (includeTotal != null) {
+            url.append("&").append(Constants.INCLUDE_TOTAL_PARAM).append("=").append(includeTotal);
+        }
+        if (Boolean.TRUE.equals(excludeDetails)) {
+            url.append("&").append(Constants.EXCLUDE_DETAILS_PARAM).append("=").append(true);
+        }
+        url.append("&").append(paginationParam).append("=").append(cursor.encode());
+        return new Link().rel(rel).href(uriResolver.buildURIForBody(url.toString()));
+    }
+
     private IdVProvider createIdVProvider(IdVProviderRequest idVProviderRequest) {
 
         IdVProvider idVProvider = new IdVProvider();
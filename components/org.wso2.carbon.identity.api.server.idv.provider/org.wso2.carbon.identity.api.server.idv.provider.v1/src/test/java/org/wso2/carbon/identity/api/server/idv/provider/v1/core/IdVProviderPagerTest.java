@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.idv.provider.v1.core;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.carbon.extension.identity.verification.provider.exception.IdVProviderMgtException;
+import org.wso2.carbon.extension.identity.verification.provider.model.IdVProvider;
+import org.wso2.carbon.identity.api.server.idv.provider.v1.core.IdVProviderPager.IdVProviderPage;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Unit tests for {@link IdVProviderPager}.
+ */
+public class IdVProviderPagerTest {
+
+    private static final int MAXIMUM_ITEMS_PER_PAGE = 5;
+
+    @Test
+    public void testOffsetPage() throws IdVProviderMgtException {
+
+        IdVProviderPager pager = new IdVProviderPager(new InMemoryIdVProviderSource(10), MAXIMUM_ITEMS_PER_PAGE);
+
+        IdVProviderPage page = pager.getPage(2, 3);
+        Assert.assertEquals(getIds(page), Arrays.asList("idvp-2", "idvp-3", "idvp-4"));
+        Assert.assertEquals(page.getStartOffset(), 2);
+        Assert.assertTrue(page.hasPrevious());
+        Assert.assertTrue(page.hasNext());
+
+        IdVProviderPage lastPage = pager.getPage(7, 3);
+        Assert.assertEquals(getIds(lastPage), Arrays.asList("idvp-7", "idvp-8", "idvp-9"));
+        Assert.assertFalse(lastPage.hasNext());
+    }
+
+    @Test
+    public void testOffsetPageWithLimitOfMaximumItemsPerPage() throws IdVProviderMgtException {
+
+        IdVProviderPager pager = new IdVProviderPager(new InMemoryIdVProviderSource(10), MAXIMUM_ITEMS_PER_PAGE);
+
+        IdVProviderPage firstPage = pager.getPage(0, MAXIMUM_ITEMS_PER_PAGE);
+        Assert.assertEquals(firstPage.getIdVProviders().size(), MAXIMUM_ITEMS_PER_PAGE);
+        Assert.assertFalse(firstPage.hasPrevious());
+        Assert.assertTrue(firstPage.hasNext());
+
+        IdVProviderPage lastPage = pager.getPage(5, MAXIMUM_ITEMS_PER_PAGE);
+        Assert.assertEquals(lastPage.getIdVProviders().size(), MAXIMUM_ITEMS_PER_PAGE);
+        Assert.assertFalse(lastPage.hasNext());
+    }
+
+    @Test
+    public void testPagingForwardWithLimitOfMaximumItemsPerPage() throws IdVProviderMgtException {
+
+        InMemoryIdVProviderSource source = new InMemoryIdVProviderSource(12);
+        IdVProviderPager pager = new IdVProviderPager(source, MAXIMUM_ITEMS_PER_PAGE);
+
+        List<String> visited = new ArrayList<>();
+        IdVProviderPage page = pager.getPage(0, MAXIMUM_ITEMS_PER_PAGE);
+        visited.addAll(getIds(page));
+        while (page.hasNext()) {
+            Assert.assertEquals(page.getIdVProviders().size(), MAXIMUM_ITEMS_PER_PAGE);
+            page = pager.getPageAfter(getLastCursor(page), MAXIMUM_ITEMS_PER_PAGE);
+            visited.addAll(getIds(page));
+        }
+
+        Assert.assertEquals(visited, source.getIds());
+    }
+
+    @Test
+    public void testPagingBackward() throws IdVProviderMgtException {
+
+        InMemoryIdVProviderSource source = new InMemoryIdVProviderSource(10);
+        IdVProviderPager pager = new IdVProviderPager(source, MAXIMUM_ITEMS_PER_PAGE);
+
+        IdVProviderPage page = pager.getPageBefore(new IdVProviderCursor(9, "idvp-9"), 3);
+        Assert.assertEquals(getIds(page), Arrays.asList("idvp-6", "idvp-7", "idvp-8"));
+        Assert.assertTrue(page.hasNext());
+
+        List<String> visited = new ArrayList<>(getIds(page));
+        while (page.hasPrevious()) {
+            page = pager.getPageBefore(getFirstCursor(page), 3);
+            visited.addAll(0, getIds(page));
+        }
+
+        Assert.assertEquals(visited, source.getIds().subList(0, 9));
+        Assert.assertEquals(page.getStartOffset(), 0);
+    }
+
+    @Test
+    public void testPageBeforeWithLimitOfMaximumItemsPerPage() throws IdVProviderMgtException {
+
+        IdVProviderPager pager = new IdVProviderPager(new InMemoryIdVProviderSource(12), MAXIMUM_ITEMS_PER_PAGE);
+
+        IdVProviderPage page = pager.getPageBefore(new IdVProviderCursor(10, "idvp-10"), MAXIMUM_ITEMS_PER_PAGE);
+
+        Assert.assertEquals(getIds(page), Arrays.asList("idvp-5", "idvp-6", "idvp-7", "idvp-8", "idvp-9"));
+        Assert.assertEquals(page.getStartOffset(), 5);
+        Assert.assertTrue(page.hasPrevious());
+        Assert.assertTrue(page.hasNext());
+    }
+
+    @Test
+    public void testPageAfterRemovedBoundary() throws IdVProviderMgtException {
+
+        InMemoryIdVProviderSource source = new InMemoryIdVProviderSource(10);
+        IdVProviderPager pager = new IdVProviderPager(source, MAXIMUM_ITEMS_PER_PAGE);
+        source.remove("idvp-3");
+
+        IdVProviderPage page = pager.getPageAfter(new IdVProviderCursor(3, "idvp-3"), 2);
+
+        Assert.assertEquals(getIds(page), Arrays.asList("idvp-4", "idvp-5"));
+        Assert.assertEquals(page.getStartOffset(), 3);
+        Assert.assertTrue(page.hasNext());
+    }
+
+    @Test
+    public void testPageBeforeRemovedBoundary() throws IdVProviderMgtException {
+
+        InMemoryIdVProviderSource source = new InMemoryIdVProviderSource(10);
+        IdVProviderPager pager = new IdVProviderPager(source, MAXIMUM_ITEMS_PER_PAGE);
+        source.remove("idvp-6");
+
+        IdVProviderPage page = pager.getPageBefore(new IdVProviderCursor(6, "idvp-6"), 2);
+
+        Assert.assertEquals(getIds(page), Arrays.asList("idvp-4", "idvp-5"));
+        Assert.assertEquals(page.getStartOffset(), 4);
+    }
+
+    @Test
+    public void testPageAfterBoundaryShiftedByAddedProvider() throws IdVProviderMgtException {
+
+        InMemoryIdVProviderSource source = new InMemoryIdVProviderSource(10);
+        IdVProviderPager pager = new IdVProviderPager(source, MAXIMUM_ITEMS_PER_PAGE);
+        source.addFirst("idvp-new");
+
+        IdVProviderPage page = pager.getPageAfter(new IdVProviderCursor(3, "idvp-3"), 2);
+
+        Assert.assertEquals(getIds(page), Arrays.asList("idvp-4", "idvp-5"));
+        Assert.assertEquals(page.getStartOffset(), 5);
+    }
+
+    private static IdVProviderCursor getFirstCursor(IdVProviderPage page) {
+
+        return new IdVProviderCursor(page.getStartOffset(), page.getIdVProviders().get(0).getIdVProviderUuid());
+    }
+
+    private static IdVProviderCursor getLastCursor(IdVProviderPage page) {
+
+        int lastIndex = page.getIdVProviders().size() - 1;
+        return new IdVProviderCursor(page.getStartOffset() + lastIndex,
+                page.getIdVProviders().get(lastIndex).getIdVProviderUuid());
+    }
+
+    private static List<String> getIds(IdVProviderPage page) {
+
+        List<String> ids = new ArrayList<>();
+        for (IdVProvider idVProvider : page.getIdVProviders()) {
+            ids.add(idVProvider.getIdVProviderUuid());
+        }
+        return ids;
+    }
+
+    /**
+     * Identity verification provider source which caps each batch at the maximum items per page, as the identity
+     * verification provider manager does.
+     */
+    private static final class InMemoryIdVProviderSource implements IdVProviderPager.IdVProviderSource {
+
+        private final List<IdVProvider> idVProviders = new ArrayList<>();
+
+        InMemoryIdVProviderSource(int count) {
+
+            for (int i = 0; i < count; i++) {
+                idVProviders.add(buildIdVProvider("idvp-" + i));
+            }
+        }
+
+        @Override
+        public List<IdVProvider> getIdVProviders(int limit, int offset) {
+
+            int from = Math.min(offset, idVProviders.size());
+            int to = Math.min(from + Math.min(limit, MAXIMUM_ITEMS_PER_PAGE), idVProviders.size());
+            return new ArrayList<>(idVProviders.subList(from, to));
+        }
+
+        List<String> getIds() {
+
+            List<String> ids = new ArrayList<>();
+            for (IdVProvider idVProvider : idVProviders) {
+                ids.add(idVProvider.getIdVProviderUuid());
+            }
+            return ids;
+        }
+
+        void remove(String id) {
+
+            idVProviders.removeIf(idVProvider -> id.equals(idVProvider.getIdVProviderUuid()));
+        }
+
+        void addFirst(String id) {
+
+            idVProviders.add(0, buildIdVProvider(id));
+        }
+
+        private static IdVProvider buildIdVProvider(String id) {
+
+            IdVProvider idVProvider = new IdVProvider();
+            idVProvider.setIdVProviderUUID(id);
+            return idVProvider;
+        }
+    }
+}
@@ -25,10 +25,7 @@ public class KeyStoreConstants {
     public static final String CLIENT_CERTIFICATE_PATH_COMPONENT = "/client-certs" + "/%s";
 
     public static final String CERTIFICATE_FILE_EXTENSION = ".cer";
-    public static final String CERTIFICATE_TEMPORARY_DIRECTORY_PATH = "tmp/certs";
-    public static final String PATH_SEPERATOR = "/";
-    public static final String HTTP_REQUEST_MESSAGE_KEY = "HTTP.REQUEST";
-    public static final String ACCEPT_HEADER = "Accept";
+    public static final String CONTENT_DISPOSITION_HEADER = "Content-Disposition";
 
     /**
      * Enum for Keystore management service related errors.
@@ -36,7 +33,6 @@ public class KeyStoreConstants {
     public enum ErrorMessage {
 
         ERROR_CODE_INVALID_ALIAS("KSS-60010", "There exists no certificate with alias: %s."),
-        ERROR_CODE_FILE_WRITE("KSS-65010", "Unable to create file: %s"),
         ERROR_CODE_ENCODE_CERTIFICATE("KSS-65011", "Unable to encode the certificate with alias: %s.");
 
         private final String code;
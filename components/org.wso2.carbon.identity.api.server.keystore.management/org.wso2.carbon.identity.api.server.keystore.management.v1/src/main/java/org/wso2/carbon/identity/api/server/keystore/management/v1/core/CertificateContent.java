@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.keystore.management.v1.core;
+
+/**
+ * Downloadable content of a certificate along with its entity tag.
+ */
+public class CertificateContent {
+
+    private final String fileName;
+    private final byte[] content;
+    private final String eTag;
+
+    CertificateContent(String fileName, byte[] content, String eTag) {
+
+        this.fileName = fileName;
+        this.content = content;
+        this.eTag = eTag;
+    }
+
+    /**
+     * Get the file name the certificate is downloaded as.
+     *
+     * @return File name of the certificate.
+     */
+    public String getFileName() {
+
+        return fileName;
+    }
+
+    /**
+     * Get the encoded certificate.
+     *
+     * @return Certificate content.
+     */
+    public byte[] getContent() {
+
+        return content;
+    }
+
+    /**
+     * Get the strong entity tag of the certificate content.
+     *
+     * @return Quoted entity tag.
+     */
+    public String getETag() {
+
+        return eTag;
+    }
+}
@@ -22,6 +22,7 @@ import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.identity.api.server.common.ContextLoader;
+import org.wso2.carbon.identity.api.server.common.Util;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
 import org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants;
@@ -30,11 +31,6 @@ import org.wso2.carbon.security.keystore.KeyStoreManagementException;
 import org.wso2.carbon.security.keystore.KeyStoreManagementServerException;
 import org.wso2.carbon.security.keystore.KeyStoreManagementService;
 
-import java.io.File;
-import java.io.FileOutputStream;
-import java.io.IOException;
-import java.io.OutputStreamWriter;
-import java.io.Writer;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.security.cert.CertificateEncodingException;
@@ -50,13 +46,10 @@ import static org.wso2.carbon.identity.api.server.common.Constants.V1_API_PATH_C
 import static org.wso2.carbon.identity.api.server.common.ContextLoader.buildURIForHeader;
 import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.CERTIFICATE_FILE_EXTENSION;
 import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.CERTIFICATE_PATH_COMPONENT;
-import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.CERTIFICATE_TEMPORARY_DIRECTORY_PATH;
 import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.CLIENT_CERTIFICATE_PATH_COMPONENT;
 import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.ErrorMessage.ERROR_CODE_ENCODE_CERTIFICATE;
-import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.ErrorMessage.ERROR_CODE_FILE_WRITE;
 import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.ErrorMessage.ERROR_CODE_INVALID_ALIAS;
 import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.KEYSTORES_API_PATH_COMPONENT;
-import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.PATH_SEPERATOR;
 
 /**
  * Keystore service APIs are processed in this class.
@@ -94,9 +87,9 @@ public class KeyStoreService {
      *
      * @param alias      of the certificate.
      * @param encodeCert boolean value to decide whether the needs to be encoded or not.
-     * @return a {@link File} with the certificate.
+     * @return a {@link CertificateContent} with the certificate.
      */
-    public File getCertificate(String alias, boolean encodeCert) {
+    public CertificateContent getCertificate(String alias, boolean encodeCert) {
 
         X509Certificate certificate;
         String tenantDomain = ContextLoader.getTenantDomainFromContext();
@@ -110,7 +103,7 @@ public class KeyStoreService {
             throw handleException(ERROR_CODE_INVALID_ALIAS, alias, "Couldn't find a certificate with alias: " + alias +
                     " from the keystore.", Response.Status.BAD_REQUEST);
         }
-        return generateCertificateFile(alias, certificate, encodeCert);
+        return getCertificateContent(alias, certificate, encodeCert);
     }
 
     /**
@@ -170,9 +163,9 @@ public class KeyStoreService {
      *
      * @param alias      of the certificate.
      * @param encodeCert boolean value to decide whether the needs to be encoded or not.
-     * @return a {@link File} with the certificate.
+     * @return a {@link CertificateContent} with the certificate.
      */
-    public File getClientCertificate(String alias, boolean encodeCert) {
+    public CertificateContent getClientCertificate(String alias, boolean encodeCert) {
 
         X509Certificate certificate;
         String tenantDomain = ContextLoader.getTenantDomainFromContext();
@@ -187,16 +180,16 @@ public class KeyStoreService {
             throw handleException(ERROR_CODE_INVALID_ALIAS, alias, "Couldn't find a certificate with alias: " + alias +
                     " from the keystore.", Response.Status.BAD_REQUEST);
         }
-        return generateCertificateFile(alias, certificate, encodeCert);
+        return getCertificateContent(alias, certificate, encodeCert);
     }
 
     /**
      * Retrieves the public certificate from the keystore.
      *
      * @param encodeCert boolean value to decide whether the needs to be encoded or not.
-     * @return a {@link File} with the certificate.
+     * @return a {@link CertificateContent} with the certificate.
      */
-    public File getPublicCertificate(boolean encodeCert) {
+    public CertificateContent getPublicCertificate(boolean encodeCert) {
 
         Map<String, X509Certificate> certificateData;
         String tenantDomain = ContextLoader.getTenantDomainFromContext();
@@ -213,7 +206,7 @@ public class KeyStoreService {
             alias = key;
             certificate = certificateData.get(alias);
         }
-        return generateCertificateFile(alias, certificate, encodeCert);
+        return getCertificateContent(alias, certificate, encodeCert);
     }
 
     private List<CertificateResponse> generateCertificateResponseList(List<String> aliasList, boolean isClientCert) {
@@ -226,54 +219,34 @@ public class KeyStoreService {
             componentPath = CLIENT_CERTIFICATE_PATH_COMPONENT;
         }
 
+        ContextLoader.URIResolver uriResolver = ContextLoader.getURIResolver();
         for (String alias : aliasList) {
             CertificateResponse certificatesResponse = new CertificateResponse();
             certificatesResponse.setAlias(alias);
             String certificateEndPoint =
                     String.format(V1_API_PATH_COMPONENT + KEYSTORES_API_PATH_COMPONENT +
                             componentPath, alias);
-            certificatesResponse.setCertificate(buildURIForHeader(certificateEndPoint));
+            certificatesResponse.setCertificate(uriResolver.buildURIForHeader(certificateEndPoint));
             certificatesResponses.add(certificatesResponse);
         }
         return certificatesResponses;
     }
 
-    private File generateCertificateFile(String alias, X509Certificate certificate, boolean encodeCert) {
+    private CertificateContent getCertificateContent(String alias, X509Certificate certificate, boolean encodeCert) {
 
-        String certificateContent;
+        String content;
         if (encodeCert) {
             try {
-                certificateContent = Base64.getEncoder().encodeToString(certificate.getEncoded());
+                content = Base64.getEncoder().encodeToString(certificate.getEncoded());
             } catch (CertificateEncodingException e) {
                 throw handleException(ERROR_CODE_ENCODE_CERTIFICATE, alias, e, Response.Status.INTERNAL_SERVER_ERROR);
             }
         } else {
-            certificateContent = certificate.toString();
+            content = certificate.toString();
         }
-
-        String fileName = alias + CERTIFICATE_FILE_EXTENSION;
-        File certsDirectory = new File(CERTIFICATE_TEMPORARY_DIRECTORY_PATH).getAbsoluteFile();
-        if (certsDirectory.mkdirs()) {
-            if (LOG.isDebugEnabled()) {
-                LOG.debug(certsDirectory.toString() + " has been created.");
-            }
-        }
-        File certificateFile = new File(CERTIFICATE_TEMPORARY_DIRECTORY_PATH + PATH_SEPERATOR + fileName)
-                .getAbsoluteFile();
-        try {
-            if (certificateFile.createNewFile()) {
-                if (LOG.isDebugEnabled()) {
-                    LOG.debug("A file has been created with name: " + fileName);
-                }
-            }
-            try (Writer fileWriter = new OutputStreamWriter(new FileOutputStream(certificateFile),
-                    StandardCharsets.UTF_8)) {
-                fileWriter.write(certificateContent);
-            }
-        } catch (IOException e) {
-            throw handleException(ERROR_CODE_FILE_WRITE, fileName, e, Response.Status.INTERNAL_SERVER_ERROR);
-        }
-        return certificateFile;
+        byte[] contentBytes = content.getBytes(StandardCharsets.UTF_8);
+        return new CertificateContent(alias + CERTIFICATE_FILE_EXTENSION, contentBytes,
+                Util.buildStrongETag(contentBytes));
     }
 
     private APIError handleException(KeyStoreManagementException e, String description) {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019-2025, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2019-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -19,30 +19,32 @@
 package org.wso2.carbon.identity.api.server.keystore.management.v1.impl;
 
 import org.apache.commons.lang.StringUtils;
-import org.apache.commons.logging.Log;
-import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.base.MultitenantConstants;
+import org.wso2.carbon.identity.api.server.common.Util;
 import org.wso2.carbon.identity.api.server.keystore.management.v1.KeystoresApiService;
+import org.wso2.carbon.identity.api.server.keystore.management.v1.core.CertificateContent;
 import org.wso2.carbon.identity.api.server.keystore.management.v1.core.KeyStoreService;
 import org.wso2.carbon.identity.api.server.keystore.management.v1.factories.KeyStoreServiceFactory;
 import org.wso2.carbon.identity.api.server.keystore.management.v1.model.CertificateRequest;
 
 import java.net.URI;
-import javax.servlet.http.HttpServletRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.NewCookie;
 import javax.ws.rs.core.Response;
 
 import static org.wso2.carbon.identity.api.server.common.ContextLoader.getTenantDomainFromContext;
-import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.ACCEPT_HEADER;
-import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.HTTP_REQUEST_MESSAGE_KEY;
+import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.CONTENT_DISPOSITION_HEADER;
 
 /**
  * API service implementation of Keystore management service operations.
  */
 public class KeystoresApiServiceImpl implements KeystoresApiService {
 
-    private static final Log log = LogFactory.getLog(KeystoresApiServiceImpl.class);
+    private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
 
     private final KeyStoreService keyStoreService;
 
@@ -75,7 +77,7 @@ public class KeystoresApiServiceImpl implements KeystoresApiService {
         if (encodeCert == null) {
             encodeCert = false;
         }
-        return Response.ok().entity(keyStoreService.getCertificate(alias, encodeCert)).build();
+        return buildCertificateResponse(keyStoreService.getCertificate(alias, encodeCert));
     }
 
     @Override
@@ -97,7 +99,7 @@ public class KeystoresApiServiceImpl implements KeystoresApiService {
         if (encodeCert == null) {
             encodeCert = false;
         }
-        return Response.ok().entity(keyStoreService.getClientCertificate(alias, encodeCert)).build();
+        return buildCertificateResponse(keyStoreService.getClientCertificate(alias, encodeCert));
     }
 
     @Override
@@ -119,7 +121,7 @@ public class KeystoresApiServiceImpl implements KeystoresApiService {
         if (encodeCert == null) {
             encodeCert = false;
         }
-        return Response.ok().entity(keyStoreService.getPublicCertificate(encodeCert)).build();
+        return buildCertificateResponse(keyStoreService.getPublicCertificate(encodeCert));
     }
 
     @Override
@@ -135,38 +137,67 @@ public class KeystoresApiServiceImpl implements KeystoresApiService {
     }
 
     /**
-     * Checks if JSON response is requested for certificate download endpoints.
-     * JSON responses are not supported for certificate downloads.
+     * Builds the certificate download response. The certificate content is only sent when the entity tag sent in the
+     * 'If-None-Match' header does not match the current certificate.
      *
-     * @return true if JSON is requested, false otherwise.
+     * @param certificateContent Certificate content.
+     * @return Certificate download response.
      */
-    private boolean isJsonResponseRequested() {
+    private Response buildCertificateResponse(CertificateContent certificateContent) {
 
-        String acceptHeader = getCurrentAcceptHeader();
-        if (acceptHeader == null) {
-            return false;
-        }
-        return acceptHeader.contains(MediaType.APPLICATION_JSON);
+        return Util.buildConditionalResponse(certificateContent.getContent(), certificateContent.getETag(),
+                Collections.singletonMap(CONTENT_DISPOSITION_HEADER,
+                        buildContentDisposition(certificateContent.getFileName()))).build();
     }
 
     /**
-     * Gets the Accept header from the current HTTP request using Apache CXF.
+     * Builds the 'Content-Disposition' header value of a certificate download. The file name is derived from the
+     * certificate alias, hence it is sent as an RFC 6266 'filename*' parameter in UTF-8, along with a 'filename'
+     * parameter for older clients in which the characters that cannot appear in a quoted string are replaced.
      *
-     * @return Accept header value or null if not accessible.
+     * @param fileName File name of the certificate.
+     * @return Header value.
      */
-    private String getCurrentAcceptHeader() {
+    static String buildContentDisposition(String fileName) {
 
-        if (log.isDebugEnabled()) {
-            log.debug("Attempting to retrieve Accept header from current CXF message.");
+        StringBuilder quotedFileName = new StringBuilder(fileName.length());
+        for (int i = 0; i < fileName.length(); i++) {
+            char c = fileName.charAt(i);
+            quotedFileName.append(c < 0x20 || c > 0x7e || c == '"' || c == '\\' ? '_' : c);
         }
-
-        org.apache.cxf.message.Message message = org.apache.cxf.phase.PhaseInterceptorChain.getCurrentMessage();
-        if (message != null) {
-            HttpServletRequest request = (HttpServletRequest) message.get(HTTP_REQUEST_MESSAGE_KEY);
-            if (request != null) {
-                return request.getHeader(ACCEPT_HEADER);
+        StringBuilder encodedFileName = new StringBuilder(fileName.length());
+        for (byte b : fileName.getBytes(StandardCharsets.UTF_8)) {
+            char c = (char) (b & 0xff);
+            if (isAttrChar(c)) {
+                encodedFileName.append(c);
+            } else {
+                encodedFileName.append('%').append(HEX_DIGITS[c >> 4]).append(HEX_DIGITS[c & 0xf]);
             }
         }
-        return null;
+        return "attachment; filename=\"" + quotedFileName + "\"; filename*=UTF-8''" + encodedFileName;
+    }
+
+    /**
+     * Checks whether a character can appear in an RFC 5987 extended parameter value without being percent encoded.
+     */
+    private static boolean isAttrChar(char c) {
+
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') ||
+                "!#$&+-.^_`|~".indexOf(c) >= 0;
+    }
+
+    /**
+     * Checks if JSON response is requested for certificate download endpoints.
+     * JSON responses are not supported for certificate downloads.
+     *
+     * @return true if JSON is requested, false otherwise.
+     */
+    private boolean isJsonResponseRequested() {
+
+        String acceptHeader = Util.getRequestHeader(HttpHeaders.ACCEPT);
+        if (acceptHeader == null) {
+            return false;
+        }
+        return acceptHeader.contains(MediaType.APPLICATION_JSON);
     }
 }
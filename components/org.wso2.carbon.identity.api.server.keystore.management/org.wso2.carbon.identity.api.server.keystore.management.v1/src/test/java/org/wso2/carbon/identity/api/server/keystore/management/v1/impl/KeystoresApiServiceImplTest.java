@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.keystore.management.v1.impl;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Unit tests for the certificate download headers of {@link KeystoresApiServiceImpl}.
+ */
+public class KeystoresApiServiceImplTest {
+
+    @DataProvider(name = "fileNameData")
+    public Object[][] fileNameData() {
+
+        return new Object[][]{
+                {"wso2carbon.crt", "attachment; filename=\"wso2carbon.crt\"; filename*=UTF-8''wso2carbon.crt"},
+                {"my cert.crt", "attachment; filename=\"my cert.crt\"; filename*=UTF-8''my%20cert.crt"},
+                {"a\"b\\c.crt", "attachment; filename=\"a_b_c.crt\"; filename*=UTF-8''a%22b%5Cc.crt"},
+                {"a\r\nSet-Cookie: x.crt",
+                        "attachment; filename=\"a__Set-Cookie: x.crt\"; filename*=UTF-8''a%0D%0ASet-Cookie%3A%20x.crt"},
+                {"\u043a\u043b\u044e\u0447.crt",
+                        "attachment; filename=\"____.crt\"; filename*=UTF-8''%D0%BA%D0%BB%D1%8E%D1%87.crt"}
+        };
+    }
+
+    @Test(dataProvider = "fileNameData")
+    public void testContentDispositionEscapesTheFileName(String fileName, String expectedContentDisposition) {
+
+        Assert.assertEquals(KeystoresApiServiceImpl.buildContentDisposition(fileName), expectedContentDisposition);
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * Copyright (c) 2020-2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,6 +22,10 @@ public class OidcScopeConstants {
 
     public static final String OIDC_SCOPE_API_PATH_COMPONENT = "/oidc/scopes";
     public static final String PATH_SEPERATOR = "/";
+    public static final String LIMIT_PARAM = "limit";
+    public static final String OFFSET_PARAM = "offset";
+    public static final String FILTER_ATTRIBUTE_NAME = "name";
+    public static final String FILTER_ATTRIBUTE_DISPLAY_NAME = "displayName";
 
     /**
      * Enum for OIDC scope management service related errors.
@@ -30,7 +34,9 @@ public class OidcScopeConstants {
 
         INVALID_REQUEST("OAUTH-60001", "Invalid Request."),
         ERROR_CONFLICT_REQUEST("41004", "Scope already exists."),
-        SCOPE_NOT_FOUND("41003", "Scope not found.");
+        SCOPE_NOT_FOUND("41003", "Scope not found."),
+        INVALID_PAGINATION_PARAMETER("OAUTH-60002", "Invalid pagination parameter."),
+        INVALID_FILTER("OAUTH-60003", "Invalid filter.");
 
         private final String code;
         private final String message;
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019-2025, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2019-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -108,9 +108,9 @@ public class OidcApi  {
         @ApiResponse(code = 404, message = "Resource Not Found.", response = ErrorResponse.class),
         @ApiResponse(code = 500, message = "Internal Server Error.", response = ErrorResponse.class)
     })
-    public Response getScopes() {
+    public Response getScopes(    @Valid@ApiParam(value = "Maximum number of scopes to return. All the matching scopes are returned if not given. ")  @QueryParam("limit") Integer limit,     @Valid@ApiParam(value = "Number of matching scopes to skip for pagination. ")  @QueryParam("offset") Integer offset,     @Valid@ApiParam(value = "Condition to filter the scopes by 'name' or 'displayName'. Supports 'eq', 'ne', 'co', 'sw' and 'ew' operations and complex queries with 'and' and 'or' operations. E.g. /oidc/scopes?filter=name+sw+openid ")  @QueryParam("filter") String filter,     @Valid@ApiParam(value = "Whether the claims of the scopes are excluded from the response. ", defaultValue="false") @DefaultValue("false")  @QueryParam("excludeClaims") Boolean excludeClaims) {
 
-        return delegate.getScopes();
+        return delegate.getScopes(limit,  offset,  filter,  excludeClaims );
     }
 
     @Valid
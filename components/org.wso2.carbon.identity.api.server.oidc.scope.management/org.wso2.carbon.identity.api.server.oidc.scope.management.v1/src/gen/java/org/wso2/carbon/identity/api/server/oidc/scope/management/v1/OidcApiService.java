@@ -35,7 +35,7 @@ public interface OidcApiService {
 
       public Response getScope(String id);
 
-      public Response getScopes();
+      public Response getScopes(Integer limit, Integer offset, String filter, Boolean excludeClaims);
 
       public Response updateScope(String id, ScopeUpdateRequest scopeUpdateRequest);
 }
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.oidc.scope.management.v1.core;
+
+import org.wso2.carbon.identity.api.server.common.cache.LocalCache;
+import org.wso2.carbon.identity.api.server.oidc.scope.management.v1.model.Scope;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per tenant cache of the OIDC scopes of a tenant, converted to the API model.
+ * <p>
+ * The scope listing reads the scopes on every call, while the scope changes done through this API evict the scopes of
+ * the tenant. The expiry bounds the staleness of changes done on other nodes or through other channels. Cached lists
+ * are shared between requests, hence neither the lists nor the scopes in them must be modified.
+ * <p>
+ * Every invalidation starts a new generation, and scopes loaded before an invalidation are not cached, so that a
+ * concurrent listing cannot re-populate the cache with the scopes from before a change.
+ */
+public final class OidcScopeCache {
+
+    private static final int MAX_CACHED_TENANTS = 1000;
+    private static final long CACHE_TTL_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+    private static final OidcScopeCache INSTANCE = new OidcScopeCache();
+
+    private final LocalCache<String, List<Scope>> scopes = new LocalCache<>(MAX_CACHED_TENANTS, CACHE_TTL_MILLIS);
+    private long generation;
+
+    private OidcScopeCache() {
+
+    }
+
+    public static OidcScopeCache getInstance() {
+
+        return INSTANCE;
+    }
+
+    /**
+     * Get the cached scopes of a tenant.
+     *
+     * @param tenantDomain Tenant domain.
+     * @return Unmodifiable list of scopes, or null if the scopes are not cached.
+     */
+    List<Scope> getScopes(String tenantDomain) {
+
+        return scopes.get(tenantDomain);
+    }
+
+    /**
+     * Get the current generation of the cache. The generation should be read before loading the scopes to be cached.
+     *
+     * @return Current generation.
+     */
+    synchronized long getGeneration() {
+
+        return generation;
+    }
+
+    /**
+     * Cache the scopes of a tenant, unless scopes are already cached or the cache was invalidated after the given
+     * generation.
+     *
+     * @param tenantDomain Tenant domain.
+     * @param tenantScopes Unmodifiable list of scopes.
+     * @param generation   Generation of the cache read before loading the scopes.
+     * @return The cached scopes, or the given scopes if they were not cached.
+     */
+    synchronized List<Scope> putScopesIfAbsent(String tenantDomain, List<Scope> tenantScopes, long generation) {
+
+        if (generation != this.generation) {
+            return tenantScopes;
+        }
+        return scopes.putIfAbsent(tenantDomain, tenantScopes);
+    }
+
+    /**
+     * Remove the cached scopes of a tenant.
+     *
+     * @param tenantDomain Tenant domain.
+     */
+    synchronized void invalidate(String tenantDomain) {
+
+        generation++;
+        scopes.remove(tenantDomain);
+    }
+}
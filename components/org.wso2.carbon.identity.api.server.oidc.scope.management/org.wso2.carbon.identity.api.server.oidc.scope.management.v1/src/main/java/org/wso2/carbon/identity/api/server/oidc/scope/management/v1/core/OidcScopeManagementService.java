@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020-2025, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2020-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -20,8 +20,14 @@ package org.wso2.carbon.identity.api.server.oidc.scope.management.v1.core;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.api.server.common.ContextLoader;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
+import org.wso2.carbon.identity.api.server.common.filter.CompiledFilter;
+import org.wso2.carbon.identity.api.server.common.filter.FilterCompilationException;
+import org.wso2.carbon.identity.api.server.common.filter.FilterCompiler;
+import org.wso2.carbon.identity.api.server.common.filter.FilterOperator;
+import org.wso2.carbon.identity.api.server.common.filter.FilterSchema;
 import org.wso2.carbon.identity.api.server.oidc.scope.management.common.OidcScopeConstants;
 import org.wso2.carbon.identity.api.server.oidc.scope.management.v1.model.Scope;
 import org.wso2.carbon.identity.api.server.oidc.scope.management.v1.model.ScopeUpdateRequest;
@@ -32,7 +38,12 @@ import org.wso2.carbon.identity.oauth.dto.ScopeDTO;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 import javax.ws.rs.core.Response;
 
@@ -43,6 +54,18 @@ public class OidcScopeManagementService {
 
     private final OAuthAdminServiceImpl oauthAdminService;
     private static final Log LOG = LogFactory.getLog(OidcScopeManagementService.class);
+    private static final FilterSchema FILTER_SCHEMA = FilterSchema.builder("oidc-scopes")
+            .stringAttribute(OidcScopeConstants.FILTER_ATTRIBUTE_NAME, FilterOperator.EQ, FilterOperator.NE,
+                    FilterOperator.CO, FilterOperator.SW, FilterOperator.EW)
+            .stringAttribute(OidcScopeConstants.FILTER_ATTRIBUTE_DISPLAY_NAME, FilterOperator.EQ, FilterOperator.NE,
+                    FilterOperator.CO, FilterOperator.SW, FilterOperator.EW)
+            .build();
+    private static final Map<String, Function<Scope, String>> FILTER_ATTRIBUTE_VALUES = new HashMap<>();
+
+    static {
+        FILTER_ATTRIBUTE_VALUES.put(OidcScopeConstants.FILTER_ATTRIBUTE_NAME, Scope::getName);
+        FILTER_ATTRIBUTE_VALUES.put(OidcScopeConstants.FILTER_ATTRIBUTE_DISPLAY_NAME, Scope::getDisplayName);
+    }
 
     public OidcScopeManagementService(OAuthAdminServiceImpl oauthAdminService) {
 
@@ -63,6 +86,7 @@ public class OidcScopeManagementService {
             ScopeDTO scopeDTO = new ScopeDTO(scopeObject.getName(), scopeObject.getDisplayName(),
                     scopeObject.getDescription(), claimArray);
             oauthAdminService.addScope(scopeDTO);
+            invalidateScopeCache();
             return scopeDTO.getName();
         } catch (IdentityOAuthAdminException e) {
             throw handleException(e, "Server encountered an error while adding OIDC scope: " + scopeObject.getName());
@@ -78,6 +102,7 @@ public class OidcScopeManagementService {
 
         try {
             oauthAdminService.deleteScope(id);
+            invalidateScopeCache();
         } catch (IdentityOAuthClientException e) {
             if (LOG.isDebugEnabled()) {
                 LOG.debug(e);
@@ -104,19 +129,45 @@ public class OidcScopeManagementService {
     }
 
     /**
-     * List all available OIDC scopes.
+     * List the OIDC scopes matching the filter. The converted scopes of the tenant are cached, hence listing the
+     * scopes does not load them from the OAuth admin service on every call.
      *
+     * @param limit         Maximum number of scopes to return. All the matching scopes are returned if not given.
+     * @param offset        Number of matching scopes to skip.
+     * @param filter        Filter on the name and the display name of the scopes.
+     * @param excludeClaims Whether the claims of the scopes are excluded.
      * @return List of scopes.
      */
-    public List<Scope> getScopes() {
+    public List<Scope> getScopes(Integer limit, Integer offset, String filter, boolean excludeClaims) {
 
-        try {
-            ScopeDTO[] scopes = oauthAdminService.getScopes();
-            return buildScopeList(scopes);
-        } catch (IdentityOAuthAdminException e) {
-            throw handleException(e, "Server encountered an error while listing OIDC scopes.");
+        if (limit != null && limit < 0) {
+            throw handleClientError(OidcScopeConstants.ErrorMessage.INVALID_PAGINATION_PARAMETER,
+                    "The value of the pagination parameter: " + OidcScopeConstants.LIMIT_PARAM + " is invalid.");
+        }
+        if (offset != null && offset < 0) {
+            throw handleClientError(OidcScopeConstants.ErrorMessage.INVALID_PAGINATION_PARAMETER,
+                    "The value of the pagination parameter: " + OidcScopeConstants.OFFSET_PARAM + " is invalid.");
         }
+        Predicate<Scope> filterPredicate = buildFilter(filter);
 
+        int remainingOffset = offset == null ? 0 : offset;
+        int remainingLimit = limit == null ? Integer.MAX_VALUE : limit;
+        List<Scope> scopeList = new ArrayList<>();
+        for (Scope scope : getTenantScopes()) {
+            if (remainingLimit == 0) {
+                break;
+            }
+            if (filterPredicate != null && !filterPredicate.test(scope)) {
+                continue;
+            }
+            if (remainingOffset > 0) {
+                remainingOffset--;
+                continue;
+            }
+            scopeList.add(copyScope(scope, !excludeClaims));
+            remainingLimit--;
+        }
+        return scopeList;
     }
 
     /**
@@ -133,11 +184,77 @@ public class OidcScopeManagementService {
             ScopeDTO scopeDTO = new ScopeDTO(id, scopeUpdateObject.getDisplayName(),
                     scopeUpdateObject.getDescription(), claimArray);
             oauthAdminService.updateScope(scopeDTO);
+            invalidateScopeCache();
         } catch (IdentityOAuthAdminException e) {
             throw handleException(e, "Server encountered an error while updating OIDC scope: " + id);
         }
     }
 
+    /**
+     * Get the converted scopes of the tenant, loading them from the OAuth admin service if they are not cached.
+     *
+     * @return Unmodifiable list of scopes.
+     */
+    private List<Scope> getTenantScopes() {
+
+        String tenantDomain = ContextLoader.getTenantDomainFromContext();
+        OidcScopeCache scopeCache = OidcScopeCache.getInstance();
+        List<Scope> scopes = scopeCache.getScopes(tenantDomain);
+        if (scopes == null) {
+            long generation = scopeCache.getGeneration();
+            try {
+                scopes = Collections.unmodifiableList(buildScopeList(oauthAdminService.getScopes()));
+            } catch (IdentityOAuthAdminException e) {
+                throw handleException(e, "Server encountered an error while listing OIDC scopes.");
+            }
+            scopes = scopeCache.putScopesIfAbsent(tenantDomain, scopes, generation);
+        }
+        return scopes;
+    }
+
+    private void invalidateScopeCache() {
+
+        OidcScopeCache.getInstance().invalidate(ContextLoader.getTenantDomainFromContext());
+    }
+
+    private Predicate<Scope> buildFilter(String filter) {
+
+        CompiledFilter compiledFilter;
+        try {
+            compiledFilter = FilterCompiler.getInstance().compile(FILTER_SCHEMA, filter);
+        } catch (FilterCompilationException e) {
+            String description = "The filter: " + filter + " is invalid.";
+            if (e.getReason() == FilterCompilationException.Reason.UNSUPPORTED_ATTRIBUTE) {
+                description = "Filtering by the attribute: " + e.getAttribute() + " is not supported.";
+            } else if (e.getReason() == FilterCompilationException.Reason.UNSUPPORTED_OPERATOR &&
+                    e.getAttribute() != null) {
+                description = "The filter operator: " + e.getOperator() + " is not supported for the attribute: " +
+                        e.getAttribute() + ".";
+            }
+            throw handleClientError(OidcScopeConstants.ErrorMessage.INVALID_FILTER, description);
+        }
+        return compiledFilter == null ? null : compiledFilter.toPredicate(FILTER_ATTRIBUTE_VALUES);
+    }
+
+    /**
+     * Copy a cached scope, so that the returned scope can be modified without affecting the cache.
+     *
+     * @param scope         Cached scope.
+     * @param includeClaims Whether the claims of the scope are copied.
+     * @return Copy of the scope.
+     */
+    private Scope copyScope(Scope scope, boolean includeClaims) {
+
+        Scope copiedScope = new Scope();
+        copiedScope.setName(scope.getName());
+        copiedScope.setDisplayName(scope.getDisplayName());
+        copiedScope.setDescription(scope.getDescription());
+        if (includeClaims && scope.getClaims() != null) {
+            copiedScope.setClaims(new ArrayList<>(scope.getClaims()));
+        }
+        return copiedScope;
+    }
+
     /**
      * Build scope list.
      *
@@ -170,6 +287,20 @@ public class OidcScopeManagementService {
         return scope;
     }
 
+    /**
+     * Handle client errors raised by this API.
+     *
+     * @param error       Error.
+     * @param description Error description.
+     * @return API error.
+     */
+    private APIError handleClientError(OidcScopeConstants.ErrorMessage error, String description) {
+
+        ErrorResponse errorResponse = new ErrorResponse.Builder().withCode(error.getCode())
+                .withMessage(error.getMessage()).withDescription(description).build(LOG, description);
+        return new APIError(Response.Status.BAD_REQUEST, errorResponse);
+    }
+
     /**
      * Handle error cases.
      *
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020-2025, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2020-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -68,9 +68,10 @@ public class OidcApiServiceImpl implements OidcApiService {
     }
 
     @Override
-    public Response getScopes() {
+    public Response getScopes(Integer limit, Integer offset, String filter, Boolean excludeClaims) {
 
-        return Response.ok().entity(oidcScopeManagementService.getScopes()).build();
+        return Response.ok().entity(oidcScopeManagementService.getScopes(limit, offset, filter,
+                Boolean.TRUE.equals(excludeClaims))).build();
     }
 
     @Override
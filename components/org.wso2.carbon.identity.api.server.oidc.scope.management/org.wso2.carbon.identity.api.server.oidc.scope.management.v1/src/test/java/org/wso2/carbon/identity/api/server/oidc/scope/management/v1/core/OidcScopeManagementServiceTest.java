@@ -0,0 +1,242 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.oidc.scope.management.v1.core;
+
+import org.mockito.MockedStatic;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.api.server.common.ContextLoader;
+import org.wso2.carbon.identity.api.server.common.error.APIError;
+import org.wso2.carbon.identity.api.server.oidc.scope.management.common.OidcScopeConstants;
+import org.wso2.carbon.identity.api.server.oidc.scope.management.v1.model.Scope;
+import org.wso2.carbon.identity.api.server.oidc.scope.management.v1.model.ScopeUpdateRequest;
+import org.wso2.carbon.identity.oauth.IdentityOAuthAdminException;
+import org.wso2.carbon.identity.oauth.OAuthAdminServiceImpl;
+import org.wso2.carbon.identity.oauth.dto.ScopeDTO;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import javax.ws.rs.core.Response;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the scope listing of {@link OidcScopeManagementService}.
+ */
+public class OidcScopeManagementServiceTest {
+
+    private static final String TENANT_DOMAIN = "carbon.super";
+
+    private OAuthAdminServiceImpl oauthAdminService;
+    private OidcScopeManagementService oidcScopeManagementService;
+    private MockedStatic<ContextLoader> contextLoader;
+
+    @BeforeMethod
+    public void setUp() throws IdentityOAuthAdminException {
+
+        oauthAdminService = mock(OAuthAdminServiceImpl.class);
+        when(oauthAdminService.getScopes()).thenReturn(new ScopeDTO[]{
+                buildScopeDTO("openid", "OpenID", "sub"),
+                buildScopeDTO("profile", "Profile", "name", "family_name"),
+                buildScopeDTO("email", "Email", "email", "email_verified"),
+                buildScopeDTO("phone", "Phone", "phone_number"),
+                buildScopeDTO("address", "Address", "address")});
+        oidcScopeManagementService = new OidcScopeManagementService(oauthAdminService);
+
+        contextLoader = mockStatic(ContextLoader.class);
+        contextLoader.when(ContextLoader::getTenantDomainFromContext).thenReturn(TENANT_DOMAIN);
+        OidcScopeCache.getInstance().invalidate(TENANT_DOMAIN);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        contextLoader.close();
+    }
+
+    @Test
+    public void testListAllScopes() {
+
+        Assert.assertEquals(getNames(oidcScopeManagementService.getScopes(null, null, null, false)),
+                Arrays.asList("openid", "profile", "email", "phone", "address"));
+    }
+
+    @Test
+    public void testListPageOfScopes() {
+
+        Assert.assertEquals(getNames(oidcScopeManagementService.getScopes(2, 1, null, false)),
+                Arrays.asList("profile", "email"));
+        Assert.assertEquals(getNames(oidcScopeManagementService.getScopes(10, 4, null, false)),
+                Collections.singletonList("address"));
+        Assert.assertTrue(oidcScopeManagementService.getScopes(10, 5, null, false).isEmpty());
+        Assert.assertTrue(oidcScopeManagementService.getScopes(0, null, null, false).isEmpty());
+    }
+
+    @Test
+    public void testListFilteredScopes() {
+
+        Assert.assertEquals(getNames(oidcScopeManagementService.getScopes(null, null, "name sw p", false)),
+                Arrays.asList("profile", "phone"));
+        Assert.assertEquals(getNames(oidcScopeManagementService.getScopes(null, null,
+                "displayName eq Email or name eq openid", false)), Arrays.asList("openid", "email"));
+        // Paging applies to the matching scopes.
+        Assert.assertEquals(getNames(oidcScopeManagementService.getScopes(1, 1, "name sw p", false)),
+                Collections.singletonList("phone"));
+    }
+
+    @Test
+    public void testListScopesWithoutClaims() {
+
+        List<Scope> scopes = oidcScopeManagementService.getScopes(1, null, null, true);
+        Assert.assertEquals(scopes.size(), 1);
+        Assert.assertTrue(scopes.get(0).getClaims() == null || scopes.get(0).getClaims().isEmpty());
+
+        // Excluding the claims of a response does not affect the cached scopes.
+        Assert.assertEquals(oidcScopeManagementService.getScopes(1, null, null, false).get(0).getClaims(),
+                Collections.singletonList("sub"));
+    }
+
+    @Test
+    public void testListedScopesAreCopies() {
+
+        Scope scope = oidcScopeManagementService.getScopes(1, null, null, false).get(0);
+        scope.setDisplayName("Changed");
+        scope.getClaims().add("changed");
+
+        Scope listedScope = oidcScopeManagementService.getScopes(1, null, null, false).get(0);
+        Assert.assertEquals(listedScope.getDisplayName(), "OpenID");
+        Assert.assertEquals(listedScope.getClaims(), Collections.singletonList("sub"));
+    }
+
+    @Test
+    public void testScopesAreLoadedOnce() throws IdentityOAuthAdminException {
+
+        oidcScopeManagementService.getScopes(null, null, null, false);
+        oidcScopeManagementService.getScopes(2, 1, "name sw p", true);
+
+        verify(oauthAdminService, times(1)).getScopes();
+    }
+
+    @Test
+    public void testAddScopeInvalidatesCache() throws IdentityOAuthAdminException {
+
+        oidcScopeManagementService.getScopes(null, null, null, false);
+        Scope scope = new Scope();
+        scope.setName("custom");
+        scope.setDisplayName("Custom");
+        scope.setClaims(new ArrayList<>(Collections.singletonList("custom_claim")));
+        oidcScopeManagementService.addScope(scope);
+        oidcScopeManagementService.getScopes(null, null, null, false);
+
+        verify(oauthAdminService, times(2)).getScopes();
+    }
+
+    @Test
+    public void testUpdateScopeInvalidatesCache() throws IdentityOAuthAdminException {
+
+        oidcScopeManagementService.getScopes(null, null, null, false);
+        ScopeUpdateRequest scopeUpdateRequest = new ScopeUpdateRequest();
+        scopeUpdateRequest.setDisplayName("Profile");
+        scopeUpdateRequest.setClaims(new ArrayList<>(Collections.singletonList("name")));
+        oidcScopeManagementService.updateScope("profile", scopeUpdateRequest);
+        oidcScopeManagementService.getScopes(null, null, null, false);
+
+        verify(oauthAdminService, times(2)).getScopes();
+    }
+
+    @Test
+    public void testDeleteScopeInvalidatesCache() throws IdentityOAuthAdminException {
+
+        oidcScopeManagementService.getScopes(null, null, null, false);
+        oidcScopeManagementService.deleteScope("phone");
+        oidcScopeManagementService.getScopes(null, null, null, false);
+
+        verify(oauthAdminService, times(2)).getScopes();
+    }
+
+    @Test
+    public void testScopesLoadedBeforeInvalidationAreNotCached() throws IdentityOAuthAdminException {
+
+        ScopeDTO[] scopeDTOs = {buildScopeDTO("openid", "OpenID", "sub")};
+        // A scope change done while the scopes are being loaded invalidates the cache.
+        when(oauthAdminService.getScopes()).thenAnswer(invocation -> {
+            OidcScopeCache.getInstance().invalidate(TENANT_DOMAIN);
+            return scopeDTOs;
+        });
+
+        Assert.assertEquals(getNames(oidcScopeManagementService.getScopes(null, null, null, false)),
+                Collections.singletonList("openid"));
+        Assert.assertNull(OidcScopeCache.getInstance().getScopes(TENANT_DOMAIN));
+    }
+
+    @Test
+    public void testListWithNegativeLimit() {
+
+        assertClientError(() -> oidcScopeManagementService.getScopes(-1, null, null, false),
+                OidcScopeConstants.ErrorMessage.INVALID_PAGINATION_PARAMETER);
+    }
+
+    @Test
+    public void testListWithNegativeOffset() {
+
+        assertClientError(() -> oidcScopeManagementService.getScopes(null, -1, null, false),
+                OidcScopeConstants.ErrorMessage.INVALID_PAGINATION_PARAMETER);
+    }
+
+    @Test
+    public void testListWithUnsupportedFilterAttribute() {
+
+        assertClientError(() -> oidcScopeManagementService.getScopes(null, null, "description eq openid", false),
+                OidcScopeConstants.ErrorMessage.INVALID_FILTER);
+    }
+
+    private static void assertClientError(Runnable listing, OidcScopeConstants.ErrorMessage error) {
+
+        try {
+            listing.run();
+            Assert.fail("The listing should be rejected.");
+        } catch (APIError e) {
+            Assert.assertEquals(e.getStatus(), Response.Status.BAD_REQUEST);
+            Assert.assertEquals(e.getCode(), error.getCode());
+        }
+    }
+
+    private static List<String> getNames(List<Scope> scopes) {
+
+        List<String> names = new ArrayList<>();
+        for (Scope scope : scopes) {
+            names.add(scope.getName());
+        }
+        return names;
+    }
+
+    private static ScopeDTO buildScopeDTO(String name, String displayName, String... claims) {
+
+        return new ScopeDTO(name, displayName, null, claims);
+    }
+}
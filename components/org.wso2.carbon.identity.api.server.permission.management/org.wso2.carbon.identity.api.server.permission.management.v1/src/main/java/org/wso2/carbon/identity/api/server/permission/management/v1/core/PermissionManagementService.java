@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019-2025, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2019-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -22,6 +22,8 @@ import org.apache.commons.lang.ArrayUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.api.server.common.Util;
+import org.wso2.carbon.identity.api.server.common.cache.LocalCache;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
 import org.wso2.carbon.identity.api.server.permission.management.common.Constant;
@@ -30,6 +32,11 @@ import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.user.mgt.RolePermissionException;
 import org.wso2.carbon.user.mgt.RolePermissionManagementService;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
 import javax.ws.rs.core.Response;
 
 /**
@@ -39,6 +46,16 @@ public class PermissionManagementService {
 
     private final RolePermissionManagementService rolePermissionManagementService;
     private static final Log LOG = LogFactory.getLog(PermissionManagementService.class);
+    private static final int MAX_CACHED_TENANTS = 1000;
+    private static final long PERMISSION_TREE_CACHE_TTL_MILLIS = TimeUnit.MINUTES.toMillis(5);
+    private static final String GZIP_ETAG_SUFFIX = "-gzip";
+
+    /*
+    Serialized permission tree of each tenant. Permissions are registered by the deployed components and rarely change
+    at runtime, hence the expiry bounds the staleness of newly registered permissions.
+     */
+    private final LocalCache<String, PermissionTreeSnapshot> permissionTreeCache =
+            new LocalCache<>(MAX_CACHED_TENANTS, PERMISSION_TREE_CACHE_TTL_MILLIS);
 
     public PermissionManagementService(RolePermissionManagementService rolePermissionManagementService) {
 
@@ -46,19 +63,40 @@ public class PermissionManagementService {
     }
 
     /**
-     * Get all permissions array.
+     * Get the serialized snapshot of the permission tree of the tenant. The snapshot is built on first access and
+     * served from the cache until it expires.
      *
-     * @return PermissionObject[] of permissions.
+     * @return Permission tree snapshot.
      */
-    public Permission[] getAllPermissions() {
+    public PermissionTreeSnapshot getPermissionTreeSnapshot() {
+
+        String tenantDomain = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain();
+        PermissionTreeSnapshot snapshot = permissionTreeCache.get(tenantDomain);
+        if (snapshot != null) {
+            return snapshot;
+        }
 
         try {
-            String tenantDomain = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain();
-            return getPermissionObjects(rolePermissionManagementService.getAllPermissions(IdentityTenantUtil
-                    .getTenantId(tenantDomain)));
-        } catch (RolePermissionException e) {
+            // Serialized by the JSON provider of the API, so that the snapshot matches the response it would write.
+            byte[] content = Util.serializeAsJson(getPermissionObjects(rolePermissionManagementService
+                    .getAllPermissions(IdentityTenantUtil.getTenantId(tenantDomain))));
+            String eTag = Util.buildStrongETag(content);
+            // Both representations share the content hash, while the suffix keeps the entity tags distinct.
+            String gzippedETag = eTag.substring(0, eTag.length() - 1) + GZIP_ETAG_SUFFIX + "\"";
+            snapshot = new PermissionTreeSnapshot(content, eTag, gzip(content), gzippedETag);
+        } catch (RolePermissionException | IOException e) {
             throw handleException(e);
         }
+        return permissionTreeCache.putIfAbsent(tenantDomain, snapshot);
+    }
+
+    private byte[] gzip(byte[] content) throws IOException {
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(content.length / 4 + 64);
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+            gzipOutputStream.write(content);
+        }
+        return outputStream.toByteArray();
     }
 
     /**
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.permission.management.v1.core;
+
+/**
+ * Serialized snapshot of the permission tree of a tenant, kept both as plain and as gzip compressed JSON along with
+ * the strong entity tags of the two representations.
+ * Snapshots are cached and shared between requests, hence the content must not be modified.
+ */
+public class PermissionTreeSnapshot {
+
+    private final byte[] content;
+    private final String eTag;
+    private final byte[] gzippedContent;
+    private final String gzippedETag;
+
+    PermissionTreeSnapshot(byte[] content, String eTag, byte[] gzippedContent, String gzippedETag) {
+
+        this.content = content;
+        this.eTag = eTag;
+        this.gzippedContent = gzippedContent;
+        this.gzippedETag = gzippedETag;
+    }
+
+    /**
+     * Get the permission tree as JSON.
+     *
+     * @return JSON content.
+     */
+    public byte[] getContent() {
+
+        return content;
+    }
+
+    /**
+     * Get the strong entity tag of the JSON content.
+     *
+     * @return Quoted entity tag.
+     */
+    public String getETag() {
+
+        return eTag;
+    }
+
+    /**
+     * Get the permission tree as gzip compressed JSON.
+     *
+     * @return Gzip compressed JSON content.
+     */
+    public byte[] getGzippedContent() {
+
+        return gzippedContent;
+    }
+
+    /**
+     * Get the strong entity tag of the gzip compressed content.
+     *
+     * @return Quoted entity tag.
+     */
+    public String getGzippedETag() {
+
+        return gzippedETag;
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019-2025, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2019-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -18,10 +18,20 @@
 
 package org.wso2.carbon.identity.api.server.permission.management.v1.impl;
 
+import org.apache.commons.lang.StringUtils;
+import org.wso2.carbon.identity.api.server.common.Util;
 import org.wso2.carbon.identity.api.server.permission.management.v1.PermissionManagementApiService;
 import org.wso2.carbon.identity.api.server.permission.management.v1.core.PermissionManagementService;
+import org.wso2.carbon.identity.api.server.permission.management.v1.core.PermissionTreeSnapshot;
 import org.wso2.carbon.identity.api.server.permission.management.v1.factories.PermissionManagementServiceFactory;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 
 /**
@@ -29,6 +39,19 @@ import javax.ws.rs.core.Response;
  */
 public class PermissionManagementApiServiceImpl implements PermissionManagementApiService {
 
+    private static final String GZIP_ENCODING = "gzip";
+    private static final Pattern ZERO_QUALITY_PATTERN = Pattern.compile("(?i)q=0(\\.0*)?");
+    private static final Map<String, Object> JSON_ENTITY_HEADERS =
+            Collections.singletonMap(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON);
+    private static final Map<String, Object> GZIPPED_JSON_ENTITY_HEADERS;
+
+    static {
+        Map<String, Object> gzippedJsonEntityHeaders = new HashMap<>();
+        gzippedJsonEntityHeaders.put(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON);
+        gzippedJsonEntityHeaders.put(HttpHeaders.CONTENT_ENCODING, GZIP_ENCODING);
+        GZIPPED_JSON_ENTITY_HEADERS = Collections.unmodifiableMap(gzippedJsonEntityHeaders);
+    }
+
     private final PermissionManagementService permissionManagementService;
 
     public PermissionManagementApiServiceImpl() {
@@ -43,6 +66,36 @@ public class PermissionManagementApiServiceImpl implements PermissionManagementA
     @Override
     public Response permissionManagementPermissionsGet() {
 
-        return Response.ok().entity(permissionManagementService.getAllPermissions()).build();
+        PermissionTreeSnapshot snapshot = permissionManagementService.getPermissionTreeSnapshot();
+        if (isGzipAccepted(Util.getRequestHeader(HttpHeaders.ACCEPT_ENCODING))) {
+            return Util.buildConditionalResponse(snapshot.getGzippedContent(), snapshot.getGzippedETag(),
+                            GZIPPED_JSON_ENTITY_HEADERS)
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+        return Util.buildConditionalResponse(snapshot.getContent(), snapshot.getETag(), JSON_ENTITY_HEADERS)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .build();
+    }
+
+    /**
+     * Check whether the client accepts gzip encoded responses.
+     *
+     * @param acceptEncoding Value of the Accept-Encoding header.
+     * @return True if gzip is listed without a zero quality value.
+     */
+    private boolean isGzipAccepted(String acceptEncoding) {
+
+        if (StringUtils.isBlank(acceptEncoding)) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] codingParts = coding.split(";");
+            if (GZIP_ENCODING.equalsIgnoreCase(codingParts[0].trim())) {
+                return codingParts.length == 1 ||
+                        !ZERO_QUALITY_PATTERN.matcher(StringUtils.deleteWhitespace(codingParts[1])).matches();
+            }
+        }
+        return false;
     }
 }
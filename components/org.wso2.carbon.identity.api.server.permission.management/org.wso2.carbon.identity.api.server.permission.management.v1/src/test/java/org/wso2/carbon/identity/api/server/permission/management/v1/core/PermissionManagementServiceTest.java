@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.permission.management.v1.core;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.mockito.MockedStatic;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.api.server.common.Util;
+import org.wso2.carbon.identity.api.server.common.error.APIError;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+import org.wso2.carbon.user.mgt.RolePermissionException;
+import org.wso2.carbon.user.mgt.RolePermissionManagementService;
+import org.wso2.carbon.user.mgt.common.model.Permission;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import javax.ws.rs.core.Response;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link PermissionManagementService}.
+ */
+public class PermissionManagementServiceTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private String tenantDomain;
+    private RolePermissionManagementService rolePermissionManagementService;
+    private PermissionManagementService permissionManagementService;
+    private MockedStatic<PrivilegedCarbonContext> carbonContext;
+    private MockedStatic<IdentityTenantUtil> identityTenantUtil;
+    private MockedStatic<Util> util;
+
+    @BeforeMethod
+    public void setUp() {
+
+        tenantDomain = "carbon.super";
+        rolePermissionManagementService = mock(RolePermissionManagementService.class);
+        permissionManagementService = new PermissionManagementService(rolePermissionManagementService);
+
+        PrivilegedCarbonContext threadLocalCarbonContext = mock(PrivilegedCarbonContext.class);
+        when(threadLocalCarbonContext.getTenantDomain()).thenAnswer(invocation -> tenantDomain);
+        carbonContext = mockStatic(PrivilegedCarbonContext.class);
+        carbonContext.when(PrivilegedCarbonContext::getThreadLocalCarbonContext).thenReturn(threadLocalCarbonContext);
+        identityTenantUtil = mockStatic(IdentityTenantUtil.class);
+        identityTenantUtil.when(() -> IdentityTenantUtil.getTenantId("carbon.super")).thenReturn(-1234);
+        identityTenantUtil.when(() -> IdentityTenantUtil.getTenantId("wso2.com")).thenReturn(1);
+        util = mockStatic(Util.class, CALLS_REAL_METHODS);
+        util.when(() -> Util.serializeAsJson(any())).thenAnswer(invocation ->
+                OBJECT_MAPPER.writeValueAsBytes(invocation.getArgument(0)));
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        util.close();
+        identityTenantUtil.close();
+        carbonContext.close();
+    }
+
+    @Test
+    public void testSnapshotHoldsPlainAndGzippedPermissionTree() throws Exception {
+
+        Permission[] permissions = {buildPermission("Login", "/permission/admin/login")};
+        when(rolePermissionManagementService.getAllPermissions(-1234)).thenReturn(permissions);
+
+        PermissionTreeSnapshot snapshot = permissionManagementService.getPermissionTreeSnapshot();
+
+        Assert.assertEquals(OBJECT_MAPPER.readTree(snapshot.getContent()), OBJECT_MAPPER.readTree(
+                "[{\"displayName\":\"Login\",\"resourcePath\":\"/permission/admin/login\"}]"));
+        Assert.assertEquals(gunzip(snapshot.getGzippedContent()), snapshot.getContent());
+        Assert.assertEquals(snapshot.getETag(), Util.buildStrongETag(snapshot.getContent()));
+        Assert.assertNotEquals(snapshot.getGzippedETag(), snapshot.getETag());
+    }
+
+    @Test
+    public void testSnapshotIsCachedPerTenant() throws Exception {
+
+        Permission[] permissions = {buildPermission("Login", "/permission/admin/login")};
+        when(rolePermissionManagementService.getAllPermissions(-1234)).thenReturn(permissions);
+        when(rolePermissionManagementService.getAllPermissions(1)).thenReturn(new Permission[0]);
+
+        PermissionTreeSnapshot superTenantSnapshot = permissionManagementService.getPermissionTreeSnapshot();
+        tenantDomain = "wso2.com";
+        PermissionTreeSnapshot tenantSnapshot = permissionManagementService.getPermissionTreeSnapshot();
+        tenantDomain = "carbon.super";
+
+        Assert.assertSame(permissionManagementService.getPermissionTreeSnapshot(), superTenantSnapshot);
+        Assert.assertEquals(new String(tenantSnapshot.getContent(), StandardCharsets.UTF_8), "[]");
+        verify(rolePermissionManagementService, times(1)).getAllPermissions(-1234);
+        verify(rolePermissionManagementService, times(1)).getAllPermissions(1);
+    }
+
+    @Test
+    public void testSnapshotErrorIsNotCached() throws Exception {
+
+        when(rolePermissionManagementService.getAllPermissions(-1234))
+                .thenThrow(RolePermissionException.class)
+                .thenReturn(new Permission[0]);
+
+        try {
+            permissionManagementService.getPermissionTreeSnapshot();
+            Assert.fail("The error of the role permission management service is not surfaced.");
+        } catch (APIError e) {
+            Assert.assertEquals(e.getStatus(), Response.Status.INTERNAL_SERVER_ERROR);
+        }
+        Assert.assertEquals(new String(permissionManagementService.getPermissionTreeSnapshot().getContent(),
+                StandardCharsets.UTF_8), "[]");
+    }
+
+    private static Permission buildPermission(String displayName, String resourcePath) {
+
+        Permission permission = mock(Permission.class);
+        when(permission.getDisplayName()).thenReturn(displayName);
+        when(permission.getResourcePath()).thenReturn(resourcePath);
+        return permission;
+    }
+
+    private static byte[] gunzip(byte[] content) throws IOException {
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (GZIPInputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(content))) {
+            byte[] buffer = new byte[1024];
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                outputStream.write(buffer, 0, read);
+            }
+        }
+        return outputStream.toByteArray();
+    }
+}
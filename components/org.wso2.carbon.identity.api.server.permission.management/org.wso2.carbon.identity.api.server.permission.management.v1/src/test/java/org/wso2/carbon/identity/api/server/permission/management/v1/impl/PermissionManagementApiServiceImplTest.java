@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.permission.management.v1.impl;
+
+import org.mockito.MockedStatic;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.api.server.common.Util;
+import org.wso2.carbon.identity.api.server.permission.management.common.RolePermissionManagementServiceDataHolder;
+import org.wso2.carbon.identity.api.server.permission.management.v1.core.PermissionManagementService;
+import org.wso2.carbon.identity.api.server.permission.management.v1.core.PermissionTreeSnapshot;
+import org.wso2.carbon.identity.api.server.permission.management.v1.factories.PermissionManagementServiceFactory;
+import org.wso2.carbon.user.mgt.RolePermissionManagementService;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Response;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the content coding negotiation of {@link PermissionManagementApiServiceImpl}.
+ */
+public class PermissionManagementApiServiceImplTest {
+
+    private static final byte[] CONTENT = "[]".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] GZIPPED_CONTENT = {31, -117, 8, 0};
+    private static final String ETAG = "\"abc\"";
+    private static final String GZIPPED_ETAG = "\"abc-gzip\"";
+
+    private final Map<String, String> requestHeaders = new HashMap<>();
+    private MockedStatic<RolePermissionManagementServiceDataHolder> dataHolder;
+    private MockedStatic<PermissionManagementServiceFactory> serviceFactory;
+    private MockedStatic<Util> util;
+    private PermissionManagementApiServiceImpl permissionManagementApiService;
+
+    @BeforeMethod
+    public void setUp() {
+
+        requestHeaders.clear();
+        PermissionTreeSnapshot snapshot = mock(PermissionTreeSnapshot.class);
+        when(snapshot.getContent()).thenReturn(CONTENT);
+        when(snapshot.getETag()).thenReturn(ETAG);
+        when(snapshot.getGzippedContent()).thenReturn(GZIPPED_CONTENT);
+        when(snapshot.getGzippedETag()).thenReturn(GZIPPED_ETAG);
+        PermissionManagementService permissionManagementService = mock(PermissionManagementService.class);
+        when(permissionManagementService.getPermissionTreeSnapshot()).thenReturn(snapshot);
+
+        // The factory initializes its service from the data holder when the class is loaded.
+        dataHolder = mockStatic(RolePermissionManagementServiceDataHolder.class);
+        dataHolder.when(RolePermissionManagementServiceDataHolder::getRolePermissionManagementService)
+                .thenReturn(mock(RolePermissionManagementService.class));
+        serviceFactory = mockStatic(PermissionManagementServiceFactory.class);
+        serviceFactory.when(PermissionManagementServiceFactory::getPermissionManagementService)
+                .thenReturn(permissionManagementService);
+        util = mockStatic(Util.class, CALLS_REAL_METHODS);
+        util.when(() -> Util.getRequestHeader(anyString())).thenAnswer(invocation ->
+                requestHeaders.get(invocation.<String>getArgument(0)));
+        permissionManagementApiService = new PermissionManagementApiServiceImpl();
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        util.close();
+        serviceFactory.close();
+        dataHolder.close();
+    }
+
+    @DataProvider(name = "acceptEncodingData")
+    public Object[][] acceptEncodingData() {
+
+        return new Object[][]{
+                {null, false},
+                {"identity", false},
+                {"gzip", true},
+                {"deflate, GZIP;q=0.5", true},
+                {"gzip;q=0", false},
+                {"gzip; q=0.000, br", false},
+                {"br;q=1.0, gzip ; q=0.001", true}
+        };
+    }
+
+    @Test(dataProvider = "acceptEncodingData")
+    public void testContentCodingNegotiation(String acceptEncoding, boolean gzipped) {
+
+        if (acceptEncoding != null) {
+            requestHeaders.put(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        }
+
+        Response response = permissionManagementApiService.permissionManagementPermissionsGet();
+
+        Assert.assertEquals(response.getStatus(), Response.Status.OK.getStatusCode());
+        Assert.assertEquals(response.getEntity(), gzipped ? GZIPPED_CONTENT : CONTENT);
+        Assert.assertEquals(response.getHeaderString(HttpHeaders.ETAG), gzipped ? GZIPPED_ETAG : ETAG);
+        Assert.assertEquals(response.getHeaderString(HttpHeaders.CONTENT_ENCODING), gzipped ? "gzip" : null);
+        Assert.assertEquals(response.getHeaderString(HttpHeaders.VARY), HttpHeaders.ACCEPT_ENCODING);
+    }
+
+    @Test
+    public void testRevalidationMatchesTheTagOfTheNegotiatedCoding() {
+
+        requestHeaders.put(HttpHeaders.ACCEPT_ENCODING, "gzip");
+        requestHeaders.put(HttpHeaders.IF_NONE_MATCH, ETAG);
+        Response plainTagResponse = permissionManagementApiService.permissionManagementPermissionsGet();
+        requestHeaders.put(HttpHeaders.IF_NONE_MATCH, GZIPPED_ETAG);
+        Response gzippedTagResponse = permissionManagementApiService.permissionManagementPermissionsGet();
+
+        Assert.assertEquals(plainTagResponse.getStatus(), Response.Status.OK.getStatusCode());
+        Assert.assertEquals(gzippedTagResponse.getStatus(), Response.Status.NOT_MODIFIED.getStatusCode());
+        Assert.assertNull(gzippedTagResponse.getEntity());
+        Assert.assertNull(gzippedTagResponse.getHeaderString(HttpHeaders.CONTENT_ENCODING));
+        Assert.assertEquals(gzippedTagResponse.getHeaderString(HttpHeaders.VARY), HttpHeaders.ACCEPT_ENCODING);
+    }
+}
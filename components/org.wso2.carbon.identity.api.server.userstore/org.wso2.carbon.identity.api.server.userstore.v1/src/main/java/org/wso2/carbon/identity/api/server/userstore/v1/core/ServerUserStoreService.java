@@ -348,6 +348,7 @@ public class ServerUserStoreService {
             classNames = userStoreConfigService.getAvailableUserStoreClasses();
             List<AvailableUserStoreClassesRes> propertiesToAdd = new ArrayList<>();
             Map<String, Boolean> userStoreManagersType = UserStoreManagerRegistry.getUserStoreManagersType();
+            ContextLoader.URIResolver uriResolver = ContextLoader.getURIResolver();
             for (String className : classNames) {
                 AvailableUserStoreClassesRes availableUserStoreClassesResDTO = new AvailableUserStoreClassesRes();
                 String typeId = base64URLEncodeId(Objects.
@@ -356,7 +357,7 @@ public class ServerUserStoreService {
                 availableUserStoreClassesResDTO.setTypeName(getUserStoreTypeName(className));
                 availableUserStoreClassesResDTO.setTypeId(typeId);
                 availableUserStoreClassesResDTO.setSelf(
-                        ContextLoader.buildURIForBody(String.format(V1_API_PATH_COMPONENT +
+                        uriResolver.buildURIForBody(String.format(V1_API_PATH_COMPONENT +
                                 UserStoreConstants.USER_STORE_PATH_COMPONENT + "/meta/types/%s", typeId)).toString());
 
                 if (userStoreManagersType.containsKey(className)) {
@@ -896,12 +897,13 @@ public class ServerUserStoreService {
         List<UserStoreListResponse> userStoreListResponseToAdd = new ArrayList<>();
         Map<String, Boolean> userStoreManagersType = UserStoreManagerRegistry.getUserStoreManagersType();
         if (ArrayUtils.isNotEmpty(userStoreDTOS)) {
+            ContextLoader.URIResolver uriResolver = ContextLoader.getURIResolver();
             for (UserStoreDTO jsonObject : userStoreDTOS) {
                 UserStoreListResponse userStoreList = new UserStoreListResponse();
                 userStoreList.setDescription(jsonObject.getDescription());
                 userStoreList.setName(jsonObject.getDomainId());
                 userStoreList.setId(base64URLEncodeId(jsonObject.getDomainId()));
-                userStoreList.setSelf(ContextLoader.buildURIForBody(String.format(V1_API_PATH_COMPONENT +
+                userStoreList.setSelf(uriResolver.buildURIForBody(String.format(V1_API_PATH_COMPONENT +
                                 UserStoreConstants.USER_STORE_PATH_COMPONENT + "/%s",
                         base64URLEncodeId(jsonObject.getDomainId()))).toString());
                 userStoreList.setEnabled(jsonObject.getDisabled() != null && !jsonObject.getDisabled());
@@ -1539,7 +1541,8 @@ public class ServerUserStoreService {
         }
 
         try {
-            return FileSerializationUtil.serialize(userStoreConfigs, userStoreConfigs.getName(), fileType);
+            return FileSerializationUtil.serializeAsStream(userStoreConfigs, userStoreConfigs.getName(), fileType,
+                    null);
         } catch (FileSerializationException e) {
             throw new UserStoreException("Error when parsing userstore to file.", e);
         }
@@ -1551,8 +1554,7 @@ public class ServerUserStoreService {
         UserStoreConfigurations userStoreConfigs;
         try {
             FileContent userStoreFileContent = new FileContent(fileDetail.getDataHandler().getName(),
-                    fileDetail.getDataHandler().getContentType(),
-                    IOUtils.toString(fileInputStream, StandardCharsets.UTF_8.name()));
+                    fileDetail.getDataHandler().getContentType(), fileInputStream);
             userStoreConfigs = generateModelFromFile(userStoreFileContent);
         } catch (IOException e) {
             throw new IdentityUserStoreClientException(
@@ -1576,13 +1578,13 @@ public class ServerUserStoreService {
     }
 
     private UserStoreConfigurations generateModelFromFile(FileContent fileContent)
-            throws UserStoreException, IdentityUserStoreClientException {
+            throws UserStoreException, IdentityUserStoreClientException, IOException {
 
         if (LOG.isDebugEnabled()) {
             LOG.debug(String.format("Parsing user store from file: %s of type: %s.", fileContent.getFileName(),
                     fileContent.getFileType()));
         }
-        if (StringUtils.isEmpty(fileContent.getContent())) {
+        if (fileContent.isEmpty()) {
             throw new IdentityUserStoreClientException(
                     UserStoreConstants.ErrorMessage.ERROR_CODE_INVALID_INPUT.getCode(),
                     UserStoreConstants.ErrorMessage.ERROR_CODE_INVALID_INPUT.getMessage());
@@ -33,9 +33,9 @@ import org.wso2.carbon.identity.api.server.userstore.v1.model.UserStoreResponse;
 
 import java.io.InputStream;
 import java.net.URI;
-import java.nio.charset.StandardCharsets;
 import java.util.List;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 
 import static org.wso2.carbon.identity.api.server.common.Constants.V1_API_PATH_COMPONENT;
 import static org.wso2.carbon.identity.api.server.common.ContextLoader.buildURIForHeader;
@@ -83,7 +83,7 @@ public class UserstoresApiServiceImpl implements UserstoresApiService {
                 .header(HttpHeaders.CACHE_CONTROL, "no-cache, no-store, must-revalidate")
                 .header(HttpHeaders.PRAGMA, "no-cache")
                 .header(HttpHeaders.EXPIRES, "0")
-                .entity(fileContent.getContent().getBytes(StandardCharsets.UTF_8))
+                .entity((StreamingOutput) fileContent::writeTo)
                 .build();
     }
 
@@ -186,9 +186,9 @@ public class WebhooksApi  {
         @ApiResponse(code = 403, message = "Forbidden", response = Void.class),
         @ApiResponse(code = 500, message = "Internal server error", response = Error.class)
     })
-    public Response getWebhooks() {
+    public Response getWebhooks(    @Valid @Min(0)@ApiParam(value = "Maximum number of records to return. Defaults to, and is capped at, the maximum number of items per page. If none of limit, before and after is given, all the webhooks are returned.")  @QueryParam("limit") Integer limit,     @Valid@ApiParam(value = "Base64 encoded cursor value for backward pagination.")  @QueryParam("before") String before,     @Valid@ApiParam(value = "Base64 encoded cursor value for forward pagination.")  @QueryParam("after") String after,     @Valid@ApiParam(value = "Condition to filter the webhooks. Can be filtered by status, endpoint and channel. Supports operators such as 'eq', 'ne', 'co', 'sw' and 'ew', and combines them using 'and' and 'or'.")  @QueryParam("filter") String filter,     @Valid@ApiParam(value = "Comma separated list of additional attributes to return for each webhook. Supports 'channelsSubscribed'.")  @QueryParam("attributes") String attributes) {
 
-        return delegate.getWebhooks();
+        return delegate.getWebhooks(limit,  before,  after,  filter,  attributes );
     }
 
     @Valid
@@ -43,7 +43,7 @@ public interface WebhooksApiService {
 
       public Response getWebhookByWebhookId(String webhookId);
 
-      public Response getWebhooks();
+      public Response getWebhooks(Integer limit, String before, String after, String filter, String attributes);
 
       public Response retryWebhook(String webhookId);
 
@@ -24,6 +24,7 @@ import io.swagger.annotations.ApiModel;
 import io.swagger.annotations.ApiModelProperty;
 import java.util.ArrayList;
 import java.util.List;
+import org.wso2.carbon.identity.api.server.webhook.management.v1.model.Link;
 import org.wso2.carbon.identity.api.server.webhook.management.v1.model.WebhookSummary;
 import javax.validation.constraints.*;
 
@@ -38,6 +39,8 @@ public class WebhookList  {
   
     private List<WebhookSummary> webhooks = null;
 
+    private List<Link> links = null;
+
 
     /**
     **/
@@ -65,6 +68,33 @@ public class WebhookList  {
         return this;
     }
 
+    /**
+    * Pagination links of the previous and the next pages.
+    **/
+    public WebhookList links(List<Link> links) {
+
+        this.links = links;
+        return this;
+    }
+    
+    @ApiModelProperty(value = "Pagination links of the previous and the next pages.")
+    @JsonProperty("links")
+    @Valid
+    public List<Link> getLinks() {
+        return links;
+    }
+    public void setLinks(List<Link> links) {
+        this.links = links;
+    }
+
+    public WebhookList addLinksItem(Link linksItem) {
+        if (this.links == null) {
+            this.links = new ArrayList<Link>();
+        }
+        this.links.add(linksItem);
+        return this;
+    }
+
     
 
     @Override
@@ -77,12 +107,13 @@ public class WebhookList  {
             return false;
         }
         WebhookList webhookList = (WebhookList) o;
-        return Objects.equals(this.webhooks, webhookList.webhooks);
+        return Objects.equals(this.webhooks, webhookList.webhooks) &&
+            Objects.equals(this.links, webhookList.links);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(webhooks);
+        return Objects.hash(webhooks, links);
     }
 
     @Override
@@ -92,6 +123,7 @@ public class WebhookList  {
         sb.append("class WebhookList {\n");
         
         sb.append("    webhooks: ").append(toIndentedString(webhooks)).append("\n");
+        sb.append("    links: ").append(toIndentedString(links)).append("\n");
         sb.append("}");
         return sb.toString();
     }
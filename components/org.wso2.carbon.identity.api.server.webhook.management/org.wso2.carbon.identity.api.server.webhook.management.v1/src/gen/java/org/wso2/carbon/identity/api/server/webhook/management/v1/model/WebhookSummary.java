@@ -22,6 +22,9 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import io.swagger.annotations.ApiModel;
 import io.swagger.annotations.ApiModelProperty;
+import java.util.ArrayList;
+import java.util.List;
+import org.wso2.carbon.identity.api.server.webhook.management.v1.model.WebhookSubscription;
 import javax.validation.constraints.*;
 
 
@@ -74,6 +77,8 @@ public enum StatusEnum {
 
     private StatusEnum status;
     private String self;
+    private List<WebhookSubscription> channelsSubscribed = null;
+
 
     /**
     **/
@@ -204,6 +209,33 @@ public enum StatusEnum {
         this.self = self;
     }
 
+    /**
+    * List of channel subscriptions with status. Returned only when requested through the attributes query parameter.
+    **/
+    public WebhookSummary channelsSubscribed(List<WebhookSubscription> channelsSubscribed) {
+
+        this.channelsSubscribed = channelsSubscribed;
+        return this;
+    }
+    
+    @ApiModelProperty(value = "List of channel subscriptions with status. Returned only when requested through the attributes query parameter.")
+    @JsonProperty("channelsSubscribed")
+    @Valid
+    public List<WebhookSubscription> getChannelsSubscribed() {
+        return channelsSubscribed;
+    }
+    public void setChannelsSubscribed(List<WebhookSubscription> channelsSubscribed) {
+        this.channelsSubscribed = channelsSubscribed;
+    }
+
+    public WebhookSummary addChannelsSubscribedItem(WebhookSubscription channelsSubscribedItem) {
+        if (this.channelsSubscribed == null) {
+            this.channelsSubscribed = new ArrayList<WebhookSubscription>();
+        }
+        this.channelsSubscribed.add(channelsSubscribedItem);
+        return this;
+    }
+
 
 
     @Override
@@ -222,12 +254,13 @@ public enum StatusEnum {
             Objects.equals(this.endpoint, webhookSummary.endpoint) &&
             Objects.equals(this.name, webhookSummary.name) &&
             Objects.equals(this.status, webhookSummary.status) &&
-            Objects.equals(this.self, webhookSummary.self);
+            Objects.equals(this.self, webhookSummary.self) &&
+            Objects.equals(this.channelsSubscribed, webhookSummary.channelsSubscribed);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(id, createdAt, updatedAt, endpoint, name, status, self);
+        return Objects.hash(id, createdAt, updatedAt, endpoint, name, status, self, channelsSubscribed);
     }
 
     @Override
@@ -243,6 +276,7 @@ public enum StatusEnum {
         sb.append("    name: ").append(toIndentedString(name)).append("\n");
         sb.append("    status: ").append(toIndentedString(status)).append("\n");
         sb.append("    self: ").append(toIndentedString(self)).append("\n");
+        sb.append("    channelsSubscribed: ").append(toIndentedString(channelsSubscribed)).append("\n");
         sb.append("}");
         return sb.toString();
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2025-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -25,6 +25,19 @@ public class WebhookMgtEndpointConstants {
 
     public static final String WEBHOOK_PATH_COMPONENT = "/webhooks";
 
+    public static final String LIMIT_PARAM = "limit";
+    public static final String FILTER_PARAM = "filter";
+    public static final String ATTRIBUTES_PARAM = "attributes";
+    public static final String PAGINATION_AFTER = "after";
+    public static final String PAGINATION_BEFORE = "before";
+    public static final String NEXT_LINK_REL = "next";
+    public static final String PREVIOUS_LINK_REL = "previous";
+
+    public static final String FILTER_ATTRIBUTE_STATUS = "status";
+    public static final String FILTER_ATTRIBUTE_ENDPOINT = "endpoint";
+    public static final String FILTER_ATTRIBUTE_CHANNEL = "channel";
+    public static final String CHANNELS_SUBSCRIBED_ATTRIBUTE = "channelsSubscribed";
+
     private WebhookMgtEndpointConstants() {
 
     }
@@ -37,7 +50,29 @@ public class WebhookMgtEndpointConstants {
         // Client errors.
         ERROR_NO_WEBHOOK_FOUND_ON_GIVEN_ID("WEBHOOKMGT-60010",
                 "Webhook is not found.",
-                "No webhook is found for given webhook id: %s");
+                "No webhook is found for given webhook id: %s"),
+        ERROR_INVALID_PAGINATION_PARAMETER("WEBHOOKMGT-60011",
+                "Invalid pagination parameter.",
+                "The value of the pagination parameter '%s' should not be negative."),
+        ERROR_INVALID_PAGINATION_CURSOR("WEBHOOKMGT-60012",
+                "Invalid pagination cursor.",
+                "Only one of the 'before' and 'after' cursors can be used, and the cursor should be a value " +
+                        "returned in a pagination link."),
+        ERROR_INVALID_FILTER("WEBHOOKMGT-60013",
+                "Invalid filter.",
+                "The filter '%s' is invalid."),
+        ERROR_UNSUPPORTED_FILTER_ATTRIBUTE("WEBHOOKMGT-60014",
+                "Unsupported filter attribute.",
+                "The filter attribute '%s' is not supported."),
+        ERROR_UNSUPPORTED_FILTER_OPERATOR("WEBHOOKMGT-60015",
+                "Unsupported filter operator.",
+                "The filter operator '%s' is not supported."),
+        ERROR_UNSUPPORTED_ATTRIBUTE("WEBHOOKMGT-60016",
+                "Unsupported attribute.",
+                "The requested attribute '%s' is not supported."),
+        ERROR_UNSUPPORTED_CHANNELS("WEBHOOKMGT-60017",
+                "Unsupported channels.",
+                "The channels '%s' are not supported by the event profile of the webhook.");
 
         private final String code;
         private final String message;
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2025-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -18,8 +18,16 @@
 
 package org.wso2.carbon.identity.api.server.webhook.management.v1.core;
 
+import org.apache.commons.lang.StringUtils;
 import org.wso2.carbon.context.CarbonContext;
 import org.wso2.carbon.identity.api.server.common.ContextLoader;
+import org.wso2.carbon.identity.api.server.common.filter.CompiledFilter;
+import org.wso2.carbon.identity.api.server.common.filter.FilterCompilationException;
+import org.wso2.carbon.identity.api.server.common.filter.FilterCompiler;
+import org.wso2.carbon.identity.api.server.common.filter.FilterOperator;
+import org.wso2.carbon.identity.api.server.common.filter.FilterSchema;
+import org.wso2.carbon.identity.api.server.webhook.management.v1.constants.WebhookMgtEndpointConstants;
+import org.wso2.carbon.identity.api.server.webhook.management.v1.model.Link;
 import org.wso2.carbon.identity.api.server.webhook.management.v1.model.WebhookList;
 import org.wso2.carbon.identity.api.server.webhook.management.v1.model.WebhookRequest;
 import org.wso2.carbon.identity.api.server.webhook.management.v1.model.WebhookRequestEventProfile;
@@ -27,19 +35,45 @@ import org.wso2.carbon.identity.api.server.webhook.management.v1.model.WebhookRe
 import org.wso2.carbon.identity.api.server.webhook.management.v1.model.WebhookSubscription;
 import org.wso2.carbon.identity.api.server.webhook.management.v1.model.WebhookSummary;
 import org.wso2.carbon.identity.api.server.webhook.management.v1.util.WebhookManagementAPIErrorBuilder;
+import org.wso2.carbon.identity.api.server.webhook.metadata.v1.core.ServerWebhookMetadataService;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.identity.subscription.management.api.model.Subscription;
 import org.wso2.carbon.identity.webhook.management.api.exception.WebhookMgtException;
 import org.wso2.carbon.identity.webhook.management.api.model.Webhook;
 import org.wso2.carbon.identity.webhook.management.api.model.WebhookStatus;
 import org.wso2.carbon.identity.webhook.management.api.service.WebhookManagementService;
 
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import javax.ws.rs.core.Response;
 
 import static org.wso2.carbon.identity.api.server.common.Constants.V1_API_PATH_COMPONENT;
+import static org.wso2.carbon.identity.api.server.webhook.management.v1.constants.WebhookMgtEndpointConstants.ATTRIBUTES_PARAM;
+import static org.wso2.carbon.identity.api.server.webhook.management.v1.constants.WebhookMgtEndpointConstants.CHANNELS_SUBSCRIBED_ATTRIBUTE;
 import static org.wso2.carbon.identity.api.server.webhook.management.v1.constants.WebhookMgtEndpointConstants.ErrorMessage.ERROR_NO_WEBHOOK_FOUND_ON_GIVEN_ID;
+import static org.wso2.carbon.identity.api.server.webhook.management.v1.constants.WebhookMgtEndpointConstants.ErrorMessage.ERROR_UNSUPPORTED_CHANNELS;
+import static org.wso2.carbon.identity.api.server.webhook.management.v1.constants.WebhookMgtEndpointConstants.FILTER_ATTRIBUTE_CHANNEL;
+import static org.wso2.carbon.identity.api.server.webhook.management.v1.constants.WebhookMgtEndpointConstants.FILTER_ATTRIBUTE_ENDPOINT;
+import static org.wso2.carbon.identity.api.server.webhook.management.v1.constants.WebhookMgtEndpointConstants.FILTER_ATTRIBUTE_STATUS;
+import static org.wso2.carbon.identity.api.server.webhook.management.v1.constants.WebhookMgtEndpointConstants.FILTER_PARAM;
+import static org.wso2.carbon.identity.api.server.webhook.management.v1.constants.WebhookMgtEndpointConstants.LIMIT_PARAM;
+import static org.wso2.carbon.identity.api.server.webhook.management.v1.constants.WebhookMgtEndpointConstants.NEXT_LINK_REL;
+import static org.wso2.carbon.identity.api.server.webhook.management.v1.constants.WebhookMgtEndpointConstants.PAGINATION_AFTER;
+import static org.wso2.carbon.identity.api.server.webhook.management.v1.constants.WebhookMgtEndpointConstants.PAGINATION_BEFORE;
+import static org.wso2.carbon.identity.api.server.webhook.management.v1.constants.WebhookMgtEndpointConstants.PREVIOUS_LINK_REL;
 import static org.wso2.carbon.identity.api.server.webhook.management.v1.constants.WebhookMgtEndpointConstants.WEBHOOK_PATH_COMPONENT;
 
 /**
@@ -47,29 +81,122 @@ import static org.wso2.carbon.identity.api.server.webhook.management.v1.constant
  */
 public class ServerWebhookManagementService {
 
+    private static final FilterSchema FILTER_SCHEMA = FilterSchema.builder("webhooks")
+            .stringAttribute(FILTER_ATTRIBUTE_STATUS, FilterOperator.EQ, FilterOperator.NE)
+            .stringAttribute(FILTER_ATTRIBUTE_ENDPOINT, FilterOperator.EQ, FilterOperator.NE, FilterOperator.CO,
+                    FilterOperator.SW, FilterOperator.EW)
+            .stringAttribute(FILTER_ATTRIBUTE_CHANNEL, FilterOperator.EQ, FilterOperator.CO, FilterOperator.SW,
+                    FilterOperator.EW)
+            .build();
+    private static final Map<String, Function<Webhook, String>> FILTER_ATTRIBUTE_VALUES = new HashMap<>();
+    private static final Map<String, Function<Webhook, Collection<String>>> FILTER_MULTI_VALUED_ATTRIBUTE_VALUES =
+            new HashMap<>();
+
+    static {
+        FILTER_ATTRIBUTE_VALUES.put(FILTER_ATTRIBUTE_STATUS,
+                webhook -> webhook.getStatus() != null ? webhook.getStatus().name() : null);
+        FILTER_ATTRIBUTE_VALUES.put(FILTER_ATTRIBUTE_ENDPOINT, Webhook::getEndpoint);
+        FILTER_MULTI_VALUED_ATTRIBUTE_VALUES.put(FILTER_ATTRIBUTE_CHANNEL,
+                ServerWebhookManagementService::getSubscribedChannelUris);
+    }
+
     private final WebhookManagementService webhookManagementService;
+    private final ServerWebhookMetadataService webhookMetadataService;
 
-    public ServerWebhookManagementService(WebhookManagementService webhookManagementService) {
+    public ServerWebhookManagementService(WebhookManagementService webhookManagementService,
+                                          ServerWebhookMetadataService webhookMetadataService) {
 
         this.webhookManagementService = webhookManagementService;
+        this.webhookMetadataService = webhookMetadataService;
     }
 
     /**
-     * Get all webhooks.
+     * Get a page of the webhooks matching the filter. Pages list the webhooks newest first, and are navigated with
+     * the cursors of the 'previous' and 'next' links of the response. If no pagination parameter is given, all the
+     * matching webhooks are returned in the order of the webhook management service, as the listing did before it
+     * was paginated.
      *
+     * @param limit      Maximum number of webhooks to return.
+     * @param before     Cursor of the webhook to return the webhooks before.
+     * @param after      Cursor of the webhook to return the webhooks after.
+     * @param filter     Filter on the status, endpoint and subscribed channels of the webhooks.
+     * @param attributes Comma separated list of additional attributes to return.
      * @return List of webhooks.
      */
-    public WebhookList getWebhooks() {
+    public WebhookList getWebhooks(Integer limit, String before, String after, String filter, String attributes) {
 
+        boolean paginated = limit != null || StringUtils.isNotBlank(before) || StringUtils.isNotBlank(after);
+        int resolvedLimit = paginated ? validateAndResolveLimit(limit) : Integer.MAX_VALUE;
+        if (StringUtils.isNotBlank(before) && StringUtils.isNotBlank(after)) {
+            throw WebhookManagementAPIErrorBuilder.buildAPIError(Response.Status.BAD_REQUEST,
+                    WebhookMgtEndpointConstants.ErrorMessage.ERROR_INVALID_PAGINATION_CURSOR);
+        }
+        WebhookCursor beforeCursor = decodeCursor(before);
+        WebhookCursor afterCursor = decodeCursor(after);
+        Predicate<Webhook> filterPredicate = buildFilter(filter);
+        boolean includeSubscriptions = isSubscriptionsRequested(attributes);
+
+        String tenantDomain = CarbonContext.getThreadLocalCarbonContext().getTenantDomain();
+        List<Webhook> matchingWebhooks = new ArrayList<>();
         try {
-            List<Webhook> webhooks =
-                    webhookManagementService.getWebhooks(CarbonContext.getThreadLocalCarbonContext().getTenantDomain());
-            return new WebhookList().webhooks(webhooks.stream()
-                    .map(this::toWebhookSummary)
-                    .collect(Collectors.toList()));
+            for (Webhook webhook : webhookManagementService.getWebhooks(tenantDomain)) {
+                if (filterPredicate == null || filterPredicate.test(webhook)) {
+                    matchingWebhooks.add(webhook);
+                }
+            }
         } catch (WebhookMgtException e) {
             throw WebhookManagementAPIErrorBuilder.buildAPIError(e);
         }
+
+        ContextLoader.URIResolver uriResolver = ContextLoader.getURIResolver();
+        if (!paginated) {
+            return new WebhookList().webhooks(matchingWebhooks.stream()
+                    .map(webhook -> toWebhookSummary(webhook, includeSubscriptions, uriResolver))
+                    .collect(Collectors.toList()));
+        }
+
+        NavigableMap<WebhookCursor, Webhook> webhooks = new TreeMap<>();
+        for (Webhook webhook : matchingWebhooks) {
+            webhooks.put(WebhookCursor.of(webhook), webhook);
+        }
+        List<Webhook> page = new ArrayList<>();
+        if (beforeCursor != null) {
+            for (Webhook webhook : webhooks.headMap(beforeCursor, false).descendingMap().values()) {
+                if (page.size() >= resolvedLimit) {
+                    break;
+                }
+                page.add(webhook);
+            }
+            Collections.reverse(page);
+        } else {
+            NavigableMap<WebhookCursor, Webhook> remainingWebhooks =
+                    afterCursor != null ? webhooks.tailMap(afterCursor, false) : webhooks;
+            for (Webhook webhook : remainingWebhooks.values()) {
+                if (page.size() >= resolvedLimit) {
+                    break;
+                }
+                page.add(webhook);
+            }
+        }
+
+        WebhookList webhookList = new WebhookList().webhooks(page.stream()
+                .map(webhook -> toWebhookSummary(webhook, includeSubscriptions, uriResolver))
+                .collect(Collectors.toList()));
+        if (!page.isEmpty()) {
+            WebhookCursor firstCursor = WebhookCursor.of(page.get(0));
+            WebhookCursor lastCursor = WebhookCursor.of(page.get(page.size() - 1));
+            List<Link> links = new ArrayList<>();
+            if (webhooks.lowerKey(firstCursor) != null) {
+                links.add(buildWebhooksLink(PREVIOUS_LINK_REL, PAGINATION_BEFORE, firstCursor, resolvedLimit, filter,
+                        attributes, uriResolver));
+            }
+            if (webhooks.higherKey(lastCursor) != null) {
+                links.add(buildWebhooksLink(NEXT_LINK_REL, PAGINATION_AFTER, lastCursor, resolvedLimit, filter,
+                        attributes, uriResolver));
+            }
+            webhookList.setLinks(links);
+        }
+        return webhookList;
     }
 
     /**
@@ -101,6 +228,7 @@ public class ServerWebhookManagementService {
      */
     public WebhookResponse createWebhook(WebhookRequest webhookRequest) {
 
+        validateSubscribedChannels(webhookRequest);
         try {
             Webhook webhook = buildWebhook(null, webhookRequest);
             return getWebhookResponse(webhookManagementService.createWebhook(webhook,
@@ -119,6 +247,7 @@ public class ServerWebhookManagementService {
      */
     public WebhookResponse updateWebhook(String webhookId, WebhookRequest webhookRequest) {
 
+        validateSubscribedChannels(webhookRequest);
         try {
             if (webhookManagementService.getWebhook(webhookId,
                     CarbonContext.getThreadLocalCarbonContext().getTenantDomain()) == null) {
@@ -216,6 +345,26 @@ public class ServerWebhookManagementService {
         }
     }
 
+    /**
+     * Reject the request if it subscribes to channels which are not defined by its event profile. The channels are
+     * validated against the event profile index of the webhook metadata API, hence the event profiles are not fetched
+     * for every webhook provisioned.
+     */
+    private void validateSubscribedChannels(WebhookRequest webhookRequest) {
+
+        List<String> channelUris = webhookRequest.getChannelsSubscribed();
+        if (channelUris == null || channelUris.isEmpty()) {
+            return;
+        }
+        String profileName = webhookRequest.getEventProfile() != null ? webhookRequest.getEventProfile().getName() :
+                null;
+        List<String> unsupportedChannels = webhookMetadataService.getUnsupportedChannels(profileName, channelUris);
+        if (!unsupportedChannels.isEmpty()) {
+            throw WebhookManagementAPIErrorBuilder.buildAPIError(Response.Status.BAD_REQUEST,
+                    ERROR_UNSUPPORTED_CHANNELS, String.join(", ", unsupportedChannels));
+        }
+    }
+
     private Webhook buildWebhook(String webhookId, WebhookRequest webhookRequest) {
 
         List<Subscription> subscriptions = null;
@@ -241,7 +390,115 @@ public class ServerWebhookManagementService {
                 .build();
     }
 
-    private WebhookSummary toWebhookSummary(Webhook webhook) {
+    private int validateAndResolveLimit(Integer limit) {
+
+        int maximumItemsPerPage = IdentityUtil.getMaximumItemPerPage();
+        if (limit == null) {
+            return maximumItemsPerPage;
+        }
+        if (limit < 0) {
+            throw WebhookManagementAPIErrorBuilder.buildAPIError(Response.Status.BAD_REQUEST,
+                    WebhookMgtEndpointConstants.ErrorMessage.ERROR_INVALID_PAGINATION_PARAMETER, LIMIT_PARAM);
+        }
+        return Math.min(limit, maximumItemsPerPage);
+    }
+
+    private WebhookCursor decodeCursor(String encodedCursor) {
+
+        if (StringUtils.isBlank(encodedCursor)) {
+            return null;
+        }
+        WebhookCursor cursor = WebhookCursor.decode(encodedCursor);
+        if (cursor == null) {
+            throw WebhookManagementAPIErrorBuilder.buildAPIError(Response.Status.BAD_REQUEST,
+                    WebhookMgtEndpointConstants.ErrorMessage.ERROR_INVALID_PAGINATION_CURSOR);
+        }
+        return cursor;
+    }
+
+    private Predicate<Webhook> buildFilter(String filter) {
+
+        CompiledFilter compiledFilter;
+        try {
+            compiledFilter = FilterCompiler.getInstance().compile(FILTER_SCHEMA, filter);
+        } catch (FilterCompilationException e) {
+            switch (e.getReason()) {
+                case UNSUPPORTED_ATTRIBUTE:
+                    throw WebhookManagementAPIErrorBuilder.buildAPIError(Response.Status.BAD_REQUEST,
+                            WebhookMgtEndpointConstants.ErrorMessage.ERROR_UNSUPPORTED_FILTER_ATTRIBUTE,
+                            e.getAttribute());
+                case UNSUPPORTED_OPERATOR:
+                    if (e.getAttribute() != null) {
+                        throw WebhookManagementAPIErrorBuilder.buildAPIError(Response.Status.BAD_REQUEST,
+                                WebhookMgtEndpointConstants.ErrorMessage.ERROR_UNSUPPORTED_FILTER_OPERATOR,
+                                e.getOperator());
+                    }
+                    throw WebhookManagementAPIErrorBuilder.buildAPIError(Response.Status.BAD_REQUEST,
+                            WebhookMgtEndpointConstants.ErrorMessage.ERROR_INVALID_FILTER, filter);
+                default:
+                    throw WebhookManagementAPIErrorBuilder.buildAPIError(Response.Status.BAD_REQUEST,
+                            WebhookMgtEndpointConstants.ErrorMessage.ERROR_INVALID_FILTER, filter);
+            }
+        }
+        return compiledFilter == null ? null :
+                compiledFilter.toPredicate(FILTER_ATTRIBUTE_VALUES, FILTER_MULTI_VALUED_ATTRIBUTE_VALUES);
+    }
+
+    private boolean isSubscriptionsRequested(String attributes) {
+
+        if (StringUtils.isBlank(attributes)) {
+            return false;
+        }
+        boolean subscriptionsRequested = false;
+        for (String attribute : attributes.split(",")) {
+            String trimmedAttribute = attribute.trim();
+            if (CHANNELS_SUBSCRIBED_ATTRIBUTE.equals(trimmedAttribute)) {
+                subscriptionsRequested = true;
+            } else if (!trimmedAttribute.isEmpty()) {
+                throw WebhookManagementAPIErrorBuilder.buildAPIError(Response.Status.BAD_REQUEST,
+                        WebhookMgtEndpointConstants.ErrorMessage.ERROR_UNSUPPORTED_ATTRIBUTE, trimmedAttribute);
+            }
+        }
+        return subscriptionsRequested;
+    }
+
+    private static List<String> getSubscribedChannelUris(Webhook webhook) {
+
+        List<Subscription> subscriptions;
+        try {
+            subscriptions = webhook.getEventsSubscribed();
+        } catch (WebhookMgtException e) {
+            throw WebhookManagementAPIErrorBuilder.buildAPIError(e);
+        }
+        if (subscriptions == null) {
+            return Collections.emptyList();
+        }
+        return subscriptions.stream().map(Subscription::getChannelUri).collect(Collectors.toList());
+    }
+
+    private Link buildWebhooksLink(String rel, String paginationParam, WebhookCursor cursor, int limit, String filter,
+                                   String attributes, ContextLoader.URIResolver uriResolver) {
+
+        StringBuilder url = new StringBuilder(V1_API_PATH_COMPONENT).append(WEBHOOK_PATH_COMPONENT)
+                .append("?").append(LIMIT_PARAM).append("=").append(limit);
+        try {
+            if (StringUtils.isNotBlank(filter)) {
+                url.append("&").append(FILTER_PARAM).append("=")
+                        .append(URLEncoder.encode(filter, StandardCharsets.UTF_8.name()));
+            }
+            if (StringUtils.isNotBlank(attributes)) {
+                url.append("&").append(ATTRIBUTES_PARAM).append("=")
+                        .append(URLEncoder.encode(attributes, StandardCharsets.UTF_8.name()));
+            }
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException("UTF-8 encoding is not supported.", e);
+        }
+        url.append("&").append(paginationParam).append("=").append(cursor.encode());
+        return new Link().rel(rel).href(uriResolver.buildURIForBody(url.toString()));
+    }
+
+    private WebhookSummary toWebhookSummary(Webhook webhook, boolean includeSubscriptions,
+                                            ContextLoader.URIResolver uriResolver) {
 
         WebhookSummary response = new WebhookSummary();
         response.setId(webhook.getId());
@@ -262,10 +519,14 @@ public class ServerWebhookManagementService {
         }
 
         response.setSelf(
-                ContextLoader.buildURIForBody(
+                uriResolver.buildURIForBody(
                         String.format(V1_API_PATH_COMPONENT + WEBHOOK_PATH_COMPONENT + "/%s",
                                 webhook.getId())).toString());
 
+        // Subscriptions are only resolved when requested, since they can be loaded separately from the webhook.
+        if (includeSubscriptions) {
+            response.setChannelsSubscribed(toWebhookSubscriptions(webhook));
+        }
         return response;
     }
 
@@ -282,24 +543,25 @@ public class ServerWebhookManagementService {
         eventProfile.setUri(webhook.getEventProfileUri());
         webhookResponse.setEventProfile(eventProfile);
         webhookResponse.setStatus(WebhookResponse.StatusEnum.fromValue(webhook.getStatus().name()));
+        webhookResponse.setChannelsSubscribed(toWebhookSubscriptions(webhook));
+        return webhookResponse;
+    }
+
+    private List<WebhookSubscription> toWebhookSubscriptions(Webhook webhook) {
+
         try {
-            if (webhook.getEventsSubscribed() != null) {
-                webhookResponse.setChannelsSubscribed(
-                        webhook.getEventsSubscribed().stream()
-                                .map(subscription -> new WebhookSubscription()
-                                        .channelUri(subscription.getChannelUri())
-                                        .status(subscription.getStatus() != null
-                                                ? WebhookSubscription.StatusEnum.fromValue(
-                                                subscription.getStatus().name())
-                                                : null))
-                                .collect(Collectors.toList())
-                );
-            } else {
-                webhookResponse.setChannelsSubscribed(null);
+            if (webhook.getEventsSubscribed() == null) {
+                return null;
             }
+            return webhook.getEventsSubscribed().stream()
+                    .map(subscription -> new WebhookSubscription()
+                            .channelUri(subscription.getChannelUri())
+                            .status(subscription.getStatus() != null
+                                    ? WebhookSubscription.StatusEnum.fromValue(subscription.getStatus().name())
+                                    : null))
+                    .collect(Collectors.toList());
         } catch (WebhookMgtException e) {
-            webhookResponse.setChannelsSubscribed(null);
+            return null;
         }
-        return webhookResponse;
     }
 }
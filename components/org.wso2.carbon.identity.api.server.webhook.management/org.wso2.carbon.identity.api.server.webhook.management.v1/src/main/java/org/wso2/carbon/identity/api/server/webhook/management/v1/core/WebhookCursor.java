@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.webhook.management.v1.core;
+
+import org.apache.commons.lang.StringUtils;
+import org.wso2.carbon.identity.webhook.management.api.model.Webhook;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * Keyset cursor of the webhook listing, made of the creation time and the identifier of a webhook. Cursors are ordered
+ * the way the webhooks are listed, i.e. newest first, with the identifier breaking the ties between webhooks created
+ * at the same time.
+ */
+final class WebhookCursor implements Comparable<WebhookCursor> {
+
+    private static final String SEPARATOR = ",";
+
+    private final long createdAt;
+    private final String webhookId;
+
+    private WebhookCursor(long createdAt, String webhookId) {
+
+        this.createdAt = createdAt;
+        this.webhookId = webhookId;
+    }
+
+    /**
+     * Build the cursor of a webhook. Webhooks without a creation time are ordered after all the other webhooks.
+     *
+     * @param webhook Webhook.
+     * @return Cursor of the webhook.
+     */
+    static WebhookCursor of(Webhook webhook) {
+
+        long createdAt = webhook.getCreatedAt() != null ? webhook.getCreatedAt().getTime() : 0L;
+        return new WebhookCursor(createdAt, StringUtils.defaultString(webhook.getId()));
+    }
+
+    /**
+     * Decode a cursor sent in the 'before' or 'after' query parameter.
+     *
+     * @param encodedCursor Base64 URL encoded cursor.
+     * @return Decoded cursor, or null if the value is not a valid cursor.
+     */
+    static WebhookCursor decode(String encodedCursor) {
+
+        String cursor;
+        try {
+            cursor = new String(Base64.getUrlDecoder().decode(encodedCursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        int separatorIndex = cursor.indexOf(SEPARATOR);
+        if (separatorIndex <= 0 || separatorIndex == cursor.length() - 1) {
+            return null;
+        }
+        try {
+            return new WebhookCursor(Long.parseLong(cursor.substring(0, separatorIndex)),
+                    cursor.substring(separatorIndex + 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Encode the cursor to be sent in a pagination link.
+     *
+     * @return Base64 URL encoded cursor.
+     */
+    String encode() {
+
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((createdAt + SEPARATOR + webhookId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public int compareTo(WebhookCursor other) {
+
+        int comparison = Long.compare(other.createdAt, createdAt);
+        return comparison != 0 ? comparison : webhookId.compareTo(other.webhookId);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        WebhookCursor that = (WebhookCursor) o;
+        return createdAt == that.createdAt && webhookId.equals(that.webhookId);
+    }
+
+    @Override
+    public int hashCode() {
+
+        return Objects.hash(createdAt, webhookId);
+    }
+}
@@ -20,6 +20,7 @@ package org.wso2.carbon.identity.api.server.webhook.management.v1.factories;
 
 import org.wso2.carbon.identity.api.server.webhook.management.common.WebhookManagementServiceHolder;
 import org.wso2.carbon.identity.api.server.webhook.management.v1.core.ServerWebhookManagementService;
+import org.wso2.carbon.identity.api.server.webhook.metadata.v1.factories.ServerWebhookMetadataServiceFactory;
 import org.wso2.carbon.identity.webhook.management.api.service.WebhookManagementService;
 
 /**
@@ -35,7 +36,8 @@ public class ServerWebhookManagementServiceFactory {
         if (webhookManagementService == null) {
             throw new IllegalStateException("WebhookManagementService is not available from OSGi context.");
         }
-        SERVICE = new ServerWebhookManagementService(webhookManagementService);
+        SERVICE = new ServerWebhookManagementService(webhookManagementService,
+                ServerWebhookMetadataServiceFactory.getServerWebhookMetadataService());
     }
 
     /**
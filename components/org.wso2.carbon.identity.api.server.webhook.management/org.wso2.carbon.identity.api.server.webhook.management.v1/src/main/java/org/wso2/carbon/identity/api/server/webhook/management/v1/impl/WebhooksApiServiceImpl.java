@@ -49,9 +49,9 @@ public class WebhooksApiServiceImpl implements WebhooksApiService {
     }
 
     @Override
-    public Response getWebhooks() {
+    public Response getWebhooks(Integer limit, String before, String after, String filter, String attributes) {
 
-        WebhookList webhooks = serverWebhookManagementService.getWebhooks();
+        WebhookList webhooks = serverWebhookManagementService.getWebhooks(limit, before, after, filter, attributes);
         return Response.ok().entity(webhooks).build();
     }
 
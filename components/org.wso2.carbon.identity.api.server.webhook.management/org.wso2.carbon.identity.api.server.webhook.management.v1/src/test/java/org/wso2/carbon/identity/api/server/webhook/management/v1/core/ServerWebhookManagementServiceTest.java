@@ -0,0 +1,342 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.webhook.management.v1.core;
+
+import org.mockito.ArgumentCaptor;
+import org.mockito.MockedStatic;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.context.CarbonContext;
+import org.wso2.carbon.identity.api.server.common.ContextLoader;
+import org.wso2.carbon.identity.api.server.common.error.APIError;
+import org.wso2.carbon.identity.api.server.webhook.management.v1.constants.WebhookMgtEndpointConstants;
+import org.wso2.carbon.identity.api.server.webhook.management.v1.model.Link;
+import org.wso2.carbon.identity.api.server.webhook.management.v1.model.WebhookList;
+import org.wso2.carbon.identity.api.server.webhook.management.v1.model.WebhookRequest;
+import org.wso2.carbon.identity.api.server.webhook.management.v1.model.WebhookRequestEventProfile;
+import org.wso2.carbon.identity.api.server.webhook.management.v1.model.WebhookResponse;
+import org.wso2.carbon.identity.api.server.webhook.management.v1.model.WebhookSummary;
+import org.wso2.carbon.identity.api.server.webhook.metadata.v1.core.ServerWebhookMetadataService;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.subscription.management.api.model.Subscription;
+import org.wso2.carbon.identity.webhook.management.api.exception.WebhookMgtException;
+import org.wso2.carbon.identity.webhook.management.api.model.Webhook;
+import org.wso2.carbon.identity.webhook.management.api.model.WebhookStatus;
+import org.wso2.carbon.identity.webhook.management.api.service.WebhookManagementService;
+
+import java.net.URI;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import javax.ws.rs.core.Response;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link ServerWebhookManagementService}.
+ */
+public class ServerWebhookManagementServiceTest {
+
+    private static final String TENANT_DOMAIN = "carbon.super";
+    private static final int MAXIMUM_ITEMS_PER_PAGE = 5;
+    private static final String EVENT_PROFILE = "WSO2";
+    private static final String LOGIN_CHANNEL = "https://schemas.identity.wso2.org/events/login";
+    private static final String SESSION_CHANNEL = "https://schemas.openid.net/secevent/caep/event-type/session";
+
+    private WebhookManagementService webhookManagementService;
+    private ServerWebhookMetadataService webhookMetadataService;
+    private ServerWebhookManagementService serverWebhookManagementService;
+    private MockedStatic<CarbonContext> carbonContext;
+    private MockedStatic<ContextLoader> contextLoader;
+    private MockedStatic<IdentityUtil> identityUtil;
+
+    @BeforeMethod
+    public void setUp() {
+
+        webhookManagementService = mock(WebhookManagementService.class);
+        webhookMetadataService = mock(ServerWebhookMetadataService.class);
+        serverWebhookManagementService = new ServerWebhookManagementService(webhookManagementService,
+                webhookMetadataService);
+
+        CarbonContext threadLocalCarbonContext = mock(CarbonContext.class);
+        when(threadLocalCarbonContext.getTenantDomain()).thenReturn(TENANT_DOMAIN);
+        carbonContext = mockStatic(CarbonContext.class);
+        carbonContext.when(CarbonContext::getThreadLocalCarbonContext).thenReturn(threadLocalCarbonContext);
+
+        ContextLoader.URIResolver uriResolver = mock(ContextLoader.URIResolver.class);
+        when(uriResolver.buildURIForBody(anyString())).thenAnswer(invocation -> URI.create(invocation.getArgument(0)));
+        contextLoader = mockStatic(ContextLoader.class);
+        contextLoader.when(ContextLoader::getURIResolver).thenReturn(uriResolver);
+        identityUtil = mockStatic(IdentityUtil.class);
+        identityUtil.when(IdentityUtil::getMaximumItemPerPage).thenReturn(MAXIMUM_ITEMS_PER_PAGE);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        identityUtil.close();
+        contextLoader.close();
+        carbonContext.close();
+    }
+
+    @Test
+    public void testUnpagedListingKeepsBackendOrder() throws WebhookMgtException {
+
+        mockWebhooks(buildWebhook("webhook-1", 1000L), buildWebhook("webhook-3", 3000L),
+                buildWebhook("webhook-2", 2000L));
+
+        WebhookList webhookList = serverWebhookManagementService.getWebhooks(null, null, null, null, null);
+
+        Assert.assertEquals(getIds(webhookList), Arrays.asList("webhook-1", "webhook-3", "webhook-2"));
+        Assert.assertNull(webhookList.getLinks());
+    }
+
+    @Test
+    public void testPagedListingFollowsCursors() throws WebhookMgtException {
+
+        mockWebhooks(buildWebhook("webhook-1", 1000L), buildWebhook("webhook-3", 3000L),
+                buildWebhook("webhook-2", 2000L), buildWebhook("webhook-4", 3000L));
+
+        WebhookList firstPage = serverWebhookManagementService.getWebhooks(2, null, null, null, null);
+        Assert.assertEquals(getIds(firstPage), Arrays.asList("webhook-3", "webhook-4"));
+        Assert.assertNull(getLink(firstPage, "previous"));
+
+        String afterCursor = getCursor(getLink(firstPage, "next"), "after");
+        WebhookList secondPage = serverWebhookManagementService.getWebhooks(2, null, afterCursor, null, null);
+        Assert.assertEquals(getIds(secondPage), Arrays.asList("webhook-2", "webhook-1"));
+        Assert.assertNull(getLink(secondPage, "next"));
+
+        String beforeCursor = getCursor(getLink(secondPage, "previous"), "before");
+        WebhookList previousPage = serverWebhookManagementService.getWebhooks(2, beforeCursor, null, null, null);
+        Assert.assertEquals(getIds(previousPage), Arrays.asList("webhook-3", "webhook-4"));
+        Assert.assertNull(getLink(previousPage, "previous"));
+        Assert.assertNotNull(getLink(previousPage, "next"));
+    }
+
+    @Test
+    public void testPagedListingCapsLimit() throws WebhookMgtException {
+
+        List<Webhook> webhooks = new ArrayList<>();
+        for (int i = 0; i < MAXIMUM_ITEMS_PER_PAGE + 2; i++) {
+            webhooks.add(buildWebhook("webhook-" + i, 1000L + i));
+        }
+        mockWebhooks(webhooks.toArray(new Webhook[0]));
+
+        WebhookList webhookList = serverWebhookManagementService.getWebhooks(MAXIMUM_ITEMS_PER_PAGE * 2, null, null,
+                null, null);
+
+        Assert.assertEquals(webhookList.getWebhooks().size(), MAXIMUM_ITEMS_PER_PAGE);
+        Assert.assertTrue(getLink(webhookList, "next").toString().contains("limit=" + MAXIMUM_ITEMS_PER_PAGE));
+    }
+
+    @Test
+    public void testListingRejectsInvalidPagination() {
+
+        assertBadRequest(() -> serverWebhookManagementService.getWebhooks(-1, null, null, null, null),
+                WebhookMgtEndpointConstants.ErrorMessage.ERROR_INVALID_PAGINATION_PARAMETER);
+        assertBadRequest(() -> serverWebhookManagementService.getWebhooks(2, "invalid", null, null, null),
+                WebhookMgtEndpointConstants.ErrorMessage.ERROR_INVALID_PAGINATION_CURSOR);
+        String cursor = "MTAwMCx3ZWJob29rLTE";
+        assertBadRequest(() -> serverWebhookManagementService.getWebhooks(2, cursor, cursor, null, null),
+                WebhookMgtEndpointConstants.ErrorMessage.ERROR_INVALID_PAGINATION_CURSOR);
+    }
+
+    @Test
+    public void testFilteredListing() throws WebhookMgtException {
+
+        Webhook inactiveWebhook = new Webhook.Builder()
+                .uuid("webhook-2")
+                .endpoint("https://sample.org/webhook-2")
+                .status(WebhookStatus.INACTIVE)
+                .createdAt(new Timestamp(2000L))
+                .updatedAt(new Timestamp(2000L))
+                .eventsSubscribed(Collections.singletonList(Subscription.builder().channelUri(SESSION_CHANNEL).build()))
+                .build();
+        mockWebhooks(buildWebhook("webhook-1", 1000L), inactiveWebhook, buildWebhook("webhook-3", 3000L));
+
+        Assert.assertEquals(getIds(serverWebhookManagementService.getWebhooks(null, null, null, "status eq INACTIVE",
+                null)), Collections.singletonList("webhook-2"));
+        Assert.assertEquals(getIds(serverWebhookManagementService.getWebhooks(null, null, null,
+                "endpoint sw https://example.com", null)), Arrays.asList("webhook-1", "webhook-3"));
+        Assert.assertEquals(getIds(serverWebhookManagementService.getWebhooks(null, null, null,
+                "channel eq " + SESSION_CHANNEL, null)), Collections.singletonList("webhook-2"));
+        // Paging applies to the matching webhooks.
+        Assert.assertEquals(getIds(serverWebhookManagementService.getWebhooks(1, null, null, "status eq ACTIVE",
+                null)), Collections.singletonList("webhook-3"));
+
+        assertBadRequest(() -> serverWebhookManagementService.getWebhooks(null, null, null, "secret eq abc", null),
+                WebhookMgtEndpointConstants.ErrorMessage.ERROR_UNSUPPORTED_FILTER_ATTRIBUTE);
+    }
+
+    @Test
+    public void testListingProjection() throws WebhookMgtException {
+
+        mockWebhooks(buildWebhook("webhook-1", 1000L));
+
+        WebhookSummary summary = serverWebhookManagementService.getWebhooks(null, null, null, null, null)
+                .getWebhooks().get(0);
+        Assert.assertNull(summary.getChannelsSubscribed());
+        Assert.assertEquals(summary.getSelf(), "/v1/webhooks/webhook-1");
+
+        summary = serverWebhookManagementService.getWebhooks(null, null, null, null, "channelsSubscribed")
+                .getWebhooks().get(0);
+        Assert.assertEquals(summary.getChannelsSubscribed().size(), 1);
+        Assert.assertEquals(summary.getChannelsSubscribed().get(0).getChannelUri(), LOGIN_CHANNEL);
+
+        assertBadRequest(() -> serverWebhookManagementService.getWebhooks(null, null, null, null, "secret"),
+                WebhookMgtEndpointConstants.ErrorMessage.ERROR_UNSUPPORTED_ATTRIBUTE);
+    }
+
+    @Test
+    public void testCreateWebhookWithSupportedChannels() throws WebhookMgtException {
+
+        List<String> channels = Arrays.asList(LOGIN_CHANNEL, SESSION_CHANNEL);
+        when(webhookMetadataService.getUnsupportedChannels(EVENT_PROFILE, channels))
+                .thenReturn(Collections.emptyList());
+        when(webhookManagementService.createWebhook(any(Webhook.class), eq(TENANT_DOMAIN)))
+                .thenReturn(buildWebhook("webhook-1", 1000L));
+
+        WebhookResponse webhookResponse = serverWebhookManagementService.createWebhook(buildWebhookRequest(channels));
+
+        Assert.assertEquals(webhookResponse.getId(), "webhook-1");
+        ArgumentCaptor<Webhook> createdWebhook = ArgumentCaptor.forClass(Webhook.class);
+        verify(webhookManagementService).createWebhook(createdWebhook.capture(), eq(TENANT_DOMAIN));
+        Assert.assertEquals(createdWebhook.getValue().getEventProfileName(), EVENT_PROFILE);
+    }
+
+    @Test
+    public void testCreateWebhookWithUnsupportedChannels() throws WebhookMgtException {
+
+        List<String> channels = Arrays.asList(LOGIN_CHANNEL, SESSION_CHANNEL, "urn:unknown");
+        when(webhookMetadataService.getUnsupportedChannels(EVENT_PROFILE, channels))
+                .thenReturn(Arrays.asList(SESSION_CHANNEL, "urn:unknown"));
+
+        try {
+            serverWebhookManagementService.createWebhook(buildWebhookRequest(channels));
+            Assert.fail("Webhook subscribing to unsupported channels should not be created.");
+        } catch (APIError e) {
+            Assert.assertEquals(e.getStatus(), Response.Status.BAD_REQUEST);
+            Assert.assertEquals(e.getCode(),
+                    WebhookMgtEndpointConstants.ErrorMessage.ERROR_UNSUPPORTED_CHANNELS.getCode());
+            Assert.assertTrue(e.getResponseEntity().getDescription().contains(SESSION_CHANNEL + ", urn:unknown"));
+        }
+        verify(webhookManagementService, never()).createWebhook(any(Webhook.class), anyString());
+    }
+
+    @Test
+    public void testUpdateWebhookWithUnsupportedChannels() throws WebhookMgtException {
+
+        List<String> channels = Collections.singletonList("urn:unknown");
+        when(webhookMetadataService.getUnsupportedChannels(EVENT_PROFILE, channels)).thenReturn(channels);
+
+        try {
+            serverWebhookManagementService.updateWebhook("webhook-1", buildWebhookRequest(channels));
+            Assert.fail("Webhook subscribing to unsupported channels should not be updated.");
+        } catch (APIError e) {
+            Assert.assertEquals(e.getStatus(), Response.Status.BAD_REQUEST);
+        }
+        verify(webhookManagementService, never()).updateWebhook(anyString(), any(Webhook.class), anyString());
+    }
+
+    private void mockWebhooks(Webhook... webhooks) throws WebhookMgtException {
+
+        when(webhookManagementService.getWebhooks(TENANT_DOMAIN)).thenReturn(Arrays.asList(webhooks));
+    }
+
+    private static void assertBadRequest(Runnable listing, WebhookMgtEndpointConstants.ErrorMessage error) {
+
+        try {
+            listing.run();
+            Assert.fail("Listing should have been rejected with " + error.getCode());
+        } catch (APIError e) {
+            Assert.assertEquals(e.getStatus(), Response.Status.BAD_REQUEST);
+            Assert.assertEquals(e.getCode(), error.getCode());
+        }
+    }
+
+    private static List<String> getIds(WebhookList webhookList) {
+
+        List<String> ids = new ArrayList<>();
+        for (WebhookSummary webhookSummary : webhookList.getWebhooks()) {
+            ids.add(webhookSummary.getId());
+        }
+        return ids;
+    }
+
+    private static URI getLink(WebhookList webhookList, String rel) {
+
+        if (webhookList.getLinks() == null) {
+            return null;
+        }
+        for (Link link : webhookList.getLinks()) {
+            if (rel.equals(link.getRel())) {
+                return link.getHref();
+            }
+        }
+        return null;
+    }
+
+    private static String getCursor(URI link, String paginationParam) {
+
+        for (String parameter : link.getRawQuery().split("&")) {
+            if (parameter.startsWith(paginationParam + "=")) {
+                return parameter.substring(paginationParam.length() + 1);
+            }
+        }
+        throw new AssertionError("No " + paginationParam + " cursor in link " + link);
+    }
+
+    private static WebhookRequest buildWebhookRequest(List<String> channels) {
+
+        WebhookRequest webhookRequest = new WebhookRequest();
+        webhookRequest.setEndpoint("https://example.com/webhook");
+        webhookRequest.setName("Sample webhook");
+        webhookRequest.setSecret("secret");
+        webhookRequest.setStatus(WebhookRequest.StatusEnum.ACTIVE);
+        webhookRequest.setEventProfile(new WebhookRequestEventProfile().name(EVENT_PROFILE));
+        webhookRequest.setChannelsSubscribed(channels);
+        return webhookRequest;
+    }
+
+    private static Webhook buildWebhook(String webhookId, long createdAt) {
+
+        return new Webhook.Builder()
+                .uuid(webhookId)
+                .endpoint("https://example.com/" + webhookId)
+                .name(webhookId)
+                .eventProfileName(EVENT_PROFILE)
+                .status(WebhookStatus.ACTIVE)
+                .createdAt(new Timestamp(createdAt))
+                .updatedAt(new Timestamp(createdAt))
+                .eventsSubscribed(Collections.singletonList(Subscription.builder().channelUri(LOGIN_CHANNEL).build()))
+                .build();
+    }
+}
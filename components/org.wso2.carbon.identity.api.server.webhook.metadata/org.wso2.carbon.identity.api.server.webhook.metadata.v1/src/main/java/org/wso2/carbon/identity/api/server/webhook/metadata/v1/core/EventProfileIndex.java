@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.webhook.metadata.v1.core;
+
+import org.wso2.carbon.identity.api.server.webhook.metadata.v1.model.Channel;
+import org.wso2.carbon.identity.api.server.webhook.metadata.v1.model.Event;
+import org.wso2.carbon.identity.api.server.webhook.metadata.v1.model.EventProfile;
+import org.wso2.carbon.identity.api.server.webhook.metadata.v1.model.WebhookMetadataAdapter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Index of the event profiles supported by the deployment, holding the converted API models of the profiles along
+ * with their channels and events.
+ * <p>
+ * Profiles are indexed by name, channels and events by their URIs, so that profile lookups and subscription
+ * validations are answered without walking the profiles. Indexes are shared between requests, hence the models they
+ * hold are read-only, and are copied before they are returned from the API.
+ */
+final class EventProfileIndex {
+
+    private final Map<String, EventProfile> profilesByName = new LinkedHashMap<>();
+    private final Map<String, String> profileNamesByChannelUri = new HashMap<>();
+    private final Map<String, Event> eventsByUri = new HashMap<>();
+    private final WebhookMetadataAdapter adapter;
+
+    /**
+     * Build the index.
+     *
+     * @param eventProfiles Converted event profiles, in the order they are listed.
+     * @param adapter       Converted active adapter.
+     */
+    EventProfileIndex(List<EventProfile> eventProfiles, WebhookMetadataAdapter adapter) {
+
+        this.adapter = adapter;
+        for (EventProfile eventProfile : eventProfiles) {
+            profilesByName.put(eventProfile.getProfile(), eventProfile);
+            if (eventProfile.getChannels() == null) {
+                continue;
+            }
+            for (Channel channel : eventProfile.getChannels()) {
+                profileNamesByChannelUri.put(channel.getUri(), eventProfile.getProfile());
+                if (channel.getEvents() != null) {
+                    for (Event event : channel.getEvents()) {
+                        eventsByUri.put(event.getEventUri(), event);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Get the event profiles in the order they are listed.
+     *
+     * @return Unmodifiable collection of event profiles.
+     */
+    Collection<EventProfile> getEventProfiles() {
+
+        return Collections.unmodifiableCollection(profilesByName.values());
+    }
+
+    /**
+     * Get an event profile by name.
+     *
+     * @param profileName Name of the event profile.
+     * @return Event profile, or null if there is no such profile.
+     */
+    EventProfile getEventProfile(String profileName) {
+
+        return profilesByName.get(profileName);
+    }
+
+    /**
+     * Get an event by URI.
+     *
+     * @param eventUri URI of the event.
+     * @return Event, or null if no profile defines the event.
+     */
+    Event getEvent(String eventUri) {
+
+        return eventsByUri.get(eventUri);
+    }
+
+    /**
+     * Get the channels among the given channels which are not defined by the given event profile.
+     *
+     * @param profileName Name of the event profile, or null to accept the channels of any profile.
+     * @param channelUris URIs of the channels to validate.
+     * @return URIs of the channels which are not defined by the profile, in the given order.
+     */
+    List<String> getUndefinedChannels(String profileName, Collection<String> channelUris) {
+
+        List<String> undefinedChannels = new ArrayList<>();
+        for (String channelUri : channelUris) {
+            String definingProfileName = profileNamesByChannelUri.get(channelUri);
+            if (definingProfileName == null || (profileName != null && !profileName.equals(definingProfileName))) {
+                undefinedChannels.add(channelUri);
+            }
+        }
+        return undefinedChannels;
+    }
+
+    /**
+     * Get the active adapter.
+     *
+     * @return Active adapter.
+     */
+    WebhookMetadataAdapter getAdapter() {
+
+        return adapter;
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ * Copyright (c) 2025-2026, WSO2 LLC. (http://www.wso2.com).
  *
  * WSO2 LLC. licenses this file to you under the Apache License,
  * Version 2.0 (the "License"); you may not use this file except
@@ -34,6 +34,7 @@ import org.wso2.carbon.identity.webhook.metadata.api.exception.WebhookMetadataEx
 import org.wso2.carbon.identity.webhook.metadata.api.model.Adapter;
 import org.wso2.carbon.identity.webhook.metadata.api.model.OrganizationPolicy;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -46,9 +47,15 @@ import static org.wso2.carbon.identity.api.server.webhook.metadata.v1.constants.
 
 /**
  * Calls internal services to perform webhook metadata related operations.
+ * <p>
+ * The event profiles are static for a deployment, hence they are converted once into an {@link EventProfileIndex}
+ * which serves the profile lookups and subscription validations. The index is rebuilt only after the webhook metadata
+ * properties are updated. The models of the index are shared between requests, hence copies of them are returned.
  */
 public class ServerWebhookMetadataService {
 
+    private volatile EventProfileIndex eventProfileIndex;
+
     /**
      * Get an event profile by name.
      *
@@ -58,13 +65,12 @@ public class ServerWebhookMetadataService {
     public EventProfile getEventProfile(String profileName) {
 
         try {
-            org.wso2.carbon.identity.webhook.metadata.api.model.EventProfile eventProfile =
-                    WebhookMetadataServiceHolder.getWebhookMetadataService().getEventProfile(profileName);
+            EventProfile eventProfile = getEventProfileIndex().getEventProfile(profileName);
             if (eventProfile == null) {
                 throw WebhookMetadataAPIErrorBuilder.buildAPIError(Response.Status.NOT_FOUND,
                         ERROR_CODE_PROFILE_NOT_FOUND, profileName);
             }
-            return mapEventProfile(eventProfile);
+            return copyEventProfile(eventProfile);
         } catch (WebhookMetadataException e) {
             throw WebhookMetadataAPIErrorBuilder.buildAPIError(e);
         }
@@ -78,19 +84,15 @@ public class ServerWebhookMetadataService {
     public WebhookMetadata getWebhookMetadata() {
 
         try {
-            List<org.wso2.carbon.identity.webhook.metadata.api.model.EventProfile> eventProfiles =
-                    WebhookMetadataServiceHolder.getWebhookMetadataService().getSupportedEventProfiles();
-            List<EventProfileMetadata> eventProfileMetadataList = eventProfiles.stream()
-                    .map(this::mapEventProfileMetadata)
+            EventProfileIndex index = getEventProfileIndex();
+            ContextLoader.URIResolver uriResolver = ContextLoader.getURIResolver();
+            List<EventProfileMetadata> eventProfileMetadataList = index.getEventProfiles().stream()
+                    .map(eventProfile -> mapEventProfileMetadata(eventProfile, uriResolver))
                     .collect(Collectors.toList());
 
-            Adapter adapter =
-                    WebhookMetadataServiceHolder.getEventAdapterMetadataService().getCurrentActiveAdapter();
-            WebhookMetadataAdapter webhookMetadataAdapter = mapWebhookMetadataAdapter(adapter);
-
             WebhookMetadata webhookMetadata = new WebhookMetadata();
             webhookMetadata.setProfiles(eventProfileMetadataList);
-            webhookMetadata.setAdapter(webhookMetadataAdapter);
+            webhookMetadata.setAdapter(copyWebhookMetadataAdapter(index.getAdapter()));
             return webhookMetadata;
         } catch (WebhookMetadataException e) {
             throw WebhookMetadataAPIErrorBuilder.buildAPIError(e);
@@ -105,12 +107,75 @@ public class ServerWebhookMetadataService {
                     .updateWebhookMetadataProperties(mapWebhookMetadataProperties(webhookMetadataProperties),
                             CarbonContext.getThreadLocalCarbonContext()
                                     .getTenantDomain());
+            invalidateEventProfileIndex();
             return getWebhookMetadata();
         } catch (WebhookMetadataException e) {
             throw WebhookMetadataAPIErrorBuilder.buildAPIError(e);
         }
     }
 
+    /**
+     * Get the channels among the given channels which are not defined by the given event profile. Used to validate
+     * the channels subscribed by webhooks without fetching the event profiles for every webhook.
+     *
+     * @param profileName Name of the event profile, or null to accept the channels of any event profile.
+     * @param channelUris URIs of the subscribed channels.
+     * @return URIs of the unsupported channels, in the given order.
+     */
+    public List<String> getUnsupportedChannels(String profileName, Collection<String> channelUris) {
+
+        try {
+            return getEventProfileIndex().getUndefinedChannels(profileName, channelUris);
+        } catch (WebhookMetadataException e) {
+            throw WebhookMetadataAPIErrorBuilder.buildAPIError(e);
+        }
+    }
+
+    /**
+     * Check whether an event is defined by any of the event profiles.
+     *
+     * @param eventUri URI of the event.
+     * @return True if the event is supported.
+     */
+    public boolean isEventSupported(String eventUri) {
+
+        try {
+            return getEventProfileIndex().getEvent(eventUri) != null;
+        } catch (WebhookMetadataException e) {
+            throw WebhookMetadataAPIErrorBuilder.buildAPIError(e);
+        }
+    }
+
+    private EventProfileIndex getEventProfileIndex() throws WebhookMetadataException {
+
+        EventProfileIndex index = eventProfileIndex;
+        if (index == null) {
+            synchronized (this) {
+                index = eventProfileIndex;
+                if (index == null) {
+                    index = buildEventProfileIndex();
+                    eventProfileIndex = index;
+                }
+            }
+        }
+        return index;
+    }
+
+    private synchronized void invalidateEventProfileIndex() {
+
+        eventProfileIndex = null;
+    }
+
+    private EventProfileIndex buildEventProfileIndex() throws WebhookMetadataException {
+
+        List<EventProfile> eventProfiles = WebhookMetadataServiceHolder.getWebhookMetadataService()
+                .getSupportedEventProfiles().stream()
+                .map(this::mapEventProfile)
+                .collect(Collectors.toList());
+        Adapter adapter = WebhookMetadataServiceHolder.getEventAdapterMetadataService().getCurrentActiveAdapter();
+        return new EventProfileIndex(eventProfiles, mapWebhookMetadataAdapter(adapter));
+    }
+
     private EventProfile mapEventProfile(org.wso2.carbon.identity.webhook.metadata.api.model.EventProfile profile) {
 
         EventProfile eventProfile = new EventProfile();
@@ -149,14 +214,58 @@ public class ServerWebhookMetadataService {
         return mappedEvent;
     }
 
-    private EventProfileMetadata mapEventProfileMetadata(
-            org.wso2.carbon.identity.webhook.metadata.api.model.EventProfile eventProfile) {
+    private EventProfile copyEventProfile(EventProfile eventProfile) {
+
+        EventProfile copiedEventProfile = new EventProfile();
+        copiedEventProfile.setProfile(eventProfile.getProfile());
+        copiedEventProfile.setUri(eventProfile.getUri());
+        if (eventProfile.getChannels() != null) {
+            copiedEventProfile.setChannels(eventProfile.getChannels().stream()
+                    .map(this::copyChannel)
+                    .collect(Collectors.toList()));
+        }
+        return copiedEventProfile;
+    }
+
+    private Channel copyChannel(Channel channel) {
+
+        Channel copiedChannel = new Channel();
+        copiedChannel.setName(channel.getName());
+        copiedChannel.setDescription(channel.getDescription());
+        copiedChannel.setUri(channel.getUri());
+        if (channel.getEvents() != null) {
+            copiedChannel.setEvents(channel.getEvents().stream()
+                    .map(this::copyEvent)
+                    .collect(Collectors.toList()));
+        }
+        return copiedChannel;
+    }
+
+    private Event copyEvent(Event event) {
+
+        Event copiedEvent = new Event();
+        copiedEvent.setEventName(event.getEventName());
+        copiedEvent.setEventDescription(event.getEventDescription());
+        copiedEvent.setEventUri(event.getEventUri());
+        return copiedEvent;
+    }
+
+    private WebhookMetadataAdapter copyWebhookMetadataAdapter(WebhookMetadataAdapter adapter) {
+
+        WebhookMetadataAdapter copiedAdapter = new WebhookMetadataAdapter();
+        copiedAdapter.setName(adapter.getName());
+        copiedAdapter.setType(adapter.getType());
+        return copiedAdapter;
+    }
+
+    private EventProfileMetadata mapEventProfileMetadata(EventProfile eventProfile,
+                                                         ContextLoader.URIResolver uriResolver) {
 
         EventProfileMetadata mappedMetadata = new EventProfileMetadata();
         mappedMetadata.setName(eventProfile.getProfile());
         mappedMetadata.setUri(eventProfile.getUri());
         mappedMetadata.setSelf(
-                ContextLoader.buildURIForBody(
+                uriResolver.buildURIForBody(
                         String.format(V1_API_PATH_COMPONENT + WEBHOOK_METADATA_PATH_COMPONENT +
                                 EVENT_PROFILE_PATH_COMPONENT + "/%s", eventProfile.getProfile())).toString());
         return mappedMetadata;
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.webhook.metadata.v1.core;
+
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.api.server.webhook.metadata.v1.model.Channel;
+import org.wso2.carbon.identity.api.server.webhook.metadata.v1.model.Event;
+import org.wso2.carbon.identity.api.server.webhook.metadata.v1.model.EventProfile;
+import org.wso2.carbon.identity.api.server.webhook.metadata.v1.model.WebhookMetadataAdapter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Unit tests for {@link EventProfileIndex}.
+ */
+public class EventProfileIndexTest {
+
+    private static final String WSO2_PROFILE = "WSO2";
+    private static final String CAEP_PROFILE = "CAEP";
+    private static final String LOGIN_CHANNEL = "https://schemas.identity.wso2.org/events/login";
+    private static final String REGISTRATION_CHANNEL = "https://schemas.identity.wso2.org/events/registration";
+    private static final String SESSION_CHANNEL = "https://schemas.openid.net/secevent/caep/event-type/session";
+    private static final String LOGIN_SUCCESS_EVENT = LOGIN_CHANNEL + "/event-type/loginSuccess";
+    private static final String SESSION_REVOKED_EVENT = SESSION_CHANNEL + "/session-revoked";
+
+    private EventProfileIndex index;
+
+    @BeforeMethod
+    public void setUp() {
+
+        EventProfile wso2Profile = buildEventProfile(WSO2_PROFILE,
+                buildChannel(LOGIN_CHANNEL, LOGIN_SUCCESS_EVENT), buildChannel(REGISTRATION_CHANNEL));
+        EventProfile caepProfile = buildEventProfile(CAEP_PROFILE,
+                buildChannel(SESSION_CHANNEL, SESSION_REVOKED_EVENT));
+        index = new EventProfileIndex(Arrays.asList(wso2Profile, caepProfile), new WebhookMetadataAdapter());
+    }
+
+    @Test
+    public void testGetEventProfilesKeepsListingOrder() {
+
+        List<String> profileNames = new ArrayList<>();
+        for (EventProfile eventProfile : index.getEventProfiles()) {
+            profileNames.add(eventProfile.getProfile());
+        }
+
+        Assert.assertEquals(profileNames, Arrays.asList(WSO2_PROFILE, CAEP_PROFILE));
+        Assert.assertEquals(index.getEventProfile(CAEP_PROFILE).getProfile(), CAEP_PROFILE);
+        Assert.assertNull(index.getEventProfile("unknown"));
+    }
+
+    @Test
+    public void testGetEventByUri() {
+
+        Assert.assertEquals(index.getEvent(LOGIN_SUCCESS_EVENT).getEventUri(), LOGIN_SUCCESS_EVENT);
+        Assert.assertEquals(index.getEvent(SESSION_REVOKED_EVENT).getEventUri(), SESSION_REVOKED_EVENT);
+        Assert.assertNull(index.getEvent(LOGIN_CHANNEL + "/event-type/unknown"));
+    }
+
+    @Test
+    public void testGetUndefinedChannelsOfProfile() {
+
+        List<String> undefinedChannels = index.getUndefinedChannels(WSO2_PROFILE,
+                Arrays.asList(LOGIN_CHANNEL, SESSION_CHANNEL, "urn:unknown", REGISTRATION_CHANNEL));
+
+        Assert.assertEquals(undefinedChannels, Arrays.asList(SESSION_CHANNEL, "urn:unknown"));
+    }
+
+    @Test
+    public void testGetUndefinedChannelsOfAnyProfile() {
+
+        List<String> undefinedChannels = index.getUndefinedChannels(null,
+                Arrays.asList(LOGIN_CHANNEL, SESSION_CHANNEL, "urn:unknown"));
+
+        Assert.assertEquals(undefinedChannels, Collections.singletonList("urn:unknown"));
+    }
+
+    @Test
+    public void testProfileWithoutChannelsIsIndexed() {
+
+        EventProfileIndex emptyIndex = new EventProfileIndex(
+                Collections.singletonList(new EventProfile().profile(WSO2_PROFILE)), new WebhookMetadataAdapter());
+
+        Assert.assertNotNull(emptyIndex.getEventProfile(WSO2_PROFILE));
+        Assert.assertEquals(emptyIndex.getUndefinedChannels(WSO2_PROFILE, Collections.singletonList(LOGIN_CHANNEL)),
+                Collections.singletonList(LOGIN_CHANNEL));
+    }
+
+    private static EventProfile buildEventProfile(String profileName, Channel... channels) {
+
+        return new EventProfile().profile(profileName).channels(new ArrayList<>(Arrays.asList(channels)));
+    }
+
+    private static Channel buildChannel(String channelUri, String... eventUris) {
+
+        List<Event> events = new ArrayList<>();
+        for (String eventUri : eventUris) {
+            events.add(new Event().eventUri(eventUri));
+        }
+        return new Channel().uri(channelUri).events(events);
+    }
+}
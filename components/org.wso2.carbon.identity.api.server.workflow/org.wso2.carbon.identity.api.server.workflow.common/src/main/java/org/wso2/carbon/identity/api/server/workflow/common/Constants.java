@@ -55,6 +55,17 @@ public class Constants {
     public static final String WORKFLOW_INSTANCE_OPERATION_TYPE_KEY = "operationType";
     public static final String WORKFLOW_INSTANCE_MY_TASKS_REQUEST_TYPE = "MY_TASKS";
     public static final String WORKFLOW_INSTANCE_ALL_TASKS_REQUEST_TYPE = "ALL_TASKS";
+    public static final String WORKFLOW_INSTANCE_PATH_COMPONENT = "/workflow-instances";
+
+    /**
+     * Pagination related constants.
+     */
+    public static final String LIMIT_PARAM = "limit";
+    public static final String FILTER_PARAM = "filter";
+    public static final String PAGINATION_AFTER = "after";
+    public static final String PAGINATION_BEFORE = "before";
+    public static final String NEXT_LINK_REL = "next";
+    public static final String PREVIOUS_LINK_REL = "previous";
 
     public static final String EQUALS_OPERATOR = "eq";
     public static final String GREATER_THAN_OR_EQUAL_OPERATOR = "ge";
@@ -91,6 +91,29 @@ public class WorkflowInstancesApi  {
         return delegate.deleteWorkflowInstance(instanceId );
     }
 
+    @Valid
+    @GET
+    @Path("/export")
+    
+    @Produces({ "application/x-ndjson", "application/json" })
+    @ApiOperation(value = "Export workflow instances of a tenant", notes = "Export the workflow instances matching the filter as newline delimited JSON, one workflow instance per line, newest first. The instances are written to the response incrementally.  <b>Scope required:</b> internal_workflow_instance_view ", response = String.class, authorizations = {
+        @Authorization(value = "BasicAuth"),
+        @Authorization(value = "OAuth2", scopes = {
+            
+        })
+    }, tags={ "Workflow Instances Management", })
+    @ApiResponses(value = { 
+        @ApiResponse(code = 200, message = "Workflow instances exported successfully", response = String.class),
+        @ApiResponse(code = 400, message = "Invalid input request", response = Error.class),
+        @ApiResponse(code = 401, message = "Unauthorized", response = Void.class),
+        @ApiResponse(code = 403, message = "Forbidden", response = Void.class),
+        @ApiResponse(code = 500, message = "Internal Server Error", response = Error.class)
+    })
+    public Response exportWorkflowInstances(    @Valid@ApiParam(value = "Filter conditions using logical expressions, in the same format as the workflow instance listing. Only the `createdAt` date range can be used for the dates. ")  @QueryParam("filter") String filter) {
+
+        return delegate.exportWorkflowInstances(filter );
+    }
+
     @Valid
     @GET
     @Path("/{instance_id}")
@@ -130,9 +153,9 @@ public class WorkflowInstancesApi  {
         @ApiResponse(code = 404, message = "The specified resource is not found", response = Error.class),
         @ApiResponse(code = 500, message = "Internal Server Error", response = Error.class)
     })
-    public Response getWorkflowInstances(    @Valid@ApiParam(value = "", defaultValue="25") @DefaultValue("25")  @QueryParam("limit") Integer limit,     @Valid@ApiParam(value = "", defaultValue="0") @DefaultValue("0")  @QueryParam("offset") Integer offset,     @Valid@ApiParam(value = "Filter conditions using logical expressions. Supported operators: `eq`, `le`, `ge`.  Combine multiple conditions with `and`.  Example:      `operationType+eq+ADD_USER+and+requestType+eq+MY_TASKS+and+status+eq+PENDING+and+createdAt+ge+2025-06-01 09:57:47.000+and+createdAt+le+2025-07-31 09:57:47.000` ")  @QueryParam("filter") String filter) {
+    public Response getWorkflowInstances(    @Valid@ApiParam(value = "", defaultValue="25") @DefaultValue("25")  @QueryParam("limit") Integer limit,     @Valid@ApiParam(value = "", defaultValue="0") @DefaultValue("0")  @QueryParam("offset") Integer offset,     @Valid@ApiParam(value = "Filter conditions using logical expressions. Supported operators: `eq`, `le`, `ge`.  Combine multiple conditions with `and`.  Example:      `operationType+eq+ADD_USER+and+requestType+eq+MY_TASKS+and+status+eq+PENDING+and+createdAt+ge+2025-06-01 09:57:47.000+and+createdAt+le+2025-07-31 09:57:47.000` ")  @QueryParam("filter") String filter,     @Valid@ApiParam(value = "Base64 encoded cursor value for backward pagination. Cannot be used with a non zero offset. ")  @QueryParam("before") String before,     @Valid@ApiParam(value = "Base64 encoded cursor value for forward pagination. Cannot be used with a non zero offset. ")  @QueryParam("after") String after) {
 
-        return delegate.getWorkflowInstances(limit,  offset,  filter );
+        return delegate.getWorkflowInstances(limit,  offset,  filter,  before,  after );
     }
 
 }
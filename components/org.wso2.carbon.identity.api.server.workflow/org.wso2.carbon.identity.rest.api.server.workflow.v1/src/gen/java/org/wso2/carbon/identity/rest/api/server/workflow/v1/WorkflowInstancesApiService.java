@@ -37,7 +37,9 @@ public interface WorkflowInstancesApiService {
 
       public Response deleteWorkflowInstance(String instanceId);
 
+      public Response exportWorkflowInstances(String filter);
+
       public Response getWorkflowInstanceById(String instanceId);
 
-      public Response getWorkflowInstances(Integer limit, Integer offset, String filter);
+      public Response getWorkflowInstances(Integer limit, Integer offset, String filter, String before, String after);
 }
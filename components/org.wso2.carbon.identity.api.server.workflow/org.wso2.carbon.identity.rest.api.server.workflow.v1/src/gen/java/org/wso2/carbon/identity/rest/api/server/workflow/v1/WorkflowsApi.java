@@ -140,9 +140,9 @@ public class WorkflowsApi  {
         @ApiResponse(code = 404, message = "The specified resource is not found", response = Error.class),
         @ApiResponse(code = 500, message = "Internal Server Error", response = Error.class)
     })
-    public Response getWorkflows(    @Valid@ApiParam(value = "Maximum number of records to return")  @QueryParam("limit") Integer limit,     @Valid@ApiParam(value = "Number of records to skip for pagination")  @QueryParam("offset") Integer offset,     @Valid@ApiParam(value = "Records, filtered by their name")  @QueryParam("filter") String filter) {
+    public Response getWorkflows(    @Valid@ApiParam(value = "Maximum number of records to return")  @QueryParam("limit") Integer limit,     @Valid@ApiParam(value = "Number of records to skip for pagination")  @QueryParam("offset") Integer offset,     @Valid@ApiParam(value = "Records, filtered by their name")  @QueryParam("filter") String filter,     @Valid@ApiParam(value = "Whether the total number of matching records is included in the response. Skipping the total saves a count query on every page. ", defaultValue="true") @DefaultValue("true")  @QueryParam("includeTotal") Boolean includeTotal) {
 
-        return delegate.getWorkflows(limit,  offset,  filter );
+        return delegate.getWorkflows(limit,  offset,  filter,  includeTotal );
     }
 
     @Valid
@@ -39,7 +39,7 @@ public interface WorkflowsApiService {
 
       public Response getWorkflowById(String workflowId);
 
-      public Response getWorkflows(Integer limit, Integer offset, String filter);
+      public Response getWorkflows(Integer limit, Integer offset, String filter, Boolean includeTotal);
 
       public Response updateWorkflow(String workflowId, WorkflowRequest workflowRequest);
 }
@@ -24,6 +24,7 @@ import io.swagger.annotations.ApiModel;
 import io.swagger.annotations.ApiModelProperty;
 import java.util.ArrayList;
 import java.util.List;
+import org.wso2.carbon.identity.rest.api.server.workflow.v1.model.Link;
 import org.wso2.carbon.identity.rest.api.server.workflow.v1.model.WorkflowInstanceListItem;
 import javax.validation.constraints.*;
 
@@ -40,6 +41,8 @@ public class WorkflowInstanceListResponse  {
     private Integer count;
     private List<WorkflowInstanceListItem> instances = null;
 
+    private List<Link> links = null;
+
 
     /**
     **/
@@ -121,6 +124,32 @@ public class WorkflowInstanceListResponse  {
         return this;
     }
 
+        /**
+    **/
+    public WorkflowInstanceListResponse links(List<Link> links) {
+
+        this.links = links;
+        return this;
+    }
+    
+    @ApiModelProperty(value = "")
+    @JsonProperty("links")
+    @Valid
+    public List<Link> getLinks() {
+        return links;
+    }
+    public void setLinks(List<Link> links) {
+        this.links = links;
+    }
+
+    public WorkflowInstanceListResponse addLinksItem(Link linksItem) {
+        if (this.links == null) {
+            this.links = new ArrayList<>();
+        }
+        this.links.add(linksItem);
+        return this;
+    }
+
     
 
     @Override
@@ -136,12 +165,13 @@ public class WorkflowInstanceListResponse  {
         return Objects.equals(this.totalResults, workflowInstanceListResponse.totalResults) &&
             Objects.equals(this.startIndex, workflowInstanceListResponse.startIndex) &&
             Objects.equals(this.count, workflowInstanceListResponse.count) &&
-            Objects.equals(this.instances, workflowInstanceListResponse.instances);
+            Objects.equals(this.instances, workflowInstanceListResponse.instances) &&
+            Objects.equals(this.links, workflowInstanceListResponse.links);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(totalResults, startIndex, count, instances);
+        return Objects.hash(totalResults, startIndex, count, instances, links);
     }
 
     @Override
@@ -154,6 +184,7 @@ public class WorkflowInstanceListResponse  {
         sb.append("    startIndex: ").append(toIndentedString(startIndex)).append("\n");
         sb.append("    count: ").append(toIndentedString(count)).append("\n");
         sb.append("    instances: ").append(toIndentedString(instances)).append("\n");
+        sb.append("    links: ").append(toIndentedString(links)).append("\n");
         sb.append("}");
         return sb.toString();
     }
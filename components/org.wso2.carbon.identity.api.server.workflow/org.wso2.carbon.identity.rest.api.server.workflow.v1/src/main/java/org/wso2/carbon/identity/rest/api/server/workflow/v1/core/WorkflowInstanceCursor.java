@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.rest.api.server.workflow.v1.core;
+
+import org.apache.commons.lang.StringUtils;
+import org.wso2.carbon.identity.api.server.workflow.common.Constants;
+import org.wso2.carbon.identity.workflow.mgt.bean.WorkflowRequest;
+import org.wso2.carbon.identity.workflow.mgt.exception.WorkflowClientException;
+import org.wso2.carbon.identity.workflow.mgt.exception.WorkflowException;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * Keyset cursor of the workflow instance listing, made of the creation time and the identifier of a workflow
+ * instance. Cursors are ordered the way the instances are listed, i.e. newest first, with the identifier breaking the
+ * ties between instances created at the same time.
+ */
+final class WorkflowInstanceCursor implements Comparable<WorkflowInstanceCursor> {
+
+    private static final String SEPARATOR = ",";
+
+    private final LocalDateTime createdAt;
+    private final String instanceId;
+
+    private WorkflowInstanceCursor(LocalDateTime createdAt, String instanceId) {
+
+        this.createdAt = createdAt;
+        this.instanceId = instanceId;
+    }
+
+    /**
+     * Build the cursor of a workflow instance.
+     *
+     * @param workflowRequest Workflow request of the instance.
+     * @return Cursor of the instance.
+     * @throws WorkflowException If the creation time of the instance cannot be parsed.
+     */
+    static WorkflowInstanceCursor of(WorkflowRequest workflowRequest) throws WorkflowException {
+
+        String createdAt = workflowRequest.getCreatedAt();
+        try {
+            if (StringUtils.isBlank(createdAt)) {
+                throw new IllegalArgumentException("Creation time is not available.");
+            }
+            // Timestamp accepts the creation time with or without trailing zeros in the fraction of a second.
+            return new WorkflowInstanceCursor(Timestamp.valueOf(createdAt.trim()).toLocalDateTime(),
+                    StringUtils.defaultString(workflowRequest.getRequestId()));
+        } catch (IllegalArgumentException e) {
+            throw new WorkflowException("Invalid creation time: " + createdAt + " of the workflow instance: " +
+                    workflowRequest.getRequestId(), e);
+        }
+    }
+
+    /**
+     * Decode a cursor received as the 'before' or 'after' query parameter.
+     *
+     * @param encodedCursor Base64 encoded cursor.
+     * @return Decoded cursor.
+     * @throws WorkflowClientException If the cursor is malformed.
+     */
+    static WorkflowInstanceCursor decode(String encodedCursor) throws WorkflowClientException {
+
+        try {
+            String cursor = new String(Base64.getUrlDecoder().decode(encodedCursor.trim()), StandardCharsets.UTF_8);
+            int separatorIndex = cursor.indexOf(SEPARATOR);
+            if (separatorIndex < 0) {
+                throw new WorkflowClientException("Invalid cursor: " + encodedCursor);
+            }
+            return new WorkflowInstanceCursor(LocalDateTime.parse(cursor.substring(0, separatorIndex)),
+                    cursor.substring(separatorIndex + 1));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new WorkflowClientException("Invalid cursor: " + encodedCursor);
+        }
+    }
+
+    /**
+     * Encode the cursor to be sent in the pagination links.
+     *
+     * @return Base64 encoded cursor.
+     */
+    String encode() {
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(
+                (createdAt + SEPARATOR + instanceId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Get the lower bound of a creation date range including the instances created at the time of the cursor, in
+     * the date format accepted by the workflow management service.
+     *
+     * @return Formatted creation time.
+     */
+    String getRangeStart() {
+
+        return createdAt.truncatedTo(ChronoUnit.MILLIS).format(Constants.WORKFLOW_INSTANCE_DATE_TIME_FORMATTER);
+    }
+
+    /**
+     * Get the upper bound of a creation date range including the instances created at the time of the cursor, in
+     * the date format accepted by the workflow management service. The bound is a millisecond past the time of the
+     * cursor, so that the instances created at that time are included whether the service treats the bound as
+     * inclusive or exclusive.
+     *
+     * @return Formatted creation time.
+     */
+    String getRangeEnd() {
+
+        return createdAt.truncatedTo(ChronoUnit.MILLIS).plus(1, ChronoUnit.MILLIS)
+                .format(Constants.WORKFLOW_INSTANCE_DATE_TIME_FORMATTER);
+    }
+
+    /**
+     * Check whether the instances of this cursor are created strictly before the given cursor.
+     *
+     * @param cursor Cursor to compare with.
+     * @return True if this cursor is created before the given cursor.
+     */
+    boolean isCreatedBefore(WorkflowInstanceCursor cursor) {
+
+        return createdAt.isBefore(cursor.createdAt);
+    }
+
+    @Override
+    public int compareTo(WorkflowInstanceCursor cursor) {
+
+        int comparison = cursor.createdAt.compareTo(createdAt);
+        return comparison != 0 ? comparison : cursor.instanceId.compareTo(instanceId);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        WorkflowInstanceCursor cursor = (WorkflowInstanceCursor) o;
+        return createdAt.equals(cursor.createdAt) && instanceId.equals(cursor.instanceId);
+    }
+
+    @Override
+    public int hashCode() {
+
+        return Objects.hash(createdAt, instanceId);
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.rest.api.server.workflow.v1.core;
+
+import org.wso2.carbon.identity.workflow.mgt.bean.WorkflowRequest;
+import org.wso2.carbon.identity.workflow.mgt.exception.WorkflowException;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.TreeMap;
+
+/**
+ * Keyset pagination of the workflow instances on top of the offset pagination of the workflow management service.
+ * <p>
+ * The workflow management service lists the instances newest first, hence the creation date range of each query is
+ * narrowed down to the cursor. Paging forwards, i.e. towards the older instances, this keeps the offsets limited to the
+ * instances created at the same time as the cursor. The fetched instances are ordered locally by their cursors.
+ * <p>
+ * The service offers no ascending order, hence paging backwards is not keyset pagination. The instances closest to
+ * the cursor are the last ones of the narrowed range, and are reached with a count query and an offset which grows
+ * with the number of instances newer than the cursor.
+ */
+final class WorkflowInstancePager {
+
+    /**
+     * Source of the workflow requests created within a creation date range, newest first.
+     */
+    interface WorkflowRequestSource {
+
+        /**
+         * Get a page of the workflow requests created within the given range.
+         *
+         * @param beginDate Start of the creation date range.
+         * @param endDate   End of the creation date range.
+         * @param limit     Maximum number of requests to return.
+         * @param offset    Number of requests to skip.
+         * @return Workflow requests, newest first.
+         * @throws WorkflowException If an error occurs while retrieving the requests.
+         */
+        WorkflowRequest[] getRequests(String beginDate, String endDate, int limit, int offset)
+                throws WorkflowException;
+
+        /**
+         * Get the number of workflow requests created within the given range.
+         *
+         * @param beginDate Start of the creation date range.
+         * @param endDate   End of the creation date range.
+         * @return Number of workflow requests.
+         * @throws WorkflowException If an error occurs while counting the requests.
+         */
+        int getCount(String beginDate, String endDate) throws WorkflowException;
+    }
+
+    private final WorkflowRequestSource source;
+    private final String beginDate;
+    private final String endDate;
+
+    /**
+     * Create a pager over the workflow requests created within the given range.
+     *
+     * @param source    Source of the workflow requests.
+     * @param beginDate Start of the creation date range, in the date format of the workflow management service.
+     * @param endDate   End of the creation date range, in the date format of the workflow management service.
+     */
+    WorkflowInstancePager(WorkflowRequestSource source, String beginDate, String endDate) {
+
+        this.source = source;
+        this.beginDate = beginDate;
+        this.endDate = endDate;
+    }
+
+    /**
+     * Fetch the workflow instances created after the given cursor, i.e. the older instances, newest first.
+     *
+     * @param cursor Cursor to fetch the instances after, or null to fetch from the newest instance.
+     * @param count  Maximum number of instances to fetch.
+     * @return Workflow requests of the instances, newest first.
+     * @throws WorkflowException If an error occurs while retrieving the instances.
+     */
+    List<WorkflowRequest> getRequestsAfter(WorkflowInstanceCursor cursor, int count) throws WorkflowException {
+
+        String rangeEnd = endDate;
+        if (cursor != null && cursor.getRangeEnd().compareTo(rangeEnd) < 0) {
+            rangeEnd = cursor.getRangeEnd();
+        }
+        // One more instance than needed is fetched, which is usually enough to pass the last instance needed.
+        int batchSize = count + 1;
+
+        TreeMap<WorkflowInstanceCursor, WorkflowRequest> instances = new TreeMap<>();
+        int offset = 0;
+        while (true) {
+            WorkflowRequest[] requests = source.getRequests(beginDate, rangeEnd, batchSize, offset);
+            WorkflowInstanceCursor lastFetched = null;
+            for (WorkflowRequest workflowRequest : requests) {
+                lastFetched = WorkflowInstanceCursor.of(workflowRequest);
+                if (cursor == null || lastFetched.compareTo(cursor) > 0) {
+                    instances.put(lastFetched, workflowRequest);
+                }
+            }
+            offset += requests.length;
+            if (lastFetched == null || requests.length < batchSize) {
+                break;
+            }
+            /*
+            The instances which are not fetched yet are not created after the last fetched instance. Once that is
+            older than the last instance needed, the rest of the instances cannot make it into the result.
+             */
+            if (instances.size() >= count && lastFetched.isCreatedBefore(getKeyAt(instances, count - 1))) {
+                break;
+            }
+        }
+        return new ArrayList<>(instances.values()).subList(0, Math.min(count, instances.size()));
+    }
+
+    /**
+     * Fetch the workflow instances created before the given cursor, i.e. the newer instances, which are closest to
+     * the cursor, newest first.
+     * <p>
+     * The instances closest to the cursor are the last ones of the creation date range starting at the cursor. They
+     * are fetched backwards from the end of the range in batches, hence the cost of a page grows with the number of
+     * instances created after the cursor, as with offset pagination.
+     *
+     * @param cursor Cursor to fetch the instances before.
+     * @param count  Maximum number of instances to fetch.
+     * @return Workflow requests of the instances, newest first.
+     * @throws WorkflowException If an error occurs while retrieving the instances.
+     */
+    List<WorkflowRequest> getRequestsBefore(WorkflowInstanceCursor cursor, int count) throws WorkflowException {
+
+        String rangeBegin = beginDate;
+        if (cursor.getRangeStart().compareTo(rangeBegin) > 0) {
+            rangeBegin = cursor.getRangeStart();
+        }
+        // One more instance than needed is fetched, which is usually enough to pass the last instance needed.
+        int batchSize = count + 1;
+
+        TreeMap<WorkflowInstanceCursor, WorkflowRequest> instances = new TreeMap<>();
+        int end = source.getCount(rangeBegin, endDate);
+        while (end > 0) {
+            int start = Math.max(0, end - batchSize);
+            WorkflowRequest[] requests = source.getRequests(rangeBegin, endDate, end - start, start);
+            if (requests.length == 0) {
+                break;
+            }
+            for (WorkflowRequest workflowRequest : requests) {
+                WorkflowInstanceCursor fetched = WorkflowInstanceCursor.of(workflowRequest);
+                if (fetched.compareTo(cursor) < 0) {
+                    instances.put(fetched, workflowRequest);
+                }
+            }
+            end = start;
+            // The instances which are not fetched yet are not created before the first fetched instance.
+            if (instances.size() >= count && getKeyAt(instances, instances.size() - count)
+                    .isCreatedBefore(WorkflowInstanceCursor.of(requests[0]))) {
+                break;
+            }
+        }
+        List<WorkflowRequest> requests = new ArrayList<>(instances.values());
+        return requests.subList(Math.max(0, requests.size() - count), requests.size());
+    }
+
+    private static WorkflowInstanceCursor getKeyAt(TreeMap<WorkflowInstanceCursor, WorkflowRequest> instances,
+                                                   int position) {
+
+        Iterator<WorkflowInstanceCursor> iterator = instances.keySet().iterator();
+        for (int i = 0; i < position; i++) {
+            iterator.next();
+        }
+        return iterator.next();
+    }
+}
@@ -18,12 +18,14 @@
 
 package org.wso2.carbon.identity.rest.api.server.workflow.v1.core;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
 import org.wso2.carbon.context.CarbonContext;
+import org.wso2.carbon.identity.api.server.common.ContextLoader;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
 import org.wso2.carbon.identity.api.server.workflow.common.Constants;
@@ -32,6 +34,7 @@ import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.identity.rest.api.server.workflow.v1.model.ApproverNotifications;
 import org.wso2.carbon.identity.rest.api.server.workflow.v1.model.InitiatorNotifications;
 import org.wso2.carbon.identity.rest.api.server.workflow.v1.model.InstanceStatus;
+import org.wso2.carbon.identity.rest.api.server.workflow.v1.model.Link;
 import org.wso2.carbon.identity.rest.api.server.workflow.v1.model.ORRuleResponse;
 import org.wso2.carbon.identity.rest.api.server.workflow.v1.model.Operation;
 import org.wso2.carbon.identity.rest.api.server.workflow.v1.model.OptionDetails;
@@ -70,8 +73,10 @@ import org.wso2.carbon.identity.workflow.mgt.util.WFConstant;
 import org.wso2.carbon.identity.workflow.mgt.util.WorkflowManagementUtil;
 import org.wso2.carbon.identity.workflow.mgt.util.WorkflowRequestStatus;
 
+import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
+import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -86,6 +91,9 @@ import java.util.UUID;
 import java.util.stream.Collectors;
 
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+
+import static org.wso2.carbon.identity.api.server.common.Constants.V1_API_PATH_COMPONENT;
 
 /**
  * Workflow service class.
@@ -95,6 +103,10 @@ public class WorkflowService {
     private static final Log log = LogFactory.getLog(WorkflowService.class);
     private static final String CHANNELS = "channels";
     private static final String EVENTS = "events";
+    private static final String DATE_CATEGORY_CREATED = "CREATED";
+    private static final String DATE_CATEGORY_UPDATED = "UPDATED";
+    private static final byte[] NDJSON_LINE_SEPARATOR = "\n".getBytes(StandardCharsets.UTF_8);
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
     private final WorkflowManagementService workflowManagementService;
     private final ApprovalTaskService approvalEventService;
     private final RuleManagementService ruleManagementService;
@@ -201,12 +213,14 @@ public class WorkflowService {
     /**
      * List paginated workflows of a tenant.
      *
-     * @param limit  Items per page
-     * @param offset Offset
-     * @param filter filter string
+     * @param limit        Items per page
+     * @param offset       Offset
+     * @param filter       filter string
+     * @param includeTotal Whether the total number of workflows matching the filter is resolved
      * @return WorkflowListResponse
      */
-    public WorkflowListResponse listPaginatedWorkflows(Integer limit, Integer offset, String filter) {
+    public WorkflowListResponse listPaginatedWorkflows(Integer limit, Integer offset, String filter,
+                                                      Boolean includeTotal) {
 
         List<WorkflowListItem> workflowBasicInfoList = new ArrayList<>();
         List<Workflow> currentWorkflows;
@@ -220,7 +234,8 @@ public class WorkflowService {
                 workflowBasicInfoList.add(workflowTmp);
             }
             return createWorkflowResponse(tenantId,
-                    workflowBasicInfoList.toArray(new WorkflowListItem[workflowBasicInfoList.size()]), offset, filter);
+                    workflowBasicInfoList.toArray(new WorkflowListItem[workflowBasicInfoList.size()]), offset, filter,
+                    !Boolean.FALSE.equals(includeTotal));
         } catch (WorkflowClientException e) {
             throw handleClientError(Constants.ErrorMessage.ERROR_CODE_CLIENT_ERROR_LISTING_WORKFLOWS, null, e);
         } catch (WorkflowException e) {
@@ -533,10 +548,12 @@ public class WorkflowService {
 
     private WorkflowListResponse createWorkflowResponse(int tenantId, WorkflowListItem[] workflowListItems,
             Integer offset,
-            String filter) throws WorkflowException {
+            String filter, boolean includeTotal) throws WorkflowException {
 
         WorkflowListResponse workflowListResponse = new WorkflowListResponse();
-        workflowListResponse.setTotalResults(workflowManagementService.getWorkflowsCount(tenantId, filter));
+        if (includeTotal) {
+            workflowListResponse.setTotalResults(workflowManagementService.getWorkflowsCount(tenantId, filter));
+        }
         if (workflowListItems != null && workflowListItems.length > 0) {
             workflowListResponse.setWorkflows(Arrays.asList(workflowListItems));
             workflowListResponse.setCount(workflowListItems.length);
@@ -999,19 +1016,29 @@ public class WorkflowService {
     }
 
     /**
-     * Retrieves a list of workflow instances with pagination and filtering.
+     * Retrieves a list of workflow instances with offset or cursor pagination and filtering.
      *
      * @param limit  Maximum number of instances to return.
      * @param offset Offset for pagination.
      * @param filter Filter string to apply on the results.
+     * @param before Cursor of the first instance of the next page, for backward pagination.
+     * @param after  Cursor of the last instance of the previous page, for forward pagination.
      * @return WorkflowInstanceListResponse containing the list of workflow instances.
      */
-    public WorkflowInstanceListResponse getWorkflowInstances(Integer limit, Integer offset, String filter) {
+    public WorkflowInstanceListResponse getWorkflowInstances(Integer limit, Integer offset, String filter,
+                                                             String before, String after) {
 
         limit = validateLimit(limit);
         offset = validateOffset(offset);
         try {
-            return getPaginatedWorkflowInstances(limit, offset, filter);
+            if (StringUtils.isBlank(before) && StringUtils.isBlank(after)) {
+                return getPaginatedWorkflowInstances(limit, offset, filter);
+            }
+            if ((StringUtils.isNotBlank(before) && StringUtils.isNotBlank(after)) || offset > 0) {
+                throw new WorkflowClientException("Only one of the 'before' and 'after' cursors can be used, " +
+                        "and cursors cannot be used with an offset.");
+            }
+            return getCursorPaginatedWorkflowInstances(limit, filter, before, after);
         } catch (WorkflowClientException e) {
             throw handleClientError(Constants.ErrorMessage.ERROR_CODE_CLIENT_ERROR_LISTING_WORKFLOW_INSTANCES, null, e);
         } catch (WorkflowException e) {
@@ -1099,77 +1126,255 @@ public class WorkflowService {
     private WorkflowInstanceListResponse getPaginatedWorkflowInstances(Integer limit, Integer offset, String filter)
             throws WorkflowException {
 
-        String user = null;
-        int tenantId = CarbonContext.getThreadLocalCarbonContext().getTenantId();
+        WorkflowInstanceQuery query = buildWorkflowInstanceQuery(filter);
+        WorkflowRequestFilterResponse response = fetchWorkflowRequests(query, query.dateCategory, query.beginDate,
+                query.endDate, limit, offset);
+        org.wso2.carbon.identity.workflow.mgt.bean.WorkflowRequest[] requests = getRequests(response);
+
+        List<WorkflowInstanceListItem> allItems = new ArrayList<>(requests.length);
+        for (org.wso2.carbon.identity.workflow.mgt.bean.WorkflowRequest workflowRequest : requests) {
+            allItems.add(mapWorkflowRequestToListItem(workflowRequest));
+        }
+
+        int totalCount = allItems.size();
+        int startIndex = offset;
+        int totalResult = response.getTotalCount();
 
         WorkflowInstanceListResponse workflowInstanceListResponse = new WorkflowInstanceListResponse();
-        workflowInstanceListResponse.setInstances(new ArrayList<>());
+        workflowInstanceListResponse.setInstances(allItems);
+        workflowInstanceListResponse.setCount(totalCount);
+        workflowInstanceListResponse.setStartIndex(startIndex + 1);
+        workflowInstanceListResponse.setTotalResults(totalResult);
 
-        Map<String, String> filterMap = parseWorkflowFilter(filter);
+        // Let clients switch to cursor pagination from any page.
+        if (requests.length > 0 && offset + requests.length < totalResult && !query.isFilteredByUpdatedTime()) {
+            WorkflowInstanceCursor nextCursor = null;
+            try {
+                nextCursor = WorkflowInstanceCursor.of(requests[requests.length - 1]);
+            } catch (WorkflowException e) {
+                // The page is still served, only without the link to continue with cursor pagination.
+                log.warn("Cannot build the next cursor of the workflow instance listing. " + e.getMessage());
+            }
+            if (nextCursor != null) {
+                workflowInstanceListResponse.addLinksItem(buildWorkflowInstancesLink(Constants.NEXT_LINK_REL,
+                        Constants.PAGINATION_AFTER, nextCursor, limit, filter));
+            }
+        }
+        return workflowInstanceListResponse;
+    }
 
-        String beginDate = "1950-01-01 00:00:00.000";
-        String endDate = getCurrentDateTime();
-        String dateCategory = null;
-        String status = null;
-        String operationType = null;
-
-        if (!filterMap.isEmpty()) {
-            if (StringUtils.isNotEmpty(filterMap.get(Constants.WORKFLOW_INSTANCE_REQUEST_TYPE_KEY))) {
-                String requestType = filterMap.get(Constants.WORKFLOW_INSTANCE_REQUEST_TYPE_KEY);
-                if (!Constants.WORKFLOW_INSTANCE_MY_TASKS_REQUEST_TYPE.equals(requestType) &&
-                        !Constants.WORKFLOW_INSTANCE_ALL_TASKS_REQUEST_TYPE.equals(requestType)) {
-                    throw new WorkflowClientException("Invalid request type: " + requestType +
-                            ". Valid types are 'MY_TASKS' and 'ALL_TASKS'.");
-                }
-                if (Constants.WORKFLOW_INSTANCE_MY_TASKS_REQUEST_TYPE.equals(requestType)) {
-                    user = CarbonContext.getThreadLocalCarbonContext().getUsername();
-                }
+    /**
+     * Retrieves a page of workflow instances using keyset pagination on the creation time and the instance
+     * identifier, so that the cost of a page does not grow with its position.
+     *
+     * @param limit  Maximum number of instances to return.
+     * @param filter Filter string to apply on the results.
+     * @param before Cursor of the first instance of the next page, for backward pagination.
+     * @param after  Cursor of the last instance of the previous page, for forward pagination.
+     * @return WorkflowInstanceListResponse containing the list of workflow instances.
+     * @throws WorkflowException If an error occurs while retrieving the instances.
+     */
+    private WorkflowInstanceListResponse getCursorPaginatedWorkflowInstances(int limit, String filter, String before,
+                                                                             String after)
+            throws WorkflowException {
+
+        WorkflowInstanceQuery query = buildWorkflowInstanceQuery(filter);
+        validateCursorPaginationQuery(query);
+        boolean backward = StringUtils.isNotBlank(before);
+        WorkflowInstanceCursor cursor = WorkflowInstanceCursor.decode(backward ? before : after);
+
+        // An additional instance is fetched to find whether there are more instances in the direction of paging.
+        WorkflowInstancePager pager = buildWorkflowInstancePager(query);
+        List<org.wso2.carbon.identity.workflow.mgt.bean.WorkflowRequest> requests = backward ?
+                pager.getRequestsBefore(cursor, limit + 1) : pager.getRequestsAfter(cursor, limit + 1);
+        boolean hasMoreItems = requests.size() > limit;
+        if (hasMoreItems) {
+            requests = backward ? requests.subList(1, requests.size()) : requests.subList(0, limit);
+        }
+
+        List<WorkflowInstanceListItem> items = new ArrayList<>(requests.size());
+        for (org.wso2.carbon.identity.workflow.mgt.bean.WorkflowRequest workflowRequest : requests) {
+            items.add(mapWorkflowRequestToListItem(workflowRequest));
+        }
+        WorkflowInstanceListResponse workflowInstanceListResponse = new WorkflowInstanceListResponse();
+        workflowInstanceListResponse.setInstances(items);
+        workflowInstanceListResponse.setCount(items.size());
+        if (!requests.isEmpty()) {
+            if (!backward || hasMoreItems) {
+                workflowInstanceListResponse.addLinksItem(buildWorkflowInstancesLink(Constants.PREVIOUS_LINK_REL,
+                        Constants.PAGINATION_BEFORE, WorkflowInstanceCursor.of(requests.get(0)), limit, filter));
+            }
+            if (backward || hasMoreItems) {
+                workflowInstanceListResponse.addLinksItem(buildWorkflowInstancesLink(Constants.NEXT_LINK_REL,
+                        Constants.PAGINATION_AFTER, WorkflowInstanceCursor.of(requests.get(requests.size() - 1)),
+                        limit, filter));
+            }
+        }
+        return workflowInstanceListResponse;
+    }
+
+    /**
+     * Export the workflow instances matching the filter as newline delimited JSON. The instances are fetched in
+     * batches using keyset pagination and each batch is written to the response as soon as it is fetched, so that
+     * neither the full result nor the full response is held in memory.
+     *
+     * @param filter Filter string to apply on the results.
+     * @return Streaming output writing the workflow instances, newest first.
+     */
+    public StreamingOutput exportWorkflowInstances(String filter) {
+
+        WorkflowInstanceQuery query;
+        try {
+            query = buildWorkflowInstanceQuery(filter);
+            validateCursorPaginationQuery(query);
+        } catch (WorkflowClientException e) {
+            throw handleClientError(Constants.ErrorMessage.ERROR_CODE_CLIENT_ERROR_LISTING_WORKFLOW_INSTANCES, null, e);
+        }
+        int batchSize = IdentityUtil.getMaximumItemPerPage();
+        WorkflowInstancePager pager = buildWorkflowInstancePager(query);
+
+        return outputStream -> {
+            try {
+                WorkflowInstanceCursor cursor = null;
+                List<org.wso2.carbon.identity.workflow.mgt.bean.WorkflowRequest> requests;
+                do {
+                    requests = pager.getRequestsAfter(cursor, batchSize);
+                    for (org.wso2.carbon.identity.workflow.mgt.bean.WorkflowRequest workflowRequest : requests) {
+                        outputStream.write(OBJECT_MAPPER.writeValueAsBytes(
+                                mapWorkflowRequestToListItem(workflowRequest)));
+                        outputStream.write(NDJSON_LINE_SEPARATOR);
+                    }
+                    outputStream.flush();
+                    if (!requests.isEmpty()) {
+                        cursor = WorkflowInstanceCursor.of(requests.get(requests.size() - 1));
+                    }
+                } while (requests.size() == batchSize);
+            } catch (WorkflowException e) {
+                // The response is already committed, hence the export can only be aborted.
+                log.error("Error while exporting the workflow instances of tenant: " + query.tenantId, e);
+                throw new IOException("Error while exporting the workflow instances.", e);
             }
+        };
+    }
+
+    /**
+     * Build a keyset pager over the workflow instances matching the query.
+     *
+     * @param query Workflow instance query.
+     * @return Workflow instance pager.
+     */
+    private WorkflowInstancePager buildWorkflowInstancePager(WorkflowInstanceQuery query) {
+
+        // Cursors are based on the creation time, hence the date range is always applied on the creation time.
+        return new WorkflowInstancePager(new WorkflowInstancePager.WorkflowRequestSource() {
 
-            if (StringUtils.isNotEmpty(filterMap.get(Constants.WORKFLOW_INSTANCE_CREATED_START_DATE_KEY))) {
-                beginDate = filterMap.get(Constants.WORKFLOW_INSTANCE_CREATED_START_DATE_KEY);
-                dateCategory = "CREATED";
-            } else if (StringUtils.isNotEmpty(filterMap.get(Constants.WORKFLOW_INSTANCE_UPDATED_START_DATE_KEY))) {
-                dateCategory = "UPDATED";
-                beginDate = filterMap.get(Constants.WORKFLOW_INSTANCE_UPDATED_START_DATE_KEY);
+            @Override
+            public org.wso2.carbon.identity.workflow.mgt.bean.WorkflowRequest[] getRequests(String beginDate,
+                                                                                         String endDate, int limit,
+                                                                                         int offset)
+                    throws WorkflowException {
+
+                return WorkflowService.getRequests(fetchWorkflowRequests(query, DATE_CATEGORY_CREATED, beginDate,
+                        endDate, limit, offset));
             }
 
-            if (StringUtils.isNotEmpty(filterMap.get(Constants.WORKFLOW_INSTANCE_CREATED_END_DATE_KEY))) {
-                endDate = filterMap.get(Constants.WORKFLOW_INSTANCE_CREATED_END_DATE_KEY);
-                dateCategory = "CREATED";
-            } else if (StringUtils.isNotEmpty(filterMap.get(Constants.WORKFLOW_INSTANCE_UPDATED_END_DATE_KEY))) {
-                dateCategory = "UPDATED";
-                endDate = filterMap.get(Constants.WORKFLOW_INSTANCE_UPDATED_END_DATE_KEY);
+            @Override
+            public int getCount(String beginDate, String endDate) throws WorkflowException {
+
+                return fetchWorkflowRequests(query, DATE_CATEGORY_CREATED, beginDate, endDate, 1, 0).getTotalCount();
             }
+        }, query.beginDate, query.endDate);
+    }
 
-            status = filterMap.get(Constants.WORKFLOW_INSTANCE_STATUS_KEY);
-            operationType = filterMap.get(Constants.WORKFLOW_INSTANCE_OPERATION_TYPE_KEY);
-        }
+    private WorkflowRequestFilterResponse fetchWorkflowRequests(WorkflowInstanceQuery query, String dateCategory,
+                                                                String beginDate, String endDate, int limit,
+                                                                int offset) throws WorkflowException {
+
+        return workflowManagementService.getRequestsFromFilter(query.user, query.operationType, beginDate, endDate,
+                dateCategory, query.tenantId, query.status, limit, offset);
+    }
 
-        WorkflowRequestFilterResponse response = workflowManagementService
-                .getRequestsFromFilter(user, operationType, beginDate, endDate, dateCategory, tenantId, status, limit,
-                        offset);
+    private static org.wso2.carbon.identity.workflow.mgt.bean.WorkflowRequest[] getRequests(
+            WorkflowRequestFilterResponse response) {
 
         org.wso2.carbon.identity.workflow.mgt.bean.WorkflowRequest[] requests = response.getRequests();
+        return requests != null ? requests : new org.wso2.carbon.identity.workflow.mgt.bean.WorkflowRequest[0];
+    }
 
-        List<WorkflowInstanceListItem> allItems = new ArrayList<>();
-        if (requests != null) {
-            for (org.wso2.carbon.identity.workflow.mgt.bean.WorkflowRequest workflowRequest : requests) {
-                WorkflowInstanceListItem item = mapWorkflowRequestToListItem(workflowRequest);
-                allItems.add(item);
+    private void validateCursorPaginationQuery(WorkflowInstanceQuery query) throws WorkflowClientException {
+
+        if (query.isFilteredByUpdatedTime()) {
+            throw new WorkflowClientException("Cursor pagination and export are only supported with the " +
+                    Constants.WORKFLOW_INSTANCE_CREATED_DATE_KEY + " date filters.");
+        }
+    }
+
+    private Link buildWorkflowInstancesLink(String rel, String paginationParam, WorkflowInstanceCursor cursor,
+                                            int limit, String filter) throws WorkflowException {
+
+        StringBuilder url = new StringBuilder(V1_API_PATH_COMPONENT).append(Constants.WORKFLOW_INSTANCE_PATH_COMPONENT)
+                .append("?").append(Constants.LIMIT_PARAM).append("=").append(limit);
+        if (StringUtils.isNotBlank(filter)) {
+            try {
+                url.append("&").append(Constants.FILTER_PARAM).append("=")
+                        .append(URLEncoder.encode(filter, StandardCharsets.UTF_8.name()));
+            } catch (UnsupportedEncodingException e) {
+                throw new WorkflowException("Error while encoding the filter of the pagination link.", e);
             }
         }
+        url.append("&").append(paginationParam).append("=").append(cursor.encode());
+        return new Link().rel(rel).href(ContextLoader.buildURIForBody(url.toString()));
+    }
 
-        int totalCount = allItems.size();
-        int startIndex = offset;
-        int totalResult = response.getTotalCount();
+    /**
+     * Build the workflow instance query from the filter string.
+     *
+     * @param filter Filter string.
+     * @return Workflow instance query.
+     * @throws WorkflowClientException If the filter format is invalid or unsupported.
+     */
+    private WorkflowInstanceQuery buildWorkflowInstanceQuery(String filter) throws WorkflowClientException {
 
-        workflowInstanceListResponse.setInstances(allItems);
-        workflowInstanceListResponse.setCount(totalCount);
-        workflowInstanceListResponse.setStartIndex(startIndex + 1);
-        workflowInstanceListResponse.setTotalResults(totalResult);
+        WorkflowInstanceQuery query = new WorkflowInstanceQuery();
+        query.tenantId = CarbonContext.getThreadLocalCarbonContext().getTenantId();
+        query.beginDate = "1950-01-01 00:00:00.000";
+        query.endDate = getCurrentDateTime();
 
-        return workflowInstanceListResponse;
+        Map<String, String> filterMap = parseWorkflowFilter(filter);
+        if (filterMap.isEmpty()) {
+            return query;
+        }
+        if (StringUtils.isNotEmpty(filterMap.get(Constants.WORKFLOW_INSTANCE_REQUEST_TYPE_KEY))) {
+            String requestType = filterMap.get(Constants.WORKFLOW_INSTANCE_REQUEST_TYPE_KEY);
+            if (!Constants.WORKFLOW_INSTANCE_MY_TASKS_REQUEST_TYPE.equals(requestType) &&
+                    !Constants.WORKFLOW_INSTANCE_ALL_TASKS_REQUEST_TYPE.equals(requestType)) {
+                throw new WorkflowClientException("Invalid request type: " + requestType +
+                        ". Valid types are 'MY_TASKS' and 'ALL_TASKS'.");
+            }
+            if (Constants.WORKFLOW_INSTANCE_MY_TASKS_REQUEST_TYPE.equals(requestType)) {
+                query.user = CarbonContext.getThreadLocalCarbonContext().getUsername();
+            }
+        }
+
+        if (StringUtils.isNotEmpty(filterMap.get(Constants.WORKFLOW_INSTANCE_CREATED_START_DATE_KEY))) {
+            query.beginDate = filterMap.get(Constants.WORKFLOW_INSTANCE_CREATED_START_DATE_KEY);
+            query.dateCategory = DATE_CATEGORY_CREATED;
+        } else if (StringUtils.isNotEmpty(filterMap.get(Constants.WORKFLOW_INSTANCE_UPDATED_START_DATE_KEY))) {
+            query.dateCategory = DATE_CATEGORY_UPDATED;
+            query.beginDate = filterMap.get(Constants.WORKFLOW_INSTANCE_UPDATED_START_DATE_KEY);
+        }
+
+        if (StringUtils.isNotEmpty(filterMap.get(Constants.WORKFLOW_INSTANCE_CREATED_END_DATE_KEY))) {
+            query.endDate = filterMap.get(Constants.WORKFLOW_INSTANCE_CREATED_END_DATE_KEY);
+            query.dateCategory = DATE_CATEGORY_CREATED;
+        } else if (StringUtils.isNotEmpty(filterMap.get(Constants.WORKFLOW_INSTANCE_UPDATED_END_DATE_KEY))) {
+            query.dateCategory = DATE_CATEGORY_UPDATED;
+            query.endDate = filterMap.get(Constants.WORKFLOW_INSTANCE_UPDATED_END_DATE_KEY);
+        }
+
+        query.status = filterMap.get(Constants.WORKFLOW_INSTANCE_STATUS_KEY);
+        query.operationType = filterMap.get(Constants.WORKFLOW_INSTANCE_OPERATION_TYPE_KEY);
+        return query;
     }
 
     /**
@@ -1407,6 +1612,25 @@ public class WorkflowService {
                Constants.LESS_THAN_OR_EQUAL_OPERATOR.equals(operator);
     }
     
+    /**
+     * Inner class to represent the parameters of a workflow instance query resolved from the filter.
+     */
+    private static class WorkflowInstanceQuery {
+
+        private int tenantId;
+        private String user;
+        private String operationType;
+        private String status;
+        private String beginDate;
+        private String endDate;
+        private String dateCategory;
+
+        private boolean isFilteredByUpdatedTime() {
+
+            return DATE_CATEGORY_UPDATED.equals(dateCategory);
+        }
+    }
+
     /**
      * Inner class to represent a filter condition.
      */
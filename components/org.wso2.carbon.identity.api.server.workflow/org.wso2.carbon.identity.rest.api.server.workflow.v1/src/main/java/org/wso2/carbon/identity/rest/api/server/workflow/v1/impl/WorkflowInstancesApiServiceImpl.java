@@ -30,6 +30,8 @@ import javax.ws.rs.core.Response;
  */
 public class WorkflowInstancesApiServiceImpl implements WorkflowInstancesApiService {
 
+    private static final String NDJSON_MEDIA_TYPE = "application/x-ndjson";
+
     private final WorkflowService workflowService;
 
     public WorkflowInstancesApiServiceImpl() {
@@ -51,6 +53,12 @@ public class WorkflowInstancesApiServiceImpl implements WorkflowInstancesApiServ
         return Response.noContent().build();
     }
 
+    @Override
+    public Response exportWorkflowInstances(String filter) {
+
+        return Response.ok(workflowService.exportWorkflowInstances(filter), NDJSON_MEDIA_TYPE).build();
+    }
+
     @Override
     public Response getWorkflowInstanceById(String instanceId) {
 
@@ -58,8 +66,10 @@ public class WorkflowInstancesApiServiceImpl implements WorkflowInstancesApiServ
     }
 
     @Override
-    public Response getWorkflowInstances(Integer limit, Integer offset, String filter) {
+    public Response getWorkflowInstances(Integer limit, Integer offset, String filter, String before,
+                                         String after) {
 
-        return Response.ok().entity(workflowService.getWorkflowInstances(limit, offset, filter)).build();
+        return Response.ok().entity(workflowService.getWorkflowInstances(limit, offset, filter, before, after))
+                .build();
     }
 }
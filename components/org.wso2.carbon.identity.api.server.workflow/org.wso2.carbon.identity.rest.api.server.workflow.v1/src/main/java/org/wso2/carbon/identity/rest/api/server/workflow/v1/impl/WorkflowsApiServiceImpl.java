@@ -67,9 +67,10 @@ public class WorkflowsApiServiceImpl implements WorkflowsApiService {
     }
 
     @Override
-    public Response getWorkflows(Integer limit, Integer offset, String filter) {
+    public Response getWorkflows(Integer limit, Integer offset, String filter, Boolean includeTotal) {
 
-        return Response.ok().entity(workflowService.listPaginatedWorkflows(limit, offset, filter)).build();
+        return Response.ok().entity(workflowService.listPaginatedWorkflows(limit, offset, filter, includeTotal))
+                .build();
     }
 
     @Override
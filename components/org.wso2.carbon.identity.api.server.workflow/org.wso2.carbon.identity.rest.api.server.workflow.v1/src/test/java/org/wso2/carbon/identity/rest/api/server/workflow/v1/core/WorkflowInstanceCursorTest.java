@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.rest.api.server.workflow.v1.core;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.workflow.mgt.bean.WorkflowRequest;
+import org.wso2.carbon.identity.workflow.mgt.exception.WorkflowClientException;
+import org.wso2.carbon.identity.workflow.mgt.exception.WorkflowException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Unit tests for {@link WorkflowInstanceCursor}.
+ */
+public class WorkflowInstanceCursorTest {
+
+    @Test
+    public void testEncodeAndDecode() throws WorkflowException {
+
+        WorkflowInstanceCursor cursor = WorkflowInstanceCursor.of(buildRequest("2026-01-15 10:20:30.123", "id-1"));
+
+        String encodedCursor = cursor.encode();
+
+        Assert.assertFalse(encodedCursor.contains("="));
+        Assert.assertEquals(WorkflowInstanceCursor.decode(encodedCursor), cursor);
+    }
+
+    @Test
+    public void testRangeIncludesCreationTime() throws WorkflowException {
+
+        WorkflowInstanceCursor cursor = WorkflowInstanceCursor.of(buildRequest("2026-01-15 10:20:30.1", "id-1"));
+
+        Assert.assertEquals(cursor.getRangeStart(), "2026-01-15 10:20:30.100");
+        Assert.assertEquals(cursor.getRangeEnd(), "2026-01-15 10:20:30.101");
+    }
+
+    @Test
+    public void testCreationTimeWithTrailingZeros() throws WorkflowException {
+
+        Assert.assertEquals(WorkflowInstanceCursor.of(buildRequest("2026-01-15 10:20:30.1", "id-1")),
+                WorkflowInstanceCursor.of(buildRequest("2026-01-15 10:20:30.100", "id-1")));
+    }
+
+    @Test
+    public void testOrderIsNewestFirstThenById() throws WorkflowException {
+
+        WorkflowInstanceCursor newer = WorkflowInstanceCursor.of(buildRequest("2026-01-15 10:20:31.000", "id-1"));
+        WorkflowInstanceCursor older = WorkflowInstanceCursor.of(buildRequest("2026-01-15 10:20:30.000", "id-1"));
+        WorkflowInstanceCursor olderTie = WorkflowInstanceCursor.of(buildRequest("2026-01-15 10:20:30.000", "id-2"));
+
+        Assert.assertTrue(newer.compareTo(older) < 0);
+        Assert.assertTrue(older.compareTo(newer) > 0);
+        Assert.assertTrue(older.compareTo(olderTie) != 0);
+        Assert.assertEquals(Integer.signum(older.compareTo(olderTie)), -Integer.signum(olderTie.compareTo(older)));
+        Assert.assertTrue(older.isCreatedBefore(newer));
+        Assert.assertFalse(older.isCreatedBefore(olderTie));
+    }
+
+    @DataProvider(name = "invalidCreationTimes")
+    public Object[][] invalidCreationTimes() {
+
+        return new Object[][]{
+                {null},
+                {" "},
+                {"15/01/2026 10:20:30"}
+        };
+    }
+
+    @Test(dataProvider = "invalidCreationTimes", expectedExceptions = WorkflowException.class)
+    public void testInvalidCreationTime(String createdAt) throws WorkflowException {
+
+        WorkflowInstanceCursor.of(buildRequest(createdAt, "id-1"));
+    }
+
+    @DataProvider(name = "malformedCursors")
+    public Object[][] malformedCursors() {
+
+        return new Object[][]{
+                {"not a cursor"},
+                {encode("2026-01-15T10:20:30.123")},
+                {encode("2026-01-15 10:20:30.123,id-1")}
+        };
+    }
+
+    @Test(dataProvider = "malformedCursors", expectedExceptions = WorkflowClientException.class)
+    public void testDecodeMalformedCursor(String encodedCursor) throws WorkflowClientException {
+
+        WorkflowInstanceCursor.decode(encodedCursor);
+    }
+
+    private static String encode(String cursor) {
+
+        return Base64.getUrlEncoder().encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static WorkflowRequest buildRequest(String createdAt, String requestId) {
+
+        WorkflowRequest workflowRequest = new WorkflowRequest();
+        workflowRequest.setCreatedAt(createdAt);
+        workflowRequest.setRequestId(requestId);
+        return workflowRequest;
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.rest.api.server.workflow.v1.core;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.workflow.mgt.bean.WorkflowRequest;
+import org.wso2.carbon.identity.workflow.mgt.exception.WorkflowException;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Unit tests for {@link WorkflowInstancePager}.
+ */
+public class WorkflowInstancePagerTest {
+
+    private static final String BEGIN_DATE = "1950-01-01 00:00:00.000";
+    private static final String END_DATE = "2100-01-01 00:00:00.000";
+
+    /*
+    Newest first as listed by the workflow management service. Instances created at the same time are listed in no
+    particular order, and some of them are created at the same time as the boundaries of the pages.
+     */
+    private static final List<WorkflowRequest> REQUESTS = Arrays.asList(
+            WorkflowInstanceCursorTest.buildRequest("2026-01-15 10:00:05.000", "id-08"),
+            WorkflowInstanceCursorTest.buildRequest("2026-01-15 10:00:04.000", "id-07"),
+            WorkflowInstanceCursorTest.buildRequest("2026-01-15 10:00:04.0", "id-05"),
+            WorkflowInstanceCursorTest.buildRequest("2026-01-15 10:00:04.000", "id-06"),
+            WorkflowInstanceCursorTest.buildRequest("2026-01-15 10:00:03.000", "id-04"),
+            WorkflowInstanceCursorTest.buildRequest("2026-01-15 10:00:02.000", "id-01"),
+            WorkflowInstanceCursorTest.buildRequest("2026-01-15 10:00:02.000", "id-03"),
+            WorkflowInstanceCursorTest.buildRequest("2026-01-15 10:00:02.000", "id-02"),
+            WorkflowInstanceCursorTest.buildRequest("2026-01-15 10:00:01.000", "id-00"));
+
+    private static final List<String> EXPECTED_ORDER = Arrays.asList("id-08", "id-07", "id-06", "id-05", "id-04",
+            "id-03", "id-02", "id-01", "id-00");
+
+    @DataProvider(name = "pageSizes")
+    public Object[][] pageSizes() {
+
+        return new Object[][]{{1}, {2}, {3}, {4}, {9}, {10}};
+    }
+
+    @Test(dataProvider = "pageSizes")
+    public void testPagingForwardVisitsEachInstanceOnce(int pageSize) throws WorkflowException {
+
+        WorkflowInstancePager pager = new WorkflowInstancePager(new InMemoryWorkflowRequestSource(), BEGIN_DATE,
+                END_DATE);
+
+        List<String> visited = new ArrayList<>();
+        WorkflowInstanceCursor cursor = null;
+        while (true) {
+            List<WorkflowRequest> page = pager.getRequestsAfter(cursor, pageSize);
+            Assert.assertTrue(page.size() <= pageSize);
+            if (page.isEmpty()) {
+                break;
+            }
+            for (WorkflowRequest workflowRequest : page) {
+                visited.add(workflowRequest.getRequestId());
+            }
+            cursor = WorkflowInstanceCursor.of(page.get(page.size() - 1));
+        }
+
+        Assert.assertEquals(visited, EXPECTED_ORDER);
+    }
+
+    @Test(dataProvider = "pageSizes")
+    public void testPagingBackwardVisitsEachInstanceOnce(int pageSize) throws WorkflowException {
+
+        WorkflowInstancePager pager = new WorkflowInstancePager(new InMemoryWorkflowRequestSource(), BEGIN_DATE,
+                END_DATE);
+
+        List<String> visited = new ArrayList<>();
+        WorkflowInstanceCursor cursor = WorkflowInstanceCursor.of(
+                WorkflowInstanceCursorTest.buildRequest("2026-01-15 10:00:00.000", "id"));
+        while (true) {
+            List<WorkflowRequest> page = pager.getRequestsBefore(cursor, pageSize);
+            Assert.assertTrue(page.size() <= pageSize);
+            if (page.isEmpty()) {
+                break;
+            }
+            for (int i = page.size() - 1; i >= 0; i--) {
+                visited.add(0, page.get(i).getRequestId());
+            }
+            cursor = WorkflowInstanceCursor.of(page.get(0));
+        }
+
+        Assert.assertEquals(visited, EXPECTED_ORDER);
+    }
+
+    @Test
+    public void testPageBoundaryWithinInstancesCreatedAtSameTime() throws WorkflowException {
+
+        WorkflowInstancePager pager = new WorkflowInstancePager(new InMemoryWorkflowRequestSource(), BEGIN_DATE,
+                END_DATE);
+        WorkflowInstanceCursor cursor = WorkflowInstanceCursor.of(
+                WorkflowInstanceCursorTest.buildRequest("2026-01-15 10:00:02.000", "id-03"));
+
+        Assert.assertEquals(getRequestIds(pager.getRequestsAfter(cursor, 2)), Arrays.asList("id-02", "id-01"));
+        Assert.assertEquals(getRequestIds(pager.getRequestsBefore(cursor, 2)), Arrays.asList("id-05", "id-04"));
+    }
+
+    @Test
+    public void testPagingWithinCreationDateRange() throws WorkflowException {
+
+        WorkflowInstancePager pager = new WorkflowInstancePager(new InMemoryWorkflowRequestSource(),
+                "2026-01-15 10:00:02.000", "2026-01-15 10:00:04.000");
+
+        Assert.assertEquals(getRequestIds(pager.getRequestsAfter(null, 10)),
+                Arrays.asList("id-07", "id-06", "id-05", "id-04", "id-03", "id-02", "id-01"));
+    }
+
+    private static List<String> getRequestIds(List<WorkflowRequest> requests) {
+
+        List<String> requestIds = new ArrayList<>();
+        for (WorkflowRequest workflowRequest : requests) {
+            requestIds.add(workflowRequest.getRequestId());
+        }
+        return requestIds;
+    }
+
+    /**
+     * Workflow request source filtering the requests by an inclusive creation date range.
+     */
+    private static final class InMemoryWorkflowRequestSource implements WorkflowInstancePager.WorkflowRequestSource {
+
+        @Override
+        public WorkflowRequest[] getRequests(String beginDate, String endDate, int limit, int offset) {
+
+            List<WorkflowRequest> requests = getRequestsInRange(beginDate, endDate);
+            int start = Math.min(offset, requests.size());
+            int end = Math.min(start + limit, requests.size());
+            return requests.subList(start, end).toArray(new WorkflowRequest[0]);
+        }
+
+        @Override
+        public int getCount(String beginDate, String endDate) {
+
+            return getRequestsInRange(beginDate, endDate).size();
+        }
+
+        private static List<WorkflowRequest> getRequestsInRange(String beginDate, String endDate) {
+
+            Timestamp begin = Timestamp.valueOf(beginDate);
+            Timestamp end = Timestamp.valueOf(endDate);
+            List<WorkflowRequest> requests = new ArrayList<>();
+            for (WorkflowRequest workflowRequest : REQUESTS) {
+                Timestamp createdAt = Timestamp.valueOf(workflowRequest.getCreatedAt());
+                if (!createdAt.before(begin) && !createdAt.after(end)) {
+                    requests.add(workflowRequest);
+                }
+            }
+            return requests;
+        }
+    }
+}